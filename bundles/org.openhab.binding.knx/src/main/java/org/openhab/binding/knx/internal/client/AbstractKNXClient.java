@@ -15,13 +15,17 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -90,7 +94,6 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     private final ThingUID thingUID;
     private final int responseTimeout;
-    private final int readingPause;
     private final int autoReconnectPeriod;
     private final int readRetriesLimit;
     private final StatusUpdateCallback statusUpdateCallback;
@@ -107,8 +110,17 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    // listeners by the group addresses they announced on registration, modifications are guarded by the index
+    private final Map<GroupAddress, Set<GroupAddressListener>> groupAddressIndex = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> indexedGroupAddressListeners = new ConcurrentHashMap<>();
+    // listeners which did not announce their group addresses, asked for every telegram
+    private final Set<GroupAddressListener> unindexedGroupAddressListeners = new CopyOnWriteArraySet<>();
+    private final ReadQueue readQueue = new ReadQueue();
+    private final ReadPacer readPacer;
+    private final AtomicLong readsSent = new AtomicLong();
+    private final AtomicLong readsFailed = new AtomicLong();
+    // changed whenever the read job is started or stopped, so that a stopped job does not schedule itself again
+    private int busJobGeneration;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -143,12 +155,13 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     };
 
     public AbstractKNXClient(int autoReconnectPeriod, ThingUID thingUID, int responseTimeout, int readingPause,
-            int readRetriesLimit, ScheduledExecutorService knxScheduler, CommandExtensionData commandExtensionData,
-            Security openhabSecurity, StatusUpdateCallback statusUpdateCallback) {
+            boolean adaptiveReadingPause, int readRetriesLimit, ScheduledExecutorService knxScheduler,
+            CommandExtensionData commandExtensionData, Security openhabSecurity,
+            StatusUpdateCallback statusUpdateCallback) {
         this.autoReconnectPeriod = autoReconnectPeriod;
         this.thingUID = thingUID;
         this.responseTimeout = responseTimeout;
-        this.readingPause = readingPause;
+        this.readPacer = new ReadPacer(readingPause, adaptiveReadingPause);
         this.readRetriesLimit = readRetriesLimit;
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
@@ -257,8 +270,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             link.addLinkListener(this);
 
             // create a job carrying out read requests
-            busJob = knxScheduler.scheduleWithFixedDelay(this::readNextQueuedDatapoint, 0, readingPause,
-                    TimeUnit.MILLISECONDS);
+            int generation = busJobGeneration;
+            busJob = knxScheduler.schedule(() -> readQueuedDatapoints(generation), 0, TimeUnit.MILLISECONDS);
 
             statusUpdateCallback.updateStatus(ThingStatus.ONLINE);
             connectJob = null;
@@ -312,7 +325,10 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (tmpLink != null) {
             tmpLink.removeLinkListener(this);
         }
-        readDatapoints.clear();
+        readQueue.clear();
+        synchronized (this) {
+            busJobGeneration++;
+        }
         busJob = nullify(busJob, j -> j.cancel(true));
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, ManagementProcedures::detach);
@@ -341,13 +357,30 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
+        List<GroupAddressListener> listeners = new ArrayList<>(1);
+        for (GroupAddressListener listener : groupAddressIndex.getOrDefault(destination, Set.of())) {
+            if (listener.listensTo(destination)) {
+                listeners.add(listener);
+            }
+        }
+        for (GroupAddressListener listener : unindexedGroupAddressListeners) {
             if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
+                listeners.add(listener);
             }
         }
+        boolean isHandled = !listeners.isEmpty();
+        if (isHandled) {
+            // a single task per telegram, a failing listener must not prevent the others from being notified
+            knxScheduler.execute(() -> {
+                for (GroupAddressListener listener : listeners) {
+                    try {
+                        action.apply(listener, source, destination, asdu);
+                    } catch (RuntimeException e) {
+                        logger.warn("Failed to process a {} telegram to '{}'", task, destination, e);
+                    }
+                }
+            });
+        }
         // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
         // The idea is to store GA, message type, and size as key. The value counts the number of packets.
         if (!isHandled) {
@@ -364,34 +397,54 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
+    private void readQueuedDatapoints(int generation) {
+        boolean read = false;
+        try {
+            read = readNextQueuedDatapoint();
+        } finally {
+            synchronized (this) {
+                if (generation == busJobGeneration) {
+                    long pause = read ? readPacer.getPause() : readPacer.getIdlePause();
+                    busJob = knxScheduler.schedule(() -> readQueuedDatapoints(generation), pause,
+                            TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
     // datapoint is null at end of the list, warning is misleading
     @SuppressWarnings("null")
-    private void readNextQueuedDatapoint() {
+    private boolean readNextQueuedDatapoint() {
         if (!connectIfNotAutomatic()) {
-            return;
+            return false;
         }
         ProcessCommunicator processCommunicator = this.processCommunicator;
         if (processCommunicator == null) {
-            return;
+            return false;
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
+        ReadDatapoint datapoint = readQueue.poll();
         if (datapoint != null) {
             // TODO #8872: allow write access, currently only listening mode
             if (openhabSecurity.groupKeys().containsKey(datapoint.getDatapoint().getMainAddress())) {
                 logger.debug("outgoing secure communication not implemented, explicit read from GA '{}' skipped",
                         datapoint.getDatapoint().getMainAddress());
-                return;
+                return false;
             }
 
             datapoint.incrementRetries();
+            readsSent.incrementAndGet();
+            long start = System.nanoTime();
             try {
                 logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
                 processCommunicator.read(datapoint.getDatapoint());
+                readPacer.readCompleted(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), true);
             } catch (KNXException e) {
+                readsFailed.incrementAndGet();
+                readPacer.readCompleted(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), false);
                 // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
                 // KnxIllegalArgumentException
                 if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
+                    readQueue.add(datapoint, datapoint.getPriority());
                     logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
                             datapoint.getDatapoint().getMainAddress(), e.getMessage());
                 } else {
@@ -401,13 +454,16 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             } catch (InterruptedException | CancellationException e) {
                 logger.debug("Interrupted sending KNX read request");
             } catch (Exception e) {
+                readsFailed.incrementAndGet();
                 // Any other exception: Fail gracefully, i.e. notify user and continue reading next DP.
                 // Not catching this would end the scheduled read for all DPs in case of an error.
                 // Severity is warning as this is likely caused by a configuration error.
                 logger.warn("Error reading datapoint {}: {}", datapoint.getDatapoint().getMainAddress(),
                         e.getMessage());
             }
+            return true;
         }
+        return false;
     }
 
     public void dispose() {
@@ -509,23 +565,51 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        readQueue.add(new ReadDatapoint(datapoint, readRetriesLimit), priority);
+    }
+
+    @Override
+    public ReadQueueStatistics getReadQueueStatistics() {
+        return new ReadQueueStatistics(readQueue.getSizes(), readQueue.getAdded(), readQueue.getDeduplicated(),
+                readsSent.get(), readsFailed.get(), readPacer.getAverageReadTime(), readPacer.getPause());
     }
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        Set<GroupAddress> groupAddresses = listener.getGroupAddresses();
+        synchronized (groupAddressIndex) {
+            removeFromIndex(listener);
+            if (groupAddresses == null) {
+                unindexedGroupAddressListeners.add(listener);
+            } else {
+                Set<GroupAddress> indexed = Set.copyOf(groupAddresses);
+                indexedGroupAddressListeners.put(listener, indexed);
+                for (GroupAddress groupAddress : indexed) {
+                    groupAddressIndex.computeIfAbsent(groupAddress, k -> new CopyOnWriteArraySet<>()).add(listener);
+                }
+            }
+        }
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        synchronized (groupAddressIndex) {
+            removeFromIndex(listener);
+        }
+    }
+
+    private void removeFromIndex(GroupAddressListener listener) {
+        unindexedGroupAddressListeners.remove(listener);
+        Set<GroupAddress> indexed = indexedGroupAddressListeners.remove(listener);
+        if (indexed != null) {
+            for (GroupAddress groupAddress : indexed) {
+                groupAddressIndex.computeIfPresent(groupAddress, (k, listeners) -> {
+                    listeners.remove(listener);
+                    return listeners.isEmpty() ? null : listeners;
+                });
+            }
+        }
     }
 
     @Override
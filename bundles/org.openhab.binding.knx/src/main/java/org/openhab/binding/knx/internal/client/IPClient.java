@@ -88,10 +88,11 @@ public class IPClient extends AbstractKNXClient {
             @Nullable InetSocketAddress localEndPoint, boolean useNAT, int autoReconnectPeriod,
             byte[] secureRoutingBackboneGroupKey, long secureRoutingLatencyToleranceMs, byte[] secureTunnelDevKey,
             int secureTunnelUser, byte[] secureTunnelUserKey, ThingUID thingUID, int responseTimeout, int readingPause,
-            int readRetriesLimit, ScheduledExecutorService knxScheduler, CommandExtensionData commandExtensionData,
-            Security openhabSecurity, StatusUpdateCallback statusUpdateCallback) {
-        super(autoReconnectPeriod, thingUID, responseTimeout, readingPause, readRetriesLimit, knxScheduler,
-                commandExtensionData, openhabSecurity, statusUpdateCallback);
+            boolean adaptiveReadingPause, int readRetriesLimit, ScheduledExecutorService knxScheduler,
+            CommandExtensionData commandExtensionData, Security openhabSecurity,
+            StatusUpdateCallback statusUpdateCallback) {
+        super(autoReconnectPeriod, thingUID, responseTimeout, readingPause, adaptiveReadingPause, readRetriesLimit,
+                knxScheduler, commandExtensionData, openhabSecurity, statusUpdateCallback);
         this.ipConnectionType = ipConnectionType;
         this.ip = ip;
         this.localSource = localSource;
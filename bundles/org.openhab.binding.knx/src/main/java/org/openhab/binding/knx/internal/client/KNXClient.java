@@ -78,8 +78,16 @@ public interface KNXClient {
      * Schedule the given data point for asynchronous reading.
      *
      * @param datapoint the datapoint
+     * @param priority the priority of the read request
      */
-    void readDatapoint(Datapoint datapoint);
+    void readDatapoint(Datapoint datapoint, ReadPriority priority);
+
+    /**
+     * Get statistics about the read requests.
+     *
+     * @return the statistics
+     */
+    ReadQueueStatistics getReadQueueStatistics();
 
     /**
      * Write a command to the KNX bus.
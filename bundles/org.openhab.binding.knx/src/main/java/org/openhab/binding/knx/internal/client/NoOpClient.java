@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.knx.internal.client;
 
+import java.util.Map;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.handler.GroupAddressListener;
@@ -57,7 +59,12 @@ public class NoOpClient implements KNXClient {
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+    }
+
+    @Override
+    public ReadQueueStatistics getReadQueueStatistics() {
+        return new ReadQueueStatistics(Map.of(), 0, 0, 0, 0, -1, 0);
     }
 
     @Override
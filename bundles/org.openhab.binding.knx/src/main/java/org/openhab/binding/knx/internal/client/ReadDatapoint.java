@@ -28,6 +28,7 @@ public class ReadDatapoint {
     private final Datapoint datapoint;
     private int retries;
     private final int limit;
+    private ReadPriority priority = ReadPriority.PERIODIC;
 
     public ReadDatapoint(Datapoint datapoint, int limit) {
         this.datapoint = datapoint;
@@ -51,6 +52,14 @@ public class ReadDatapoint {
         return limit;
     }
 
+    public ReadPriority getPriority() {
+        return priority;
+    }
+
+    void setPriority(ReadPriority priority) {
+        this.priority = priority;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Determines the pause between two read requests sent to the KNX bus.
+ *
+ * By default the configured reading pause is used. In adaptive mode the pause follows the time it takes to read a
+ * data point, which grows when the bus is busy and confirmations or responses are delayed: the bus is left idle for
+ * about as long as a read takes on average. Every failed read doubles the pause, up to {@link #MAX_PAUSE_MS}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ReadPacer {
+
+    static final long MIN_PAUSE_MS = 10;
+    static final long MAX_PAUSE_MS = 5000;
+    // weight of the latest read in the average read time
+    private static final double SMOOTHING = 0.2;
+
+    private final long readingPause;
+    private final boolean adaptive;
+
+    private double averageReadTime = -1;
+    private long pause;
+
+    /**
+     * @param readingPause the configured pause in milliseconds
+     * @param adaptive true to adapt the pause to the time it takes to read a data point
+     */
+    public ReadPacer(int readingPause, boolean adaptive) {
+        this.readingPause = Math.max(0, readingPause);
+        this.adaptive = adaptive;
+        this.pause = this.readingPause;
+    }
+
+    /**
+     * Reports a read request sent to the bus.
+     *
+     * @param readTime the time in milliseconds it took to read the data point
+     * @param success true if a value was read
+     */
+    public synchronized void readCompleted(long readTime, boolean success) {
+        averageReadTime = averageReadTime < 0 ? readTime : SMOOTHING * readTime + (1 - SMOOTHING) * averageReadTime;
+        if (!adaptive) {
+            return;
+        }
+        if (success) {
+            pause = Math.round(averageReadTime);
+        } else {
+            pause = Math.max(pause, MIN_PAUSE_MS) * 2;
+        }
+        pause = Math.min(Math.max(pause, MIN_PAUSE_MS), MAX_PAUSE_MS);
+    }
+
+    /**
+     * @return the pause in milliseconds before the next read request
+     */
+    public synchronized long getPause() {
+        return pause;
+    }
+
+    /**
+     * @return the pause in milliseconds before looking for a read request again if none was queued
+     */
+    public long getIdlePause() {
+        return Math.max(readingPause, MIN_PAUSE_MS);
+    }
+
+    /**
+     * @return the average time in milliseconds it took to read a data point, or -1 if none was read yet
+     */
+    public synchronized long getAverageReadTime() {
+        return Math.round(averageReadTime);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The priority of a read request queued for the KNX bus, requests of a higher priority are sent first.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public enum ReadPriority {
+    /**
+     * Refresh requested by the user.
+     */
+    REFRESH,
+    /**
+     * Read of a group address for which no value has been received yet.
+     */
+    INITIAL,
+    /**
+     * Periodic read of a group address.
+     */
+    PERIODIC
+}
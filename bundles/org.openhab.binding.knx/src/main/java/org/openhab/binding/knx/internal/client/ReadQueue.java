@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Queue of the data points to be read from the KNX bus.
+ *
+ * A group address is queued at most once. Queueing it again with a higher priority appends it to the requests of that
+ * priority, behind the ones queued with that priority before. The copy left behind in the queue of the lower priority
+ * is skipped when it is reached.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ReadQueue {
+
+    private final Map<GroupAddress, ReadDatapoint> queued = new HashMap<>();
+    private final Map<ReadPriority, ArrayDeque<ReadDatapoint>> queues = new EnumMap<>(ReadPriority.class);
+    private final Map<ReadPriority, Integer> sizes = new EnumMap<>(ReadPriority.class);
+    private long added;
+    private long deduplicated;
+
+    public ReadQueue() {
+        for (ReadPriority priority : ReadPriority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+            sizes.put(priority, 0);
+        }
+    }
+
+    /**
+     * Queues a data point unless its group address is queued already.
+     *
+     * @param datapoint the data point
+     * @param priority the priority
+     * @return true if the data point was queued, false if its group address was queued already
+     */
+    public synchronized boolean add(ReadDatapoint datapoint, ReadPriority priority) {
+        GroupAddress address = datapoint.getDatapoint().getMainAddress();
+        ReadDatapoint existing = queued.get(address);
+        if (existing != null) {
+            deduplicated++;
+            ReadPriority existingPriority = existing.getPriority();
+            if (priority.compareTo(existingPriority) < 0) {
+                sizes.merge(existingPriority, -1, Integer::sum);
+                sizes.merge(priority, 1, Integer::sum);
+                existing.setPriority(priority);
+                queue(priority).add(existing);
+            }
+            return false;
+        }
+        added++;
+        datapoint.setPriority(priority);
+        queued.put(address, datapoint);
+        sizes.merge(priority, 1, Integer::sum);
+        queue(priority).add(datapoint);
+        return true;
+    }
+
+    /**
+     * Removes the data point of the highest priority which was queued first.
+     *
+     * @return the data point, or null if the queue is empty
+     */
+    public synchronized @Nullable ReadDatapoint poll() {
+        for (ReadPriority priority : ReadPriority.values()) {
+            ArrayDeque<ReadDatapoint> queue = queue(priority);
+            ReadDatapoint datapoint;
+            while ((datapoint = queue.poll()) != null) {
+                GroupAddress address = datapoint.getDatapoint().getMainAddress();
+                // skip copies left behind when the priority was raised
+                if (datapoint.getPriority() == priority && queued.get(address) == datapoint) {
+                    queued.remove(address);
+                    sizes.merge(priority, -1, Integer::sum);
+                    return datapoint;
+                }
+            }
+        }
+        return null;
+    }
+
+    public synchronized void clear() {
+        queued.clear();
+        queues.values().forEach(ArrayDeque::clear);
+        sizes.replaceAll((priority, size) -> 0);
+    }
+
+    public synchronized int size() {
+        return queued.size();
+    }
+
+    /**
+     * @return the number of queued data points for every priority
+     */
+    public synchronized Map<ReadPriority, Integer> getSizes() {
+        return Map.copyOf(sizes);
+    }
+
+    /**
+     * @return the number of data points queued so far
+     */
+    public synchronized long getAdded() {
+        return added;
+    }
+
+    /**
+     * @return the number of data points not queued so far because their group address was queued already
+     */
+    public synchronized long getDeduplicated() {
+        return deduplicated;
+    }
+
+    private ArrayDeque<ReadDatapoint> queue(ReadPriority priority) {
+        ArrayDeque<ReadDatapoint> queue = queues.get(priority);
+        if (queue == null) {
+            throw new IllegalStateException("No queue for priority " + priority);
+        }
+        return queue;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Statistics about the read requests of a KNX bridge, shown on the openHAB console.
+ *
+ * @param queued the number of queued data points for every priority
+ * @param added the number of data points queued so far
+ * @param deduplicated the number of data points not queued because their group address was queued already
+ * @param sent the number of read requests sent to the bus
+ * @param failed the number of read requests which failed
+ * @param averageReadTime the average time in milliseconds it took to read a data point, -1 if none was read yet
+ * @param pause the current pause in milliseconds between two read requests
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public record ReadQueueStatistics(Map<ReadPriority, Integer> queued, long added, long deduplicated, long sent,
+        long failed, long averageReadTime, long pause) {
+}
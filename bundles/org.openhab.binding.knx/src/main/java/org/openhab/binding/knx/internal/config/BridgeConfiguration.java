@@ -24,6 +24,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 public class BridgeConfiguration {
     private int autoReconnectPeriod = 0;
     private int readingPause = 0;
+    private boolean adaptiveReadingPause = false;
     private int readRetriesLimit = 0;
     private int responseTimeout = 0;
     private String keyringFile = "";
@@ -37,6 +38,10 @@ public class BridgeConfiguration {
         return readingPause;
     }
 
+    public boolean isAdaptiveReadingPause() {
+        return adaptiveReadingPause;
+    }
+
     public int getReadRetriesLimit() {
         return readRetriesLimit;
     }
@@ -18,6 +18,8 @@ import java.util.Map.Entry;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.KNXBindingConstants;
+import org.openhab.binding.knx.internal.client.ReadPriority;
+import org.openhab.binding.knx.internal.client.ReadQueueStatistics;
 import org.openhab.binding.knx.internal.factory.KNXHandlerFactory;
 import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler;
 import org.openhab.core.io.console.Console;
@@ -39,7 +41,9 @@ import org.osgi.service.component.annotations.Reference;
 public class KNXCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
 
     private static final String CMD_LIST_UNKNOWN_GA = "list-unknown-ga";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST_UNKNOWN_GA), false);
+    private static final String CMD_READ_QUEUE = "read-queue";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST_UNKNOWN_GA, CMD_READ_QUEUE), false);
 
     private final KNXHandlerFactory knxHandlerFactory;
 
@@ -61,13 +65,29 @@ public class KNXCommandExtension extends AbstractConsoleCommandExtension impleme
             }
             return;
         }
+        if (args.length == 1 && CMD_READ_QUEUE.equalsIgnoreCase(args[0])) {
+            for (KNXBridgeBaseThingHandler bridgeHandler : knxHandlerFactory.getBridges()) {
+                ReadQueueStatistics statistics = bridgeHandler.getReadQueueStatistics();
+                console.println("KNX bridge \"" + bridgeHandler.getThing().getLabel() + "\":");
+                for (ReadPriority priority : ReadPriority.values()) {
+                    console.println("  queued " + priority + ": " + statistics.queued().getOrDefault(priority, 0));
+                }
+                console.println("  queued in total: " + statistics.added() + ", already queued: "
+                        + statistics.deduplicated());
+                console.println("  read requests sent: " + statistics.sent() + ", failed: " + statistics.failed());
+                console.println("  average read time: " + statistics.averageReadTime() + " ms, current pause: "
+                        + statistics.pause() + " ms");
+            }
+            return;
+        }
         printUsage(console);
     }
 
     @Override
     public List<String> getUsages() {
-        return List
-                .of(buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"));
+        return List.of(
+                buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"),
+                buildCommandUsage(CMD_READ_QUEUE, "show the queued read requests and read statistics of the bridges"));
     }
 
     @Override
@@ -20,10 +20,16 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.library.types.DateTimeType;
@@ -82,6 +88,23 @@ public class ValueDecoder {
             .compile("(?:\\((?<x>\\d+(?:[,.]\\d+)?) (?<y>\\d+(?:[,.]\\d+)?)\\))?\\s*(?:(?<Y>\\d+(?:[,.]\\d+)?)\\s%)?");
     public static final Pattern TSD_SEPARATOR = Pattern.compile("^[0-9]+(?<sep>[,\\.])[0-9][0-9][0-9].*");
 
+    // main types decoded from the raw data without a translator, scaled subtypes are left to Calimero
+    private static final Set<String> DIRECT_MAIN_TYPES = Set.of("1", "5", "7", "9", "13", "14");
+    private static final Set<String> SCALED_DPTS = Set.of("5.001", "5.003", "7.003", "7.004");
+    private static final Map<String, Optional<DirectDecoding>> DIRECT_DECODINGS = new ConcurrentHashMap<>();
+
+    /**
+     * What is needed to decode a DPT without a translator, resolved once per DPT.
+     *
+     * @param mainType the main type
+     * @param subType the sub type
+     * @param allowedTypes the allowed openHAB types
+     * @param unit the unit as parsed from the unit string of the DPT, or null if there is none
+     */
+    private record DirectDecoding(String mainType, String subType, Set<Class<? extends Type>> allowedTypes,
+            @Nullable Unit<?> unit) {
+    }
+
     private static boolean check235001(byte[] data) throws KNXException {
         if (data.length != 6) {
             throw new KNXFormatException("DPT235 broken frame");
@@ -113,6 +136,26 @@ public class ValueDecoder {
      * @return the data converted to an openHAB Type (or null if conversion failed)
      */
     public static @Nullable Type decode(String dptId, byte[] data, Class<? extends Type> preferredType) {
+        DirectDecoding directDecoding = DIRECT_DECODINGS.computeIfAbsent(dptId, ValueDecoder::createDirectDecoding)
+                .orElse(null);
+        if (directDecoding != null) {
+            Type type = decodeDirect(directDecoding, data, preferredType);
+            if (type != null) {
+                return type;
+            }
+        }
+        return decodeWithTranslator(dptId, data, preferredType);
+    }
+
+    /**
+     * convert the raw value received to the corresponding openHAB value using a Calimero translator
+     *
+     * @param dptId the DPT of the given data
+     * @param data a byte array containing the value
+     * @param preferredType the preferred datatype for this conversion
+     * @return the data converted to an openHAB Type (or null if conversion failed)
+     */
+    static @Nullable Type decodeWithTranslator(String dptId, byte[] data, Class<? extends Type> preferredType) {
         try {
             String value = "";
             String translatorDptId = dptId;
@@ -167,7 +210,7 @@ public class ValueDecoder {
 
             switch (mainType) {
                 case "1":
-                    return handleDpt1(subType, translator, preferredType);
+                    return handleDpt1(subType, ((DPTXlatorBoolean) translator).getValueBoolean(), preferredType);
                 case "2":
                     DPTXlator1BitControlled translator1BitControlled = (DPTXlator1BitControlled) translator;
                     int decValue = (translator1BitControlled.getControlBit() ? 2 : 0)
@@ -239,34 +282,103 @@ public class ValueDecoder {
         return null;
     }
 
-    private static Type handleDpt1(String subType, DPTXlator translator, Class<? extends Type> preferredType) {
-        DPTXlatorBoolean translatorBoolean = (DPTXlatorBoolean) translator;
+    private static Optional<DirectDecoding> createDirectDecoding(String dptId) {
+        Matcher m = DPTUtil.DPT_PATTERN.matcher(dptId);
+        if (!m.matches() || !DIRECT_MAIN_TYPES.contains(m.group("main")) || m.group("sub") == null
+                || SCALED_DPTS.contains(dptId)) {
+            return Optional.empty();
+        }
+        try {
+            // unknown DPTs are reported when decoding with a translator
+            DPTXlator translator = TranslatorTypes.createTranslator(0, dptId);
+            if (!dptId.equals(translator.getType().getID())) {
+                return Optional.empty();
+            }
+        } catch (KNXException e) {
+            return Optional.empty();
+        }
+        Unit<?> unit = null;
+        String unitString = DPTUnits.getUnitForDpt(dptId);
+        if (unitString != null) {
+            try {
+                // exactly the unit of the quantity created when decoding with a translator
+                unit = new QuantityType<>("1 " + unitString).getUnit();
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new DirectDecoding(m.group("main"), m.group("sub"), DPTUtil.getAllowedTypes(dptId), unit));
+    }
+
+    private static @Nullable Type decodeDirect(DirectDecoding decoding, byte[] data,
+            Class<? extends Type> preferredType) {
+        // data of an unexpected length or special values are left to the translator
+        switch (decoding.mainType()) {
+            case "1":
+                return data.length == 1 ? handleDpt1(decoding.subType(), (data[0] & 0x01) != 0, preferredType) : null;
+            case "5":
+                return data.length == 1 ? handleNumericDpt(decoding, data[0] & 0xff, preferredType) : null;
+            case "7":
+                return data.length == 2 ? handleNumericDpt(decoding, unsigned16(data), preferredType) : null;
+            case "9":
+                if (data.length != 2 || unsigned16(data) == 0x7fff) {
+                    return null;
+                }
+                // MEEEEMMM MMMMMMMM, value = 0.01 * M * 2^E with a 12 bit two's complement mantissa
+                int mantissa = ((data[0] & 0x07) << 8) | (data[1] & 0xff);
+                if ((data[0] & 0x80) != 0) {
+                    mantissa -= 0x800;
+                }
+                int exponent = (data[0] & 0x78) >> 3;
+                return handleNumericDpt(decoding, (1 << exponent) * mantissa * 0.01, preferredType);
+            case "13":
+                return data.length == 4 ? handleNumericDpt(decoding, signed32(data), preferredType) : null;
+            case "14":
+                if (data.length != 4) {
+                    return null;
+                }
+                float value = Float.intBitsToFloat(signed32(data));
+                return Float.isFinite(value) ? handleNumericDpt(decoding, value, preferredType) : null;
+            default:
+                return null;
+        }
+    }
+
+    private static int unsigned16(byte[] data) {
+        return ((data[0] & 0xff) << 8) | (data[1] & 0xff);
+    }
+
+    private static int signed32(byte[] data) {
+        return ((data[0] & 0xff) << 24) | ((data[1] & 0xff) << 16) | ((data[2] & 0xff) << 8) | (data[3] & 0xff);
+    }
+
+    private static Type handleDpt1(String subType, boolean value, Class<? extends Type> preferredType) {
         return switch (subType) {
-            case "008" -> translatorBoolean.getValueBoolean() ? UpDownType.DOWN : UpDownType.UP;
+            case "008" -> value ? UpDownType.DOWN : UpDownType.UP;
             case "009", "019" -> {
                 // default is OpenClosedType (Contact), but it may be mapped to OnOffType as well
                 if (OnOffType.class.equals(preferredType)) {
-                    yield OnOffType.from(translatorBoolean.getValueBoolean());
+                    yield OnOffType.from(value);
                 }
 
                 // This is wrong for DPT 1.009. It should be true -> CLOSE, false -> OPEN, but unfortunately
                 // can't be fixed without breaking a lot of working installations.
                 // The documentation has been updated to reflect that. / @J-N-K
-                yield translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                yield value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
 
                 // This is wrong for DPT 1.009. It should be true -> CLOSE, false -> OPEN, but unfortunately
                 // can't be fixed without breaking a lot of working installations.
                 // The documentation has been updated to reflect that. / @J-N-K
             }
-            case "010" -> translatorBoolean.getValueBoolean() ? StopMoveType.MOVE : StopMoveType.STOP;
-            case "022" -> DecimalType.valueOf(translatorBoolean.getValueBoolean() ? "1" : "0");
+            case "010" -> value ? StopMoveType.MOVE : StopMoveType.STOP;
+            case "022" -> DecimalType.valueOf(value ? "1" : "0");
             default -> {
                 // default is OnOffType (Switch), but it may be mapped to OpenClosedType as well
                 if (OpenClosedType.class.equals(preferredType)) {
-                    yield translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                    yield value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
                 }
 
-                yield OnOffType.from(translatorBoolean.getValueBoolean());
+                yield OnOffType.from(value);
             }
         };
     }
@@ -520,6 +632,31 @@ public class ValueDecoder {
         return null;
     }
 
+    private static @Nullable Type handleNumericDpt(DirectDecoding decoding, double value,
+            Class<? extends Type> preferredType) {
+        // same as for a translator, but without formatting and parsing the value and the unit
+        Set<Class<? extends Type>> allowedTypes = decoding.allowedTypes();
+        if (allowedTypes.contains(PercentType.class)
+                && (HSBType.class.equals(preferredType) || PercentType.class.equals(preferredType))) {
+            return new PercentType(BigDecimal.valueOf(Math.round(value)));
+        }
+
+        Unit<?> unit = decoding.unit();
+        if (allowedTypes.contains(QuantityType.class) && !disableUoM && unit != null) {
+            return quantity(new BigDecimal(Double.toString(value)), unit);
+        }
+
+        if (allowedTypes.contains(DecimalType.class)) {
+            return new DecimalType(value);
+        }
+
+        return null;
+    }
+
+    private static <T extends Quantity<T>> QuantityType<T> quantity(BigDecimal value, Unit<T> unit) {
+        return new QuantityType<>(value, unit);
+    }
+
     private static double coerceToRange(double value, double min, double max) {
         return Math.min(Math.max(value, min), max);
     }
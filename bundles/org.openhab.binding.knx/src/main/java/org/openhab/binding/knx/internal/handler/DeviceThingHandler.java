@@ -39,6 +39,7 @@ import org.openhab.binding.knx.internal.client.DeviceInspector;
 import org.openhab.binding.knx.internal.client.InboundSpec;
 import org.openhab.binding.knx.internal.client.KNXClient;
 import org.openhab.binding.knx.internal.client.OutboundSpec;
+import org.openhab.binding.knx.internal.client.ReadPriority;
 import org.openhab.binding.knx.internal.config.DeviceConfig;
 import org.openhab.binding.knx.internal.dpt.DPTUnits;
 import org.openhab.binding.knx.internal.dpt.DPTUtil;
@@ -87,6 +88,8 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
     private final Logger logger = LoggerFactory.getLogger(DeviceThingHandler.class);
 
     private final Set<GroupAddress> groupAddresses = ConcurrentHashMap.newKeySet();
+    // group addresses a value has been received for, the others are read with a higher priority
+    private final Set<GroupAddress> groupAddressesWithValue = ConcurrentHashMap.newKeySet();
     private final ExpiringCacheMap<GroupAddress, @Nullable Boolean> groupAddressesWriteBlocked = new ExpiringCacheMap<>(
             Duration.ofMillis(1000));
     private final Map<GroupAddress, OutboundSpec> groupAddressesRespondingSpec = new ConcurrentHashMap<>();
@@ -175,6 +178,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         }
 
         groupAddresses.clear();
+        groupAddressesWithValue.clear();
         groupAddressesWriteBlocked.clear();
         groupAddressesRespondingSpec.clear();
         knxChannels.clear();
@@ -223,23 +227,34 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         if (readInterval > 0) {
             ScheduledFuture<?> future = readFutures.get(groupAddress);
             if (future == null || future.isDone() || future.isCancelled()) {
-                future = getScheduler().scheduleWithFixedDelay(() -> readDatapoint(groupAddress, dpt), 0, readInterval,
-                        TimeUnit.SECONDS);
+                future = getScheduler().scheduleWithFixedDelay(() -> readDatapoint(groupAddress, dpt, null), 0,
+                        readInterval, TimeUnit.SECONDS);
                 readFutures.put(groupAddress, future);
             }
         } else {
-            getScheduler().submit(() -> readDatapoint(groupAddress, dpt));
+            getScheduler().submit(() -> readDatapoint(groupAddress, dpt, null));
         }
     }
 
-    private void readDatapoint(GroupAddress groupAddress, String dpt) {
+    private void refresh(KNXChannel knxChannel) {
+        for (InboundSpec readSpec : knxChannel.getReadSpec()) {
+            readSpec.getGroupAddresses().forEach(ga -> getScheduler()
+                    .submit(() -> readDatapoint(ga, readSpec.getDPT(), ReadPriority.REFRESH)));
+        }
+    }
+
+    /**
+     * Queue a read request, with a priority depending on whether a value was received already if none is given.
+     */
+    private void readDatapoint(GroupAddress groupAddress, String dpt, @Nullable ReadPriority priority) {
         if (getClient().isConnected()) {
             if (DPTUtil.getAllowedTypes(dpt).isEmpty()) {
                 logger.warn("DPT '{}' is not supported by the KNX binding", dpt);
                 return;
             }
             Datapoint datapoint = new CommandDP(groupAddress, getThing().getUID().toString(), 0, dpt);
-            getClient().readDatapoint(datapoint);
+            getClient().readDatapoint(datapoint, Objects.requireNonNullElse(priority,
+                    groupAddressesWithValue.contains(groupAddress) ? ReadPriority.PERIODIC : ReadPriority.INITIAL));
         }
     }
 
@@ -248,6 +263,11 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         return groupAddresses.contains(destination);
     }
 
+    @Override
+    public Set<GroupAddress> getGroupAddresses() {
+        return Set.copyOf(groupAddresses);
+    }
+
     /** Handling commands triggered from openHAB */
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
@@ -259,7 +279,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         }
         if (command instanceof RefreshType && !knxChannel.isControl()) {
             logger.debug("Refreshing channel '{}'", channelUID);
-            scheduleRead(knxChannel);
+            refresh(knxChannel);
         } else {
             if (CHANNEL_RESET.equals(channelUID.getId())) {
                 if (address != null) {
@@ -396,6 +416,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
 
         Type value = ValueDecoder.decode(listenSpec.getDPT(), asdu, knxChannel.preferredType());
         if (value != null) {
+            groupAddressesWithValue.add(destination);
             if (knxChannel.isControl()) {
                 ChannelUID channelUID = knxChannel.getChannelUID();
                 int frequency;
@@ -12,7 +12,10 @@
  */
 package org.openhab.binding.knx.internal.handler;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.client.BusMessageListener;
 
 import tuwien.auto.calimero.GroupAddress;
@@ -33,4 +36,14 @@ public interface GroupAddressListener extends BusMessageListener {
      * @param destination
      */
     boolean listensTo(GroupAddress destination);
+
+    /**
+     * Called on registration to find out which Group Addresses the GroupAddressListener has an interest in, so that
+     * telegrams can be dispatched without asking every listener. The listener is registered again if they change.
+     *
+     * @return the Group Addresses, or null if only {@link #listensTo(GroupAddress)} can tell
+     */
+    default @Nullable Set<GroupAddress> getGroupAddresses() {
+        return null;
+    }
 }
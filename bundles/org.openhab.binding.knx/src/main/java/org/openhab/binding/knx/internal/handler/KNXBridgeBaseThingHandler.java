@@ -29,6 +29,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.client.KNXClient;
+import org.openhab.binding.knx.internal.client.ReadQueueStatistics;
 import org.openhab.binding.knx.internal.client.StatusUpdateCallback;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
@@ -116,6 +117,10 @@ public abstract class KNXBridgeBaseThingHandler extends BaseBridgeHandler implem
         return commandExtensionData;
     }
 
+    public ReadQueueStatistics getReadQueueStatistics() {
+        return getClient().getReadQueueStatistics();
+    }
+
     /***
      * Initialize KNX secure if configured (simple interface)
      *
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class ReadPacerTest {
+
+    @Test
+    void testConfiguredPauseIsKept() {
+        ReadPacer pacer = new ReadPacer(50, false);
+        assertEquals(50, pacer.getPause());
+        assertEquals(-1, pacer.getAverageReadTime());
+
+        pacer.readCompleted(200, true);
+        pacer.readCompleted(200, false);
+
+        assertEquals(50, pacer.getPause());
+        assertEquals(200, pacer.getAverageReadTime());
+    }
+
+    @Test
+    void testAdaptivePauseFollowsReadTime() {
+        ReadPacer pacer = new ReadPacer(50, true);
+
+        pacer.readCompleted(100, true);
+        assertEquals(100, pacer.getPause());
+
+        // the latest read is weighted with 0.2
+        pacer.readCompleted(200, true);
+        assertEquals(120, pacer.getPause());
+        assertEquals(120, pacer.getAverageReadTime());
+
+        pacer.readCompleted(0, true);
+        pacer.readCompleted(0, true);
+        assertEquals(77, pacer.getAverageReadTime());
+    }
+
+    @Test
+    void testAdaptivePauseHasLowerLimit() {
+        ReadPacer pacer = new ReadPacer(0, true);
+
+        pacer.readCompleted(1, true);
+
+        assertEquals(ReadPacer.MIN_PAUSE_MS, pacer.getPause());
+    }
+
+    @Test
+    void testFailedReadsDoubleThePauseUpToTheLimit() {
+        ReadPacer pacer = new ReadPacer(0, true);
+
+        pacer.readCompleted(100, false);
+        assertEquals(2 * ReadPacer.MIN_PAUSE_MS, pacer.getPause());
+        pacer.readCompleted(100, false);
+        assertEquals(4 * ReadPacer.MIN_PAUSE_MS, pacer.getPause());
+
+        for (int i = 0; i < 20; i++) {
+            pacer.readCompleted(100, false);
+        }
+        assertEquals(ReadPacer.MAX_PAUSE_MS, pacer.getPause());
+
+        // a successful read goes back to the average read time
+        pacer.readCompleted(100, true);
+        assertEquals(100, pacer.getPause());
+    }
+
+    @Test
+    void testIdlePause() {
+        assertEquals(ReadPacer.MIN_PAUSE_MS, new ReadPacer(-5, false).getIdlePause());
+        assertEquals(50, new ReadPacer(50, true).getIdlePause());
+    }
+}
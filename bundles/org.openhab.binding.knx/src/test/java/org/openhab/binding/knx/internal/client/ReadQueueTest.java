@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXFormatException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class ReadQueueTest {
+
+    @Test
+    void testPriorityOrder() throws KNXFormatException {
+        ReadQueue queue = new ReadQueue();
+        assertTrue(queue.add(datapoint("1/0/1"), ReadPriority.PERIODIC));
+        assertTrue(queue.add(datapoint("1/0/2"), ReadPriority.INITIAL));
+        assertTrue(queue.add(datapoint("1/0/3"), ReadPriority.REFRESH));
+        assertTrue(queue.add(datapoint("1/0/4"), ReadPriority.INITIAL));
+
+        assertEquals("1/0/3", address(queue.poll()));
+        assertEquals("1/0/2", address(queue.poll()));
+        assertEquals("1/0/4", address(queue.poll()));
+        assertEquals("1/0/1", address(queue.poll()));
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void testDuplicatesAreQueuedOnce() throws KNXFormatException {
+        ReadQueue queue = new ReadQueue();
+        assertTrue(queue.add(datapoint("1/0/1"), ReadPriority.INITIAL));
+        assertFalse(queue.add(datapoint("1/0/1"), ReadPriority.PERIODIC));
+        assertFalse(queue.add(datapoint("1/0/1"), ReadPriority.INITIAL));
+
+        assertEquals(1, queue.size());
+        assertEquals(2, queue.getDeduplicated());
+        assertEquals(ReadPriority.INITIAL, Objects.requireNonNull(queue.poll()).getPriority());
+        assertNull(queue.poll());
+
+        // can be queued again once it was read
+        assertTrue(queue.add(datapoint("1/0/1"), ReadPriority.PERIODIC));
+    }
+
+    @Test
+    void testHigherPriorityMovesQueuedDatapoint() throws KNXFormatException {
+        ReadQueue queue = new ReadQueue();
+        queue.add(datapoint("1/0/1"), ReadPriority.PERIODIC);
+        queue.add(datapoint("1/0/2"), ReadPriority.PERIODIC);
+        queue.add(datapoint("1/0/3"), ReadPriority.INITIAL);
+        assertFalse(queue.add(datapoint("1/0/2"), ReadPriority.REFRESH));
+
+        assertEquals(1, queue.getSizes().get(ReadPriority.REFRESH));
+        assertEquals(1, queue.getSizes().get(ReadPriority.PERIODIC));
+        assertEquals("1/0/2", address(queue.poll()));
+        assertEquals("1/0/3", address(queue.poll()));
+        assertEquals("1/0/1", address(queue.poll()));
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void testRaisedPriorityIsQueuedBehindSamePriority() throws KNXFormatException {
+        ReadQueue queue = new ReadQueue();
+        queue.add(datapoint("1/0/1"), ReadPriority.PERIODIC);
+        queue.add(datapoint("1/0/2"), ReadPriority.INITIAL);
+        assertFalse(queue.add(datapoint("1/0/1"), ReadPriority.INITIAL));
+
+        assertEquals("1/0/2", address(queue.poll()));
+        assertEquals("1/0/1", address(queue.poll()));
+        assertNull(queue.poll());
+    }
+
+    private static ReadDatapoint datapoint(String address) throws KNXFormatException {
+        return new ReadDatapoint(new CommandDP(new GroupAddress(address), "test", 0, "1.001"), 3);
+    }
+
+    private static @Nullable String address(@Nullable ReadDatapoint datapoint) {
+        return datapoint == null ? null : datapoint.getDatapoint().getMainAddress().toString();
+    }
+}
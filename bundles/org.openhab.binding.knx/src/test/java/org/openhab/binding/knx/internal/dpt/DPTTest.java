@@ -15,6 +15,7 @@ package org.openhab.binding.knx.internal.dpt;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.text.DecimalFormat;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
@@ -30,10 +31,14 @@ import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.IncreaseDecreaseType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
+import org.openhab.core.types.Type;
 import org.openhab.core.util.ColorUtil;
 
 import tuwien.auto.calimero.dptxlator.DPTXlator2ByteUnsigned;
@@ -496,6 +501,66 @@ class DPTTest {
         assertEquals(rgb[2] * 100d / 255, Double.valueOf(parts[2].replace(',', '.')), 1);
     }
 
+    @Test
+    public void directDecodingDpt1() {
+        for (String dpt : List.of("1.001", "1.008", "1.009", "1.010", "1.019", "1.022")) {
+            for (byte value = 0; value < 2; value++) {
+                assertDirectDecoding(dpt, new byte[] { value }, OnOffType.class, OpenClosedType.class,
+                        DecimalType.class);
+            }
+        }
+    }
+
+    @Test
+    public void directDecodingDpt5And7() {
+        for (int value = 0; value < 256; value++) {
+            assertDirectDecoding("5.004", new byte[] { (byte) value }, QuantityType.class, PercentType.class);
+            assertDirectDecoding("5.010", new byte[] { (byte) value }, DecimalType.class);
+        }
+        for (int value = 0; value < 0x10000; value += 97) {
+            byte[] data = new byte[] { (byte) (value >> 8), (byte) value };
+            assertDirectDecoding("7.001", data, DecimalType.class);
+            assertDirectDecoding("7.013", data, QuantityType.class);
+        }
+    }
+
+    @Test
+    public void directDecodingDpt9() {
+        for (int value = 0; value < 0x10000; value++) {
+            byte[] data = new byte[] { (byte) (value >> 8), (byte) value };
+            assertDirectDecoding("9.001", data, QuantityType.class, DecimalType.class);
+        }
+        assertEquals(new QuantityType<>("21.5 °C"),
+                ValueDecoder.decode("9.001", new byte[] { (byte) 0x0c, (byte) 0x33 }, QuantityType.class));
+        assertEquals(new QuantityType<>("-0.5 lx"),
+                ValueDecoder.decode("9.004", new byte[] { (byte) 0x87, (byte) 0xce }, QuantityType.class));
+    }
+
+    @Test
+    public void directDecodingDpt13And14() {
+        for (int value : new int[] { 0, 1, -1, 42, 1000000, Integer.MAX_VALUE, Integer.MIN_VALUE }) {
+            byte[] data = new byte[] { (byte) (value >> 24), (byte) (value >> 16), (byte) (value >> 8), (byte) value };
+            assertDirectDecoding("13.001", data, DecimalType.class);
+            assertDirectDecoding("13.010", data, QuantityType.class);
+        }
+        for (float value : new float[] { 0f, -0f, 0.1f, -21.5f, 1e-5f, 3.4e38f, Float.MIN_VALUE }) {
+            int bits = Float.floatToIntBits(value);
+            byte[] data = new byte[] { (byte) (bits >> 24), (byte) (bits >> 16), (byte) (bits >> 8), (byte) bits };
+            assertDirectDecoding("14.019", data, QuantityType.class, DecimalType.class);
+            assertDirectDecoding("14.056", data, QuantityType.class);
+        }
+    }
+
+    @SafeVarargs
+    private static void assertDirectDecoding(String dpt, byte[] data, Class<? extends Type>... preferredTypes) {
+        for (Class<? extends Type> preferredType : preferredTypes) {
+            Type expected = ValueDecoder.decodeWithTranslator(dpt, data.clone(), preferredType);
+            Type actual = ValueDecoder.decode(dpt, data.clone(), preferredType);
+            assertEquals(expected, actual, dpt + " " + preferredType.getSimpleName());
+            assertEquals(String.valueOf(expected), String.valueOf(actual), dpt + " " + preferredType.getSimpleName());
+        }
+    }
+
     // This test checks all our overrides for units. It allows to detect unnecessary overrides when we
     // update Calimero library
     @Test
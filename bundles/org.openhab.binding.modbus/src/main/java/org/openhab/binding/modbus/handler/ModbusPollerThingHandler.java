@@ -22,7 +22,11 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.internal.AtomicStampedValue;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
+import org.openhab.binding.modbus.internal.ModbusPollCoalescer;
+import org.openhab.binding.modbus.internal.ModbusPollCoalescer.CoalescedPoll;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
 import org.openhab.binding.modbus.internal.config.ModbusPollerConfiguration;
+import org.openhab.binding.modbus.internal.handler.AbstractModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
@@ -189,6 +193,8 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     private @NonNullByDefault({}) ModbusPollerConfiguration config;
     private long cacheMillis;
     private volatile @Nullable PollTask pollTask;
+    private volatile @Nullable ModbusPollCoalescer pollCoalescer;
+    private volatile @Nullable CoalescedPoll coalescedPoll;
     private volatile @Nullable ModbusReadRequestBlueprint request;
     private volatile boolean disposed;
     private volatile List<ModbusDataThingHandler> childCallbacks = new CopyOnWriteArrayList<>();
@@ -312,7 +318,15 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             logger.debug("Unregistering polling from ModbusManager");
             comms.unregisterRegularPoll(localPollTask);
         }
+        ModbusPollCoalescer localPollCoalescer = this.pollCoalescer;
+        CoalescedPoll localCoalescedPoll = this.coalescedPoll;
+        if (localPollCoalescer != null && localCoalescedPoll != null) {
+            logger.debug("Unregistering coalesced polling");
+            localPollCoalescer.unregisterRegularPoll(localCoalescedPoll);
+        }
         this.pollTask = null;
+        this.pollCoalescer = null;
+        this.coalescedPoll = null;
         request = null;
         comms = null;
         updateStatus(ThingStatus.OFFLINE);
@@ -327,7 +341,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     @SuppressWarnings("null")
     private synchronized void registerPollTask() throws EndpointNotInitializedException {
         logger.trace("registerPollTask()");
-        if (pollTask != null) {
+        if (pollTask != null || coalescedPoll != null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR);
             logger.debug("pollTask should be unregistered before registering a new one!");
             return;
@@ -361,10 +375,21 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             logger.debug("Not registering polling with ModbusManager since refresh disabled");
             updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "Not polling");
         } else {
-            logger.debug("Registering polling with ModbusManager");
-            pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
-                    callbackDelegator);
-            assert pollTask != null;
+            ModbusPollCoalescer localPollCoalescer = null;
+            if (slaveEndpointThingHandler instanceof AbstractModbusEndpointThingHandler<?, ?> endpointHandler) {
+                localPollCoalescer = endpointHandler.getPollCoalescer();
+            }
+            if (localPollCoalescer != null) {
+                logger.debug("Registering polling with the poll coalescer of the endpoint");
+                pollCoalescer = localPollCoalescer;
+                coalescedPoll = localPollCoalescer.registerRegularPoll(localRequest, config.getRefresh(),
+                        callbackDelegator, callbackDelegator);
+            } else {
+                logger.debug("Registering polling with ModbusManager");
+                pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
+                        callbackDelegator);
+                assert pollTask != null;
+            }
             updateStatus(ThingStatus.ONLINE);
         }
     }
@@ -417,6 +442,18 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         return comms;
     }
 
+    /**
+     * Get the coalescer merging the register writes to the endpoint of this poller
+     *
+     * @return coalescer, or null if writes should be submitted to the communication interface directly
+     */
+    public @Nullable ModbusWriteCoalescer getWriteCoalescer() {
+        if (getEndpointThingHandler() instanceof AbstractModbusEndpointThingHandler<?, ?> endpointHandler) {
+            return endpointHandler.getWriteCoalescer();
+        }
+        return null;
+    }
+
     /**
      * Refresh the data
      *
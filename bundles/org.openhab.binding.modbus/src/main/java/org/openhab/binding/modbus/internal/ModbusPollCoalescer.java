@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Merges the regular polls of the pollers of one endpoint into fewer Modbus read requests.
+ *
+ * Polls are merged when they read the same slave with the same function code, poll period and maximum tries, and
+ * their ranges are at most the configured gap apart. A merged request never exceeds the maximum number of registers
+ * or bits of a single read. The merged data is sliced back to the range of every poll, so the callbacks receive the
+ * same results as if each poll was registered on its own.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollCoalescer {
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusPollCoalescer.class);
+
+    private final ModbusCommunicationInterface comms;
+    private final int maxGap;
+
+    // guarded by this
+    private final Set<CoalescedPoll> polls = new LinkedHashSet<>();
+    private final Map<Set<CoalescedPoll>, PollTask> pollTasks = new HashMap<>();
+    private boolean closed;
+
+    /**
+     * A regular poll registered with the coalescer
+     */
+    public static class CoalescedPoll {
+        private final ModbusReadRequestBlueprint request;
+        private final long pollPeriodMillis;
+        private final ModbusReadCallback resultCallback;
+        private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback;
+
+        CoalescedPoll(ModbusReadRequestBlueprint request, long pollPeriodMillis, ModbusReadCallback resultCallback,
+                ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.pollPeriodMillis = pollPeriodMillis;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        public ModbusReadRequestBlueprint getRequest() {
+            return request;
+        }
+
+        @Override
+        public String toString() {
+            return "CoalescedPoll [request=" + request + ", pollPeriodMillis=" + pollPeriodMillis + "]";
+        }
+    }
+
+    private record CompatibilityKey(int slaveId, ModbusReadFunctionCode functionCode, long pollPeriodMillis,
+            int maxTries) {
+    }
+
+    /**
+     * Create a coalescer
+     *
+     * @param comms communication interface of the endpoint
+     * @param maxGap maximum number of registers or bits between the ranges of two polls that are merged. The
+     *            registers or bits in the gap are read as well.
+     */
+    public ModbusPollCoalescer(ModbusCommunicationInterface comms, int maxGap) {
+        this.comms = comms;
+        this.maxGap = maxGap;
+    }
+
+    /**
+     * Register a regular poll, like {@link ModbusCommunicationInterface#registerRegularPoll}
+     *
+     * @param request request to poll
+     * @param pollPeriodMillis poll period, in milliseconds
+     * @param resultCallback callback receiving the data of the request
+     * @param failureCallback callback receiving the failures of the request
+     * @return handle for unregistering the poll
+     */
+    public synchronized CoalescedPoll registerRegularPoll(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+            ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        CoalescedPoll poll = new CoalescedPoll(request, pollPeriodMillis, resultCallback, failureCallback);
+        if (closed) {
+            logger.debug("Not registering {} since the coalescer is closed", poll);
+            return poll;
+        }
+        polls.add(poll);
+        updatePollTasks();
+        return poll;
+    }
+
+    /**
+     * Unregister a regular poll. No-op if the poll is not registered.
+     *
+     * @param poll poll returned by {@link #registerRegularPoll}
+     */
+    public synchronized void unregisterRegularPoll(CoalescedPoll poll) {
+        if (polls.remove(poll)) {
+            updatePollTasks();
+        }
+    }
+
+    /**
+     * Unregister all polls. Polls registered afterwards are ignored.
+     */
+    public synchronized void close() {
+        closed = true;
+        polls.clear();
+        updatePollTasks();
+    }
+
+    /**
+     * Group polls so that the polls of a group can be read with a single request
+     *
+     * @param polls polls to group
+     * @param maxGap maximum number of registers or bits between the ranges of two polls of a group
+     * @return groups, each sorted by start address
+     */
+    static List<List<CoalescedPoll>> group(Collection<CoalescedPoll> polls, int maxGap) {
+        Map<CompatibilityKey, List<CoalescedPoll>> compatiblePolls = new LinkedHashMap<>();
+        for (CoalescedPoll poll : polls) {
+            ModbusReadRequestBlueprint request = poll.request;
+            compatiblePolls.computeIfAbsent(new CompatibilityKey(request.getUnitID(), request.getFunctionCode(),
+                    poll.pollPeriodMillis, request.getMaxTries()), key -> new ArrayList<>()).add(poll);
+        }
+
+        List<List<CoalescedPoll>> groups = new ArrayList<>();
+        for (Map.Entry<CompatibilityKey, List<CoalescedPoll>> entry : compatiblePolls.entrySet()) {
+            int maxLength = maxReadCount(entry.getKey().functionCode());
+            List<CoalescedPoll> sorted = entry.getValue();
+            sorted.sort(Comparator.comparingInt(poll -> poll.request.getReference()));
+
+            List<CoalescedPoll> group = new ArrayList<>();
+            int start = 0;
+            int end = 0;
+            for (CoalescedPoll poll : sorted) {
+                int pollStart = poll.request.getReference();
+                int pollEnd = pollStart + poll.request.getDataLength();
+                if (!group.isEmpty() && pollStart - end <= maxGap && Math.max(end, pollEnd) - start <= maxLength) {
+                    group.add(poll);
+                    end = Math.max(end, pollEnd);
+                } else {
+                    group = new ArrayList<>();
+                    group.add(poll);
+                    groups.add(group);
+                    start = pollStart;
+                    end = pollEnd;
+                }
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Create the request reading the ranges of all polls of a group
+     *
+     * @param group polls sorted by start address
+     * @return request
+     */
+    static ModbusReadRequestBlueprint mergedRequest(List<CoalescedPoll> group) {
+        ModbusReadRequestBlueprint first = group.get(0).request;
+        int start = first.getReference();
+        int end = start;
+        for (CoalescedPoll poll : group) {
+            end = Math.max(end, poll.request.getReference() + poll.request.getDataLength());
+        }
+        return new ModbusReadRequestBlueprint(first.getUnitID(), first.getFunctionCode(), start, end - start,
+                first.getMaxTries());
+    }
+
+    /**
+     * Slice the data of a merged request to the range of one of the requests merged into it
+     *
+     * @param result result of the merged request
+     * @param request request merged into the request of the result
+     * @return result of the request
+     */
+    static AsyncModbusReadResult slice(AsyncModbusReadResult result, ModbusReadRequestBlueprint request) {
+        int offset = request.getReference() - result.getRequest().getReference();
+        int length = request.getDataLength();
+        Optional<ModbusRegisterArray> registers = result.getRegisters();
+        if (registers.isPresent()) {
+            byte[] bytes = registers.get().getBytes();
+            return new AsyncModbusReadResult(request,
+                    new ModbusRegisterArray(Arrays.copyOfRange(bytes, 2 * offset, 2 * (offset + length))));
+        }
+        BitArray bits = result.getBits().orElseThrow(() -> new IllegalArgumentException("Result without data"));
+        BitArray slice = new BitArray(length);
+        for (int i = 0; i < length; i++) {
+            slice.setBit(i, bits.getBit(offset + i));
+        }
+        return new AsyncModbusReadResult(request, slice);
+    }
+
+    private void updatePollTasks() {
+        Map<Set<CoalescedPoll>, List<CoalescedPoll>> plannedGroups = new LinkedHashMap<>();
+        for (List<CoalescedPoll> group : group(polls, maxGap)) {
+            plannedGroups.put(Set.copyOf(group), group);
+        }
+
+        // unregister first so that the slave is not polled twice
+        Iterator<Map.Entry<Set<CoalescedPoll>, PollTask>> it = pollTasks.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Set<CoalescedPoll>, PollTask> entry = it.next();
+            if (!plannedGroups.containsKey(entry.getKey())) {
+                comms.unregisterRegularPoll(entry.getValue());
+                it.remove();
+            }
+        }
+        for (Map.Entry<Set<CoalescedPoll>, List<CoalescedPoll>> entry : plannedGroups.entrySet()) {
+            if (!pollTasks.containsKey(entry.getKey())) {
+                pollTasks.put(entry.getKey(), register(entry.getValue()));
+            }
+        }
+    }
+
+    private PollTask register(List<CoalescedPoll> group) {
+        CoalescedPoll first = group.get(0);
+        if (group.size() == 1) {
+            return comms.registerRegularPoll(first.request, first.pollPeriodMillis, 0, first.resultCallback,
+                    first.failureCallback);
+        }
+        ModbusReadRequestBlueprint request = mergedRequest(group);
+        logger.debug("Polling {} with a single request {}", group, request);
+        return comms.registerRegularPoll(request, first.pollPeriodMillis, 0, result -> {
+            for (CoalescedPoll poll : group) {
+                try {
+                    poll.resultCallback.handle(slice(result, poll.request));
+                } catch (RuntimeException e) {
+                    logger.warn("Error handling the result of {}: {}", poll.request, e.getMessage(), e);
+                }
+            }
+        }, failure -> {
+            for (CoalescedPoll poll : group) {
+                try {
+                    poll.failureCallback.handle(new AsyncModbusFailure<>(poll.request, failure.getCause()));
+                } catch (RuntimeException e) {
+                    logger.warn("Error handling the failure of {}: {}", poll.request, e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    private static int maxReadCount(ModbusReadFunctionCode functionCode) {
+        switch (functionCode) {
+            case READ_COILS:
+            case READ_INPUT_DISCRETES:
+                return ModbusConstants.MAX_BITS_READ_COUNT;
+            default:
+                return ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        }
+    }
+}
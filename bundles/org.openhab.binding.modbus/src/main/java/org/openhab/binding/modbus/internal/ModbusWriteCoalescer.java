@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the writes to an endpoint for a short time and merges the register writes to contiguous or overlapping
+ * registers into a single write multiple registers (FC16) request.
+ *
+ * Register writes are merged when they have the same slave and maximum tries, up to the maximum number of registers
+ * of a single write. Only writes that use FC16 already are merged, writes of a single register (FC06) are passed on
+ * unchanged since a device may not support FC16. Where the writes overlap, the later write wins. The requests are
+ * submitted in the order their first write was queued, so writes are not merged across another write to the same
+ * registers. The callbacks of every write receive the result of the request it was merged into.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusWriteCoalescer {
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusWriteCoalescer.class);
+
+    private final ModbusCommunicationInterface comms;
+    private final ScheduledExecutorService scheduler;
+    private final long delayMillis;
+
+    // guarded by this
+    private List<QueuedWrite> queue = new ArrayList<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+    private boolean closed;
+
+    /**
+     * A write waiting to be submitted
+     */
+    static class QueuedWrite {
+        private final ModbusWriteRequestBlueprint request;
+        private final ModbusWriteCallback resultCallback;
+        private final ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback;
+
+        QueuedWrite(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+                ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        @Override
+        public String toString() {
+            return "QueuedWrite [request=" + request + "]";
+        }
+    }
+
+    private record MergeKey(int slaveId, int maxTries) {
+    }
+
+    /**
+     * Register writes to a slave that are submitted as a single request, covering the contiguous registers from
+     * start to end
+     */
+    private static class RegisterGroup {
+        private final @Nullable MergeKey key;
+        private final List<QueuedWrite> writes = new ArrayList<>();
+        private int start;
+        private int end;
+
+        RegisterGroup(ModbusWriteRegisterRequestBlueprint request) {
+            // writes of a single register are never merged
+            this.key = request.isWriteMultiple() ? new MergeKey(request.getUnitID(), request.getMaxTries()) : null;
+            this.start = request.getReference();
+            this.end = start;
+        }
+
+        void add(QueuedWrite write, ModbusWriteRegisterRequestBlueprint request) {
+            writes.add(write);
+            start = Math.min(start, request.getReference());
+            end = Math.max(end, request.getReference() + request.getRegisters().size());
+        }
+    }
+
+    /**
+     * Create a coalescer
+     *
+     * @param comms communication interface of the endpoint
+     * @param scheduler scheduler submitting the queued writes
+     * @param delayMillis how long writes are collected before they are submitted, in milliseconds
+     */
+    public ModbusWriteCoalescer(ModbusCommunicationInterface comms, ScheduledExecutorService scheduler,
+            long delayMillis) {
+        this.comms = comms;
+        this.scheduler = scheduler;
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * Queue a write, like {@link ModbusCommunicationInterface#submitOneTimeWrite}
+     *
+     * @param request request to write
+     * @param resultCallback callback receiving the result of the write
+     * @param failureCallback callback receiving the failure of the write
+     */
+    public void submitOneTimeWrite(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+        synchronized (this) {
+            if (!closed) {
+                queue.add(new QueuedWrite(request, resultCallback, failureCallback));
+                if (flushJob == null) {
+                    flushJob = scheduler.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+        comms.submitOneTimeWrite(request, resultCallback, failureCallback);
+    }
+
+    /**
+     * Submit the queued writes. Writes queued afterwards are submitted right away.
+     */
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            ScheduledFuture<?> localFlushJob = flushJob;
+            if (localFlushJob != null) {
+                localFlushJob.cancel(false);
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Group writes so that the writes of a group can be submitted as a single request
+     *
+     * A group is submitted in place of its first write, so a write is only added to a group if it doesn't pass a
+     * write to the same registers of the slave that is submitted in between.
+     *
+     * @param writes writes in the order they were queued
+     * @return groups in the order of their first write, each in the order the writes were queued
+     */
+    static List<List<QueuedWrite>> group(List<QueuedWrite> writes) {
+        List<List<QueuedWrite>> groups = new ArrayList<>();
+        Map<Integer, List<RegisterGroup>> registerGroups = new HashMap<>();
+        for (QueuedWrite write : writes) {
+            if (write.request instanceof ModbusWriteRegisterRequestBlueprint request) {
+                List<RegisterGroup> slaveGroups = registerGroups.computeIfAbsent(request.getUnitID(),
+                        unitId -> new ArrayList<>());
+                RegisterGroup group = request.isWriteMultiple() ? findGroup(slaveGroups, request) : null;
+                if (group == null) {
+                    group = new RegisterGroup(request);
+                    slaveGroups.add(group);
+                    groups.add(group.writes);
+                }
+                group.add(write, request);
+            } else {
+                groups.add(new ArrayList<>(List.of(write)));
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Find the group a write multiple registers request can be merged into
+     *
+     * @param slaveGroups groups of register writes to the slave, in the order of their first write
+     * @param request request to merge
+     * @return group, or null if the request has to be submitted on its own
+     */
+    private static @Nullable RegisterGroup findGroup(List<RegisterGroup> slaveGroups,
+            ModbusWriteRegisterRequestBlueprint request) {
+        MergeKey key = new MergeKey(request.getUnitID(), request.getMaxTries());
+        int start = request.getReference();
+        int end = start + request.getRegisters().size();
+        for (int i = slaveGroups.size() - 1; i >= 0; i--) {
+            RegisterGroup group = slaveGroups.get(i);
+            int mergedCount = Math.max(end, group.end) - Math.min(start, group.start);
+            if (key.equals(group.key) && start <= group.end && group.start <= end
+                    && mergedCount <= ModbusConstants.MAX_REGISTERS_WRITE_COUNT) {
+                return group;
+            }
+            if (start < group.end && group.start < end) {
+                // merging into an earlier group would submit the write before this overlapping one
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Create the request writing the registers of all writes of a group
+     *
+     * @param group write multiple registers requests in the order they were queued
+     * @return request
+     */
+    static ModbusWriteRegisterRequestBlueprint mergedRequest(List<QueuedWrite> group) {
+        int start = Integer.MAX_VALUE;
+        int end = Integer.MIN_VALUE;
+        for (QueuedWrite write : group) {
+            ModbusWriteRegisterRequestBlueprint request = (ModbusWriteRegisterRequestBlueprint) write.request;
+            start = Math.min(start, request.getReference());
+            end = Math.max(end, request.getReference() + request.getRegisters().size());
+        }
+        byte[] bytes = new byte[2 * (end - start)];
+        for (QueuedWrite write : group) {
+            ModbusWriteRegisterRequestBlueprint request = (ModbusWriteRegisterRequestBlueprint) write.request;
+            byte[] registers = request.getRegisters().getBytes();
+            System.arraycopy(registers, 0, bytes, 2 * (request.getReference() - start), registers.length);
+        }
+        ModbusWriteRegisterRequestBlueprint first = (ModbusWriteRegisterRequestBlueprint) group.get(0).request;
+        return new ModbusWriteRegisterRequestBlueprint(first.getUnitID(), start, new ModbusRegisterArray(bytes), true,
+                first.getMaxTries());
+    }
+
+    private void flush() {
+        List<QueuedWrite> writes;
+        synchronized (this) {
+            writes = queue;
+            queue = new ArrayList<>();
+            flushJob = null;
+        }
+        for (List<QueuedWrite> group : group(writes)) {
+            if (group.size() == 1) {
+                QueuedWrite write = group.get(0);
+                comms.submitOneTimeWrite(write.request, write.resultCallback, write.failureCallback);
+                continue;
+            }
+            ModbusWriteRegisterRequestBlueprint request = mergedRequest(group);
+            logger.debug("Writing {} with a single request {}", group, request);
+            comms.submitOneTimeWrite(request, result -> {
+                for (QueuedWrite write : group) {
+                    try {
+                        write.resultCallback.handle(new AsyncModbusWriteResult(write.request, result.getResponse()));
+                    } catch (RuntimeException e) {
+                        logger.warn("Error handling the result of {}: {}", write.request, e.getMessage(), e);
+                    }
+                }
+            }, failure -> {
+                for (QueuedWrite write : group) {
+                    try {
+                        write.failureCallback.handle(new AsyncModbusFailure<>(write.request, failure.getCause()));
+                    } catch (RuntimeException e) {
+                        logger.warn("Error handling the failure of {}: {}", write.request, e.getMessage(), e);
+                    }
+                }
+            });
+        }
+    }
+}
@@ -39,6 +39,8 @@ public class ModbusSerialConfiguration {
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
     private boolean enableDiscovery;
+    private int pollCoalescingGap = -1;
+    private int writeCoalescingMillis;
 
     public @Nullable String getPort() {
         return port;
@@ -167,4 +169,20 @@ public class ModbusSerialConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public int getPollCoalescingGap() {
+        return pollCoalescingGap;
+    }
+
+    public void setPollCoalescingGap(int pollCoalescingGap) {
+        this.pollCoalescingGap = pollCoalescingGap;
+    }
+
+    public int getWriteCoalescingMillis() {
+        return writeCoalescingMillis;
+    }
+
+    public void setWriteCoalescingMillis(int writeCoalescingMillis) {
+        this.writeCoalescingMillis = writeCoalescingMillis;
+    }
 }
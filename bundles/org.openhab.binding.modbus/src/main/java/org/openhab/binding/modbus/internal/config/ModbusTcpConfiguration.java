@@ -33,6 +33,8 @@ public class ModbusTcpConfiguration {
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
     private boolean enableDiscovery;
+    private int pollCoalescingGap = -1;
+    private int writeCoalescingMillis;
     private boolean rtuEncoded;
 
     public boolean getRtuEncoded() {
@@ -118,4 +120,20 @@ public class ModbusTcpConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public int getPollCoalescingGap() {
+        return pollCoalescingGap;
+    }
+
+    public void setPollCoalescingGap(int pollCoalescingGap) {
+        this.pollCoalescingGap = pollCoalescingGap;
+    }
+
+    public int getWriteCoalescingMillis() {
+        return writeCoalescingMillis;
+    }
+
+    public void setWriteCoalescingMillis(int writeCoalescingMillis) {
+        this.writeCoalescingMillis = writeCoalescingMillis;
+    }
 }
@@ -17,6 +17,8 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.handler.EndpointNotInitializedException;
 import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusPollCoalescer;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusManager;
 import org.openhab.core.io.transport.modbus.endpoint.EndpointPoolConfiguration;
@@ -48,6 +50,8 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     protected volatile @NonNullByDefault({}) EndpointPoolConfiguration poolConfiguration;
     private final Logger logger = LoggerFactory.getLogger(AbstractModbusEndpointThingHandler.class);
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ModbusPollCoalescer pollCoalescer;
+    private volatile @Nullable ModbusWriteCoalescer writeCoalescer;
 
     public AbstractModbusEndpointThingHandler(Bridge bridge, ModbusManager modbusManager) {
         super(bridge);
@@ -76,6 +80,12 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
                 }
                 try {
                     comms = modbusManager.newModbusCommunicationInterface(endpoint, poolConfiguration);
+                    int pollCoalescingGap = getPollCoalescingGap();
+                    pollCoalescer = pollCoalescingGap >= 0 ? new ModbusPollCoalescer(comms, pollCoalescingGap) : null;
+                    int writeCoalescingMillis = getWriteCoalescingMillis();
+                    writeCoalescer = writeCoalescingMillis > 0
+                            ? new ModbusWriteCoalescer(comms, scheduler, writeCoalescingMillis)
+                            : null;
                     updateStatus(ThingStatus.ONLINE);
                 } catch (IllegalArgumentException e) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
@@ -93,6 +103,16 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
 
     @Override
     public void dispose() {
+        ModbusPollCoalescer localPollCoalescer = pollCoalescer;
+        pollCoalescer = null;
+        if (localPollCoalescer != null) {
+            localPollCoalescer.close();
+        }
+        ModbusWriteCoalescer localWriteCoalescer = writeCoalescer;
+        writeCoalescer = null;
+        if (localWriteCoalescer != null) {
+            localWriteCoalescer.close();
+        }
         try {
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
@@ -110,6 +130,24 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
         return comms;
     }
 
+    /**
+     * Get the coalescer merging the regular polls of the pollers of this endpoint
+     *
+     * @return coalescer, or null if polls should be registered with the communication interface directly
+     */
+    public @Nullable ModbusPollCoalescer getPollCoalescer() {
+        return pollCoalescer;
+    }
+
+    /**
+     * Get the coalescer merging the register writes to this endpoint
+     *
+     * @return coalescer, or null if writes should be submitted to the communication interface directly
+     */
+    public @Nullable ModbusWriteCoalescer getWriteCoalescer() {
+        return writeCoalescer;
+    }
+
     @Nullable
     public E getEndpoint() {
         return endpoint;
@@ -123,6 +161,18 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
      */
     protected abstract void configure() throws ModbusConfigurationException;
 
+    /**
+     * Must be overriden by subclasses to return the maximum gap between merged polls, or a negative value if polls
+     * should not be merged. Called after {@link #configure()}.
+     */
+    protected abstract int getPollCoalescingGap();
+
+    /**
+     * Must be overriden by subclasses to return how long writes are collected before they are merged and submitted,
+     * or zero if writes should be submitted right away. Called after {@link #configure()}.
+     */
+    protected abstract int getWriteCoalescingMillis();
+
     /**
      * Format error message in case some other endpoint has been configured with different
      * {@link EndpointPoolConfiguration}
@@ -17,6 +17,7 @@ import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -25,6 +26,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -35,6 +37,7 @@ import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
 import org.openhab.binding.modbus.internal.ModbusTransformation;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
 import org.openhab.binding.modbus.internal.config.ModbusDataConfiguration;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
@@ -142,6 +145,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile boolean writeParametersHavingTransformationOnly;
     private volatile boolean childOfEndpoint;
     private volatile @Nullable ModbusPollerThingHandler pollerHandler;
+    private volatile @Nullable ModbusWriteCoalescer writeCoalescer;
+    // raw data of the value and the channel states of the last processed poll, without the last read success
+    private volatile byte @Nullable [] lastReadData;
+    private volatile @Nullable Map<ChannelUID, State> lastReadStates;
     private volatile Map<String, ChannelUID> channelCache = new HashMap<>();
     private volatile Map<ChannelUID, Long> channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     private volatile Map<ChannelUID, State> channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
@@ -218,7 +225,16 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
 
         logger.trace("Submitting write task {} to endpoint {}", request, comms.getEndpoint());
-        comms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        submitWrite(comms, request);
+    }
+
+    private void submitWrite(ModbusCommunicationInterface comms, ModbusWriteRequestBlueprint request) {
+        ModbusWriteCoalescer writeCoalescer = this.writeCoalescer;
+        if (writeCoalescer != null) {
+            writeCoalescer.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        } else {
+            comms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        }
     }
 
     /**
@@ -385,7 +401,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         requests.stream().forEach(request -> {
             logger.trace("Submitting write request: {} to endpoint {} (based from transformation {})", request,
                     localComms.getEndpoint(), transformOutput);
-            localComms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+            submitWrite(localComms, request);
         });
     }
 
@@ -414,6 +430,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             if (bridgeHandler instanceof ModbusEndpointThingHandler endpointHandler) {
                 slaveId = endpointHandler.getSlaveId();
                 comms = endpointHandler.getCommunicationInterface();
+                if (endpointHandler instanceof AbstractModbusEndpointThingHandler<?, ?> abstractEndpointHandler) {
+                    writeCoalescer = abstractEndpointHandler.getWriteCoalescer();
+                }
                 childOfEndpoint = true;
                 functionCode = null;
                 readRequest = null;
@@ -432,6 +451,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 slaveId = localReadRequest.getUnitID();
                 functionCode = localReadRequest.getFunctionCode();
                 comms = localPollerHandler.getCommunicationInterface();
+                writeCoalescer = localPollerHandler.getWriteCoalescer();
                 pollStart = localReadRequest.getReference();
                 childOfEndpoint = false;
             } else {
@@ -475,6 +495,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         writeParametersHavingTransformationOnly = false;
         childOfEndpoint = false;
         pollerHandler = null;
+        writeCoalescer = null;
+        lastReadData = null;
+        lastReadStates = null;
         channelCache = new HashMap<>();
         lastStatusInfoUpdate = LocalDateTime.MIN;
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
@@ -482,6 +505,21 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     }
 
+    @Override
+    public synchronized void channelLinked(ChannelUID channelUID) {
+        // the newly linked channel has no state in the last read states
+        lastReadData = null;
+        lastReadStates = null;
+        super.channelLinked(channelUID);
+    }
+
+    @Override
+    public synchronized void channelUnlinked(ChannelUID channelUID) {
+        lastReadData = null;
+        lastReadStates = null;
+        super.channelUnlinked(channelUID);
+    }
+
     @Override
     public synchronized void bridgeStatusChanged(ThingStatusInfo bridgeStatusInfo) {
         logger.debug("bridgeStatusChanged for {}. Reseting handler", this.getThing().getUID());
@@ -814,6 +852,16 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         if (readValueType == null) {
             return;
         }
+        // bytes of the registers holding the value
+        int dataFrom = 2 * (readIndex.get() - pollStart);
+        int dataTo = dataFrom + 2 * Math.max(1, readValueType.getBits() / 16);
+        byte[] bytes = registers.getBytes();
+        boolean dataInRange = dataFrom >= 0 && dataTo <= bytes.length;
+        if (dataInRange && processUnchangedValue(bytes, dataFrom, dataTo)) {
+            logger.trace("Thing {} registers of the value unchanged. Registers {} for request {}", thing.getUID(),
+                    registers, request);
+            return;
+        }
         State numericState;
 
         // extractIndex:
@@ -838,7 +886,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
                 .map(state -> (State) state).orElse(UnDefType.UNDEF);
         boolean boolValue = !numericState.equals(DecimalType.ZERO);
-        Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
+        Map<ChannelUID, State> values = processUpdatedValue(
+                dataInRange ? Arrays.copyOfRange(bytes, dataFrom, dataTo) : null, numericState, boolValue);
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={}, readSubIndex(or 0)={}, extractIndex={} -> numeric value {} and boolValue={}. Registers {} for request {}",
                 thing.getUID(), values, readValueType, readIndex, readSubIndex.orElse(0), extractIndex, numericState,
@@ -852,8 +901,13 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             return;
         }
         boolean boolValue = bits.getBit(readIndex.get() - pollStart);
+        byte[] data = new byte[] { (byte) (boolValue ? 1 : 0) };
+        if (processUnchangedValue(data, 0, data.length)) {
+            logger.trace("Thing {} bit of the value unchanged. Bits {} for request {}", thing.getUID(), bits, request);
+            return;
+        }
         DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
-        Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
+        Map<ChannelUID, State> values = processUpdatedValue(data, numericState, boolValue);
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={} -> numeric value {} and boolValue={}. Bits {} for request {}",
                 thing.getUID(), values, readValueType, readIndex, numericState, boolValue, bits, request);
@@ -945,14 +999,37 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Update linked channels with the states of the last processed poll, if the polled data has not changed since.
+     *
+     * The values are extracted and transformed again only when the raw data changes.
+     *
+     * @param data polled data
+     * @param from index of the first byte of the raw data of the value
+     * @param to index after the last byte of the raw data of the value
+     * @return true if the channels were updated
+     */
+    private boolean processUnchangedValue(byte[] data, int from, int to) {
+        byte[] lastReadData = this.lastReadData;
+        Map<ChannelUID, State> lastReadStates = this.lastReadStates;
+        if (lastReadData == null || lastReadStates == null
+                || !Arrays.equals(data, from, to, lastReadData, 0, lastReadData.length)) {
+            return false;
+        }
+        updateReadStates(lastReadStates);
+        return true;
+    }
+
     /**
      * Update linked channels
      *
+     * @param data raw data of the value, remembered with the states to detect unchanged data if every linked channel
+     *            was transformed. Null if not known.
      * @param numericState numeric state corresponding to polled data (or UNDEF with floating point NaN or infinity)
      * @param boolValue boolean value corresponding to polled data
      * @return updated channel data
      */
-    private Map<ChannelUID, State> processUpdatedValue(State numericState, boolean boolValue) {
+    private Map<ChannelUID, State> processUpdatedValue(byte @Nullable [] data, State numericState, boolean boolValue) {
         ModbusTransformation localReadTransformation = readTransformation;
         if (localReadTransformation == null) {
             // We should always have transformation available if thing is initalized properly
@@ -960,6 +1037,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             return Collections.emptyMap();
         }
         Map<ChannelUID, State> states = new HashMap<>();
+        // false if a transformation failed for a linked channel, e.g. while the transformation service is missing.
+        // Unlike transformations, the conversion of the identity transformation fails the same way every time.
+        AtomicBoolean allTransformed = new AtomicBoolean(true);
         CHANNEL_ID_TO_ACCEPTED_TYPES.keySet().stream().forEach(channelId -> {
             ChannelUID channelUID = getChannelUID(channelId);
             if (!isLinked(channelUID)) {
@@ -992,6 +1072,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 }
             } else {
                 transformedState = localReadTransformation.transformState(acceptedDataTypes, numericState);
+                if (transformedState == null || transformedState.toString().isBlank()) {
+                    // a failed transformation results in a blank string
+                    allTransformed.set(false);
+                }
             }
 
             if (transformedState != null) {
@@ -1013,6 +1097,15 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             }
         });
 
+        // transform again with the next poll unless every transformation succeeded
+        boolean remember = data != null && allTransformed.get();
+        lastReadData = remember ? data : null;
+        lastReadStates = remember ? Collections.unmodifiableMap(new HashMap<>(states)) : null;
+        return updateReadStates(states);
+    }
+
+    private Map<ChannelUID, State> updateReadStates(Map<ChannelUID, State> transformedStates) {
+        Map<ChannelUID, State> states = new HashMap<>(transformedStates);
         ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
         if (isLinked(lastReadSuccessUID)) {
             states.put(lastReadSuccessUID, new DateTimeType());
@@ -104,6 +104,18 @@ public class ModbusSerialThingHandler
         return config.getId();
     }
 
+    @Override
+    protected int getPollCoalescingGap() {
+        ModbusSerialConfiguration localConfig = config;
+        return localConfig == null ? -1 : localConfig.getPollCoalescingGap();
+    }
+
+    @Override
+    protected int getWriteCoalescingMillis() {
+        ModbusSerialConfiguration localConfig = config;
+        return localConfig == null ? 0 : localConfig.getWriteCoalescingMillis();
+    }
+
     @Override
     public ThingUID getUID() {
         return getThing().getUID();
@@ -82,6 +82,18 @@ public class ModbusTcpThingHandler
         return localConfig.getId();
     }
 
+    @Override
+    protected int getPollCoalescingGap() {
+        ModbusTcpConfiguration localConfig = config;
+        return localConfig == null ? -1 : localConfig.getPollCoalescingGap();
+    }
+
+    @Override
+    protected int getWriteCoalescingMillis() {
+        ModbusTcpConfiguration localConfig = config;
+        return localConfig == null ? 0 : localConfig.getWriteCoalescingMillis();
+    }
+
     @Override
     public ThingUID getUID() {
         return getThing().getUID();
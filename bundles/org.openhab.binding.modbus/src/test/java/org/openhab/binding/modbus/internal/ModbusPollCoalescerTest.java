@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.binding.modbus.internal.ModbusPollCoalescer.CoalescedPoll;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollCoalescerTest {
+
+    private static final ModbusReadCallback NO_RESULT_CALLBACK = result -> {
+    };
+    private static final ModbusFailureCallback<ModbusReadRequestBlueprint> NO_FAILURE_CALLBACK = failure -> {
+    };
+
+    @Test
+    public void testAdjacentAndOverlappingRangesAreGrouped() {
+        CoalescedPoll first = poll(holding(0, 10), 1000);
+        CoalescedPoll adjacent = poll(holding(10, 5), 1000);
+        CoalescedPoll overlapping = poll(holding(12, 10), 1000);
+        CoalescedPoll apart = poll(holding(23, 2), 1000);
+
+        List<List<CoalescedPoll>> groups = ModbusPollCoalescer.group(List.of(apart, overlapping, first, adjacent), 0);
+
+        assertEquals(List.of(List.of(first, adjacent, overlapping), List.of(apart)), groups);
+        assertRequest(0, 22, ModbusPollCoalescer.mergedRequest(groups.get(0)));
+    }
+
+    @Test
+    public void testRangesWithinGapAreGrouped() {
+        CoalescedPoll first = poll(holding(0, 10), 1000);
+        CoalescedPoll second = poll(holding(13, 2), 1000);
+        CoalescedPoll third = poll(holding(19, 1), 1000);
+
+        assertEquals(List.of(List.of(first, second), List.of(third)),
+                ModbusPollCoalescer.group(List.of(first, second, third), 3));
+        assertEquals(List.of(List.of(first, second, third)),
+                ModbusPollCoalescer.group(List.of(first, second, third), 4));
+    }
+
+    @Test
+    public void testIncompatiblePollsAreNotGrouped() {
+        CoalescedPoll holding = poll(holding(0, 10), 1000);
+        CoalescedPoll input = poll(request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 10, 10, 3), 1000);
+        CoalescedPoll otherPeriod = poll(holding(10, 10), 2000);
+        CoalescedPoll otherMaxTries = poll(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 10, 1), 1000);
+
+        assertEquals(4, ModbusPollCoalescer.group(List.of(holding, input, otherPeriod, otherMaxTries), 100).size());
+    }
+
+    @Test
+    public void testGroupsDoNotExceedMaximumReadCount() {
+        int max = ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        CoalescedPoll first = poll(holding(0, max - 10), 1000);
+        CoalescedPoll fitting = poll(holding(max - 10, 10), 1000);
+        CoalescedPoll exceeding = poll(holding(max - 5, 10), 1000);
+
+        assertEquals(List.of(List.of(first, fitting), List.of(exceeding)),
+                ModbusPollCoalescer.group(List.of(first, fitting, exceeding), 0));
+
+        CoalescedPoll coils = poll(request(ModbusReadFunctionCode.READ_COILS, 0, max, 3), 1000);
+        CoalescedPoll moreCoils = poll(request(ModbusReadFunctionCode.READ_COILS, max, max, 3), 1000);
+        assertEquals(List.of(List.of(coils, moreCoils)), ModbusPollCoalescer.group(List.of(coils, moreCoils), 0));
+    }
+
+    @Test
+    public void testSliceRegisters() {
+        ModbusReadRequestBlueprint merged = holding(5, 4);
+        AsyncModbusReadResult result = new AsyncModbusReadResult(merged, new ModbusRegisterArray(1, 2, 3, 4));
+        ModbusReadRequestBlueprint request = holding(6, 2);
+
+        AsyncModbusReadResult slice = ModbusPollCoalescer.slice(result, request);
+
+        assertSame(request, slice.getRequest());
+        assertArrayEquals(new ModbusRegisterArray(2, 3).getBytes(), slice.getRegisters().get().getBytes());
+    }
+
+    @Test
+    public void testSliceBits() {
+        ModbusReadRequestBlueprint merged = request(ModbusReadFunctionCode.READ_COILS, 0, 8, 3);
+        BitArray bits = new BitArray(8);
+        bits.setBit(3, true);
+        bits.setBit(5, true);
+        ModbusReadRequestBlueprint request = request(ModbusReadFunctionCode.READ_COILS, 3, 3, 3);
+
+        AsyncModbusReadResult slice = ModbusPollCoalescer.slice(new AsyncModbusReadResult(merged, bits), request);
+
+        assertSame(request, slice.getRequest());
+        BitArray sliced = slice.getBits().get();
+        assertEquals(3, sliced.size());
+        assertTrue(sliced.getBit(0));
+        assertFalse(sliced.getBit(1));
+        assertTrue(sliced.getBit(2));
+    }
+
+    @SuppressWarnings({ "unchecked", "null" })
+    @Test
+    public void testMergedPollIsDeliveredToEveryPoll() {
+        ModbusCommunicationInterface comms = mock(ModbusCommunicationInterface.class);
+        PollTask singlePollTask = mock(PollTask.class);
+        PollTask mergedPollTask = mock(PollTask.class);
+        when(comms.registerRegularPoll(any(), anyLong(), anyLong(), any(), any())).thenReturn(singlePollTask,
+                mergedPollTask);
+        ModbusPollCoalescer coalescer = new ModbusPollCoalescer(comms, 0);
+
+        List<AsyncModbusReadResult> firstResults = new ArrayList<>();
+        List<AsyncModbusFailure<ModbusReadRequestBlueprint>> secondFailures = new ArrayList<>();
+        ModbusReadRequestBlueprint firstRequest = holding(0, 2);
+        ModbusReadRequestBlueprint secondRequest = holding(2, 1);
+        coalescer.registerRegularPoll(firstRequest, 1000, firstResults::add, NO_FAILURE_CALLBACK);
+        CoalescedPoll second = coalescer.registerRegularPoll(secondRequest, 1000, NO_RESULT_CALLBACK,
+                secondFailures::add);
+
+        ArgumentCaptor<ModbusReadRequestBlueprint> request = ArgumentCaptor.forClass(ModbusReadRequestBlueprint.class);
+        ArgumentCaptor<ModbusReadCallback> resultCallback = ArgumentCaptor.forClass(ModbusReadCallback.class);
+        ArgumentCaptor<ModbusFailureCallback<ModbusReadRequestBlueprint>> failureCallback = ArgumentCaptor
+                .forClass(ModbusFailureCallback.class);
+        verify(comms, times(2)).registerRegularPoll(request.capture(), eq(1000L), eq(0L), resultCallback.capture(),
+                failureCallback.capture());
+        verify(comms).unregisterRegularPoll(singlePollTask);
+        assertSame(firstRequest, request.getAllValues().get(0));
+        ModbusReadRequestBlueprint mergedRequest = request.getAllValues().get(1);
+        assertRequest(0, 3, mergedRequest);
+
+        resultCallback.getValue().handle(new AsyncModbusReadResult(mergedRequest, new ModbusRegisterArray(7, 8, 9)));
+        assertEquals(1, firstResults.size());
+        assertSame(firstRequest, firstResults.get(0).getRequest());
+        assertArrayEquals(new ModbusRegisterArray(7, 8).getBytes(),
+                firstResults.get(0).getRegisters().get().getBytes());
+
+        Exception cause = new Exception("timeout");
+        failureCallback.getValue().handle(new AsyncModbusFailure<>(mergedRequest, cause));
+        assertEquals(1, secondFailures.size());
+        assertSame(secondRequest, secondFailures.get(0).getRequest());
+        assertSame(cause, secondFailures.get(0).getCause());
+
+        coalescer.unregisterRegularPoll(second);
+        verify(comms).unregisterRegularPoll(mergedPollTask);
+        verify(comms, times(3)).registerRegularPoll(any(), anyLong(), anyLong(), any(), any());
+
+        coalescer.close();
+        coalescer.registerRegularPoll(secondRequest, 1000, NO_RESULT_CALLBACK, NO_FAILURE_CALLBACK);
+        verify(comms, times(3)).registerRegularPoll(any(), anyLong(), anyLong(), any(), any());
+        verify(comms, times(3)).unregisterRegularPoll(any());
+    }
+
+    private static CoalescedPoll poll(ModbusReadRequestBlueprint request, long pollPeriodMillis) {
+        return new CoalescedPoll(request, pollPeriodMillis, NO_RESULT_CALLBACK, NO_FAILURE_CALLBACK);
+    }
+
+    private static ModbusReadRequestBlueprint holding(int start, int length) {
+        return request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, start, length, 3);
+    }
+
+    private static ModbusReadRequestBlueprint request(ModbusReadFunctionCode functionCode, int start, int length,
+            int maxTries) {
+        return new ModbusReadRequestBlueprint(1, functionCode, start, length, maxTries);
+    }
+
+    private static void assertRequest(int start, int length, ModbusReadRequestBlueprint request) {
+        assertEquals(start, request.getReference());
+        assertEquals(length, request.getDataLength());
+        assertEquals(3, request.getMaxTries());
+    }
+}
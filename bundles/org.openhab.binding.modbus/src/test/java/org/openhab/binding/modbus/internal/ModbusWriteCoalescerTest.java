@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer.QueuedWrite;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusResponse;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusWriteCoalescerTest {
+
+    private static final ModbusWriteCallback NO_RESULT_CALLBACK = result -> {
+    };
+    private static final ModbusFailureCallback<ModbusWriteRequestBlueprint> NO_FAILURE_CALLBACK = failure -> {
+    };
+
+    @Test
+    public void testContiguousWritesAreGrouped() {
+        QueuedWrite second = write(registers(12, 3));
+        QueuedWrite first = write(registers(10, 1, 2));
+        QueuedWrite apart = write(registers(14, 4));
+        QueuedWrite coil = write(new ModbusWriteCoilRequestBlueprint(1, 11, true, false, 3));
+        QueuedWrite otherMaxTries = write(
+                new ModbusWriteRegisterRequestBlueprint(1, 13, new ModbusRegisterArray(5), true, 1));
+
+        List<List<QueuedWrite>> groups = ModbusWriteCoalescer.group(List.of(second, first, apart, coil, otherMaxTries));
+
+        assertEquals(List.of(List.of(second, first), List.of(apart), List.of(coil), List.of(otherMaxTries)), groups);
+        ModbusWriteRegisterRequestBlueprint request = ModbusWriteCoalescer.mergedRequest(groups.get(0));
+        assertEquals(10, request.getReference());
+        assertArrayEquals(new ModbusRegisterArray(1, 2, 3).getBytes(), request.getRegisters().getBytes());
+        assertEquals(ModbusWriteFunctionCode.WRITE_MULTIPLE_REGISTERS, request.getFunctionCode());
+    }
+
+    @Test
+    public void testSingleRegisterWritesAreNotMerged() {
+        QueuedWrite multiple = write(registers(10, 1));
+        QueuedWrite single = write(
+                new ModbusWriteRegisterRequestBlueprint(1, 11, new ModbusRegisterArray(2), false, 3));
+        QueuedWrite overlapping = write(
+                new ModbusWriteRegisterRequestBlueprint(1, 10, new ModbusRegisterArray(3), false, 3));
+
+        assertEquals(List.of(List.of(multiple), List.of(single), List.of(overlapping)),
+                ModbusWriteCoalescer.group(List.of(multiple, single, overlapping)));
+    }
+
+    @Test
+    public void testWritesAreNotMergedAcrossOverlappingSingleRegisterWrite() {
+        QueuedWrite first = write(registers(10, 1, 2));
+        QueuedWrite single = write(
+                new ModbusWriteRegisterRequestBlueprint(1, 11, new ModbusRegisterArray(5), false, 3));
+        QueuedWrite overlapping = write(registers(11, 7));
+        QueuedWrite adjacent = write(registers(12, 8));
+
+        // merged into the first write, the overlapping write would be overwritten by the single write
+        assertEquals(List.of(List.of(first), List.of(single), List.of(overlapping, adjacent)),
+                ModbusWriteCoalescer.group(List.of(first, single, overlapping, adjacent)));
+    }
+
+    @Test
+    public void testWritesAreMergedAcrossOtherSingleRegisterWrite() {
+        QueuedWrite first = write(registers(10, 1));
+        QueuedWrite single = write(
+                new ModbusWriteRegisterRequestBlueprint(1, 20, new ModbusRegisterArray(5), false, 3));
+        QueuedWrite second = write(registers(11, 2));
+
+        assertEquals(List.of(List.of(first, second), List.of(single)),
+                ModbusWriteCoalescer.group(List.of(first, single, second)));
+    }
+
+    @Test
+    public void testLaterOverlappingWriteWins() {
+        QueuedWrite first = write(registers(10, 1, 2, 3));
+        QueuedWrite second = write(registers(11, 7));
+
+        List<List<QueuedWrite>> groups = ModbusWriteCoalescer.group(List.of(first, second));
+
+        assertEquals(List.of(List.of(first, second)), groups);
+        assertArrayEquals(new ModbusRegisterArray(1, 7, 3).getBytes(),
+                ModbusWriteCoalescer.mergedRequest(groups.get(0)).getRegisters().getBytes());
+    }
+
+    @Test
+    public void testGroupsDoNotExceedMaximumWriteCount() {
+        int max = ModbusConstants.MAX_REGISTERS_WRITE_COUNT;
+        QueuedWrite first = write(registers(0, new int[max - 1]));
+        QueuedWrite fitting = write(registers(max - 1, 1));
+        QueuedWrite exceeding = write(registers(max, 2));
+
+        assertEquals(List.of(List.of(first, fitting), List.of(exceeding)),
+                ModbusWriteCoalescer.group(List.of(first, fitting, exceeding)));
+    }
+
+    @SuppressWarnings({ "unchecked", "null" })
+    @Test
+    public void testMergedWriteIsDeliveredToEveryWrite() {
+        ModbusCommunicationInterface comms = mock(ModbusCommunicationInterface.class);
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(flush.capture(), eq(100L),
+                eq(TimeUnit.MILLISECONDS));
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, scheduler, 100);
+
+        List<AsyncModbusWriteResult> results = new ArrayList<>();
+        List<AsyncModbusFailure<ModbusWriteRequestBlueprint>> failures = new ArrayList<>();
+        ModbusWriteRegisterRequestBlueprint first = registers(0, 1);
+        ModbusWriteRegisterRequestBlueprint second = registers(1, 2);
+        coalescer.submitOneTimeWrite(first, results::add, failures::add);
+        coalescer.submitOneTimeWrite(second, results::add, failures::add);
+        verify(scheduler, times(1)).schedule(any(Runnable.class), anyLong(), any());
+        verifyNoInteractions(comms);
+
+        flush.getValue().run();
+
+        ArgumentCaptor<ModbusWriteRequestBlueprint> request = ArgumentCaptor
+                .forClass(ModbusWriteRequestBlueprint.class);
+        ArgumentCaptor<ModbusWriteCallback> resultCallback = ArgumentCaptor.forClass(ModbusWriteCallback.class);
+        ArgumentCaptor<ModbusFailureCallback<ModbusWriteRequestBlueprint>> failureCallback = ArgumentCaptor
+                .forClass(ModbusFailureCallback.class);
+        verify(comms).submitOneTimeWrite(request.capture(), resultCallback.capture(), failureCallback.capture());
+        ModbusWriteRegisterRequestBlueprint merged = (ModbusWriteRegisterRequestBlueprint) request.getValue();
+        assertEquals(0, merged.getReference());
+        assertArrayEquals(new ModbusRegisterArray(1, 2).getBytes(), merged.getRegisters().getBytes());
+
+        ModbusResponse response = mock(ModbusResponse.class);
+        resultCallback.getValue().handle(new AsyncModbusWriteResult(merged, response));
+        assertEquals(2, results.size());
+        assertSame(first, results.get(0).getRequest());
+        assertSame(second, results.get(1).getRequest());
+        assertSame(response, results.get(0).getResponse());
+
+        Exception cause = new Exception("timeout");
+        failureCallback.getValue().handle(new AsyncModbusFailure<>(merged, cause));
+        assertEquals(2, failures.size());
+        assertSame(first, failures.get(0).getRequest());
+        assertSame(cause, failures.get(1).getCause());
+
+        coalescer.close();
+        coalescer.submitOneTimeWrite(first, NO_RESULT_CALLBACK, NO_FAILURE_CALLBACK);
+        verify(comms).submitOneTimeWrite(first, NO_RESULT_CALLBACK, NO_FAILURE_CALLBACK);
+        verify(scheduler, times(1)).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    private static QueuedWrite write(ModbusWriteRequestBlueprint request) {
+        return new QueuedWrite(request, NO_RESULT_CALLBACK, NO_FAILURE_CALLBACK);
+    }
+
+    private static ModbusWriteRegisterRequestBlueprint registers(int start, int... values) {
+        return new ModbusWriteRegisterRequestBlueprint(1, start, new ModbusRegisterArray(values), true, 3);
+    }
+}
@@ -24,6 +24,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.mqtt.generic.values.TextValue;
 import org.openhab.binding.mqtt.generic.values.Value;
+import org.openhab.binding.mqtt.handler.MqttTopicRouter;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
 import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
 import org.openhab.core.library.types.DecimalType;
@@ -262,7 +263,7 @@ public class ChannelState implements MqttMessageSubscriber {
     public CompletableFuture<@Nullable Void> stop() {
         final MqttBrokerConnection connection = this.connection;
         if (connection != null && !config.stateTopic.isBlank()) {
-            return connection.unsubscribe(config.stateTopic, this).thenRun(this::internalStop);
+            return MqttTopicRouter.unsubscribe(connection, config.stateTopic, this).thenRun(this::internalStop);
         } else {
             internalStop();
             return CompletableFuture.completedFuture(null);
@@ -322,7 +323,7 @@ public class ChannelState implements MqttMessageSubscriber {
 
             this.future = new CompletableFuture<>();
         }
-        connection.subscribe(config.stateTopic, this).thenRun(() -> {
+        MqttTopicRouter.subscribe(connection, config.stateTopic, this).thenRun(() -> {
             hasSubscribed = true;
             logger.debug("Subscribed channel {} to topic: {}", this.channelUID, config.stateTopic);
             if (timeout > 0 && !future.isDone()) {
@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.handler.MqttTopicRouter;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -143,8 +144,8 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
             return CompletableFuture.completedFuture(null);
         }
 
-        final CompletableFuture<?>[] futures = subscriptions.stream().map(m -> connection.unsubscribe(m.topic, m))
-                .toArray(CompletableFuture[]::new);
+        final CompletableFuture<?>[] futures = subscriptions.stream()
+                .map(m -> MqttTopicRouter.unsubscribe(connection, m.topic, m)).toArray(CompletableFuture[]::new);
         subscriptions.clear();
         return CompletableFuture.allOf(futures);
     }
@@ -22,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.handler.MqttTopicRouter;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
 import org.openhab.core.io.transport.mqtt.MqttException;
 import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
@@ -188,7 +189,7 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
      * @throws MqttException If an MQTT IO exception happens this exception is thrown.
      */
     public CompletableFuture<@Nullable Void> subscribeAndReceive(MqttBrokerConnection connection, int timeout) {
-        connection.subscribe(topic, this).exceptionally(e -> {
+        MqttTopicRouter.subscribe(connection, topic, this).exceptionally(e -> {
             logger.debug("Failed to subscribe to topic {}", topic, e);
             final ScheduledFuture<?> scheduledFuture = this.scheduledFuture;
             if (scheduledFuture != null) { // Cancel timeout
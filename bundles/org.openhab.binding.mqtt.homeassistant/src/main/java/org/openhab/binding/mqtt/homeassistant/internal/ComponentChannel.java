@@ -265,12 +265,12 @@ public class ComponentChannel {
 
             String localTemplateIn = templateIn;
             if (localTemplateIn != null) {
-                incomingTransformation = new HomeAssistantChannelTransformation(component.getJinjava(), component,
+                incomingTransformation = new HomeAssistantChannelTransformation(component.getTemplateCache(), component,
                         localTemplateIn);
             }
             String localTemplateOut = templateOut;
             if (localTemplateOut != null) {
-                outgoingTransformation = new HomeAssistantChannelTransformation(component.getJinjava(), component,
+                outgoingTransformation = new HomeAssistantChannelTransformation(component.getTemplateCache(), component,
                         localTemplateOut);
             }
 
@@ -26,6 +26,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.mqtt.generic.AvailabilityTracker;
 import org.openhab.binding.mqtt.generic.ChannelStateUpdateListener;
 import org.openhab.binding.mqtt.generic.utils.FutureCollector;
+import org.openhab.binding.mqtt.handler.MqttTopicRouter;
 import org.openhab.binding.mqtt.homeassistant.internal.component.AbstractComponent;
 import org.openhab.binding.mqtt.homeassistant.internal.component.ComponentFactory;
 import org.openhab.binding.mqtt.homeassistant.internal.exception.ConfigurationException;
@@ -38,7 +39,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
-import com.hubspot.jinjava.Jinjava;
 
 /**
  * Responsible for subscribing to the HomeAssistant MQTT components wildcard topic, either
@@ -57,7 +57,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
 
     protected final CompletableFuture<@Nullable Void> discoverFinishedFuture = new CompletableFuture<>();
     private final Gson gson;
-    private final Jinjava jinjava;
+    private final HomeAssistantTemplateCache templateCache;
     private final UnitProvider unitProvider;
 
     private @Nullable ScheduledFuture<?> stopDiscoveryFuture;
@@ -84,13 +84,14 @@ public class DiscoverComponents implements MqttMessageSubscriber {
      */
     public DiscoverComponents(ThingUID thingUID, ScheduledExecutorService scheduler,
             ChannelStateUpdateListener channelStateUpdateListener, HomeAssistantChannelLinkageChecker linkageChecker,
-            AvailabilityTracker tracker, Gson gson, Jinjava jinjava, UnitProvider unitProvider) {
+            AvailabilityTracker tracker, Gson gson, HomeAssistantTemplateCache templateCache,
+            UnitProvider unitProvider) {
         this.thingUID = thingUID;
         this.scheduler = scheduler;
         this.updateListener = channelStateUpdateListener;
         this.linkageChecker = linkageChecker;
         this.gson = gson;
-        this.jinjava = jinjava;
+        this.templateCache = templateCache;
         this.unitProvider = unitProvider;
         this.tracker = tracker;
     }
@@ -108,7 +109,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         if (config.length() > 0) {
             try {
                 component = ComponentFactory.createComponent(thingUID, haID, config, updateListener, linkageChecker,
-                        tracker, scheduler, gson, jinjava, unitProvider);
+                        tracker, scheduler, gson, templateCache, unitProvider);
                 component.setConfigSeen();
 
                 logger.trace("Found HomeAssistant component {}", haID);
@@ -156,7 +157,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         this.connectionRef = new WeakReference<>(connection);
 
         // Subscribe to the wildcard topic and start receive MQTT retained topics
-        this.topics.stream().map(t -> connection.subscribe(t, this)).collect(FutureCollector.allOf())
+        this.topics.stream().map(t -> MqttTopicRouter.subscribe(connection, t, this)).collect(FutureCollector.allOf())
                 .thenRun(this::subscribeSuccess).exceptionally(this::subscribeFail);
 
         return discoverFinishedFuture;
@@ -168,7 +169,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         if (connection != null && discoverTime > 0) {
             this.stopDiscoveryFuture = scheduler.schedule(() -> {
                 this.stopDiscoveryFuture = null;
-                this.topics.stream().forEach(t -> connection.unsubscribe(t, this));
+                this.topics.stream().forEach(t -> MqttTopicRouter.unsubscribe(connection, t, this));
                 this.discoveredListener = null;
                 discoverFinishedFuture.complete(null);
             }, discoverTime, TimeUnit.MILLISECONDS);
@@ -187,7 +188,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         this.discoveredListener = null;
         final MqttBrokerConnection connection = connectionRef.get();
         if (connection != null) {
-            this.topics.stream().forEach(t -> connection.unsubscribe(t, this));
+            this.topics.stream().forEach(t -> MqttTopicRouter.unsubscribe(connection, t, this));
             connectionRef.clear();
         }
         discoverFinishedFuture.completeExceptionally(e);
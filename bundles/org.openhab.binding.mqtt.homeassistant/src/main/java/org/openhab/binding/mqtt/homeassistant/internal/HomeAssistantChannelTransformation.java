@@ -12,24 +12,18 @@
  */
 package org.openhab.binding.mqtt.homeassistant.internal;
 
-import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.homeassistant.internal.HomeAssistantTemplateCache.JsonPayload;
 import org.openhab.binding.mqtt.homeassistant.internal.component.AbstractComponent;
 import org.openhab.core.thing.binding.generic.ChannelTransformation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubspot.jinjava.Jinjava;
 import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
 import com.hubspot.jinjava.interpret.InvalidInputException;
@@ -52,14 +46,18 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
 
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantChannelTransformation.class);
 
-    private final Jinjava jinjava;
+    private final HomeAssistantTemplateCache templateCache;
     private final AbstractComponent<?> component;
     private final String template;
-    private final ObjectMapper objectMapper = new ObjectMapper();
 
     public HomeAssistantChannelTransformation(Jinjava jinjava, AbstractComponent<?> component, String template) {
+        this(new HomeAssistantTemplateCache(jinjava), component, template);
+    }
+
+    public HomeAssistantChannelTransformation(HomeAssistantTemplateCache templateCache,
+            AbstractComponent<?> component, String template) {
         super((String) null);
-        this.jinjava = jinjava;
+        this.templateCache = templateCache;
         this.component = component;
         this.template = template;
     }
@@ -81,11 +79,10 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
 
         bindings.put("value", value);
 
-        try {
-            JsonNode tree = objectMapper.readTree(value);
-            bindings.put("value_json", toObject(tree));
-        } catch (IOException e) {
-            // ok, then value_json is null...
+        // parsed once for all components receiving the same payload
+        JsonPayload json = templateCache.parseJson(value);
+        if (json.valid()) {
+            bindings.put("value_json", json.value());
         }
 
         return apply(template, bindings);
@@ -95,7 +92,7 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         String transformationResult;
 
         try {
-            transformationResult = jinjava.render(template, bindings);
+            transformationResult = templateCache.render(template, bindings);
         } catch (FatalTemplateErrorsException e) {
             var error = e.getErrors().iterator();
             Exception exception = null;
@@ -115,34 +112,4 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
 
         return Optional.of(transformationResult);
     }
-
-    private static @Nullable Object toObject(JsonNode node) {
-        switch (node.getNodeType()) {
-            case ARRAY: {
-                List<@Nullable Object> result = new ArrayList<>();
-                for (JsonNode el : node) {
-                    result.add(toObject(el));
-                }
-                return result;
-            }
-            case NUMBER:
-                return node.decimalValue();
-            case OBJECT: {
-                Map<String, @Nullable Object> result = new HashMap<>();
-                Iterator<Entry<String, JsonNode>> it = node.fields();
-                while (it.hasNext()) {
-                    Entry<String, JsonNode> field = it.next();
-                    result.put(field.getKey(), toObject(field.getValue()));
-                }
-                return result;
-            }
-            case STRING:
-                return node.asText();
-            case BOOLEAN:
-                return node.asBoolean();
-            case NULL:
-            default:
-                return null;
-        }
-    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.homeassistant.internal;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.transform.jinja.JinjaTemplateCache;
+import org.openhab.transform.jinja.LazyJson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+
+/**
+ * Shares the work of the templates of all components of a thing.
+ *
+ * Many components usually subscribe to the same state topic, so every payload is delivered to each of them. The
+ * payload is parsed as JSON only once for all of them, and each template is parsed only once instead of for every
+ * payload.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class HomeAssistantTemplateCache {
+
+    private static final int MAX_CACHED_TEMPLATES = 200;
+    private static final int MAX_CACHED_PAYLOADS = 8;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final JinjaTemplateCache templates;
+
+    // the most recently received payloads, guarded by itself
+    private final Map<String, JsonPayload> payloads = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, JsonPayload> eldest) {
+            return size() > MAX_CACHED_PAYLOADS;
+        }
+    };
+
+    /**
+     * A payload parsed as JSON.
+     *
+     * @param tree the JSON tree of the payload, shared by all callers, or null if the payload is not valid JSON
+     */
+    public record JsonPayload(@Nullable JsonNode tree) {
+
+        public boolean valid() {
+            return tree != null;
+        }
+
+        /**
+         * Returns the value to be bound to a template as value_json. It is converted from the shared tree only as
+         * far as the template accesses it, and copied only if the template modifies it, so the template can't change
+         * the value of the next template.
+         *
+         * @return the maps, lists and values of the payload, or null if the payload is not valid JSON
+         */
+        public @Nullable Object value() {
+            JsonNode tree = this.tree;
+            return tree == null ? null : LazyJson.of(tree);
+        }
+    }
+
+    public HomeAssistantTemplateCache(Jinjava jinjava) {
+        this.templates = new JinjaTemplateCache(jinjava, MAX_CACHED_TEMPLATES);
+    }
+
+    public Jinjava getJinjava() {
+        return templates.getJinjava();
+    }
+
+    /**
+     * Parses a payload as JSON, or returns the result of parsing the same payload before.
+     *
+     * @param payload the payload
+     * @return the parsed payload, shared by all callers
+     */
+    public JsonPayload parseJson(String payload) {
+        JsonPayload parsed;
+        synchronized (payloads) {
+            parsed = payloads.get(payload);
+        }
+        if (parsed == null) {
+            try {
+                parsed = new JsonPayload(OBJECT_MAPPER.readTree(payload));
+            } catch (IOException e) {
+                parsed = new JsonPayload(null);
+            }
+            synchronized (payloads) {
+                payloads.put(payload, parsed);
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Renders a template like {@link Jinjava#render(String, Map)}, parsing it only the first time.
+     *
+     * @param template the template
+     * @param bindings the variables
+     * @return the rendered template
+     * @throws FatalTemplateErrorsException if the template could not be rendered
+     */
+    public String render(String template, Map<String, @Nullable Object> bindings) {
+        return templates.render(template, bindings);
+    }
+
+    public void clear() {
+        templates.clear();
+        synchronized (payloads) {
+            payloads.clear();
+        }
+    }
+}
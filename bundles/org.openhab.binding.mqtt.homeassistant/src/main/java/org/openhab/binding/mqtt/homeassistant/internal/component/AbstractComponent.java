@@ -38,6 +38,7 @@ import org.openhab.binding.mqtt.homeassistant.internal.ComponentChannel;
 import org.openhab.binding.mqtt.homeassistant.internal.ComponentChannelType;
 import org.openhab.binding.mqtt.homeassistant.internal.HaID;
 import org.openhab.binding.mqtt.homeassistant.internal.HomeAssistantChannelTransformation;
+import org.openhab.binding.mqtt.homeassistant.internal.HomeAssistantTemplateCache;
 import org.openhab.binding.mqtt.homeassistant.internal.component.ComponentFactory.ComponentConfiguration;
 import org.openhab.binding.mqtt.homeassistant.internal.config.dto.AbstractChannelConfiguration;
 import org.openhab.binding.mqtt.homeassistant.internal.config.dto.Availability;
@@ -155,7 +156,8 @@ public abstract class AbstractComponent<C extends AbstractChannelConfiguration>
                 String availabilityTemplate = availability.getValueTemplate();
                 ChannelTransformation transformation = null;
                 if (availabilityTemplate != null) {
-                    transformation = new HomeAssistantChannelTransformation(getJinjava(), this, availabilityTemplate);
+                    transformation = new HomeAssistantChannelTransformation(getTemplateCache(), this,
+                            availabilityTemplate);
                 }
                 componentConfiguration.getTracker().addAvailabilityTopic(availability.getTopic(),
                         availability.getPayloadAvailable(), availability.getPayloadNotAvailable(), transformation);
@@ -166,7 +168,8 @@ public abstract class AbstractComponent<C extends AbstractChannelConfiguration>
                 String availabilityTemplate = this.channelConfiguration.getAvailabilityTemplate();
                 ChannelTransformation transformation = null;
                 if (availabilityTemplate != null) {
-                    transformation = new HomeAssistantChannelTransformation(getJinjava(), this, availabilityTemplate);
+                    transformation = new HomeAssistantChannelTransformation(getTemplateCache(), this,
+                            availabilityTemplate);
                 }
                 componentConfiguration.getTracker().addAvailabilityTopic(availabilityTopic,
                         this.channelConfiguration.getPayloadAvailable(),
@@ -410,6 +413,10 @@ public abstract class AbstractComponent<C extends AbstractChannelConfiguration>
         return componentConfiguration.getJinjava();
     }
 
+    public HomeAssistantTemplateCache getTemplateCache() {
+        return componentConfiguration.getTemplateCache();
+    }
+
     public C getChannelConfiguration() {
         return channelConfiguration;
     }
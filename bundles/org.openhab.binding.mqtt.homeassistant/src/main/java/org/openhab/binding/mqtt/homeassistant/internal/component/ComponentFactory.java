@@ -19,6 +19,7 @@ import org.openhab.binding.mqtt.generic.AvailabilityTracker;
 import org.openhab.binding.mqtt.generic.ChannelStateUpdateListener;
 import org.openhab.binding.mqtt.homeassistant.internal.HaID;
 import org.openhab.binding.mqtt.homeassistant.internal.HomeAssistantChannelLinkageChecker;
+import org.openhab.binding.mqtt.homeassistant.internal.HomeAssistantTemplateCache;
 import org.openhab.binding.mqtt.homeassistant.internal.config.dto.AbstractChannelConfiguration;
 import org.openhab.binding.mqtt.homeassistant.internal.exception.ConfigurationException;
 import org.openhab.binding.mqtt.homeassistant.internal.exception.UnsupportedComponentException;
@@ -49,10 +50,10 @@ public class ComponentFactory {
      */
     public static AbstractComponent<?> createComponent(ThingUID thingUID, HaID haID, String channelConfigurationJSON,
             ChannelStateUpdateListener updateListener, HomeAssistantChannelLinkageChecker linkageChecker,
-            AvailabilityTracker tracker, ScheduledExecutorService scheduler, Gson gson, Jinjava jinjava,
-            UnitProvider unitProvider) throws ConfigurationException {
+            AvailabilityTracker tracker, ScheduledExecutorService scheduler, Gson gson,
+            HomeAssistantTemplateCache templateCache, UnitProvider unitProvider) throws ConfigurationException {
         ComponentConfiguration componentConfiguration = new ComponentConfiguration(thingUID, haID,
-                channelConfigurationJSON, gson, jinjava, updateListener, linkageChecker, tracker, scheduler,
+                channelConfigurationJSON, gson, templateCache, updateListener, linkageChecker, tracker, scheduler,
                 unitProvider);
         switch (haID.component) {
             case "alarm_control_panel":
@@ -116,7 +117,7 @@ public class ComponentFactory {
         private final HomeAssistantChannelLinkageChecker linkageChecker;
         private final AvailabilityTracker tracker;
         private final Gson gson;
-        private final Jinjava jinjava;
+        private final HomeAssistantTemplateCache templateCache;
         private final ScheduledExecutorService scheduler;
         private final UnitProvider unitProvider;
 
@@ -128,14 +129,15 @@ public class ComponentFactory {
          * @param configJSON The configuration string
          * @param gson A Gson instance
          */
-        protected ComponentConfiguration(ThingUID thingUID, HaID haID, String configJSON, Gson gson, Jinjava jinjava,
-                ChannelStateUpdateListener updateListener, HomeAssistantChannelLinkageChecker linkageChecker,
-                AvailabilityTracker tracker, ScheduledExecutorService scheduler, UnitProvider unitProvider) {
+        protected ComponentConfiguration(ThingUID thingUID, HaID haID, String configJSON, Gson gson,
+                HomeAssistantTemplateCache templateCache, ChannelStateUpdateListener updateListener,
+                HomeAssistantChannelLinkageChecker linkageChecker, AvailabilityTracker tracker,
+                ScheduledExecutorService scheduler, UnitProvider unitProvider) {
             this.thingUID = thingUID;
             this.haID = haID;
             this.configJSON = configJSON;
             this.gson = gson;
-            this.jinjava = jinjava;
+            this.templateCache = templateCache;
             this.updateListener = updateListener;
             this.linkageChecker = linkageChecker;
             this.tracker = tracker;
@@ -168,7 +170,11 @@ public class ComponentFactory {
         }
 
         public Jinjava getJinjava() {
-            return jinjava;
+            return templateCache.getJinjava();
+        }
+
+        public HomeAssistantTemplateCache getTemplateCache() {
+            return templateCache;
         }
 
         public UnitProvider getUnitProvider() {
@@ -57,7 +57,7 @@ public class Event extends AbstractComponent<Event.ChannelConfiguration> impleme
     public Event(ComponentFactory.ComponentConfiguration componentConfiguration) {
         super(componentConfiguration, ChannelConfiguration.class);
 
-        transformation = new HomeAssistantChannelTransformation(getJinjava(), this, "");
+        transformation = new HomeAssistantChannelTransformation(getTemplateCache(), this, "");
 
         buildChannel(EVENT_TYPE_CHANNEL_ID, ComponentChannelType.TRIGGER, new TextValue(), getName(), this)
                 .stateTopic(channelConfiguration.stateTopic, channelConfiguration.getValueTemplate()).trigger(true)
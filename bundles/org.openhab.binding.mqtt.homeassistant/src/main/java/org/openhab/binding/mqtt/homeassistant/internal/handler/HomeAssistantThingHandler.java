@@ -40,6 +40,7 @@ import org.openhab.binding.mqtt.homeassistant.internal.DiscoverComponents.Compon
 import org.openhab.binding.mqtt.homeassistant.internal.HaID;
 import org.openhab.binding.mqtt.homeassistant.internal.HandlerConfiguration;
 import org.openhab.binding.mqtt.homeassistant.internal.HomeAssistantChannelLinkageChecker;
+import org.openhab.binding.mqtt.homeassistant.internal.HomeAssistantTemplateCache;
 import org.openhab.binding.mqtt.homeassistant.internal.component.AbstractComponent;
 import org.openhab.binding.mqtt.homeassistant.internal.component.ComponentFactory;
 import org.openhab.binding.mqtt.homeassistant.internal.component.Update;
@@ -96,6 +97,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
     protected final MqttChannelStateDescriptionProvider stateDescriptionProvider;
     protected final ChannelTypeRegistry channelTypeRegistry;
     protected final Jinjava jinjava;
+    protected final HomeAssistantTemplateCache templateCache;
     protected final UnitProvider unitProvider;
     public final int attributeReceiveTimeout;
     protected final DelayedBatchProcessing<Object> delayedProcessing;
@@ -131,11 +133,12 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
         this.stateDescriptionProvider = stateDescriptionProvider;
         this.channelTypeRegistry = channelTypeRegistry;
         this.jinjava = jinjava;
+        this.templateCache = new HomeAssistantTemplateCache(jinjava);
         this.unitProvider = unitProvider;
         this.attributeReceiveTimeout = attributeReceiveTimeout;
         this.delayedProcessing = new DelayedBatchProcessing<>(attributeReceiveTimeout, this, scheduler);
-        this.discoverComponents = new DiscoverComponents(thing.getUID(), scheduler, this, this, this, gson, jinjava,
-                unitProvider);
+        this.discoverComponents = new DiscoverComponents(thing.getUID(), scheduler, this, this, this, gson,
+                templateCache, unitProvider);
     }
 
     @Override
@@ -183,7 +186,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                 String channelConfigurationJSON = (String) channelConfig.get("config");
                 try {
                     AbstractComponent<?> component = ComponentFactory.createComponent(thingUID, haID,
-                            channelConfigurationJSON, this, this, this, scheduler, gson, jinjava, unitProvider);
+                            channelConfigurationJSON, this, this, this, scheduler, gson, templateCache, unitProvider);
                     if (typeID.equals(MqttBindingConstants.HOMEASSISTANT_MQTT_THING)) {
                         typeID = calculateThingTypeUID(component);
                     }
@@ -249,6 +252,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
 
             started = false;
         }
+        templateCache.clear();
         super.stop();
     }
 
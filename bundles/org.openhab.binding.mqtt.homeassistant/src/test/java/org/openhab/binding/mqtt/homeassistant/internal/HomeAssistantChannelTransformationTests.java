@@ -13,11 +13,16 @@
 package org.openhab.binding.mqtt.homeassistant.internal;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +42,8 @@ import org.openhab.core.test.storage.VolatileStorageService;
 import org.openhab.core.thing.type.ChannelTypeRegistry;
 import org.openhab.core.thing.type.ThingTypeRegistry;
 
+import com.hubspot.jinjava.Jinjava;
+
 /**
  * @author Jochen Klein - Initial contribution
  */
@@ -118,6 +125,33 @@ public class HomeAssistantChannelTransformationTests {
                 ""), is("[button_up, press]"));
     }
 
+    @Test
+    public void testSharedPayload() {
+        String payload = "{\"temperature\": 21.5, \"humidity\": 40}";
+
+        assertThat(transform("{{ value_json.temperature }}", payload), is("21.5"));
+        assertThat(transform("{{ value_json.humidity }}", payload), is("40"));
+        // rendered again from the cached template
+        assertThat(transform("{{ value_json.temperature }}", "{\"temperature\": 22}"), is("22"));
+        assertThat(transform("{{ value_json.missing | is_defined }}", payload), is(nullValue()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSharedPayloadIsCopiedForTemplates() {
+        HomeAssistantTemplateCache templateCache = new HomeAssistantTemplateCache(new Jinjava());
+        String payload = "{\"values\": [1, 2]}";
+
+        Map<String, Object> value = (Map<String, Object>) templateCache.parseJson(payload).value();
+        assertThat(value, is(notNullValue()));
+        value.put("extra", true);
+        ((List<Object>) value.get("values")).add(3);
+
+        // a template that modified its value_json does not change the value of the next template
+        assertThat(templateCache.parseJson(payload).value(),
+                is(Map.of("values", List.of(BigDecimal.ONE, BigDecimal.valueOf(2)))));
+    }
+
     protected @Nullable String transform(String template, String value) {
         return transformation.apply(template, value).orElse(null);
     }
@@ -51,6 +51,7 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
 
     final Map<ChannelUID, PublishTriggerChannel> channelStateByChannelUID = new HashMap<>();
     private final Map<String, @Nullable Map<MQTTTopicDiscoveryParticipant, @Nullable TopicSubscribe>> discoveryTopics = new HashMap<>();
+    private final MqttTopicRouter topicRouter = new MqttTopicRouter();
 
     protected @Nullable MqttBrokerConnection connection;
     protected CompletableFuture<MqttBrokerConnection> connectionFuture = new CompletableFuture<>();
@@ -114,26 +115,17 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
                 connectionStateChanged(MqttConnectionState.DISCONNECTED, new TimeoutException("Timeout"));
             }
         });
+        // before handing out the connection, so that the channels of the things subscribe through the router
+        topicRouter.start(connection);
         connectionFuture.complete(connection);
 
+        // the listeners get the new connection, but each discovery topic is subscribed only once by the router
         discoveryTopics.forEach((topic, listenerMap) -> {
             listenerMap.replaceAll((listener, oldTopicSubscribe) -> {
-                if (oldTopicSubscribe.isStarted()) {
-                    oldTopicSubscribe.stop();
-                }
-
+                topicRouter.unsubscribe(topic, oldTopicSubscribe);
                 TopicSubscribe topicSubscribe = new TopicSubscribe(connection, topic, listener, thing.getUID());
                 if (discoveryEnabled()) {
-                    topicSubscribe.start().handle((result, ex) -> {
-                        if (ex != null) {
-                            logger.warn("Failed to subscribe {} to discovery topic {} on broker {}", listener, topic,
-                                    thing.getUID());
-                        } else {
-                            logger.trace("Subscribed {} to discovery topic {} on broker {}", listener, topic,
-                                    thing.getUID());
-                        }
-                        return null;
-                    });
+                    topicRouter.subscribe(topic, topicSubscribe);
                 }
                 return topicSubscribe;
             });
@@ -169,11 +161,7 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
         channelStateByChannelUID.clear();
 
         // keep topics, but stop subscriptions
-        discoveryTopics.forEach((topic, listenerMap) -> {
-            listenerMap.forEach((listener, topicSubscribe) -> {
-                topicSubscribe.stop();
-            });
-        });
+        topicRouter.stop();
 
         if (connection != null) {
             connection.removeConnectionObserver(this);
@@ -199,12 +187,12 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
             if (v != null) {
                 logger.warn("Duplicate subscription for {} to discovery topic {} on broker {}. Check discovery logic!",
                         listener, topic, thing.getUID());
-                v.stop();
+                topicRouter.unsubscribe(topic, v);
             }
 
             TopicSubscribe topicSubscribe = new TopicSubscribe(connection, topic, listener, thing.getUID());
             if (discoveryEnabled()) {
-                topicSubscribe.start().handle((result, ex) -> {
+                topicRouter.subscribe(topic, topicSubscribe).handle((result, ex) -> {
                     if (ex != null) {
                         logger.warn("Failed to subscribe {} to discovery topic {} on broker {}", listener, topic,
                                 thing.getUID());
@@ -239,7 +227,7 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
                             "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered for listener. Check discovery logic!",
                             listener, topic, thing.getUID());
                 } else {
-                    w.stop();
+                    topicRouter.unsubscribe(topic, w);
                     logger.trace("Unsubscribed {} from discovery topic {} on broker {}", listener, topic,
                             thing.getUID());
                 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.handler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shares the subscriptions to topic filters of a broker between many subscribers, like the channels of the generic,
+ * Homie and Home Assistant things and the discovery services. They subscribe with
+ * {@link #subscribe(MqttBrokerConnection, String, MqttMessageSubscriber)}, which uses the router started for the
+ * connection.
+ *
+ * Each distinct topic filter is subscribed on the {@link MqttBrokerConnection} once, no matter how many subscribers it
+ * has, and a message received for the filter is passed on to all of its subscribers. Only the broker knows which
+ * messages are retained, so the router doesn't replay any messages: the broker sends the retained messages of a
+ * filter when it is subscribed on the connection, a subscriber joining a filter that is subscribed already receives
+ * the messages published from then on.
+ *
+ * {@link #stop()} unsubscribes the filters from the connection and drops all subscribers. They subscribe again once
+ * the router is started on a new connection.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MqttTopicRouter {
+    // the routers of the started connections
+    private static final Map<MqttBrokerConnection, MqttTopicRouter> ROUTERS = new ConcurrentHashMap<>();
+
+    private final Logger logger = LoggerFactory.getLogger(MqttTopicRouter.class);
+
+    // guarded by this
+    private final Map<String, Route> routes = new HashMap<>();
+    private @Nullable MqttBrokerConnection connection;
+
+    /**
+     * The subscribers of a topic filter, subscribed on the connection as a single subscriber
+     */
+    private class Route implements MqttMessageSubscriber {
+        private final String filter;
+        private final Set<MqttMessageSubscriber> subscribers = new LinkedHashSet<>();
+        private CompletableFuture<Boolean> subscribed = CompletableFuture.completedFuture(false);
+
+        private Route(String filter) {
+            this.filter = filter;
+        }
+
+        @Override
+        public void processMessage(String topic, byte[] payload) {
+            dispatch(this, topic, payload);
+        }
+    }
+
+    /**
+     * Subscribes to a topic filter through the router started for the connection, or on the connection itself if
+     * there is none.
+     *
+     * @param connection the connection
+     * @param filter the topic filter (wildcards supported)
+     * @param subscriber the subscriber
+     * @return Completes with true if successful. Completes with false if not connected yet. Exceptionally otherwise.
+     */
+    public static CompletableFuture<Boolean> subscribe(MqttBrokerConnection connection, String filter,
+            MqttMessageSubscriber subscriber) {
+        MqttTopicRouter router = ROUTERS.get(connection);
+        return router != null ? router.subscribe(filter, subscriber) : connection.subscribe(filter, subscriber);
+    }
+
+    /**
+     * Unsubscribes from a topic filter through the router started for the connection, or on the connection itself if
+     * there is none.
+     *
+     * @param connection the connection
+     * @param filter the topic filter (as specified when subscribing)
+     * @param subscriber the subscriber
+     * @return Completes with true if successful. Exceptionally otherwise.
+     */
+    public static CompletableFuture<Boolean> unsubscribe(MqttBrokerConnection connection, String filter,
+            MqttMessageSubscriber subscriber) {
+        MqttTopicRouter router = ROUTERS.get(connection);
+        return router != null ? router.unsubscribe(filter, subscriber) : connection.unsubscribe(filter, subscriber);
+    }
+
+    /**
+     * Subscribes to a topic filter. The filter is subscribed on the connection only if it has no other subscriber.
+     *
+     * @param filter the topic filter (wildcards supported)
+     * @param subscriber the subscriber
+     * @return Completes with true if successful. Completes with false if not connected yet. Exceptionally otherwise.
+     */
+    public synchronized CompletableFuture<Boolean> subscribe(String filter, MqttMessageSubscriber subscriber) {
+        Route route = routes.get(filter);
+        if (route == null) {
+            route = new Route(filter);
+            routes.put(filter, route);
+            subscribeOnConnection(route);
+        }
+        route.subscribers.add(subscriber);
+        return route.subscribed;
+    }
+
+    /**
+     * Unsubscribes from a topic filter. The filter is unsubscribed on the connection when its last subscriber leaves.
+     *
+     * @param filter the topic filter (as specified when subscribing)
+     * @param subscriber the subscriber
+     * @return Completes with true if successful. Exceptionally otherwise.
+     */
+    public synchronized CompletableFuture<Boolean> unsubscribe(String filter, MqttMessageSubscriber subscriber) {
+        Route route = routes.get(filter);
+        if (route == null || !route.subscribers.remove(subscriber) || !route.subscribers.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        routes.remove(filter);
+        MqttBrokerConnection connection = this.connection;
+        return connection == null ? CompletableFuture.completedFuture(true) : connection.unsubscribe(filter, route);
+    }
+
+    /**
+     * Subscribes the topic filters on a connection. A router started before is stopped first.
+     *
+     * @param connection the connection
+     */
+    public synchronized void start(MqttBrokerConnection connection) {
+        if (this.connection != null) {
+            stop();
+        }
+        this.connection = connection;
+        ROUTERS.put(connection, this);
+        routes.values().forEach(this::subscribeOnConnection);
+    }
+
+    /**
+     * Unsubscribes the topic filters from the connection and drops their subscribers, which have to subscribe again
+     * on the next connection.
+     */
+    public synchronized void stop() {
+        MqttBrokerConnection connection = this.connection;
+        this.connection = null;
+        if (connection != null) {
+            ROUTERS.remove(connection, this);
+            for (Route route : routes.values()) {
+                connection.unsubscribe(route.filter, route);
+            }
+        }
+        routes.clear();
+    }
+
+    /**
+     * Returns the topic filters of the subscribers
+     */
+    public synchronized Set<String> getFilters() {
+        return Set.copyOf(routes.keySet());
+    }
+
+    private void subscribeOnConnection(Route route) {
+        MqttBrokerConnection connection = this.connection;
+        if (connection == null) {
+            route.subscribed = CompletableFuture.completedFuture(false);
+            return;
+        }
+        route.subscribed = connection.subscribe(route.filter, route);
+        route.subscribed.handle((result, ex) -> {
+            if (ex != null) {
+                logger.warn("Failed to subscribe to topic filter {}: {}", route.filter, ex.getMessage());
+            }
+            return null;
+        });
+    }
+
+    private void dispatch(Route route, String topic, byte[] payload) {
+        List<MqttMessageSubscriber> targets;
+        synchronized (this) {
+            if (connection == null || routes.get(route.filter) != route) {
+                // unsubscribed in the meantime
+                return;
+            }
+            targets = new ArrayList<>(route.subscribers);
+        }
+        // outside of the lock, since subscribers may subscribe or unsubscribe while processing messages
+        for (MqttMessageSubscriber target : targets) {
+            try {
+                target.processMessage(topic, payload);
+            } catch (RuntimeException e) {
+                logger.warn("Subscriber {} of topic filter {} failed to process message on topic {}", target,
+                        route.filter, topic, e);
+            }
+        }
+    }
+}
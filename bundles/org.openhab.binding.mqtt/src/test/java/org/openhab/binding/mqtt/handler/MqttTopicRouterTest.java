@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+
+/**
+ * Tests the {@link MqttTopicRouter}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MqttTopicRouterTest {
+
+    private static final String FILTER = "homie/+/$state";
+
+    private @NonNullByDefault({}) MqttBrokerConnection connection;
+    private @NonNullByDefault({}) MqttTopicRouter router;
+
+    @BeforeEach
+    public void setUp() {
+        connection = mock(MqttBrokerConnection.class);
+        doReturn(CompletableFuture.completedFuture(true)).when(connection).subscribe(any(), any());
+        doReturn(CompletableFuture.completedFuture(true)).when(connection).unsubscribe(any(), any());
+        router = new MqttTopicRouter();
+        router.start(connection);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        router.stop();
+    }
+
+    @Test
+    public void testFilterIsSubscribedOnceForAllSubscribers() {
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        router.subscribe(FILTER, subscriber(first));
+        router.subscribe(FILTER, subscriber(second));
+
+        MqttMessageSubscriber route = route(FILTER);
+        route.processMessage("homie/device/$state", bytes("ready"));
+
+        assertEquals(List.of("homie/device/$state=ready"), first);
+        assertEquals(List.of("homie/device/$state=ready"), second);
+        assertEquals(Set.of(FILTER), router.getFilters());
+    }
+
+    @Test
+    public void testLateSubscriberReceivesNoEarlierMessages() {
+        router.subscribe(FILTER, subscriber(new ArrayList<>()));
+        MqttMessageSubscriber route = route(FILTER);
+        route.processMessage("homie/a/$state", bytes("ready"));
+
+        List<String> late = new ArrayList<>();
+        router.subscribe(FILTER, subscriber(late));
+        assertTrue(late.isEmpty());
+
+        route.processMessage("homie/a/$state", bytes("lost"));
+        assertEquals(List.of("homie/a/$state=lost"), late);
+    }
+
+    @Test
+    public void testFilterIsUnsubscribedWithLastSubscriber() {
+        MqttMessageSubscriber first = subscriber(new ArrayList<>());
+        MqttMessageSubscriber second = subscriber(new ArrayList<>());
+        router.subscribe(FILTER, first);
+        router.subscribe(FILTER, second);
+        MqttMessageSubscriber route = route(FILTER);
+
+        router.unsubscribe(FILTER, first);
+        verify(connection, never()).unsubscribe(any(), any());
+
+        router.unsubscribe(FILTER, second);
+        verify(connection).unsubscribe(FILTER, route);
+        assertTrue(router.getFilters().isEmpty());
+    }
+
+    @Test
+    public void testOverlappingFiltersAreSubscribedSeparately() {
+        List<String> device = new ArrayList<>();
+        List<String> property = new ArrayList<>();
+        router.subscribe("homie/device/#", subscriber(device));
+        router.subscribe("homie/device/node/property", subscriber(property));
+
+        // the broker sends the retained messages of each filter when it is subscribed
+        route("homie/device/#").processMessage("homie/device/node/property", bytes("on"));
+        route("homie/device/node/property").processMessage("homie/device/node/property", bytes("on"));
+
+        assertEquals(List.of("homie/device/node/property=on"), device);
+        assertEquals(List.of("homie/device/node/property=on"), property);
+    }
+
+    @Test
+    public void testSubscribersAreDroppedWhenStopped() {
+        List<String> stale = new ArrayList<>();
+        router.subscribe(FILTER, subscriber(stale));
+        router.subscribe("homeassistant/#", subscriber(new ArrayList<>()));
+        MqttMessageSubscriber route = route(FILTER);
+
+        router.stop();
+        verify(connection).unsubscribe(FILTER, route);
+        verify(connection).unsubscribe(eq("homeassistant/#"), any());
+        assertTrue(router.getFilters().isEmpty());
+        route.processMessage("homie/a/$state", bytes("ready"));
+        assertTrue(stale.isEmpty());
+    }
+
+    @Test
+    public void testSubscribersSubscribeAgainAfterRestart() {
+        router.subscribe(FILTER, subscriber(new ArrayList<>()));
+        router.stop();
+
+        MqttBrokerConnection newConnection = mock(MqttBrokerConnection.class);
+        doReturn(CompletableFuture.completedFuture(true)).when(newConnection).subscribe(any(), any());
+        router.start(newConnection);
+        // the subscribers of the disposed broker are not subscribed on the new connection
+        verify(newConnection, never()).subscribe(any(), any());
+
+        List<String> messages = new ArrayList<>();
+        MqttTopicRouter.subscribe(newConnection, FILTER, subscriber(messages));
+        ArgumentCaptor<MqttMessageSubscriber> route = ArgumentCaptor.forClass(MqttMessageSubscriber.class);
+        verify(newConnection).subscribe(eq(FILTER), route.capture());
+        route.getValue().processMessage("homie/a/$state", bytes("ready"));
+        assertEquals(List.of("homie/a/$state=ready"), messages);
+    }
+
+    @Test
+    public void testFilterSubscribedBeforeStartIsSubscribedOnStart() {
+        MqttTopicRouter stopped = new MqttTopicRouter();
+        MqttBrokerConnection newConnection = mock(MqttBrokerConnection.class);
+        doReturn(CompletableFuture.completedFuture(true)).when(newConnection).subscribe(any(), any());
+        stopped.subscribe(FILTER, subscriber(new ArrayList<>()));
+
+        stopped.start(newConnection);
+
+        verify(newConnection).subscribe(eq(FILTER), any());
+        stopped.stop();
+    }
+
+    @Test
+    public void testFailingSubscriberDoesNotStopOthers() {
+        List<String> messages = new ArrayList<>();
+        router.subscribe(FILTER, (topic, payload) -> {
+            throw new IllegalStateException("broken");
+        });
+        router.subscribe(FILTER, subscriber(messages));
+
+        route(FILTER).processMessage("homie/a/$state", bytes("ready"));
+
+        assertEquals(List.of("homie/a/$state=ready"), messages);
+    }
+
+    @Test
+    public void testConnectionSubscriptionsUseStartedRouter() {
+        MqttMessageSubscriber first = subscriber(new ArrayList<>());
+        MqttMessageSubscriber second = subscriber(new ArrayList<>());
+        MqttTopicRouter.subscribe(connection, FILTER, first);
+        MqttTopicRouter.subscribe(connection, FILTER, second);
+        verify(connection, times(1)).subscribe(eq(FILTER), any());
+
+        router.stop();
+        MqttTopicRouter.subscribe(connection, FILTER, first);
+        verify(connection).subscribe(FILTER, first);
+    }
+
+    private MqttMessageSubscriber route(String filter) {
+        ArgumentCaptor<MqttMessageSubscriber> route = ArgumentCaptor.forClass(MqttMessageSubscriber.class);
+        verify(connection).subscribe(eq(filter), route.capture());
+        return route.getValue();
+    }
+
+    private static MqttMessageSubscriber subscriber(List<String> messages) {
+        return (topic, payload) -> messages.add(topic + "=" + new String(payload, StandardCharsets.UTF_8));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+/**
+ * Groups PutItem requests into BatchWriteItem requests.
+ *
+ * Items are collected per table and written every batch write interval, or as soon as a full batch of
+ * {@link #MAX_BATCH_SIZE} items is available. Items a batch could not write (unprocessed items) and batches failing
+ * due to throttling are retried with exponential backoff and random jitter. The number of batches being written at
+ * the same time is bounded, items wait in memory until a batch can be started.
+ *
+ * When the table does not exist, the items of the batch are written with {@link TableCreatingPutItem}, creating the
+ * table.
+ *
+ * @author openHAB Contributors - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class DynamoDBBatchWriter {
+
+    /**
+     * Maximum number of items in one BatchWriteItem request, as limited by DynamoDB
+     */
+    public static final int MAX_BATCH_SIZE = 25;
+    static final int MAX_ATTEMPTS = 8;
+    static final long BACKOFF_BASE_MILLIS = 50;
+    static final long BACKOFF_MAX_MILLIS = 5000;
+    static final int MAX_PENDING_ITEMS = 10000;
+
+    private final Logger logger = LoggerFactory.getLogger(DynamoDBBatchWriter.class);
+
+    private final DynamoDBPersistenceService service;
+    private final DynamoDbEnhancedAsyncClient client;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+    private final int maxInFlightBatches;
+    private final Semaphore inFlight;
+
+    // guarded by this, insertion order of the tables is kept to write them in turns
+    private final Map<DynamoDbAsyncTable<?>, PendingItems<?>> pending = new LinkedHashMap<>();
+    private int pendingCount;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private long reportedDroppedCount;
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    private static class PendingItems<T extends DynamoDBItem<?>> {
+        private final DynamoDbAsyncTable<T> table;
+        private final List<T> items = new ArrayList<>();
+
+        private PendingItems(DynamoDbAsyncTable<T> table) {
+            this.table = table;
+        }
+    }
+
+    /**
+     * Creates a batch writer.
+     *
+     * @param service the service, used for writing items individually when the table does not exist
+     * @param client the client
+     * @param executor the executor processing responses
+     * @param scheduler the scheduler for writing batches periodically and for retries
+     * @param maxInFlightBatches the maximum number of batches being written at the same time
+     */
+    public DynamoDBBatchWriter(DynamoDBPersistenceService service, DynamoDbEnhancedAsyncClient client,
+            ExecutorService executor, ScheduledExecutorService scheduler, int maxInFlightBatches) {
+        this.service = service;
+        this.client = client;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.maxInFlightBatches = Math.max(maxInFlightBatches, 1);
+        this.inFlight = new Semaphore(this.maxInFlightBatches);
+    }
+
+    /**
+     * Starts writing pending items periodically.
+     *
+     * @param intervalMillis the interval in milliseconds
+     */
+    public synchronized void start(long intervalMillis) {
+        ScheduledFuture<?> localFlushJob = flushJob;
+        if (localFlushJob != null) {
+            localFlushJob.cancel(false);
+        }
+        flushJob = scheduler.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes all pending items and waits until all batches have been written.
+     *
+     * @param timeoutMillis the maximum time to wait
+     * @return true if all items have been written in time
+     */
+    public boolean stop(long timeoutMillis) {
+        synchronized (this) {
+            ScheduledFuture<?> localFlushJob = flushJob;
+            if (localFlushJob != null) {
+                localFlushJob.cancel(false);
+                flushJob = null;
+            }
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            while (hasPendingItems()) {
+                flush();
+                if (hasPendingItems()) {
+                    // all permits in use, wait for one of the batches to complete
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || !inFlight.tryAcquire(remaining, TimeUnit.NANOSECONDS)) {
+                        break;
+                    }
+                    inFlight.release();
+                }
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining > 0 && inFlight.tryAcquire(maxInFlightBatches, remaining, TimeUnit.NANOSECONDS)) {
+                inFlight.release(maxInFlightBatches);
+                return !hasPendingItems();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            logger.warn("DynamoDB batch writes did not complete in time, {} items might not have been stored.",
+                    pendingCount);
+        }
+        return false;
+    }
+
+    /**
+     * Queues an item for writing.
+     *
+     * @param table the table the item is written to
+     * @param dto the item
+     */
+    public <T extends DynamoDBItem<?>> void put(DynamoDbAsyncTable<T> table, T dto) {
+        boolean fullBatch;
+        synchronized (this) {
+            if (pendingCount >= MAX_PENDING_ITEMS) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+            pendingItems(table).items.add(dto);
+            pendingCount++;
+            fullBatch = pendingItems(table).items.size() >= MAX_BATCH_SIZE;
+        }
+        if (fullBatch) {
+            flush();
+        }
+    }
+
+    /**
+     * Starts writing batches of pending items, as many as in-flight batches are allowed.
+     */
+    void flush() {
+        synchronized (this) {
+            long dropped = droppedCount.get();
+            if (dropped > reportedDroppedCount) {
+                logger.warn("DynamoDB write queue is full, {} items have not been stored.",
+                        dropped - reportedDroppedCount);
+                reportedDroppedCount = dropped;
+            }
+        }
+        while (inFlight.tryAcquire()) {
+            if (!startNextBatch()) {
+                inFlight.release();
+                return;
+            }
+        }
+    }
+
+    synchronized boolean hasPendingItems() {
+        return pendingCount > 0;
+    }
+
+    /**
+     * Takes the next batch of pending items and starts writing it. Must be called holding an in-flight permit.
+     *
+     * @return false if there were no pending items
+     */
+    private boolean startNextBatch() {
+        PendingItems<?> next;
+        List<?> batch;
+        synchronized (this) {
+            Iterator<PendingItems<?>> iterator = pending.values().iterator();
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            next = iterator.next();
+            iterator.remove();
+            batch = takeBatch(next);
+            if (!next.items.isEmpty()) {
+                // let the other tables go first
+                pending.put(next.table, next);
+            }
+        }
+        writeBatch(next, batch);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends DynamoDBItem<?>> void writeBatch(PendingItems<T> items, List<?> batch) {
+        write(items.table, (List<T>) batch, 0);
+    }
+
+    /**
+     * Takes up to {@link #MAX_BATCH_SIZE} items. Must be called holding the lock.
+     *
+     * DynamoDB rejects a batch containing the same key twice, so only the latest item of a key is kept, as it would
+     * overwrite the other ones anyway.
+     */
+    private <T extends DynamoDBItem<?>> List<T> takeBatch(PendingItems<T> pendingItems) {
+        Map<String, T> batch = new LinkedHashMap<>();
+        Iterator<T> iterator = pendingItems.items.iterator();
+        while (iterator.hasNext() && batch.size() < MAX_BATCH_SIZE) {
+            T item = iterator.next();
+            iterator.remove();
+            pendingCount--;
+            batch.put(item.getName() + "@" + item.getTime().toInstant().toEpochMilli(), item);
+        }
+        return new ArrayList<>(batch.values());
+    }
+
+    private <T extends DynamoDBItem<?>> void write(DynamoDbAsyncTable<T> table, List<T> batch, int attempt) {
+        WriteBatch.Builder<T> writeBatch = WriteBatch.builder(table.tableSchema().itemType().rawClass())
+                .mappedTableResource(table);
+        batch.forEach(writeBatch::addPutItem);
+        CompletableFuture<BatchWriteResult> future;
+        try {
+            future = client.batchWriteItem(
+                    BatchWriteItemEnhancedRequest.builder().writeBatches(writeBatch.build()).build());
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenCompleteAsync((result, exception) -> {
+            if (exception == null) {
+                List<T> unprocessed = result.unprocessedPutItemsForTable(table);
+                if (unprocessed.isEmpty()) {
+                    logger.trace("Wrote {} items to table {}", batch.size(), table.tableName());
+                    completed();
+                } else {
+                    logger.debug("{} of {} items were not processed by table {}", unprocessed.size(), batch.size(),
+                            table.tableName());
+                    retry(table, unprocessed, attempt);
+                }
+                return;
+            }
+            Throwable cause = exception.getCause();
+            if (!(exception instanceof CompletionException) || cause == null) {
+                cause = exception;
+            }
+            if (cause instanceof ResourceNotFoundException) {
+                logger.debug("Table {} does not exist, storing {} items one by one", table.tableName(), batch.size());
+                putItems(table, batch);
+            } else if (cause instanceof ProvisionedThroughputExceededException
+                    || cause instanceof RequestLimitExceededException || cause instanceof SdkClientException) {
+                logger.debug("Batch write to table {} failed: {} {}", table.tableName(),
+                        cause.getClass().getSimpleName(), cause.getMessage());
+                retry(table, batch, attempt);
+            } else {
+                logger.warn("Failed to store {} items to table {}: {} {}", batch.size(), table.tableName(),
+                        cause.getClass().getSimpleName(), cause.getMessage());
+                completed();
+            }
+        }, executor);
+    }
+
+    private <T extends DynamoDBItem<?>> void retry(DynamoDbAsyncTable<T> table, List<T> batch, int attempt) {
+        if (attempt + 1 >= MAX_ATTEMPTS) {
+            logger.warn("Failed to store {} items to table {} after {} attempts.", batch.size(), table.tableName(),
+                    MAX_ATTEMPTS);
+            completed();
+            return;
+        }
+        // "full jitter": a random delay up to the exponentially growing backoff spreads out the retries
+        long backoff = Math.min(BACKOFF_MAX_MILLIS, BACKOFF_BASE_MILLIS << attempt);
+        long delay = ThreadLocalRandom.current().nextLong(backoff + 1);
+        try {
+            scheduler.schedule(() -> write(table, batch, attempt + 1), delay, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to schedule retry of {} items: {}", batch.size(), e.getMessage());
+            completed();
+        }
+    }
+
+    private <T extends DynamoDBItem<?>> void putItems(DynamoDbAsyncTable<T> table, List<T> batch) {
+        CompletableFuture<?>[] puts = new CompletableFuture<?>[batch.size()];
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                puts[i] = new TableCreatingPutItem<>(service, batch.get(i), table).putItemAsync();
+            }
+        } catch (IllegalStateException e) {
+            // service has been stopped
+            logger.warn("Not ready to store {} items: {}", batch.size(), e.getMessage());
+            completed();
+            return;
+        }
+        CompletableFuture.allOf(puts).whenComplete((result, exception) -> completed());
+    }
+
+    /**
+     * Releases the in-flight permit of a completed batch and starts the next one.
+     */
+    private void completed() {
+        inFlight.release();
+        if (hasPendingItems()) {
+            executor.execute(this::flush);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends DynamoDBItem<?>> PendingItems<T> pendingItems(DynamoDbAsyncTable<T> table) {
+        return (PendingItems<T>) pending.computeIfAbsent(table, t -> new PendingItems<>(table));
+    }
+}
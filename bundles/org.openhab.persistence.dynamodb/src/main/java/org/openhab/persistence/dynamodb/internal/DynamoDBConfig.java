@@ -49,6 +49,8 @@ public class DynamoDBConfig {
     public static final String DEFAULT_TABLE_NAME = "openhab";
     public static final long DEFAULT_READ_CAPACITY_UNITS = 1;
     public static final long DEFAULT_WRITE_CAPACITY_UNITS = 1;
+    public static final long DEFAULT_BATCH_WRITE_INTERVAL = 0;
+    public static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 4;
     private static final Logger LOGGER = LoggerFactory.getLogger(DynamoDBConfig.class);
 
     private long readCapacityUnits;
@@ -60,6 +62,8 @@ public class DynamoDBConfig {
     private String table;
     private String tablePrefixLegacy;
     private @Nullable Integer expireDays;
+    private long batchWriteInterval = DEFAULT_BATCH_WRITE_INTERVAL;
+    private int maxInFlightBatches = DEFAULT_MAX_IN_FLIGHT_BATCHES;
 
     /**
      *
@@ -168,31 +172,69 @@ public class DynamoDBConfig {
                 }
             }
 
+            final long batchWriteInterval;
+            String batchWriteIntervalParam = asString(config.get("batchWriteInterval"));
+            if (batchWriteIntervalParam == null || batchWriteIntervalParam.isBlank()) {
+                batchWriteInterval = DEFAULT_BATCH_WRITE_INTERVAL;
+            } else {
+                batchWriteInterval = Long.parseLong(batchWriteIntervalParam);
+                if (batchWriteInterval < 0) {
+                    LOGGER.error("batchWriteInterval should be zero or positive integer");
+                    return null;
+                }
+            }
+
+            final int maxInFlightBatches;
+            String maxInFlightBatchesParam = asString(config.get("maxInFlightBatches"));
+            if (maxInFlightBatchesParam == null || maxInFlightBatchesParam.isBlank()) {
+                maxInFlightBatches = DEFAULT_MAX_IN_FLIGHT_BATCHES;
+            } else {
+                maxInFlightBatches = Integer.parseInt(maxInFlightBatchesParam);
+                if (maxInFlightBatches <= 0) {
+                    LOGGER.error("maxInFlightBatches should be positive integer");
+                    return null;
+                }
+            }
+
+            final DynamoDBConfig dbConfig;
             switch (tableRevision) {
                 case NEW:
                     LOGGER.debug("Using new DynamoDB table schema");
-                    return DynamoDBConfig.newSchema(region, credentials, retryMode.map(AwsRetryPolicy::forRetryMode),
-                            table, readCapacityUnits, writeCapacityUnits, expireDays);
+                    dbConfig = DynamoDBConfig.newSchema(region, credentials,
+                            retryMode.map(AwsRetryPolicy::forRetryMode), table, readCapacityUnits, writeCapacityUnits,
+                            expireDays);
+                    break;
                 case LEGACY:
                     LOGGER.warn(
                             "Using legacy DynamoDB table schema. It is recommended to transition to new schema by defining 'table' parameter and not configuring 'tablePrefix'");
-                    return DynamoDBConfig.legacySchema(region, credentials, retryMode.map(AwsRetryPolicy::forRetryMode),
-                            tablePrefixLegacy, readCapacityUnits, writeCapacityUnits);
+                    dbConfig = DynamoDBConfig.legacySchema(region, credentials,
+                            retryMode.map(AwsRetryPolicy::forRetryMode), tablePrefixLegacy, readCapacityUnits,
+                            writeCapacityUnits);
+                    break;
                 case MAYBE_LEGACY:
                     LOGGER.debug(
                             "Unclear whether we should use new legacy DynamoDB table schema. It is recommended to explicitly define new 'table' parameter. The correct table schema will be detected at runtime.");
-                    return DynamoDBConfig.maybeLegacySchema(region, credentials,
+                    dbConfig = DynamoDBConfig.maybeLegacySchema(region, credentials,
                             retryMode.map(AwsRetryPolicy::forRetryMode), table, tablePrefixLegacy, readCapacityUnits,
                             writeCapacityUnits, expireDays);
+                    break;
                 default:
                     throw new IllegalStateException("Unhandled enum. Bug");
             }
+            dbConfig.batchWriteInterval = batchWriteInterval;
+            dbConfig.maxInFlightBatches = maxInFlightBatches;
+            return dbConfig;
         } catch (Exception e) {
             LOGGER.error("Error with configuration: {} {}", e.getClass().getSimpleName(), e.getMessage());
             return null;
         }
     }
 
+    private static @Nullable String asString(@Nullable Object value) {
+        // numeric parameters are Strings in the configuration file but numbers when configured in the UI
+        return value == null ? null : value.toString();
+    }
+
     private static DynamoDBConfig newSchema(Region region, AwsCredentials credentials,
             Optional<RetryPolicy> retryPolicy, String table, long readCapacityUnits, long writeCapacityUnits,
             @Nullable Integer expireDays) {
@@ -263,4 +305,15 @@ public class DynamoDBConfig {
     public @Nullable Integer getExpireDays() {
         return expireDays;
     }
+
+    /**
+     * @return interval in milliseconds for writing items in batches, 0 when items are written one by one
+     */
+    public long getBatchWriteInterval() {
+        return batchWriteInterval;
+    }
+
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
 }
@@ -27,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
@@ -104,6 +105,10 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
 
     private static final String DYNAMODB_THREADPOOL_NAME = "dynamodbPersistenceService";
 
+    private static final String DYNAMODB_BATCH_THREADPOOL_NAME = "dynamodbPersistenceServiceBatch";
+
+    private static final long BATCH_WRITE_STOP_TIMEOUT_MILLIS = 10000;
+
     private final ItemRegistry itemRegistry;
     private final UnitProvider unitProvider;
     private @Nullable DynamoDbEnhancedAsyncClient client;
@@ -113,6 +118,9 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     private @Nullable DynamoDBConfig dbConfig;
     private @Nullable DynamoDBTableNameResolver tableNameResolver;
     private final ExecutorService executor = ThreadPoolManager.getPool(DYNAMODB_THREADPOOL_NAME);
+    private final ScheduledExecutorService batchScheduler = ThreadPoolManager
+            .getScheduledPool(DYNAMODB_BATCH_THREADPOOL_NAME);
+    private @Nullable DynamoDBBatchWriter batchWriter;
     private static final Duration TIMEOUT_API_CALL = Duration.ofSeconds(60);
     private static final Duration TIMEOUT_API_CALL_ATTEMPT = Duration.ofSeconds(5);
     private Map<Class<? extends DynamoDBItem<?>>, DynamoDbAsyncTable<? extends DynamoDBItem<?>>> tableCache = new ConcurrentHashMap<>(
@@ -197,6 +205,14 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             return;
         }
 
+        DynamoDbEnhancedAsyncClient localClient = client;
+        if (localDbConfig.getBatchWriteInterval() > 0 && localClient != null) {
+            DynamoDBBatchWriter localBatchWriter = new DynamoDBBatchWriter(this, localClient, executor, batchScheduler,
+                    localDbConfig.getMaxInFlightBatches());
+            localBatchWriter.start(localDbConfig.getBatchWriteInterval());
+            batchWriter = localBatchWriter;
+        }
+
         isProperlyConfigured = true;
         logger.debug("dynamodb persistence service activated");
     }
@@ -316,6 +332,11 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     }
 
     private void disconnect() {
+        DynamoDBBatchWriter localBatchWriter = batchWriter;
+        if (localBatchWriter != null) {
+            batchWriter = null;
+            localBatchWriter.stop(BATCH_WRITE_STOP_TIMEOUT_MILLIS);
+        }
         DynamoDbAsyncClient localLowLevelClient = lowLevelClient;
         if (client == null || localLowLevelClient == null) {
             return;
@@ -566,6 +587,24 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             }
             logger.trace("store() called with item {} {} '{}', which was converted to DTO {}",
                     copiedItem.getClass().getSimpleName(), effectiveName, copiedItem.getState(), dto);
+            DynamoDBBatchWriter localBatchWriter = batchWriter;
+            if (localBatchWriter != null) {
+                dto.accept(new DynamoDBItemVisitor<@Nullable Void>() {
+
+                    @Override
+                    public @Nullable Void visit(DynamoDBBigDecimalItem dynamoBigDecimalItem) {
+                        localBatchWriter.put(getTable(DynamoDBBigDecimalItem.class), dynamoBigDecimalItem);
+                        return null;
+                    }
+
+                    @Override
+                    public @Nullable Void visit(DynamoDBStringItem dynamoStringItem) {
+                        localBatchWriter.put(getTable(DynamoDBStringItem.class), dynamoStringItem);
+                        return null;
+                    }
+                });
+                return;
+            }
             dto.accept(new DynamoDBItemVisitor<TableCreatingPutItem<? extends DynamoDBItem<?>>>() {
 
                 @Override
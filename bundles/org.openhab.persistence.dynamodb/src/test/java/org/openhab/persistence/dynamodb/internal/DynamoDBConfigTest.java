@@ -255,4 +255,21 @@ public class DynamoDBConfigTest {
         assertEquals(Optional.empty(), fromConfig.getRetryPolicy().map(RetryPolicy::retryMode));
         assertEquals(ExpectedTableSchema.MAYBE_LEGACY, fromConfig.getTableRevision());
     }
+
+    @SuppressWarnings("null")
+    @Test
+    public void testBatchWriteSettings() throws Exception {
+        DynamoDBConfig fromConfig = DynamoDBConfig.fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1",
+                "secretKey", "secret1", "table", "mytable"));
+        assertEquals(0, fromConfig.getBatchWriteInterval()); // disabled by default
+        assertEquals(4, fromConfig.getMaxInFlightBatches());
+
+        fromConfig = DynamoDBConfig.fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1", "secretKey",
+                "secret1", "table", "mytable", "batchWriteInterval", "500", "maxInFlightBatches", "2"));
+        assertEquals(500, fromConfig.getBatchWriteInterval());
+        assertEquals(2, fromConfig.getMaxInFlightBatches());
+
+        assertNull(DynamoDBConfig.fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1", "secretKey",
+                "secret1", "table", "mytable", "maxInFlightBatches", "0")));
+    }
 }
@@ -14,9 +14,11 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,15 +26,14 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
@@ -54,7 +55,9 @@ import org.openhab.persistence.influxdb.internal.InfluxDBHistoricItem;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
+import org.openhab.persistence.influxdb.internal.InfluxDBSpillLog;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
+import org.openhab.persistence.influxdb.internal.InfluxDBWriteBuffer;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
 import org.openhab.persistence.influxdb.internal.influx1.InfluxDB1RepositoryImpl;
 import org.openhab.persistence.influxdb.internal.influx2.InfluxDB2RepositoryImpl;
@@ -99,6 +102,8 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     private static final int COMMIT_INTERVAL = 3; // in s
     protected static final String CONFIG_URI = "persistence:influxdb";
+    private static final Path SPILL_DIR = new File(OpenHAB.getUserDataFolder(), "persistence").toPath()
+            .resolve("influxdb");
 
     // External dependencies
     private final ItemRegistry itemRegistry;
@@ -110,7 +115,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     // storage
     private final ScheduledFuture<?> storeJob;
-    private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private final InfluxDBWriteBuffer writeBuffer;
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -125,8 +130,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         if (configuration.isValid()) {
             this.influxDBRepository = createInfluxDBRepository();
             this.influxDBRepository.connect();
+            this.writeBuffer = new InfluxDBWriteBuffer(influxDBRepository, this::checkConnection, createSpillLog(),
+                    configuration.getQueueCapacity(), configuration.getMaxBatchSize());
             this.storeJob = ThreadPoolManager.getScheduledPool("org.openhab.influxdb")
-                    .scheduleWithFixedDelay(this::commit, COMMIT_INTERVAL, COMMIT_INTERVAL, TimeUnit.SECONDS);
+                    .scheduleWithFixedDelay(writeBuffer::commit, COMMIT_INTERVAL, COMMIT_INTERVAL, TimeUnit.SECONDS);
             serviceActivated = true;
         } else {
             throw new IllegalArgumentException("Configuration invalid.");
@@ -144,6 +151,21 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         };
     }
 
+    // Visible for testing
+    protected @Nullable InfluxDBSpillLog createSpillLog() {
+        int spillMaxSize = configuration.getSpillMaxSize();
+        if (spillMaxSize <= 0) {
+            return null;
+        }
+        try {
+            return new InfluxDBSpillLog(SPILL_DIR, spillMaxSize * 1024L * 1024L);
+        } catch (IOException e) {
+            logger.warn("Failed to open spill log in {}, points that cannot be stored are dropped: {}", SPILL_DIR,
+                    e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Disconnect from database when service is deactivated
      */
@@ -152,11 +174,8 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         serviceActivated = false;
 
         storeJob.cancel(false);
-        commit(); // ensure we at least tried to store the data;
-
-        if (!pointsQueue.isEmpty()) {
-            logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
-        }
+        writeBuffer.commit(); // ensure we at least tried to store the data;
+        writeBuffer.close();
 
         influxDBRepository.disconnect();
         logger.info("InfluxDB persistence service stopped.");
@@ -209,7 +228,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                 logger.trace("Ignoring item {}, conversion to an InfluxDB point failed.", item.getName());
                 return;
             }
-            if (pointsQueue.offer(point)) {
+            if (writeBuffer.offer(point)) {
                 logger.trace("Queued {} for item {}", point, item);
             } else {
                 logger.warn("Failed to queue {} for item {}", point, item);
@@ -283,18 +302,11 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         return false;
     }
 
-    private void commit() {
-        if (!pointsQueue.isEmpty() && checkConnection()) {
-            List<InfluxPoint> points = new ArrayList<>();
-            pointsQueue.drainTo(points);
-            if (!influxDBRepository.write(points)) {
-                logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
-                pointsQueue.addAll(points);
-                influxDBRepository.disconnect();
-            } else {
-                logger.trace("Wrote {} elements to database", points.size());
-            }
-        }
+    /**
+     * @return the queue depth, write lag and further metrics of the points waiting to be stored
+     */
+    public InfluxDBWriteBuffer.Metrics getWriteMetrics() {
+        return writeBuffer.getMetrics();
     }
 
     /**
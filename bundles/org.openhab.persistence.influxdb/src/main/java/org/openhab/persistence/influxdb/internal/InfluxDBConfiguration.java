@@ -39,6 +39,11 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String QUEUE_CAPACITY_PARAM = "queueCapacity";
+    public static final String MAX_BATCH_SIZE_PARAM = "maxBatchSize";
+    public static final String SPILL_MAX_SIZE_PARAM = "spillMaxSize";
+    public static final String LINE_PROTOCOL_PARAM = "lineProtocol";
+    public static final String GZIP_PARAM = "gzip";
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
     private final String user;
@@ -51,6 +56,11 @@ public class InfluxDBConfiguration {
     private final boolean addCategoryTag;
     private final boolean addTypeTag;
     private final boolean addLabelTag;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final int spillMaxSize;
+    private final boolean lineProtocol;
+    private final boolean gzip;
 
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = ConfigParser.valueAsOrElse(config.get(URL_PARAM), String.class, "http://127.0.0.1:8086");
@@ -64,6 +74,11 @@ public class InfluxDBConfiguration {
         addCategoryTag = ConfigParser.valueAsOrElse(config.get(ADD_CATEGORY_TAG_PARAM), Boolean.class, false);
         addLabelTag = ConfigParser.valueAsOrElse(config.get(ADD_LABEL_TAG_PARAM), Boolean.class, false);
         addTypeTag = ConfigParser.valueAsOrElse(config.get(ADD_TYPE_TAG_PARAM), Boolean.class, false);
+        queueCapacity = ConfigParser.valueAsOrElse(config.get(QUEUE_CAPACITY_PARAM), Integer.class, 10000);
+        maxBatchSize = ConfigParser.valueAsOrElse(config.get(MAX_BATCH_SIZE_PARAM), Integer.class, 5000);
+        spillMaxSize = ConfigParser.valueAsOrElse(config.get(SPILL_MAX_SIZE_PARAM), Integer.class, 100);
+        lineProtocol = ConfigParser.valueAsOrElse(config.get(LINE_PROTOCOL_PARAM), Boolean.class, true);
+        gzip = ConfigParser.valueAsOrElse(config.get(GZIP_PARAM), Boolean.class, true);
     }
 
     private InfluxDBVersion parseInfluxVersion(@Nullable String value) {
@@ -142,6 +157,29 @@ public class InfluxDBConfiguration {
         return addLabelTag;
     }
 
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return the maximum size of the spill log in MB, 0 if points are not spilled to disk
+     */
+    public int getSpillMaxSize() {
+        return spillMaxSize;
+    }
+
+    public boolean isLineProtocol() {
+        return lineProtocol;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
     public String getUser() {
         return user;
     }
@@ -160,6 +198,8 @@ public class InfluxDBConfiguration {
                 + " chars', token='" + token.length() + " chars', databaseName='" + databaseName
                 + "', retentionPolicy='" + retentionPolicy + "', version=" + version + ", replaceUnderscore="
                 + replaceUnderscore + ", addCategoryTag=" + addCategoryTag + ", addTypeTag=" + addTypeTag
-                + ", addLabelTag=" + addLabelTag + '}';
+                + ", addLabelTag=" + addLabelTag + ", queueCapacity=" + queueCapacity + ", maxBatchSize="
+                + maxBatchSize + ", spillMaxSize=" + spillMaxSize + ", lineProtocol=" + lineProtocol + ", gzip="
+                + gzip + '}';
     }
 }
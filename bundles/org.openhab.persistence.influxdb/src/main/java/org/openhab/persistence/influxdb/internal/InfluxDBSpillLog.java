@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.persistence.influxdb.internal.InfluxDBWriteBuffer.QueuedPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link InfluxDBSpillLog} keeps points that could not be written to InfluxDB in a directory of append-only
+ * segment files.
+ *
+ * Segments are named by a sequence number and read in this order. Points are appended to the last segment and read
+ * from the first one. A fully read segment is deleted. When the log exceeds its maximum size, the oldest segment is
+ * dropped. The read position is not persisted, so after a restart the first segment is read from its beginning again.
+ * This is harmless, as InfluxDB overwrites a point with the same measurement, tags and time.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBSpillLog {
+
+    static final long SEGMENT_SIZE = 1024 * 1024;
+
+    private static final String SEGMENT_SUFFIX = ".log";
+    // leaves room for prepending segments in front of the first one
+    private static final long FIRST_SEQUENCE = 1_000_000_000L;
+
+    private static final byte TYPE_STRING = 0;
+    private static final byte TYPE_DECIMAL = 1;
+    private static final byte TYPE_INTEGER = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_DOUBLE = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBSpillLog.class);
+
+    private final Path directory;
+    private final long maxSize;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private @Nullable DataOutputStream out;
+    private long size = 0;
+
+    private static class Segment {
+        private final long sequence;
+        private final Path path;
+        private long length;
+        private long offset = 0;
+
+        private Segment(long sequence, Path path, long length) {
+            this.sequence = sequence;
+            this.path = path;
+            this.length = length;
+        }
+    }
+
+    /**
+     * A batch of points read from the log. It is removed from the log by {@link #remove(Batch)}.
+     */
+    public static class Batch {
+        private final List<QueuedPoint> points;
+        private final Segment segment;
+        private final long end;
+
+        private Batch(List<QueuedPoint> points, Segment segment, long end) {
+            this.points = points;
+            this.segment = segment;
+            this.end = end;
+        }
+
+        public List<QueuedPoint> getPoints() {
+            return points;
+        }
+    }
+
+    /**
+     * Opens the log in a directory, creating the directory if necessary.
+     *
+     * @param directory the directory of the segments
+     * @param maxSize the maximum size of all segments in bytes
+     * @throws IOException if the directory cannot be created or read
+     */
+    public InfluxDBSpillLog(Path directory, long maxSize) throws IOException {
+        this.directory = directory;
+        this.maxSize = Math.max(maxSize, SEGMENT_SIZE);
+        Files.createDirectories(directory);
+        List<Segment> existing = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.toList()) {
+                String fileName = path.getFileName().toString();
+                if (fileName.endsWith(SEGMENT_SUFFIX)) {
+                    try {
+                        long sequence = Long.parseLong(fileName.substring(0, fileName.length() - 4));
+                        existing.add(new Segment(sequence, path, Files.size(path)));
+                    } catch (NumberFormatException e) {
+                        logger.debug("Ignoring unknown file {} in {}", fileName, directory);
+                    }
+                }
+            }
+        }
+        existing.sort(Comparator.comparingLong(segment -> segment.sequence));
+        for (Segment segment : existing) {
+            segments.add(segment);
+            size += segment.length;
+        }
+        if (size > 0) {
+            logger.info("Found {} bytes of points not written to InfluxDB yet in {}", size, directory);
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return segments.isEmpty();
+    }
+
+    /**
+     * @return the number of bytes not read yet
+     */
+    public synchronized long getSize() {
+        Segment first = segments.peekFirst();
+        return first == null ? 0 : size - first.offset;
+    }
+
+    /**
+     * Adds points after all other points of the log.
+     *
+     * @param points the points
+     * @throws IOException if the points cannot be written
+     */
+    public synchronized void append(List<QueuedPoint> points) throws IOException {
+        if (points.isEmpty()) {
+            return;
+        }
+        Segment last = segments.peekLast();
+        if (last == null || last.length >= SEGMENT_SIZE) {
+            closeOutput();
+            long sequence = last == null ? FIRST_SEQUENCE : last.sequence + 1;
+            last = new Segment(sequence, directory.resolve(sequence + SEGMENT_SUFFIX), 0);
+            segments.addLast(last);
+        }
+        DataOutputStream out = this.out;
+        if (out == null) {
+            out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(last.path, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+            this.out = out;
+        }
+        long written = write(out, points);
+        out.flush();
+        last.length += written;
+        size += written;
+        trim();
+    }
+
+    /**
+     * Adds points before all other points of the log.
+     *
+     * @param points the points
+     * @throws IOException if the points cannot be written
+     */
+    public synchronized void prepend(List<QueuedPoint> points) throws IOException {
+        Segment first = segments.peekFirst();
+        if (first == null) {
+            append(points);
+            return;
+        }
+        if (points.isEmpty()) {
+            return;
+        }
+        long sequence = first.sequence - 1;
+        Path path = directory.resolve(sequence + SEGMENT_SUFFIX);
+        long written;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            written = write(out, points);
+        }
+        segments.addFirst(new Segment(sequence, path, written));
+        size += written;
+        trim();
+    }
+
+    /**
+     * Reads points from the beginning of the log without removing them.
+     *
+     * @param maxPoints the maximum number of points to read
+     * @return the points, or null if the log is empty
+     * @throws IOException if the log cannot be read
+     */
+    public synchronized @Nullable Batch read(int maxPoints) throws IOException {
+        Segment first = removeFinishedSegments();
+        if (first == null) {
+            return null;
+        }
+        List<QueuedPoint> points = new ArrayList<>();
+        long position = first.offset;
+        try (FileChannel channel = FileChannel.open(first.path, StandardOpenOption.READ)) {
+            channel.position(position);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            while (points.size() < maxPoints && position < first.length) {
+                int length = first.length - position >= Integer.BYTES ? in.readInt() : -1;
+                if (length <= 0 || position + Integer.BYTES + length > first.length) {
+                    // only the last record may be incomplete, e.g. after running out of disk space
+                    logger.warn("Skipping {} bytes of an incomplete record in {}", first.length - position,
+                            first.path);
+                    position = first.length;
+                    break;
+                }
+                byte[] record = new byte[length];
+                in.readFully(record);
+                position += Integer.BYTES + length;
+                try {
+                    points.add(decode(record));
+                } catch (IOException | RuntimeException e) {
+                    logger.warn("Skipping invalid record in {}: {}", first.path, e.getMessage());
+                }
+            }
+        }
+        return new Batch(points, first, position);
+    }
+
+    /**
+     * Removes the points of a batch after they have been written.
+     *
+     * @param batch the batch returned by {@link #read(int)}
+     * @throws IOException if a finished segment cannot be deleted
+     */
+    public synchronized void remove(Batch batch) throws IOException {
+        if (segments.peekFirst() == batch.segment) {
+            batch.segment.offset = batch.end;
+            removeFinishedSegments();
+        }
+    }
+
+    /**
+     * @return the time in epoch milliseconds the oldest point has been queued, or 0 if the log is empty
+     */
+    public synchronized long getOldestQueued() {
+        try {
+            Batch batch = read(1);
+            return batch == null || batch.points.isEmpty() ? 0 : batch.points.get(0).queued();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    public synchronized void close() {
+        try {
+            closeOutput();
+        } catch (IOException e) {
+            logger.warn("Failed to close {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private @Nullable Segment removeFinishedSegments() throws IOException {
+        Segment first = segments.peekFirst();
+        while (first != null && first.offset >= first.length) {
+            if (first == segments.peekLast()) {
+                closeOutput();
+            }
+            segments.removeFirst();
+            size -= first.length;
+            Files.deleteIfExists(first.path);
+            first = segments.peekFirst();
+        }
+        return first;
+    }
+
+    private void trim() throws IOException {
+        while (size > maxSize && segments.size() > 1) {
+            Segment first = segments.removeFirst();
+            size -= first.length;
+            Files.deleteIfExists(first.path);
+            logger.warn("InfluxDB spill log exceeds {} bytes, dropped {} bytes of the oldest points", maxSize,
+                    first.length - first.offset);
+        }
+    }
+
+    private void closeOutput() throws IOException {
+        DataOutputStream out = this.out;
+        this.out = null;
+        if (out != null) {
+            out.close();
+        }
+    }
+
+    private static long write(DataOutputStream out, List<QueuedPoint> points) throws IOException {
+        long written = 0;
+        for (QueuedPoint point : points) {
+            byte[] record = encode(point);
+            out.writeInt(record.length);
+            out.write(record);
+            written += Integer.BYTES + record.length;
+        }
+        return written;
+    }
+
+    static byte[] encode(QueuedPoint queuedPoint) throws IOException {
+        InfluxPoint point = queuedPoint.point();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(queuedPoint.queued());
+            out.writeUTF(point.getMeasurementName());
+            out.writeLong(point.getTime().getEpochSecond());
+            out.writeInt(point.getTime().getNano());
+            Object value = point.getValue();
+            if (value instanceof BigDecimal decimal) {
+                byte[] unscaled = decimal.unscaledValue().toByteArray();
+                out.writeByte(TYPE_DECIMAL);
+                out.writeInt(decimal.scale());
+                out.writeShort(unscaled.length);
+                out.write(unscaled);
+            } else if (value instanceof Integer integer) {
+                out.writeByte(TYPE_INTEGER);
+                out.writeInt(integer);
+            } else if (value instanceof Long longValue) {
+                out.writeByte(TYPE_LONG);
+                out.writeLong(longValue);
+            } else if (value instanceof Number number) {
+                out.writeByte(TYPE_DOUBLE);
+                out.writeDouble(number.doubleValue());
+            } else if (value instanceof Boolean booleanValue) {
+                out.writeByte(TYPE_BOOLEAN);
+                out.writeBoolean(booleanValue);
+            } else {
+                // writeUTF is limited to 64 KB, which is too small for images
+                byte[] string = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+                out.writeByte(TYPE_STRING);
+                out.writeInt(string.length);
+                out.write(string);
+            }
+            Map<String, String> tags = point.getTags();
+            out.writeShort(tags.size());
+            for (Map.Entry<String, String> tag : tags.entrySet()) {
+                out.writeUTF(tag.getKey());
+                out.writeUTF(tag.getValue());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    static QueuedPoint decode(byte[] record) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            long queued = in.readLong();
+            InfluxPoint.Builder builder = InfluxPoint.newBuilder(in.readUTF())
+                    .withTime(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+            byte type = in.readByte();
+            switch (type) {
+                case TYPE_DECIMAL:
+                    int scale = in.readInt();
+                    byte[] unscaled = new byte[in.readUnsignedShort()];
+                    in.readFully(unscaled);
+                    builder.withValue(new BigDecimal(new BigInteger(unscaled), scale));
+                    break;
+                case TYPE_INTEGER:
+                    builder.withValue(in.readInt());
+                    break;
+                case TYPE_LONG:
+                    builder.withValue(in.readLong());
+                    break;
+                case TYPE_DOUBLE:
+                    builder.withValue(in.readDouble());
+                    break;
+                case TYPE_BOOLEAN:
+                    builder.withValue(in.readBoolean());
+                    break;
+                case TYPE_STRING:
+                    byte[] string = new byte[in.readInt()];
+                    in.readFully(string);
+                    builder.withValue(new String(string, StandardCharsets.UTF_8));
+                    break;
+                default:
+                    throw new IOException("Unknown value type " + type);
+            }
+            int tags = in.readUnsignedShort();
+            for (int i = 0; i < tags; i++) {
+                builder.withTag(in.readUTF(), in.readUTF());
+            }
+            return new QueuedPoint(queued, builder.build());
+        }
+    }
+}
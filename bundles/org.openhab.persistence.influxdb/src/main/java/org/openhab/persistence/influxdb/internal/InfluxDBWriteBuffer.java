@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link InfluxDBWriteBuffer} queues points until they are written to InfluxDB.
+ *
+ * Points are kept in a bounded queue in memory. If a {@link InfluxDBSpillLog} is available, the queue is moved to it
+ * when it is full, when the database is not reachable and when the service is stopped. Otherwise points are dropped
+ * when the queue is full. The points are written in the order they have been queued, points in the spill log first.
+ *
+ * The number of points written at once adapts to the time the database takes for a write: it is halved when a write
+ * fails or takes longer than {@link #TARGET_WRITE_TIME} and grows when writes are fast.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBWriteBuffer {
+
+    static final int MIN_BATCH_SIZE = 100;
+    static final int INITIAL_BATCH_SIZE = 1000;
+    static final long TARGET_WRITE_TIME = 1000; // in ms
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBWriteBuffer.class);
+
+    private final InfluxDBRepository repository;
+    private final BooleanSupplier connection;
+    private final @Nullable InfluxDBSpillLog spillLog;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+
+    // guarded by this, also guards the order of the spill log
+    private final Deque<QueuedPoint> queue = new ArrayDeque<>();
+    private final Object commitLock = new Object();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private long reportedDroppedCount = 0;
+    private volatile int batchSize;
+
+    /**
+     * A point and the time in epoch milliseconds it has been queued.
+     */
+    public record QueuedPoint(long queued, InfluxPoint point) {
+    }
+
+    /**
+     * The state of the buffer.
+     *
+     * @param queueDepth the number of points in memory
+     * @param spilledBytes the size of the points in the spill log
+     * @param writeLag the time the oldest point not written yet has been queued
+     * @param batchSize the current number of points written at once
+     * @param droppedPoints the number of points dropped since the service has been started
+     */
+    public record Metrics(int queueDepth, long spilledBytes, Duration writeLag, int batchSize, long droppedPoints) {
+    }
+
+    /**
+     * Creates a buffer.
+     *
+     * @param repository the repository the points are written to
+     * @param connection checks the connection to the database, connecting if necessary
+     * @param spillLog the log keeping points that do not fit into memory, or null to drop them
+     * @param queueCapacity the maximum number of points in memory
+     * @param maxBatchSize the maximum number of points written at once
+     */
+    public InfluxDBWriteBuffer(InfluxDBRepository repository, BooleanSupplier connection,
+            @Nullable InfluxDBSpillLog spillLog, int queueCapacity, int maxBatchSize) {
+        this.repository = repository;
+        this.connection = connection;
+        this.spillLog = spillLog;
+        this.queueCapacity = Math.max(queueCapacity, 1);
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.batchSize = Math.min(INITIAL_BATCH_SIZE, this.maxBatchSize);
+    }
+
+    /**
+     * Queues a point.
+     *
+     * @param point the point
+     * @return true if the point has been queued, false if it has been dropped
+     */
+    public synchronized boolean offer(InfluxPoint point) {
+        if (queue.size() >= queueCapacity && !spill()) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        queue.addLast(new QueuedPoint(System.currentTimeMillis(), point));
+        return true;
+    }
+
+    /**
+     * Writes all queued points, or moves them to the spill log if the database is not reachable.
+     */
+    public void commit() {
+        synchronized (commitLock) {
+            long dropped = droppedCount.get();
+            if (dropped > reportedDroppedCount) {
+                logger.warn("InfluxDB write queue is full, {} points have been dropped",
+                        dropped - reportedDroppedCount);
+                reportedDroppedCount = dropped;
+            }
+            if (!hasPendingPoints()) {
+                return;
+            }
+            if (!connection.getAsBoolean()) {
+                synchronized (this) {
+                    spill();
+                }
+            } else {
+                while (writeNextBatch()) {
+                    // continue until everything is written or a write failed
+                }
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("InfluxDB write buffer: {}", getMetrics());
+            }
+        }
+    }
+
+    /**
+     * Moves the points in memory to the spill log. Must be called after the last {@link #commit()}.
+     */
+    public void close() {
+        synchronized (commitLock) {
+            InfluxDBSpillLog spillLog = this.spillLog;
+            synchronized (this) {
+                if (spill() && spillLog != null && !spillLog.isEmpty()) {
+                    logger.info("Keeping {} bytes of points not written to InfluxDB yet", spillLog.getSize());
+                } else if (!queue.isEmpty()) {
+                    logger.warn("InfluxDB failed to finally store {} points.", queue.size());
+                }
+            }
+            if (spillLog != null) {
+                spillLog.close();
+            }
+        }
+    }
+
+    public Metrics getMetrics() {
+        int queueDepth;
+        long oldestQueued;
+        synchronized (this) {
+            queueDepth = queue.size();
+            QueuedPoint first = queue.peekFirst();
+            oldestQueued = first == null ? 0 : first.queued();
+        }
+        long spilledBytes = 0;
+        InfluxDBSpillLog spillLog = this.spillLog;
+        if (spillLog != null && !spillLog.isEmpty()) {
+            spilledBytes = spillLog.getSize();
+            long oldestSpilled = spillLog.getOldestQueued();
+            if (oldestSpilled > 0 && (oldestQueued == 0 || oldestSpilled < oldestQueued)) {
+                oldestQueued = oldestSpilled;
+            }
+        }
+        Duration writeLag = oldestQueued == 0 ? Duration.ZERO
+                : Duration.ofMillis(Math.max(0, System.currentTimeMillis() - oldestQueued));
+        return new Metrics(queueDepth, spilledBytes, writeLag, batchSize, droppedCount.get());
+    }
+
+    private boolean hasPendingPoints() {
+        InfluxDBSpillLog spillLog = this.spillLog;
+        synchronized (this) {
+            return !queue.isEmpty() || (spillLog != null && !spillLog.isEmpty());
+        }
+    }
+
+    private boolean writeNextBatch() {
+        InfluxDBSpillLog spillLog = this.spillLog;
+        List<QueuedPoint> points = new ArrayList<>();
+        synchronized (this) {
+            // points in memory are only written when the spill log is empty, as they are newer
+            if (spillLog == null || spillLog.isEmpty()) {
+                for (int i = 0; i < batchSize && !queue.isEmpty(); i++) {
+                    points.add(queue.removeFirst());
+                }
+                if (points.isEmpty()) {
+                    return false;
+                }
+            }
+        }
+        if (!points.isEmpty()) {
+            if (write(points)) {
+                return true;
+            }
+            synchronized (this) {
+                requeue(points);
+            }
+            return false;
+        }
+        if (spillLog == null) {
+            return false;
+        }
+        try {
+            InfluxDBSpillLog.Batch batch = spillLog.read(batchSize);
+            if (batch == null) {
+                return true;
+            }
+            if (!batch.getPoints().isEmpty() && !write(batch.getPoints())) {
+                return false;
+            }
+            spillLog.remove(batch);
+            return true;
+        } catch (IOException e) {
+            logger.warn("Failed to read points from the InfluxDB spill log: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean write(List<QueuedPoint> points) {
+        long start = System.nanoTime();
+        boolean success = repository.write(points.stream().map(QueuedPoint::point).toList());
+        long duration = (System.nanoTime() - start) / 1_000_000;
+        int batchSize = this.batchSize;
+        if (!success || duration > TARGET_WRITE_TIME) {
+            this.batchSize = Math.max(Math.min(MIN_BATCH_SIZE, maxBatchSize), batchSize / 2);
+        } else if (points.size() >= batchSize && duration < TARGET_WRITE_TIME / 2) {
+            this.batchSize = Math.min(maxBatchSize, batchSize + batchSize / 2 + 1);
+        }
+        if (success) {
+            logger.trace("Wrote {} elements to database in {} ms", points.size(), duration);
+        } else {
+            logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
+            repository.disconnect();
+        }
+        return success;
+    }
+
+    /**
+     * Puts points that could not be written in front of all other points. Must be called holding the lock.
+     */
+    private void requeue(List<QueuedPoint> points) {
+        InfluxDBSpillLog spillLog = this.spillLog;
+        if (spillLog != null) {
+            try {
+                spillLog.prepend(points);
+                return;
+            } catch (IOException e) {
+                logger.warn("Failed to spill {} points to the InfluxDB spill log: {}", points.size(), e.getMessage());
+            }
+        }
+        for (int i = points.size() - 1; i >= 0; i--) {
+            queue.addFirst(points.get(i));
+        }
+        while (queue.size() > queueCapacity) {
+            queue.removeFirst();
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Moves all points in memory to the end of the spill log. Must be called holding the lock.
+     *
+     * @return true if the memory is empty afterwards
+     */
+    private boolean spill() {
+        InfluxDBSpillLog spillLog = this.spillLog;
+        if (queue.isEmpty()) {
+            return true;
+        } else if (spillLog == null) {
+            return false;
+        }
+        try {
+            spillLog.append(new ArrayList<>(queue));
+            queue.clear();
+            return true;
+        } catch (IOException e) {
+            logger.warn("Failed to spill {} points to the InfluxDB spill log: {}", queue.size(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.FIELD_VALUE_NAME;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link LineProtocolEncoder} encodes {@link InfluxPoint}s in the InfluxDB line protocol with millisecond
+ * precision.
+ *
+ * The escaped measurement name and tags of a point only change when the item configuration changes, so they are
+ * cached. The text of a batch is built in a buffer that is reused for the next batch.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class LineProtocolEncoder {
+
+    private static final int MAX_CACHED_SERIES = 10000;
+    private static final int MAX_RETAINED_BUFFER = 1024 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(LineProtocolEncoder.class);
+
+    private final Map<SeriesKey, String> seriesCache = new ConcurrentHashMap<>();
+    private StringBuilder buffer = new StringBuilder(4096);
+
+    private record SeriesKey(String measurementName, Map<String, String> tags) {
+    }
+
+    /**
+     * Encodes points, one line per point. Points whose value cannot be encoded are discarded.
+     *
+     * @param points the points
+     * @return the encoded points, empty if no point could be encoded
+     */
+    public synchronized String encode(List<InfluxPoint> points) {
+        StringBuilder buffer = this.buffer;
+        buffer.setLength(0);
+        for (InfluxPoint point : points) {
+            int start = buffer.length();
+            buffer.append(getSeries(point)).append(' ').append(FIELD_VALUE_NAME).append('=');
+            if (appendValue(buffer, point.getValue())) {
+                buffer.append(' ').append(point.getTime().toEpochMilli()).append('\n');
+            } else {
+                logger.warn("Could not convert {}, discarding this datapoint", point);
+                buffer.setLength(start);
+            }
+        }
+        String lines = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            // do not keep the memory of a large replay after an outage
+            this.buffer = new StringBuilder(4096);
+        }
+        return lines;
+    }
+
+    private String getSeries(InfluxPoint point) {
+        SeriesKey key = new SeriesKey(point.getMeasurementName(), point.getTags());
+        String series = seriesCache.get(key);
+        if (series == null) {
+            if (seriesCache.size() >= MAX_CACHED_SERIES) {
+                seriesCache.clear();
+            }
+            series = encodeSeries(key);
+            seriesCache.put(key, series);
+        }
+        return series;
+    }
+
+    private static String encodeSeries(SeriesKey key) {
+        StringBuilder series = new StringBuilder();
+        escape(series, key.measurementName(), false);
+        // sorted tags are recommended for the best performance of the database
+        new TreeMap<>(key.tags()).forEach((name, value) -> {
+            if (!name.isEmpty() && !value.isEmpty()) {
+                series.append(',');
+                escape(series, name, true);
+                series.append('=');
+                escape(series, value, true);
+            }
+        });
+        return series.toString();
+    }
+
+    private static void escape(StringBuilder target, String value, boolean escapeEquals) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case ',', ' ' -> target.append('\\').append(c);
+                case '=' -> target.append(escapeEquals ? "\\=" : "=");
+                case '\n' -> target.append("\\n");
+                default -> target.append(c);
+            }
+        }
+    }
+
+    private static boolean appendValue(StringBuilder target, @Nullable Object value) {
+        if (value instanceof String string) {
+            appendString(target, string);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger) {
+            target.append(value).append('i');
+        } else if (value instanceof BigDecimal decimal) {
+            target.append(decimal.toPlainString());
+        } else if (value instanceof Number number) {
+            double doubleValue = number.doubleValue();
+            if (!Double.isFinite(doubleValue)) {
+                return false;
+            }
+            target.append(doubleValue);
+        } else if (value instanceof Boolean booleanValue) {
+            target.append(booleanValue.booleanValue());
+        } else if (value == null) {
+            appendString(target, "null");
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static void appendString(StringBuilder target, String value) {
+        target.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                target.append('\\');
+            }
+            target.append(c);
+        }
+        target.append('"');
+    }
+}
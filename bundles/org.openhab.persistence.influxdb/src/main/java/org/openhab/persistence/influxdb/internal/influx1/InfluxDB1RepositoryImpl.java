@@ -39,6 +39,7 @@ import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
+import org.openhab.persistence.influxdb.internal.LineProtocolEncoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +58,7 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
     private final Logger logger = LoggerFactory.getLogger(InfluxDB1RepositoryImpl.class);
     private final InfluxDBConfiguration configuration;
     private final FilterCriteriaQueryCreator queryCreator;
+    private final LineProtocolEncoder lineProtocolEncoder = new LineProtocolEncoder();
     private @Nullable InfluxDB client;
 
     public InfluxDB1RepositoryImpl(InfluxDBConfiguration configuration,
@@ -78,6 +80,9 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
             createdClient.setDatabase(configuration.getDatabaseName());
             createdClient.setRetentionPolicy(configuration.getRetentionPolicy());
             createdClient.enableBatch(200, 100, TimeUnit.MILLISECONDS);
+            if (configuration.isGzip()) {
+                createdClient.enableGzip();
+            }
             this.client = createdClient;
         } catch (InfluxException | InfluxDBException e) {
             logger.debug("Connection failed", e);
@@ -126,6 +131,15 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
             return false;
         }
         try {
+            if (configuration.isLineProtocol()) {
+                // one request with the points encoded directly in the line protocol instead of creating Points first
+                String records = lineProtocolEncoder.encode(influxPoints);
+                if (!records.isEmpty()) {
+                    currentClient.write(configuration.getDatabaseName(), configuration.getRetentionPolicy(),
+                            InfluxDB.ConsistencyLevel.ONE, TimeUnit.MILLISECONDS, records);
+                }
+                return true;
+            }
             List<Point> points = influxPoints.stream().map(this::convertPointToClientFormat).filter(Optional::isPresent)
                     .map(Optional::get).toList();
             BatchPoints batchPoints = BatchPoints.database(configuration.getDatabaseName())
@@ -35,6 +35,7 @@ import org.openhab.persistence.influxdb.internal.InfluxDBConstants;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
+import org.openhab.persistence.influxdb.internal.LineProtocolEncoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,6 +45,7 @@ import com.influxdb.client.InfluxDBClientFactory;
 import com.influxdb.client.InfluxDBClientOptions;
 import com.influxdb.client.QueryApi;
 import com.influxdb.client.WriteApi;
+import com.influxdb.client.WriteApiBlocking;
 import com.influxdb.client.domain.Ready;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
@@ -61,10 +63,12 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
     private final InfluxDBConfiguration configuration;
     private final InfluxDBMetadataService influxDBMetadataService;
     private final FilterCriteriaQueryCreator queryCreator;
+    private final LineProtocolEncoder lineProtocolEncoder = new LineProtocolEncoder();
 
     private @Nullable InfluxDBClient client;
     private @Nullable QueryApi queryAPI;
     private @Nullable WriteApi writeAPI;
+    private @Nullable WriteApiBlocking writeApiBlocking;
     private @Nullable DeleteApi deleteAPI;
 
     public InfluxDB2RepositoryImpl(InfluxDBConfiguration configuration,
@@ -93,10 +97,14 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
         InfluxDBClientOptions clientOptions = optionsBuilder.build();
 
         final InfluxDBClient createdClient = InfluxDBClientFactory.create(clientOptions);
+        if (configuration.isGzip()) {
+            createdClient.enableGzip();
+        }
         this.client = createdClient;
 
         queryAPI = createdClient.getQueryApi();
         writeAPI = createdClient.makeWriteApi();
+        writeApiBlocking = createdClient.getWriteApiBlocking();
         deleteAPI = createdClient.getDeleteApi();
 
         logger.debug("Successfully connected to InfluxDB. Instance pingable={}", createdClient.ping());
@@ -141,6 +149,9 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
 
     @Override
     public boolean write(List<InfluxPoint> influxPoints) {
+        if (configuration.isLineProtocol()) {
+            return writeLineProtocol(influxPoints);
+        }
         final WriteApi currentWriteAPI = writeAPI;
         if (currentWriteAPI == null) {
             return false;
@@ -156,6 +167,28 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
         return true;
     }
 
+    /**
+     * Writes all points with one request, encoding them directly in the line protocol instead of creating
+     * {@link Point}s first.
+     */
+    private boolean writeLineProtocol(List<InfluxPoint> influxPoints) {
+        final WriteApiBlocking currentWriteApi = writeApiBlocking;
+        if (currentWriteApi == null) {
+            return false;
+        }
+        String records = lineProtocolEncoder.encode(influxPoints);
+        if (records.isEmpty()) {
+            return true;
+        }
+        try {
+            currentWriteApi.writeRecord(WritePrecision.MS, records);
+        } catch (InfluxException | InfluxDBIOException e) {
+            logger.debug("Writing to database failed", e);
+            return false;
+        }
+        return true;
+    }
+
     @Override
     public boolean remove(FilterCriteria filter) {
         final DeleteApi currentDeleteApi = deleteAPI;
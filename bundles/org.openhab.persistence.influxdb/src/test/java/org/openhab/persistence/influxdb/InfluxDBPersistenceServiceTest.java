@@ -26,6 +26,7 @@ import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.VE
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -36,6 +37,7 @@ import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.MetadataRegistry;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
+import org.openhab.persistence.influxdb.internal.InfluxDBSpillLog;
 import org.openhab.persistence.influxdb.internal.InfluxDBVersion;
 import org.openhab.persistence.influxdb.internal.ItemTestHelper;
 import org.openhab.persistence.influxdb.internal.UnexpectedConditionException;
@@ -130,6 +132,11 @@ public class InfluxDBPersistenceServiceTest {
             protected InfluxDBRepository createInfluxDBRepository() {
                 return influxDBRepositoryMock;
             }
+
+            @Override
+            protected @Nullable InfluxDBSpillLog createSpillLog() {
+                return null;
+            }
         };
     }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class InfluxDBWriteBufferTest {
+
+    private @Mock @NonNullByDefault({}) InfluxDBRepository repository;
+    private @TempDir @NonNullByDefault({}) Path spillDir;
+
+    private final List<Object> written = new ArrayList<>();
+    private boolean connected = true;
+
+    @Test
+    public void writesInOrderAfterOutage() throws IOException {
+        recordWrites(false);
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(repository, () -> connected,
+                new InfluxDBSpillLog(spillDir, InfluxDBSpillLog.SEGMENT_SIZE), 10, 1000);
+
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(point(i));
+        }
+        buffer.commit(); // write fails, points are spilled
+        connected = false;
+        for (int i = 5; i < 25; i++) {
+            buffer.offer(point(i)); // queue overflows to the spill log
+        }
+        buffer.commit();
+
+        assertThat(buffer.getMetrics().queueDepth(), is(0));
+        assertThat(buffer.getMetrics().spilledBytes(), greaterThan(0L));
+        assertThat(buffer.getMetrics().droppedPoints(), is(0L));
+
+        connected = true;
+        recordWrites(true);
+        buffer.offer(point(25));
+        buffer.commit();
+
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < 26; i++) {
+            expected.add(BigDecimal.valueOf(i));
+        }
+        assertThat(written, is(expected));
+        assertThat(buffer.getMetrics().spilledBytes(), is(0L));
+    }
+
+    @Test
+    public void spillLogSurvivesRestart() throws IOException {
+        connected = false;
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(repository, () -> connected,
+                new InfluxDBSpillLog(spillDir, InfluxDBSpillLog.SEGMENT_SIZE), 10, 1000);
+        InfluxPoint stringPoint = InfluxPoint.newBuilder("text").withTime(Instant.ofEpochSecond(10, 5))
+                .withValue("äöü").withTag("item", "text").build();
+        buffer.offer(stringPoint);
+        buffer.offer(InfluxPoint.newBuilder("switch").withTime(Instant.ofEpochMilli(20)).withValue(1)
+                .withTag("item", "switch").withTag("floor", "first").build());
+        buffer.close();
+
+        connected = true;
+        List<InfluxPoint> points = new ArrayList<>();
+        when(repository.write(any())).thenAnswer(invocation -> points.addAll(invocation.getArgument(0)));
+        buffer = new InfluxDBWriteBuffer(repository, () -> connected,
+                new InfluxDBSpillLog(spillDir, InfluxDBSpillLog.SEGMENT_SIZE), 10, 1000);
+        buffer.commit();
+
+        assertThat(points, hasSize(2));
+        assertThat(points.get(0).getMeasurementName(), is("text"));
+        assertThat(points.get(0).getTime(), is(Instant.ofEpochSecond(10, 5)));
+        assertThat(points.get(0).getValue(), is("äöü"));
+        assertThat(points.get(0).getTags(), is(stringPoint.getTags()));
+        assertThat(points.get(1).getValue(), is(1));
+        assertThat(points.get(1).getTags().get("floor"), is("first"));
+    }
+
+    @Test
+    public void dropsPointsWithoutSpillLog() {
+        connected = false;
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(repository, () -> connected, null, 10, 1000);
+        for (int i = 0; i < 15; i++) {
+            buffer.offer(point(i));
+        }
+
+        assertThat(buffer.getMetrics().queueDepth(), is(10));
+        assertThat(buffer.getMetrics().droppedPoints(), is(5L));
+    }
+
+    @Test
+    public void batchSizeAdaptsToFailures() {
+        recordWrites(false);
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(repository, () -> connected, null, 10000, 5000);
+        buffer.offer(point(0));
+        buffer.commit();
+
+        assertThat(buffer.getMetrics().batchSize(), is(InfluxDBWriteBuffer.INITIAL_BATCH_SIZE / 2));
+        assertThat(buffer.getMetrics().queueDepth(), is(1));
+    }
+
+    private void recordWrites(boolean success) {
+        when(repository.write(any())).thenAnswer(invocation -> {
+            if (success) {
+                List<InfluxPoint> points = invocation.getArgument(0);
+                points.forEach(point -> written.add(point.getValue()));
+            }
+            return success;
+        });
+    }
+
+    private static InfluxPoint point(int value) {
+        return InfluxPoint.newBuilder("number").withTime(Instant.ofEpochSecond(value))
+                .withValue(BigDecimal.valueOf(value)).withTag("item", "number").build();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class LineProtocolEncoderTest {
+
+    private static final Instant TIME = Instant.ofEpochMilli(1558302027124L);
+
+    private final LineProtocolEncoder encoder = new LineProtocolEncoder();
+
+    @Test
+    public void encodesValueTypes() {
+        String lines = encoder.encode(List.of(point("decimal", new BigDecimal("21.50")), point("switch", 1),
+                point("datetime", 1558302027124L), point("string", "a \"quoted\" \\ text"), point("bool", true)));
+
+        assertThat(lines, is("decimal,item=decimal value=21.50 1558302027124\n" //
+                + "switch,item=switch value=1i 1558302027124\n" //
+                + "datetime,item=datetime value=1558302027124i 1558302027124\n" //
+                + "string,item=string value=\"a \\\"quoted\\\" \\\\ text\" 1558302027124\n" //
+                + "bool,item=bool value=true 1558302027124\n"));
+    }
+
+    @Test
+    public void escapesAndSortsTags() {
+        InfluxPoint point = InfluxPoint.newBuilder("living room,temp").withTime(TIME).withValue(new BigDecimal("1"))
+                .withTag("item", "temp").withTag("label", "Living Room=warm,cosy").withTag("category", "")
+                .withTag("floor", "ground").build();
+
+        String expected = "living\\ room\\,temp,floor=ground,item=temp,label=Living\\ Room\\=warm\\,cosy value=1 "
+                + "1558302027124\n";
+        assertThat(encoder.encode(List.of(point)), is(expected));
+        // encoded a second time from the cache
+        assertThat(encoder.encode(List.of(point)), is(expected));
+    }
+
+    @Test
+    public void discardsInvalidValues() {
+        String lines = encoder.encode(List.of(point("nan", Double.NaN), point("valid", 2.5)));
+
+        assertThat(lines, is("valid,item=valid value=2.5 1558302027124\n"));
+        assertThat(encoder.encode(List.of(point("nan", Double.NaN))), is(""));
+    }
+
+    private static InfluxPoint point(String name, Object value) {
+        return InfluxPoint.newBuilder(name).withTime(TIME).withValue(value).withTag("item", name).build();
+    }
+}
@@ -12,20 +12,16 @@
  */
 package org.openhab.persistence.inmemory.internal;
 
-import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.Comparator;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -66,11 +62,14 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     protected static final String CONFIG_URI = "persistence:inmemory";
     private final String MAX_ENTRIES_CONFIG = "maxEntries";
     private final long MAX_ENTRIES_DEFAULT = 512;
+    private final String OFF_HEAP_CONFIG = "offHeap";
+    private final boolean OFF_HEAP_DEFAULT = false;
 
     private final Logger logger = LoggerFactory.getLogger(InMemoryPersistenceService.class);
 
-    private final Map<String, PersistItem> persistMap = new ConcurrentHashMap<>();
+    private final Map<String, ItemTimeSeries> persistMap = new ConcurrentHashMap<>();
     private long maxEntries = MAX_ENTRIES_DEFAULT;
+    private boolean offHeap = OFF_HEAP_DEFAULT;
 
     @Activate
     public void activate(Map<String, Object> config) {
@@ -81,18 +80,9 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     @Modified
     public void modified(Map<String, Object> config) {
         maxEntries = ConfigParser.valueAsOrElse(config.get(MAX_ENTRIES_CONFIG), Long.class, MAX_ENTRIES_DEFAULT);
+        offHeap = ConfigParser.valueAsOrElse(config.get(OFF_HEAP_CONFIG), Boolean.class, OFF_HEAP_DEFAULT);
 
-        persistMap.values().forEach(persistItem -> {
-            Lock lock = persistItem.lock();
-            lock.lock();
-            try {
-                while (persistItem.database().size() > maxEntries) {
-                    persistItem.database().pollFirst();
-                }
-            } finally {
-                lock.unlock();
-            }
-        });
+        persistMap.values().forEach(timeSeries -> timeSeries.configure(maxEntries, offHeap));
     }
 
     @Deactivate
@@ -112,7 +102,14 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return persistMap.entrySet().stream().map(this::toItemInfo).collect(Collectors.toSet());
+        Set<PersistenceItemInfo> itemInfo = new HashSet<>();
+        persistMap.forEach((name, timeSeries) -> {
+            ItemTimeSeries.Summary summary = timeSeries.getSummary();
+            if (summary != null) {
+                itemInfo.add(toItemInfo(name, summary));
+            }
+        });
+        return itemInfo;
     }
 
     @Override
@@ -143,19 +140,12 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return false;
         }
 
-        PersistItem persistItem = persistMap.get(itemName);
-        if (persistItem == null) {
+        ItemTimeSeries timeSeries = persistMap.get(itemName);
+        if (timeSeries == null) {
             return false;
         }
 
-        Lock lock = persistItem.lock();
-        lock.lock();
-        try {
-            List<PersistEntry> toRemove = persistItem.database().stream().filter(e -> applies(e, filter)).toList();
-            toRemove.forEach(persistItem.database()::remove);
-        } finally {
-            lock.unlock();
-        }
+        timeSeries.remove(getBegin(filter), getEnd(filter), getStateFilter(filter));
         return true;
     }
 
@@ -166,24 +156,14 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return List.of();
         }
 
-        PersistItem persistItem = persistMap.get(itemName);
-        if (persistItem == null) {
+        ItemTimeSeries timeSeries = persistMap.get(itemName);
+        if (timeSeries == null) {
             return List.of();
         }
 
-        Lock lock = persistItem.lock();
-        lock.lock();
-
-        Comparator<PersistEntry> comparator = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING
-                ? Comparator.comparing(PersistEntry::timestamp)
-                : Comparator.comparing(PersistEntry::timestamp).reversed();
-
-        try {
-            return persistItem.database().stream().filter(e -> applies(e, filter)).sorted(comparator)
-                    .map(e -> toHistoricItem(itemName, e)).toList();
-        } finally {
-            lock.unlock();
-        }
+        return timeSeries.query(itemName, getBegin(filter), getEnd(filter), getStateFilter(filter),
+                filter.getOrdering() == FilterCriteria.Ordering.ASCENDING,
+                (long) filter.getPageNumber() * filter.getPageSize(), filter.getPageSize());
     }
 
     @Override
@@ -192,56 +172,27 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         return List.of(PersistenceStrategy.Globals.FORECAST);
     }
 
-    private PersistenceItemInfo toItemInfo(Map.Entry<String, PersistItem> itemEntry) {
-        Lock lock = itemEntry.getValue().lock();
-        lock.lock();
-        try {
-            String name = itemEntry.getKey();
-            Integer count = itemEntry.getValue().database().size();
-            Instant earliest = itemEntry.getValue().database().first().timestamp().toInstant();
-            Instant latest = itemEntry.getValue().database.last().timestamp.toInstant();
-            return new PersistenceItemInfo() {
-
-                @Override
-                public String getName() {
-                    return name;
-                }
-
-                @Override
-                public @Nullable Integer getCount() {
-                    return count;
-                }
-
-                @Override
-                public @Nullable Date getEarliest() {
-                    return Date.from(earliest);
-                }
-
-                @Override
-                public @Nullable Date getLatest() {
-                    return Date.from(latest);
-                }
-            };
-        } finally {
-            lock.unlock();
-        }
-    }
+    private PersistenceItemInfo toItemInfo(String name, ItemTimeSeries.Summary summary) {
+        return new PersistenceItemInfo() {
 
-    private HistoricItem toHistoricItem(String itemName, PersistEntry entry) {
-        return new HistoricItem() {
             @Override
-            public ZonedDateTime getTimestamp() {
-                return entry.timestamp();
+            public String getName() {
+                return name;
             }
 
             @Override
-            public State getState() {
-                return entry.state();
+            public @Nullable Integer getCount() {
+                return summary.count();
             }
 
             @Override
-            public String getName() {
-                return itemName;
+            public @Nullable Date getEarliest() {
+                return Date.from(summary.earliest());
+            }
+
+            @Override
+            public @Nullable Date getLatest() {
+                return Date.from(summary.latest());
             }
         };
     }
@@ -251,50 +202,42 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return;
         }
 
-        PersistItem persistItem = Objects.requireNonNull(persistMap.computeIfAbsent(itemName,
-                k -> new PersistItem(new TreeSet<>(Comparator.comparing(PersistEntry::timestamp)),
-                        new ReentrantLock())));
-
-        Lock lock = persistItem.lock();
-        lock.lock();
-        try {
-            persistItem.database().add(new PersistEntry(timestamp, state));
-
-            while (persistItem.database.size() > maxEntries) {
-                persistItem.database().pollFirst();
-            }
-        } finally {
-            lock.unlock();
-        }
+        ItemTimeSeries timeSeries = Objects.requireNonNull(
+                persistMap.computeIfAbsent(itemName, k -> new ItemTimeSeries(maxEntries, offHeap)));
+        timeSeries.add(timestamp, state);
     }
 
-    @SuppressWarnings("unchecked")
-    private boolean applies(PersistEntry entry, FilterCriteria filter) {
+    private long getBegin(FilterCriteria filter) {
         ZonedDateTime beginDate = filter.getBeginDate();
-        if (beginDate != null && beginDate.isAfter(entry.timestamp())) {
-            return false;
-        }
+        return beginDate != null ? beginDate.toInstant().toEpochMilli() : Long.MIN_VALUE;
+    }
+
+    private long getEnd(FilterCriteria filter) {
         ZonedDateTime endDate = filter.getEndDate();
-        if (endDate != null && endDate.isBefore(entry.timestamp())) {
-            return false;
-        }
+        return endDate != null ? endDate.toInstant().toEpochMilli() : Long.MAX_VALUE;
+    }
 
+    private @Nullable Predicate<State> getStateFilter(FilterCriteria filter) {
         State refState = filter.getState();
-        FilterCriteria.Operator operator = filter.getOperator();
         if (refState == null) {
             // no state filter
-            return true;
+            return null;
         }
+        FilterCriteria.Operator operator = filter.getOperator();
+        return state -> applies(state, operator, refState);
+    }
 
+    @SuppressWarnings("unchecked")
+    private boolean applies(State state, FilterCriteria.Operator operator, State refState) {
         if (operator == FilterCriteria.Operator.EQ) {
-            return entry.state().equals(refState);
+            return state.equals(refState);
         }
 
         if (operator == FilterCriteria.Operator.NEQ) {
-            return !entry.state().equals(refState);
+            return !state.equals(refState);
         }
 
-        if (entry.state() instanceof Comparable comparableState && entry.state.getClass().equals(refState.getClass())) {
+        if (state instanceof Comparable comparableState && state.getClass().equals(refState.getClass())) {
             if (operator == FilterCriteria.Operator.GT) {
                 return comparableState.compareTo(refState) > 0;
             }
@@ -312,10 +255,4 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         }
         return true;
     }
-
-    private record PersistEntry(ZonedDateTime timestamp, State state) {
-    }
-
-    private record PersistItem(TreeSet<PersistEntry> database, Lock lock) {
-    }
 }
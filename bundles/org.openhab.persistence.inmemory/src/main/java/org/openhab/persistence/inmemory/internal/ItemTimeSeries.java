@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link ItemTimeSeries} stores the values of one item in a ring buffer of primitive columns, sorted by time.
+ *
+ * Each value uses 20 bytes: the timestamp in epoch milliseconds, the numeric value and the code of its
+ * {@link StateDictionary} entry. The columns are either backed by arrays on the heap or by direct buffers outside of
+ * it. Writes are exclusive, reads may run concurrently.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class ItemTimeSeries {
+
+    private static final int INITIAL_CAPACITY = 16;
+    // the largest long column a direct buffer can hold
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / Long.BYTES;
+
+    private final StampedLock lock = new StampedLock();
+    private final StateDictionary dictionary = new StateDictionary();
+
+    private LongBuffer times;
+    private DoubleBuffer values;
+    private IntBuffer codes;
+    private int head = 0;
+    private int size = 0;
+    private long maxEntries;
+    private boolean offHeap;
+
+    /**
+     * Creates an empty time series.
+     *
+     * @param maxEntries the maximum number of values, 0 for no limit
+     * @param offHeap true to store the values outside of the heap
+     */
+    ItemTimeSeries(long maxEntries, boolean offHeap) {
+        this.maxEntries = maxEntries;
+        this.offHeap = offHeap;
+        int capacity = (int) Math.min(INITIAL_CAPACITY, getCapacityLimit());
+        times = allocateTimes(capacity);
+        values = allocateValues(capacity);
+        codes = allocateCodes(capacity);
+    }
+
+    /**
+     * Changes the limits of this time series, removing the oldest values if necessary.
+     *
+     * @param maxEntries the maximum number of values, 0 for no limit
+     * @param offHeap true to store the values outside of the heap
+     */
+    void configure(long maxEntries, boolean offHeap) {
+        long stamp = lock.writeLock();
+        try {
+            this.maxEntries = maxEntries;
+            long limit = getCapacityLimit();
+            while (size > limit) {
+                removeOldest();
+            }
+            if (this.offHeap != offHeap || times.capacity() > limit) {
+                this.offHeap = offHeap;
+                reallocate((int) Math.min(Math.max(size, INITIAL_CAPACITY), limit));
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds a value. A value with the same timestamp is replaced.
+     *
+     * @param timestamp the time of the value
+     * @param state the value
+     */
+    void add(ZonedDateTime timestamp, State state) {
+        long time = timestamp.toInstant().toEpochMilli();
+        double value = StateDictionary.toValue(state);
+        long stamp = lock.writeLock();
+        try {
+            int index = lowerBound(time);
+            if (index < size && timeAt(index) == time) {
+                int position = position(index);
+                dictionary.release(codes.get(position));
+                values.put(position, value);
+                codes.put(position, dictionary.acquire(state, value));
+                return;
+            }
+            if (size >= getCapacityLimit()) {
+                if (index == 0) {
+                    // older than all values, it would be removed right away
+                    return;
+                }
+                removeOldest();
+                index--;
+            }
+            if (size == times.capacity()) {
+                reallocate((int) Math.min((long) size * 2, getCapacityLimit()));
+            }
+            // values are mostly added in order, so this rarely moves anything
+            for (int i = size; i > index; i--) {
+                move(i - 1, i);
+            }
+            int position = position(index);
+            times.put(position, time);
+            values.put(position, value);
+            codes.put(position, dictionary.acquire(state, value));
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the values within a time range.
+     *
+     * @param begin the earliest time in epoch milliseconds
+     * @param end the latest time in epoch milliseconds
+     * @param filter only values matching this filter are removed, null to remove all values in the range
+     * @return the number of removed values
+     */
+    int remove(long begin, long end, @Nullable Predicate<State> filter) {
+        long stamp = lock.writeLock();
+        try {
+            int from = lowerBound(begin);
+            int to = upperBound(end);
+            int target = from;
+            for (int i = from; i < to; i++) {
+                int position = position(i);
+                int code = codes.get(position);
+                if (filter == null || filter.test(dictionary.decode(code, values.get(position)))) {
+                    dictionary.release(code);
+                } else {
+                    move(i, target++);
+                }
+            }
+            int removed = to - target;
+            if (removed > 0) {
+                for (int i = to; i < size; i++) {
+                    move(i, target++);
+                }
+                size -= removed;
+            }
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Gets the values within a time range.
+     *
+     * @param itemName the name of the returned items
+     * @param begin the earliest time in epoch milliseconds
+     * @param end the latest time in epoch milliseconds
+     * @param filter only values matching this filter are returned, null to return all values in the range
+     * @param ascending true to return the oldest values first
+     * @param skip the number of matching values to skip
+     * @param limit the maximum number of values to return
+     * @return the values
+     */
+    List<HistoricItem> query(String itemName, long begin, long end, @Nullable Predicate<State> filter,
+            boolean ascending, long skip, int limit) {
+        List<HistoricItem> result = new ArrayList<>();
+        long stamp = lock.readLock();
+        try {
+            int from = lowerBound(begin);
+            int to = upperBound(end);
+            long skipped = 0;
+            for (int n = 0; n < to - from && result.size() < limit; n++) {
+                int position = position(ascending ? from + n : to - 1 - n);
+                State state = dictionary.decode(codes.get(position), values.get(position));
+                if (filter != null && !filter.test(state)) {
+                    continue;
+                }
+                if (skipped < skip) {
+                    skipped++;
+                    continue;
+                }
+                result.add(toHistoricItem(itemName, times.get(position), state));
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of values, the time of the oldest and the newest value, or null if there are no values
+     */
+    @Nullable
+    Summary getSummary() {
+        long stamp = lock.tryOptimisticRead();
+        Summary summary = readSummary();
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                summary = readSummary();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return summary;
+    }
+
+    private @Nullable Summary readSummary() {
+        LongBuffer times = this.times;
+        int head = this.head;
+        int size = this.size;
+        int capacity = times.capacity();
+        if (size == 0 || head >= capacity || size > capacity) {
+            // empty, or changed while reading
+            return null;
+        }
+        return new Summary(size, Instant.ofEpochMilli(times.get(head)),
+                Instant.ofEpochMilli(times.get((head + size - 1) % capacity)));
+    }
+
+    private long getCapacityLimit() {
+        return maxEntries > 0 ? Math.min(maxEntries, MAX_CAPACITY) : MAX_CAPACITY;
+    }
+
+    private int position(int index) {
+        int position = head + index;
+        int capacity = times.capacity();
+        return position >= capacity ? position - capacity : position;
+    }
+
+    private long timeAt(int index) {
+        return times.get(position(index));
+    }
+
+    /**
+     * @return the index of the first value at or after the given time
+     */
+    private int lowerBound(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timeAt(mid) < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the index of the first value after the given time
+     */
+    private int upperBound(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timeAt(mid) <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void move(int fromIndex, int toIndex) {
+        int from = position(fromIndex);
+        int to = position(toIndex);
+        times.put(to, times.get(from));
+        values.put(to, values.get(from));
+        codes.put(to, codes.get(from));
+    }
+
+    private void removeOldest() {
+        dictionary.release(codes.get(head));
+        head = position(1);
+        size--;
+    }
+
+    private void reallocate(int capacity) {
+        LongBuffer newTimes = allocateTimes(capacity);
+        DoubleBuffer newValues = allocateValues(capacity);
+        IntBuffer newCodes = allocateCodes(capacity);
+        for (int i = 0; i < size; i++) {
+            int position = position(i);
+            newTimes.put(i, times.get(position));
+            newValues.put(i, values.get(position));
+            newCodes.put(i, codes.get(position));
+        }
+        times = newTimes;
+        values = newValues;
+        codes = newCodes;
+        head = 0;
+    }
+
+    private LongBuffer allocateTimes(int capacity) {
+        return offHeap ? allocateDirect(capacity * Long.BYTES).asLongBuffer() : LongBuffer.allocate(capacity);
+    }
+
+    private DoubleBuffer allocateValues(int capacity) {
+        return offHeap ? allocateDirect(capacity * Double.BYTES).asDoubleBuffer() : DoubleBuffer.allocate(capacity);
+    }
+
+    private IntBuffer allocateCodes(int capacity) {
+        return offHeap ? allocateDirect(capacity * Integer.BYTES).asIntBuffer() : IntBuffer.allocate(capacity);
+    }
+
+    private static ByteBuffer allocateDirect(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    private static HistoricItem toHistoricItem(String itemName, long time, State state) {
+        ZonedDateTime timestamp = ZonedDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+        return new HistoricItem() {
+            @Override
+            public ZonedDateTime getTimestamp() {
+                return timestamp;
+            }
+
+            @Override
+            public State getState() {
+                return state;
+            }
+
+            @Override
+            public String getName() {
+                return itemName;
+            }
+        };
+    }
+
+    record Summary(int count, Instant earliest, Instant latest) {
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link StateDictionary} encodes the states of one item as a double value and an integer code.
+ *
+ * Numeric states are kept in the value, and their code refers to their type and unit. All other states are stored
+ * once in the dictionary and referenced by their code. Codes are reference counted and reused as soon as no value
+ * refers to them anymore. The dictionary is not thread-safe.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class StateDictionary {
+
+    private final Map<Object, Integer> codes = new HashMap<>();
+    private final Deque<Integer> freeCodes = new ArrayDeque<>();
+    private @Nullable Object[] entries = new Object[8];
+    private int[] references = new int[8];
+    private int nextCode = 0;
+
+    /**
+     * Returns the value a state is stored as.
+     *
+     * @param state the state
+     * @return the value of a numeric state that can be restored exactly, NaN for all other states
+     */
+    static double toValue(State state) {
+        BigDecimal decimal;
+        if (state.getClass() == QuantityType.class) {
+            decimal = ((QuantityType<?>) state).toBigDecimal();
+        } else if (state.getClass() == DecimalType.class || state.getClass() == PercentType.class) {
+            decimal = ((DecimalType) state).toBigDecimal();
+        } else {
+            return Double.NaN;
+        }
+        double value = decimal.doubleValue();
+        return toDecimal(value).equals(decimal) ? value : Double.NaN;
+    }
+
+    /**
+     * Gets the code for a state and increases its reference count.
+     *
+     * @param state the state
+     * @param value the value returned by {@link #toValue(State)} for this state
+     * @return the code
+     */
+    int acquire(State state, double value) {
+        Object key = Double.isNaN(value) ? state : NumericType.of(state);
+        Integer code = codes.get(key);
+        if (code == null) {
+            code = freeCodes.isEmpty() ? nextCode++ : freeCodes.pop();
+            if (code >= entries.length) {
+                entries = Arrays.copyOf(entries, entries.length * 2);
+                references = Arrays.copyOf(references, references.length * 2);
+            }
+            entries[code] = key;
+            codes.put(key, code);
+        }
+        references[code]++;
+        return code;
+    }
+
+    /**
+     * Decreases the reference count of a code and frees it when it is no longer used.
+     *
+     * @param code the code
+     */
+    void release(int code) {
+        if (--references[code] == 0) {
+            Object key = entries[code];
+            if (key != null) {
+                codes.remove(key);
+            }
+            entries[code] = null;
+            freeCodes.push(code);
+        }
+    }
+
+    /**
+     * Restores a state.
+     *
+     * @param code the code of the state
+     * @param value the value the state was stored as
+     * @return the state
+     */
+    State decode(int code, double value) {
+        Object key = entries[code];
+        if (key instanceof NumericType numericType) {
+            return numericType.toState(toDecimal(value));
+        }
+        return (State) key;
+    }
+
+    /**
+     * @return the number of states and numeric types in the dictionary
+     */
+    int size() {
+        return codes.size();
+    }
+
+    private static BigDecimal toDecimal(double value) {
+        BigDecimal decimal = BigDecimal.valueOf(value).stripTrailingZeros();
+        return decimal.scale() < 0 ? decimal.setScale(0) : decimal;
+    }
+
+    private record NumericType(Class<?> type, @Nullable Unit<?> unit) {
+
+        static NumericType of(State state) {
+            return new NumericType(state.getClass(), state instanceof QuantityType<?> q ? q.getUnit() : null);
+        }
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        State toState(BigDecimal value) {
+            Unit<?> unit = this.unit;
+            if (unit != null) {
+                return new QuantityType(value, unit);
+            }
+            return type == PercentType.class ? new PercentType(value) : new DecimalType(value);
+        }
+    }
+}
@@ -16,11 +16,13 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -34,7 +36,9 @@ import org.mockito.quality.Strictness;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
@@ -275,4 +279,73 @@ public class InMemoryPersistenceTests {
 
         // begin date is before first date is already covered by case #1
     }
+
+    @Test
+    public void oldestValuesAreRemovedWhenMaxEntriesIsReached() {
+        service.activate(Map.of("maxEntries", BigDecimal.valueOf(2)));
+        ZonedDateTime start = ZonedDateTime.of(2022, 05, 31, 10, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start.plusHours(1), new DecimalType(2));
+        service.store(item, start.plusHours(2), new DecimalType(3));
+        service.store(item, start, new DecimalType(1));
+        service.store(item, start.plusHours(3), new DecimalType(4));
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+
+        assertThat(resultSet, contains(4, 3));
+    }
+
+    @Test
+    public void valueWithSameTimestampIsReplaced() {
+        ZonedDateTime time = ZonedDateTime.of(2022, 05, 31, 10, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, time, new StringType("value1"));
+        service.store(item, time, new StringType("value2"));
+
+        List<HistoricItem> storedStates = new ArrayList<>();
+        service.query(filterCriteria).forEach(storedStates::add);
+
+        assertThat(storedStates, hasSize(1));
+        assertThat(storedStates.get(0).getState(), is(new StringType("value2")));
+    }
+
+    @Test
+    public void statesAreRestoredExactly() {
+        service.activate(Map.of("offHeap", true));
+        List<State> states = List.of(new DecimalType(1), new DecimalType(new BigDecimal("0.10")),
+                new DecimalType(new BigDecimal("12345678901234567890.123")), new PercentType(50),
+                new QuantityType<>("21.5 °C"), new QuantityType<>("300 W"), OnOffType.ON, new StringType("text"),
+                OnOffType.ON);
+        ZonedDateTime start = ZonedDateTime.of(2022, 05, 31, 10, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < states.size(); i++) {
+            service.store(item, start.plusMinutes(i), states.get(i));
+        }
+
+        List<String> restored = new ArrayList<>();
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        service.query(filterCriteria).forEach(h -> restored.add(describe(h.getState())));
+
+        assertThat(restored, is(states.stream().map(this::describe).toList()));
+    }
+
+    @Test
+    public void queryObservesStateFilterAndPaging() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 1; i <= 6; i++) {
+            service.store(item, start.plusHours(i), new DecimalType(i));
+        }
+
+        filterCriteria.setState(new DecimalType(2));
+        filterCriteria.setOperator(FilterCriteria.Operator.GT);
+        filterCriteria.setPageSize(2);
+        filterCriteria.setPageNumber(1);
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+
+        assertThat(resultSet, contains(4, 3));
+    }
+
+    private String describe(State state) {
+        return state.getClass().getSimpleName() + ":" + state;
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * This enum defines how the values within one time bucket are reduced by an aggregated query.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public enum AggregationFunction {
+    /**
+     * Average of the values, stored at the time of the first value.
+     */
+    AVG(true),
+    /**
+     * Smallest value, stored at the time of the first value.
+     */
+    MIN(true),
+    /**
+     * Largest value, stored at the time of the first value.
+     */
+    MAX(true),
+    /**
+     * Number of values, stored at the time of the first value.
+     */
+    COUNT(false),
+    /**
+     * Last value with its original time.
+     */
+    LAST(false);
+
+    private final boolean numeric;
+
+    AggregationFunction(boolean numeric) {
+        this.numeric = numeric;
+    }
+
+    /**
+     * @return true if the function can only be applied to numeric values
+     */
+    public boolean isNumeric() {
+        return numeric;
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.ItemVO;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link JdbcBatchWriter} collects item values in a bounded queue and writes them in JDBC batches.
+ *
+ * Values are flushed when the batch size is reached or when the batch interval has elapsed. For every flush the
+ * values are grouped per item table and the tables are distributed over a small pool of writer threads, each
+ * writing its tables with one batch per table inside one transaction.
+ *
+ * If the database is not accessible, the batch is kept and retried with an exponential backoff, starting at the batch
+ * interval and limited to {@link #MAX_RETRY_DELAY_MILLIS}. Meanwhile new values are queued, so the overflow policy
+ * decides which values are kept during a longer outage.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcBatchWriter {
+
+    static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcBatchWriter.class);
+
+    private final JdbcMapper mapper;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService writers;
+    private final BlockingQueue<PendingValue> queue;
+    private final int batchSize;
+    private final int batchInterval;
+    private final int writerThreads;
+    private final BatchOverflowPolicy overflowPolicy;
+
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    // guarded by flushLock
+    private List<PendingValue> retryBatch = new ArrayList<>();
+    private long retryDelay;
+    private long retryAt;
+
+    record PendingValue(Item item, State state, ZonedDateTime date, @Nullable String alias) {
+    }
+
+    public JdbcBatchWriter(JdbcMapper mapper, ScheduledExecutorService scheduler, JdbcConfiguration conf) {
+        this.mapper = mapper;
+        this.scheduler = scheduler;
+        this.batchSize = conf.getBatchSize();
+        this.batchInterval = conf.getBatchInterval();
+        this.writerThreads = conf.getBatchWriterThreads();
+        this.overflowPolicy = conf.getBatchOverflowPolicy();
+        this.queue = new ArrayBlockingQueue<>(conf.getBatchQueueCapacity());
+        this.writers = Executors.newFixedThreadPool(writerThreads,
+                new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID + "-writer"));
+    }
+
+    public void start() {
+        flushJob = scheduler.scheduleWithFixedDelay(this::flush, batchInterval, batchInterval, TimeUnit.MILLISECONDS);
+        logger.debug("JDBC::batch: started with batchSize={} batchInterval={} ms writerThreads={} policy={}",
+                batchSize, batchInterval, writerThreads, overflowPolicy);
+    }
+
+    /**
+     * Stops the periodic flush, writes all values still queued and shuts down the writer threads.
+     */
+    public void stop() {
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        synchronized (flushLock) {
+            // last attempt, regardless of the backoff
+            retryAt = 0;
+            flush();
+            int unwritten = retryBatch.size() + queue.size();
+            if (unwritten > 0) {
+                logger.warn("JDBC::batch: No connection to database. Cannot persist {} values!", unwritten);
+            }
+            writers.shutdown();
+        }
+    }
+
+    /**
+     * Queues a value for the next batch. If the queue is full, the configured {@link BatchOverflowPolicy} applies.
+     *
+     * @param item the item to store
+     * @param state the state to store
+     * @param date the timestamp of the value
+     * @param alias optional alias of the item
+     */
+    public void offer(Item item, State state, ZonedDateTime date, @Nullable String alias) {
+        PendingValue value = new PendingValue(item, state, date, alias);
+        boolean accepted;
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                accepted = queue.offer(value);
+                while (!accepted) {
+                    if (queue.poll() != null) {
+                        droppedCount.incrementAndGet();
+                    }
+                    accepted = queue.offer(value);
+                }
+                break;
+            case BLOCK:
+                try {
+                    accepted = queue.offer(value, batchInterval, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    accepted = false;
+                }
+                break;
+            case DROP_NEWEST:
+            default:
+                accepted = queue.offer(value);
+                break;
+        }
+        if (!accepted) {
+            droppedCount.incrementAndGet();
+        }
+        if (queue.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::flush);
+        }
+    }
+
+    /**
+     * @return the number of values waiting to be written
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    void flush() {
+        flushScheduled.set(false);
+        synchronized (flushLock) {
+            if (writers.isShutdown()) {
+                return;
+            }
+            long dropped = droppedCount.getAndSet(0);
+            if (dropped > 0) {
+                logger.warn("JDBC::batch: Queue capacity {} exceeded, {} values have been dropped (policy {})",
+                        queue.size() + queue.remainingCapacity(), dropped, overflowPolicy);
+            }
+            if (System.currentTimeMillis() < retryAt) {
+                return;
+            }
+            List<PendingValue> pending = retryBatch;
+            retryBatch = new ArrayList<>();
+            while (!pending.isEmpty() || queue.drainTo(pending, batchSize) > 0) {
+                if (!mapper.checkDBAccessability()) {
+                    retryBatch = pending;
+                    retryDelay = retryDelay == 0 ? batchInterval : Math.min(2 * retryDelay, MAX_RETRY_DELAY_MILLIS);
+                    retryAt = System.currentTimeMillis() + retryDelay;
+                    logger.warn("JDBC::batch: No connection to database. Retrying to persist {} values in {} ms.",
+                            pending.size() + queue.size(), retryDelay);
+                    return;
+                }
+                retryDelay = 0;
+                writeBatch(pending);
+                pending = new ArrayList<>(Math.min(batchSize, queue.size()));
+            }
+        }
+    }
+
+    /**
+     * @return the number of values kept for a retry after the database was not accessible
+     */
+    int getRetrySize() {
+        synchronized (flushLock) {
+            return retryBatch.size();
+        }
+    }
+
+    private void writeBatch(List<PendingValue> pending) {
+        long timerStart = System.currentTimeMillis();
+
+        Map<String, List<ItemVO>> tableValues = new HashMap<>();
+        for (PendingValue value : pending) {
+            try {
+                ItemVO vo = mapper.prepareItemValue(value.item(), value.state(), value.date(), value.alias());
+                tableValues.computeIfAbsent(vo.getTableName(), t -> new ArrayList<>()).add(vo);
+            } catch (JdbcException e) {
+                logger.warn("JDBC::batch: Unable to prepare value for item '{}'", value.item().getName(), e);
+            }
+        }
+
+        List<Map<String, List<ItemVO>>> partitions = new ArrayList<>(writerThreads);
+        for (int i = 0; i < writerThreads; i++) {
+            partitions.add(new HashMap<>());
+        }
+        int index = 0;
+        for (Map.Entry<String, List<ItemVO>> entry : tableValues.entrySet()) {
+            partitions.get(index++ % writerThreads).put(entry.getKey(), entry.getValue());
+        }
+
+        List<Future<?>> futures = new ArrayList<>(writerThreads);
+        for (Map<String, List<ItemVO>> partition : partitions) {
+            if (!partition.isEmpty()) {
+                futures.add(writers.submit(() -> writePartition(partition)));
+            }
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                logger.warn("JDBC::batch: Writing batch failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("JDBC::batch: Stored {} values in {} tables in {} ms.", pending.size(), tableValues.size(),
+                    System.currentTimeMillis() - timerStart);
+        }
+    }
+
+    private void writePartition(Map<String, List<ItemVO>> partition) {
+        try {
+            mapper.storeItemValues(partition);
+        } catch (JdbcSQLException e) {
+            int count = partition.values().stream().mapToInt(List::size).sum();
+            logger.warn("JDBC::batch: Unable to store {} values in {} tables", count, partition.size(), e);
+        }
+    }
+}
@@ -13,8 +13,10 @@
 package org.openhab.persistence.jdbc.internal;
 
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
@@ -66,6 +68,24 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    private boolean batchWrite = false;
+    private int batchSize = 500;
+    private int batchInterval = 1000;
+    private int batchQueueCapacity = 10000;
+    private BatchOverflowPolicy batchOverflowPolicy = BatchOverflowPolicy.DROP_OLDEST;
+    private int batchWriterThreads = 2;
+    private boolean queryStreaming = false;
+    private int queryFetchSize = 0;
+    private int statementCacheSize = 0;
+    private @Nullable AggregationFunction queryAggregation = null;
+    private int queryMaxRows = 1000;
+    private List<RetentionRule> retentionRules = List.of();
+    private @Nullable Duration retentionDownsampleAfter = null;
+    private Duration retentionDownsampleInterval = Duration.ofHours(1);
+    private int retentionHour = 3;
+    private int retentionChunkSize = 10000;
+    private boolean retentionPartitioning = false;
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
@@ -191,6 +211,134 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String bw = (String) configuration.get("batchWrite");
+        if (bw != null && !bw.isBlank()) {
+            batchWrite = Boolean.parseBoolean(bw);
+            logger.debug("JDBC::updateConfig: batchWrite={}", batchWrite);
+        }
+
+        String bs = (String) configuration.get("batchSize");
+        if (bs != null && !bs.isBlank() && isNumericPattern.matcher(bs).matches()) {
+            batchSize = Math.max(1, Integer.parseInt(bs));
+            logger.debug("JDBC::updateConfig: batchSize={}", batchSize);
+        }
+
+        String bi = (String) configuration.get("batchInterval");
+        if (bi != null && !bi.isBlank() && isNumericPattern.matcher(bi).matches()) {
+            batchInterval = Math.max(10, Integer.parseInt(bi));
+            logger.debug("JDBC::updateConfig: batchInterval={}", batchInterval);
+        }
+
+        String bq = (String) configuration.get("batchQueueCapacity");
+        if (bq != null && !bq.isBlank() && isNumericPattern.matcher(bq).matches()) {
+            batchQueueCapacity = Math.max(1, Integer.parseInt(bq));
+            logger.debug("JDBC::updateConfig: batchQueueCapacity={}", batchQueueCapacity);
+        }
+
+        String bo = (String) configuration.get("batchOverflowPolicy");
+        if (bo != null && !bo.isBlank()) {
+            try {
+                batchOverflowPolicy = BatchOverflowPolicy.valueOf(bo.trim().toUpperCase());
+                logger.debug("JDBC::updateConfig: batchOverflowPolicy={}", batchOverflowPolicy);
+            } catch (IllegalArgumentException e) {
+                logger.warn("JDBC::updateConfig: Unknown batchOverflowPolicy '{}', using {}", bo, batchOverflowPolicy);
+            }
+        }
+
+        String bt = (String) configuration.get("batchWriterThreads");
+        if (bt != null && !bt.isBlank() && isNumericPattern.matcher(bt).matches()) {
+            batchWriterThreads = Math.max(1, Integer.parseInt(bt));
+            logger.debug("JDBC::updateConfig: batchWriterThreads={}", batchWriterThreads);
+        }
+
+        String qs = (String) configuration.get("queryStreaming");
+        if (qs != null && !qs.isBlank()) {
+            queryStreaming = Boolean.parseBoolean(qs);
+            logger.debug("JDBC::updateConfig: queryStreaming={}", queryStreaming);
+        }
+
+        String qf = (String) configuration.get("queryFetchSize");
+        if (qf != null && !qf.isBlank() && isNumericPattern.matcher(qf).matches()) {
+            queryFetchSize = Integer.parseInt(qf);
+            logger.debug("JDBC::updateConfig: queryFetchSize={}", queryFetchSize);
+        }
+        dBDAO.setQueryFetchSize(queryFetchSize);
+
+        String sc = (String) configuration.get("statementCacheSize");
+        if (sc != null && !sc.isBlank() && isNumericPattern.matcher(sc).matches()) {
+            statementCacheSize = Integer.parseInt(sc);
+            logger.debug("JDBC::updateConfig: statementCacheSize={}", statementCacheSize);
+        }
+        if (statementCacheSize > 0) {
+            dBDAO.setStatementCacheSize(statementCacheSize);
+        }
+
+        String qa = (String) configuration.get("queryAggregation");
+        if (qa != null && !qa.isBlank() && !"NONE".equalsIgnoreCase(qa.trim())) {
+            try {
+                queryAggregation = AggregationFunction.valueOf(qa.trim().toUpperCase());
+                logger.debug("JDBC::updateConfig: queryAggregation={}", queryAggregation);
+            } catch (IllegalArgumentException e) {
+                logger.warn("JDBC::updateConfig: Unknown queryAggregation '{}', aggregation disabled", qa);
+            }
+        }
+
+        String qm = (String) configuration.get("queryMaxRows");
+        if (qm != null && !qm.isBlank() && isNumericPattern.matcher(qm).matches()) {
+            queryMaxRows = Math.max(1, Integer.parseInt(qm));
+            logger.debug("JDBC::updateConfig: queryMaxRows={}", queryMaxRows);
+        }
+
+        String rr = (String) configuration.get("retentionRules");
+        if (rr != null && !rr.isBlank()) {
+            try {
+                retentionRules = RetentionRule.parse(rr);
+                logger.debug("JDBC::updateConfig: retentionRules={}", retentionRules);
+            } catch (IllegalArgumentException e) {
+                logger.warn("JDBC::updateConfig: {}, retention disabled", e.getMessage());
+            }
+        }
+
+        String rd = (String) configuration.get("retentionDownsampleAfter");
+        if (rd != null && !rd.isBlank()) {
+            retentionDownsampleAfter = StringUtilsExt.parseDuration(rd);
+            if (retentionDownsampleAfter == null) {
+                logger.warn("JDBC::updateConfig: Invalid retentionDownsampleAfter '{}', downsampling disabled", rd);
+            }
+            logger.debug("JDBC::updateConfig: retentionDownsampleAfter={}", retentionDownsampleAfter);
+        }
+
+        String ri = (String) configuration.get("retentionDownsampleInterval");
+        if (ri != null && !ri.isBlank()) {
+            Duration interval = StringUtilsExt.parseDuration(ri);
+            if (interval != null && interval.getSeconds() > 0) {
+                retentionDownsampleInterval = interval;
+                logger.debug("JDBC::updateConfig: retentionDownsampleInterval={}", retentionDownsampleInterval);
+            } else {
+                logger.warn("JDBC::updateConfig: Invalid retentionDownsampleInterval '{}', using {}", ri,
+                        retentionDownsampleInterval);
+            }
+        }
+
+        String rh = (String) configuration.get("retentionHour");
+        if (rh != null && !rh.isBlank() && isNumericPattern.matcher(rh).matches()) {
+            retentionHour = Math.min(23, Integer.parseInt(rh));
+            logger.debug("JDBC::updateConfig: retentionHour={}", retentionHour);
+        }
+
+        String rc = (String) configuration.get("retentionChunkSize");
+        if (rc != null && !rc.isBlank() && isNumericPattern.matcher(rc).matches()) {
+            retentionChunkSize = Math.max(1, Integer.parseInt(rc));
+            logger.debug("JDBC::updateConfig: retentionChunkSize={}", retentionChunkSize);
+        }
+
+        String rp = (String) configuration.get("retentionPartitioning");
+        if (rp != null && !rp.isBlank()) {
+            retentionPartitioning = Boolean.parseBoolean(rp);
+            logger.debug("JDBC::updateConfig: retentionPartitioning={}", retentionPartitioning);
+        }
+        dBDAO.setPartitioning(retentionPartitioning);
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -404,6 +552,74 @@ public class JdbcConfiguration {
         return tableIdDigitCount;
     }
 
+    public boolean isBatchWriteEnabled() {
+        return batchWrite;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getBatchInterval() {
+        return batchInterval;
+    }
+
+    public int getBatchQueueCapacity() {
+        return batchQueueCapacity;
+    }
+
+    public BatchOverflowPolicy getBatchOverflowPolicy() {
+        return batchOverflowPolicy;
+    }
+
+    public int getBatchWriterThreads() {
+        return batchWriterThreads;
+    }
+
+    public boolean isQueryStreaming() {
+        return queryStreaming;
+    }
+
+    public int getQueryFetchSize() {
+        return queryFetchSize;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public @Nullable AggregationFunction getQueryAggregation() {
+        return queryAggregation;
+    }
+
+    public int getQueryMaxRows() {
+        return queryMaxRows;
+    }
+
+    public List<RetentionRule> getRetentionRules() {
+        return retentionRules;
+    }
+
+    public @Nullable Duration getRetentionDownsampleAfter() {
+        return retentionDownsampleAfter;
+    }
+
+    public Duration getRetentionDownsampleInterval() {
+        return retentionDownsampleInterval;
+    }
+
+    public int getRetentionHour() {
+        return retentionHour;
+    }
+
+    public int getRetentionChunkSize() {
+        return retentionChunkSize;
+    }
+
+    public boolean isRetentionPartitioning() {
+        return retentionPartitioning;
+    }
+
     public JdbcBaseDAO getDBDAO() {
         return dBDAO;
     }
@@ -425,6 +641,8 @@ public class JdbcConfiguration {
         // Initializing step, after db is connected.
         // Initialize sqlTypes, depending on DB version for example
         dBDAO.initAfterFirstDbConnection();
+        // SQL statements may depend on the database version
+        dBDAO.clearSqlCache();
         // Running once again to prior external configured SqlTypes!
         setSqlTypes();
         this.dbConnected = dbConnected;
@@ -13,6 +13,8 @@
 package org.openhab.persistence.jdbc.internal;
 
 import java.sql.SQLInvalidAuthorizationSpecException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -32,6 +34,7 @@ import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistenceItemInfo;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
@@ -226,6 +229,20 @@ public class JdbcMapper {
         errCnt = 0;
     }
 
+    protected ItemVO prepareItemValue(Item item, State itemState, ZonedDateTime date, @Nullable String alias)
+            throws JdbcException {
+        String tableName = getTable(item, alias);
+        return conf.getDBDAO().doPrepareItemValue(item, itemState, new ItemVO(tableName, null), date);
+    }
+
+    protected void storeItemValues(Map<String, List<ItemVO>> tableValues) throws JdbcSQLException {
+        logger.debug("JDBC::storeItemValues: tables={}", tableValues.keySet());
+        long timerStart = System.currentTimeMillis();
+        conf.getDBDAO().doStoreItemValues(tableValues);
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+    }
+
     public long getRowCount(String tableName) throws JdbcSQLException {
         return conf.getDBDAO().doGetRowCount(tableName);
     }
@@ -243,6 +260,36 @@ public class JdbcMapper {
         return result;
     }
 
+    /**
+     * Returns the result of a history query that is read from a database cursor while it is iterated, see
+     * {@link JdbcStreamedHistoricItemIterable}.
+     */
+    protected Iterable<HistoricItem> streamHistItemFilterQuery(FilterCriteria filter, int numberDecimalcount,
+            String table, Item item) throws JdbcSQLException {
+        logger.debug(
+                "JDBC::streamHistItemFilterQuery filter='{}' numberDecimalcount='{}' table='{}' item='{}' itemName='{}'",
+                true, numberDecimalcount, table, item, item.getName());
+        long timerStart = System.currentTimeMillis();
+        Iterable<HistoricItem> result = new JdbcStreamedHistoricItemIterable(
+                () -> conf.getDBDAO().doStreamHistItemFilterQuery(item, filter, numberDecimalcount, table,
+                        item.getName(), timeZoneProvider.getTimeZone()));
+        logTime("streamHistItemFilterQuery", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+        return result;
+    }
+
+    protected List<HistoricItem> getAggregatedHistItemFilterQuery(FilterCriteria filter, AggregationFunction function,
+            Duration bucket, int numberDecimalcount, String table, Item item) throws JdbcSQLException {
+        logger.debug("JDBC::getAggregatedHistItemFilterQuery function='{}' bucket='{}' table='{}' itemName='{}'",
+                function, bucket, table, item.getName());
+        long timerStart = System.currentTimeMillis();
+        List<HistoricItem> result = conf.getDBDAO().doGetAggregatedHistItemFilterQuery(item, filter, function, bucket,
+                numberDecimalcount, table, item.getName(), timeZoneProvider.getTimeZone());
+        logTime("getAggregatedHistItemFilterQuery", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+        return result;
+    }
+
     protected void deleteItemValues(FilterCriteria filter, String table) throws JdbcSQLException {
         logger.debug("JDBC::deleteItemValues filter='{}' table='{}' itemName='{}'", true, table, filter.getItemName());
         long timerStart = System.currentTimeMillis();
@@ -251,6 +298,52 @@ public class JdbcMapper {
         errCnt = 0;
     }
 
+    /*************
+     * RETENTION *
+     *************/
+    protected Map<String, String> getItemNameToTableNameMap() {
+        return Map.copyOf(itemNameToTableNameMap);
+    }
+
+    protected long deleteItemValuesBefore(String table, ZonedDateTime before, int chunkSize)
+            throws JdbcSQLException {
+        JdbcBaseDAO dao = conf.getDBDAO();
+        long timerStart = System.currentTimeMillis();
+        long deleted = 0;
+        int count;
+        do {
+            count = dao.doDeleteItemValuesChunk(table, before, chunkSize, timeZoneProvider.getTimeZone());
+            deleted += count;
+        } while (count >= chunkSize && !Thread.currentThread().isInterrupted());
+        logTime("deleteItemValuesBefore", timerStart, System.currentTimeMillis());
+        return deleted;
+    }
+
+    protected int dropPartitions(String table, ZonedDateTime before) throws JdbcSQLException {
+        JdbcBaseDAO dao = conf.getDBDAO();
+        return dao.doIsPartitioned(table) ? dao.doDropPartitions(table, before) : 0;
+    }
+
+    protected void ensurePartitions(String table) throws JdbcSQLException {
+        JdbcBaseDAO dao = conf.getDBDAO();
+        if (dao.doIsPartitioned(table)) {
+            dao.doEnsurePartitions(table, ZonedDateTime.now().plusMonths(JdbcBaseDAO.PARTITION_MONTHS_AHEAD));
+        }
+    }
+
+    protected @Nullable Instant getOldestItemValueTime(String table) throws JdbcSQLException {
+        return conf.getDBDAO().doGetOldestItemValueTime(table);
+    }
+
+    protected long downsampleItemValues(Item item, String table, ZonedDateTime from, ZonedDateTime to,
+            Duration interval) throws JdbcSQLException {
+        long timerStart = System.currentTimeMillis();
+        long removed = conf.getDBDAO().doDownsampleItemValues(item, table, from, to, interval,
+                timeZoneProvider.getTimeZone());
+        logTime("downsampleItemValues", timerStart, System.currentTimeMillis());
+        return removed;
+    }
+
     /***********************
      * DATABASE CONNECTION *
      ***********************/
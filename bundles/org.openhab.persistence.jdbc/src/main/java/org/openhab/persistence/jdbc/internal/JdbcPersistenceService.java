@@ -12,6 +12,7 @@
  */
 package org.openhab.persistence.jdbc.internal;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -77,6 +78,9 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
 
+    private @Nullable JdbcBatchWriter batchWriter;
+    private @Nullable JdbcRetentionJob retentionJob;
+
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
@@ -121,6 +125,8 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
         // closeConnection();
+        stopBatchWriter();
+        stopRetentionJob();
         initialized = false;
     }
 
@@ -137,22 +143,37 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        scheduleStore(item, null, item.getState(), null);
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        scheduleStore(item, null, item.getState(), alias);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state, null));
+        scheduleStore(item, date, state, null);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, date, state, alias));
+        scheduleStore(item, date, state, alias);
+    }
+
+    private void scheduleStore(Item item, @Nullable ZonedDateTime date, State state, @Nullable String alias) {
+        JdbcBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter == null) {
+            scheduler.execute(() -> internalStore(item, date, state, alias));
+            return;
+        }
+        // Do not store undefined/uninitialized data
+        if (state instanceof UnDefType) {
+            logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
+            return;
+        }
+        // Values are written deferred, so the time of the update must be taken now
+        batchWriter.offer(item, state, date != null ? date : ZonedDateTime.now(), alias);
     }
 
     private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
@@ -207,6 +228,35 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
      */
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias) {
+        return query(filter, alias, null, null);
+    }
+
+    /**
+     * Queries the {@link PersistenceService} for data with a given filter
+     * criteria, reduced with the configured query aggregation if the filter covers a long time range
+     *
+     * @param filter the filter to apply to the query
+     * @param alias for the item
+     * @return a time series of items, one per time bucket or the raw values
+     */
+    public Iterable<HistoricItem> queryAggregated(FilterCriteria filter, @Nullable String alias) {
+        AggregationFunction function = conf.getQueryAggregation();
+        Duration bucket = function != null ? getAggregationBucket(filter) : null;
+        return query(filter, alias, function, bucket);
+    }
+
+    /**
+     * Queries the {@link PersistenceService} for data with a given filter
+     * criteria, reducing the values to one value per time bucket
+     *
+     * @param filter the filter to apply to the query
+     * @param alias for the item
+     * @param function the function reducing the values of a bucket, or null to return raw values
+     * @param bucket the length of a bucket, or null to return raw values
+     * @return a time series of items
+     */
+    public Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias,
+            @Nullable AggregationFunction function, @Nullable Duration bucket) {
         if (!checkDBAccessability()) {
             logger.warn("JDBC::query: database not connected, query aborted for item '{}'", filter.getItemName());
             return List.of();
@@ -251,6 +301,19 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         }
 
         try {
+            if (function != null && bucket != null) {
+                long timerStart = System.currentTimeMillis();
+                List<HistoricItem> items = getAggregatedHistItemFilterQuery(filter, function, bucket,
+                        conf.getNumberDecimalcount(), table, item);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("JDBC: Aggregated query ({} per {}) for item '{}' returned {} rows in {} ms",
+                            function, bucket, itemName, items.size(), System.currentTimeMillis() - timerStart);
+                }
+                return items;
+            }
+            if (conf.isQueryStreaming()) {
+                return streamHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
+            }
             long timerStart = System.currentTimeMillis();
             List<HistoricItem> items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
             if (logger.isDebugEnabled()) {
@@ -266,9 +329,32 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         }
     }
 
+    /**
+     * Determines the bucket length for the configured query aggregation, so that a query covering a longer time
+     * range returns at most {@link JdbcConfiguration#getQueryMaxRows()} values.
+     *
+     * @return the bucket length, or null if the query should return raw values
+     */
+    private @Nullable Duration getAggregationBucket(FilterCriteria filter) {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        ZonedDateTime endDate = filter.getEndDate();
+        // queries for single values, e.g. the previous state, must not be aggregated
+        if (beginDate == null || endDate == null || filter.getPageSize() != Integer.MAX_VALUE) {
+            return null;
+        }
+        long rangeSeconds = Duration.between(beginDate, endDate).getSeconds();
+        int maxRows = conf.getQueryMaxRows();
+        if (rangeSeconds <= maxRows) {
+            return null;
+        }
+        return Duration.ofSeconds((rangeSeconds + maxRows - 1) / maxRows);
+    }
+
     public void updateConfig(Map<Object, Object> configuration) {
         logger.debug("JDBC::updateConfig");
 
+        stopBatchWriter();
+        stopRetentionJob();
         conf = new JdbcConfiguration(configuration);
         if (conf.valid && checkDBAccessability()) {
             namingStrategy = new NamingStrategy(conf);
@@ -284,9 +370,37 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             initialized = false;
         }
 
+        if (conf.valid && conf.isBatchWriteEnabled()) {
+            JdbcBatchWriter batchWriter = new JdbcBatchWriter(this, scheduler, conf);
+            batchWriter.start();
+            this.batchWriter = batchWriter;
+        }
+
+        if (conf.valid && !conf.getRetentionRules().isEmpty()) {
+            JdbcRetentionJob retentionJob = new JdbcRetentionJob(this, itemRegistry, conf);
+            retentionJob.start();
+            this.retentionJob = retentionJob;
+        }
+
         logger.debug("JDBC::updateConfig: configuration complete for service={}.", getId());
     }
 
+    private void stopBatchWriter() {
+        JdbcBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter != null) {
+            this.batchWriter = null;
+            batchWriter.stop();
+        }
+    }
+
+    private void stopRetentionJob() {
+        JdbcRetentionJob retentionJob = this.retentionJob;
+        if (retentionJob != null) {
+            this.retentionJob = null;
+            retentionJob.stop();
+        }
+    }
+
     @Override
     public List<PersistenceStrategy> getDefaultStrategies() {
         return List.of(PersistenceStrategy.Globals.CHANGE);
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemNotFoundException;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.DimmerItem;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.RollershutterItem;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link JdbcRetentionJob} removes old values of item tables once a day, as defined by {@link RetentionRule}s.
+ *
+ * Numeric values older than the downsample age are first replaced by their average per downsample interval. The raw
+ * values are deleted by downsampling.
+ * Values older than the retention are then removed by dropping whole partitions where the database supports it and
+ * by deleting the remaining values in chunks, so the tables are never locked for long.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcRetentionJob {
+
+    private static final long SECONDS_PER_DAY = 86400;
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcRetentionJob.class);
+
+    private final JdbcMapper mapper;
+    private final ItemRegistry itemRegistry;
+    private final List<RetentionRule> rules;
+    private final @Nullable Duration downsampleAfter;
+    private final Duration downsampleInterval;
+    private final int retentionHour;
+    private final int chunkSize;
+    private final boolean partitioning;
+    private final ScheduledExecutorService executor;
+    // epoch second up to which a table has been downsampled since the job was created, only used by the executor
+    private final Map<String, Long> downsampledUntil = new HashMap<>();
+
+    public JdbcRetentionJob(JdbcMapper mapper, ItemRegistry itemRegistry, JdbcConfiguration conf) {
+        this.mapper = mapper;
+        this.itemRegistry = itemRegistry;
+        this.rules = conf.getRetentionRules();
+        this.downsampleAfter = conf.getRetentionDownsampleAfter();
+        this.downsampleInterval = conf.getRetentionDownsampleInterval();
+        this.retentionHour = conf.getRetentionHour();
+        this.chunkSize = conf.getRetentionChunkSize();
+        this.partitioning = conf.isRetentionPartitioning();
+        this.executor = Executors.newSingleThreadScheduledExecutor(
+                new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID + "-retention"));
+    }
+
+    /**
+     * Schedules the job daily at the configured hour.
+     */
+    public void start() {
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime next = now.truncatedTo(ChronoUnit.DAYS).withHour(retentionHour);
+        if (!next.isAfter(now)) {
+            next = next.plusDays(1);
+        }
+        long delay = Duration.between(now, next).toMinutes();
+        executor.scheduleAtFixedRate(this::run, delay, TimeUnit.DAYS.toMinutes(1), TimeUnit.MINUTES);
+        logger.debug("JDBC::retention: scheduled daily at {}:00, next run at {}", retentionHour, next);
+        if (downsampleAfter != null) {
+            logger.warn("JDBC::retention: Downsampling enabled, raw values older than {} are replaced permanently",
+                    downsampleAfter);
+        }
+    }
+
+    /**
+     * Stops the job. A running job is interrupted after the current statement.
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    void run() {
+        if (!mapper.checkDBAccessability()) {
+            logger.warn("JDBC::retention: No connection to database, retention skipped");
+            return;
+        }
+        long timerStart = System.currentTimeMillis();
+        ZonedDateTime now = ZonedDateTime.now();
+        long downsampled = 0;
+        long deleted = 0;
+        int droppedPartitions = 0;
+        for (Map.Entry<String, String> entry : mapper.getItemNameToTableNameMap().entrySet()) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            String itemName = entry.getKey();
+            String table = entry.getValue();
+            try {
+                if (partitioning) {
+                    mapper.ensurePartitions(table);
+                }
+                RetentionRule rule = findRule(itemName);
+                if (rule == null) {
+                    continue;
+                }
+                Duration retention = rule.retention();
+                ZonedDateTime before = retention != null ? now.minus(retention) : null;
+                Item item = getNumericItem(itemName);
+                Duration downsampleAfter = this.downsampleAfter;
+                if (item != null && downsampleAfter != null) {
+                    downsampled += downsample(item, table, now.minus(downsampleAfter), before);
+                }
+                if (before != null) {
+                    droppedPartitions += mapper.dropPartitions(table, before);
+                    deleted += mapper.deleteItemValuesBefore(table, before, chunkSize);
+                }
+            } catch (JdbcException e) {
+                logger.warn("JDBC::retention: Failed to apply retention to item '{}' (table {})", itemName, table, e);
+            }
+        }
+        logger.info(
+                "JDBC::retention: Downsampled {} values, deleted {} values and dropped {} partitions in {} ms",
+                downsampled, deleted, droppedPartitions, System.currentTimeMillis() - timerStart);
+    }
+
+    /**
+     * Reduces the values before {@code until} day by day, from the newest to the oldest values. Days that have been
+     * reduced by an earlier run of this job are not checked again.
+     */
+    private long downsample(Item item, String table, ZonedDateTime until, @Nullable ZonedDateTime before)
+            throws JdbcException {
+        Instant oldest = mapper.getOldestItemValueTime(table);
+        if (oldest == null) {
+            return 0;
+        }
+        // windows are a multiple of the interval, so that no interval spans two windows
+        long intervalSeconds = Math.max(1, downsampleInterval.getSeconds());
+        long windowSeconds = Math.ceilDiv(SECONDS_PER_DAY, intervalSeconds) * intervalSeconds;
+        ZoneId zone = until.getZone();
+        long newestEnd = Math.floorDiv(until.toEpochSecond(), windowSeconds) * windowSeconds;
+        long lowerBound = Math.max(oldest.getEpochSecond(), downsampledUntil.getOrDefault(table, Long.MIN_VALUE));
+        long end = newestEnd;
+        long removed = 0;
+        while (end > lowerBound) {
+            if (Thread.currentThread().isInterrupted()) {
+                return removed;
+            }
+            ZonedDateTime to = Instant.ofEpochSecond(end).atZone(zone);
+            if (before != null && !to.isAfter(before)) {
+                // these values are deleted anyway
+                break;
+            }
+            ZonedDateTime from = to.minusSeconds(windowSeconds);
+            // 0 if the window is already reduced or has a single value, -1 if it has no values
+            removed += Math.max(0, mapper.downsampleItemValues(item, table, from, to, downsampleInterval));
+            end -= windowSeconds;
+        }
+        downsampledUntil.put(table, newestEnd);
+        return removed;
+    }
+
+    private @Nullable RetentionRule findRule(String itemName) {
+        for (RetentionRule rule : rules) {
+            if (rule.matches(itemName)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private @Nullable Item getNumericItem(String itemName) {
+        try {
+            Item item = itemRegistry.getItem(itemName);
+            if (item instanceof GroupItem groupItem) {
+                item = groupItem.getBaseItem();
+            }
+            return item instanceof NumberItem || item instanceof DimmerItem || item instanceof RollershutterItem
+                    ? item
+                    : null;
+        } catch (ItemNotFoundException e) {
+            return null;
+        }
+    }
+}
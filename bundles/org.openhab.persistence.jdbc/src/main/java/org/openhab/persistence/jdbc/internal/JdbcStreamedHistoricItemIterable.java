@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.internal.db.JdbcHistoricItemIterable;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+
+/**
+ * {@link Iterable} reading {@link HistoricItem}s from a database cursor while the caller iterates.
+ *
+ * The query is executed once when the iterable is created, so that errors are reported right away, and its result is
+ * read by the first {@link #iterator()}. Every further iterator executes the query again. Each result is a
+ * {@link JdbcHistoricItemIterable}, which releases its connection when all rows have been read, or at the latest
+ * when its iterator becomes unreachable. Errors while executing the query again are thrown as
+ * {@link IllegalStateException} with the {@link JdbcSQLException} as cause.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcStreamedHistoricItemIterable implements Iterable<HistoricItem> {
+
+    @FunctionalInterface
+    public interface Query {
+        Iterable<HistoricItem> execute() throws JdbcSQLException;
+    }
+
+    private final Query query;
+    private final AtomicReference<@Nullable Iterable<HistoricItem>> firstResult;
+
+    public JdbcStreamedHistoricItemIterable(Query query) throws JdbcSQLException {
+        this.query = query;
+        this.firstResult = new AtomicReference<>(query.execute());
+    }
+
+    @Override
+    public Iterator<HistoricItem> iterator() {
+        Iterable<HistoricItem> result = firstResult.getAndSet(null);
+        if (result == null) {
+            try {
+                result = query.execute();
+            } catch (JdbcSQLException e) {
+                throw new IllegalStateException("Failed to read query result: " + e.getMessage(), e);
+            }
+        }
+        return result.iterator();
+    }
+}
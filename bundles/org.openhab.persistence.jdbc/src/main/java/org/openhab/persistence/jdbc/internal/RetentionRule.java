@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
+
+/**
+ * Defines how long the values of the items matching a name pattern are kept.
+ *
+ * @param itemPattern item name pattern, where * matches any characters and ? a single character
+ * @param retention how long values are kept, or null to keep them forever
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public record RetentionRule(String itemPattern, @Nullable Duration retention) {
+
+    public boolean matches(String itemName) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : itemPattern.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return itemName.matches(regex.toString());
+    }
+
+    /**
+     * Parses rules like "Temperature*=90d, Power_?=2y, *=-", where "-" keeps the values forever.
+     *
+     * @param rules comma separated rules
+     * @return the valid rules in the given order
+     * @throws IllegalArgumentException if a rule is invalid
+     */
+    public static List<RetentionRule> parse(String rules) {
+        List<RetentionRule> result = new ArrayList<>();
+        for (String rule : rules.split(",")) {
+            if (rule.isBlank()) {
+                continue;
+            }
+            String[] parts = rule.split("=", 2);
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalArgumentException("Invalid retention rule '" + rule.trim() + "'");
+            }
+            String value = parts[1].trim();
+            Duration retention = null;
+            if (!"-".equals(value)) {
+                retention = StringUtilsExt.parseDuration(value);
+                if (retention == null || retention.isZero()) {
+                    throw new IllegalArgumentException(
+                            "Invalid retention '" + value + "' in rule '" + rule.trim() + "'");
+                }
+            }
+            result.add(new RetentionRule(parts[0].trim(), retention));
+        }
+        return result;
+    }
+}
@@ -13,18 +13,28 @@
 package org.openhab.persistence.jdbc.internal.db;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
@@ -56,6 +66,7 @@ import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
+import org.openhab.persistence.jdbc.internal.AggregationFunction;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
@@ -66,6 +77,8 @@ import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zaxxer.hikari.HikariDataSource;
+
 /**
  * Default Database Configuration class.
  *
@@ -82,6 +95,11 @@ public class JdbcBaseDAO {
     // Get Database Meta data
     protected @Nullable DbMetaData dbMeta;
 
+    // Number of rows fetched per round trip when reading query results, 0 means driver default
+    protected int queryFetchSize = 0;
+    // Insert statements built per table and data type, see getInsertItemValueSql
+    private final Map<String, String> insertItemValueSqlCache = new ConcurrentHashMap<>();
+
     protected String sqlPingDB = "SELECT 1";
     protected String sqlGetDB = "SELECT DATABASE()";
     protected String sqlIfTableExists = "SHOW TABLES LIKE '#searchTable#'";
@@ -97,6 +115,9 @@ public class JdbcBaseDAO {
     protected String sqlAlterTableColumn = "ALTER TABLE #tableName# MODIFY COLUMN #columnName# #columnType#";
     protected String sqlInsertItemValue = "INSERT INTO #tableName# (time, value) VALUES( #tablePrimaryValue#, ? ) ON DUPLICATE KEY UPDATE VALUE= ?";
     protected String sqlGetRowCount = "SELECT COUNT(*) FROM #tableName#";
+    protected String sqlGetFilteredRowCount = "SELECT COUNT(*) FROM #tableName##timeFilter#";
+    protected String sqlGetOldestItemValueTime = "SELECT MIN(time) FROM #tableName#";
+    protected String sqlDeleteItemValuesChunk = "DELETE FROM #tableName##timeFilter# LIMIT #chunkSize#";
 
     /********
      * INIT *
@@ -250,6 +271,27 @@ public class JdbcBaseDAO {
         return new Properties(this.databaseProps);
     }
 
+    public void setQueryFetchSize(int queryFetchSize) {
+        this.queryFetchSize = queryFetchSize;
+    }
+
+    /**
+     * Configures the size of the prepared statement cache the JDBC driver keeps per connection.
+     * Must be called before the connection pool is set up. Drivers without such a cache ignore this setting.
+     *
+     * @param statementCacheSize number of statements cached per connection
+     */
+    public void setStatementCacheSize(int statementCacheSize) {
+        logger.debug("JDBC::setStatementCacheSize: not supported by {}", this.getClass().getSimpleName());
+    }
+
+    /**
+     * Clears all cached SQL statements, e.g. after the SQL templates have been changed.
+     */
+    public void clearSqlCache() {
+        insertItemValueSqlCache.clear();
+    }
+
     /**************
      * ITEMS DAOs *
      **************/
@@ -444,11 +486,9 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
+        String sql = getInsertItemValueSql(storedVO);
         java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
+        Object[] params = insertItemValueParams(storedVO, timestamp);
         logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
         try {
             Yank.execute(sql, params);
@@ -457,10 +497,150 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Converts an item state into an {@link ItemVO} ready to be written with {@link #doStoreItemValues(Map)}.
+     *
+     * @param item the item to store
+     * @param itemState the state to store
+     * @param vo value object holding the table name of the item
+     * @param date timestamp of the value
+     * @return the value object with value, database type and time set
+     */
+    public ItemVO doPrepareItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) {
+        ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
+        storedVO.setTime(new java.sql.Timestamp(date.toInstant().toEpochMilli()));
+        return storedVO;
+    }
+
+    /**
+     * Writes prepared values of several item tables using one JDBC batch per table. All batches are executed
+     * within a single transaction, which is rolled back if any of them fails.
+     *
+     * @param tableValues prepared values (see {@link #doPrepareItemValue(Item, State, ItemVO, ZonedDateTime)})
+     *            grouped by table name
+     * @throws JdbcSQLException on SQL errors
+     */
+    public void doStoreItemValues(Map<String, List<ItemVO>> tableValues) throws JdbcSQLException {
+        HikariDataSource dataSource = Yank.getDefaultConnectionPool();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                executeInsertBatches(connection, tableValues);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
+    private void executeInsertBatches(Connection connection, Map<String, List<ItemVO>> tableValues)
+            throws SQLException {
+        for (List<ItemVO> values : tableValues.values()) {
+            if (values.isEmpty()) {
+                continue;
+            }
+            String sql = getInsertItemValueSql(values.get(0));
+            logger.debug("JDBC::executeInsertBatches sql={} count={}", sql, values.size());
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (ItemVO storedVO : values) {
+                    Object[] params = insertItemValueParams(storedVO,
+                            new java.sql.Timestamp(storedVO.getTime().getTime()));
+                    for (int i = 0; i < params.length; i++) {
+                        statement.setObject(i + 1, params[i]);
+                    }
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
+        List<HistoricItem> result = new ArrayList<>();
+        try (JdbcHistoricItemIterable items = doStreamHistItemFilterQuery(item, filter, numberDecimalcount, table,
+                name, timeZone)) {
+            items.forEach(result::add);
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw new JdbcSQLException(sqlException);
+            }
+            throw e;
+        }
+        return result;
+    }
+
+    /**
+     * Executes a history query and returns its result without loading it into memory first.
+     * The rows are read with the configured fetch size and converted while the caller iterates.
+     * The database connection is held until all rows have been read or the result is closed, so the caller must
+     * close it, e.g. with try-with-resources, or drop all references to it and its iterator.
+     */
+    public JdbcHistoricItemIterable doStreamHistItemFilterQuery(Item item, FilterCriteria filter,
+            int numberDecimalcount, String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
-        logger.debug("JDBC::doGetHistItemFilterQuery sql={}", sql);
+        logger.debug("JDBC::doStreamHistItemFilterQuery sql={} fetchSize={}", sql, queryFetchSize);
+        // we already retrieve the unit here once as it is a very costly operation
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        HikariDataSource dataSource = Yank.getDefaultConnectionPool();
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            if (queryFetchSize > 0) {
+                // some drivers (e.g. PostgreSQL) only use a cursor when not in auto-commit mode
+                connection.setAutoCommit(false);
+            }
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(queryFetchSize);
+            ResultSet resultSet = statement.executeQuery();
+            return new JdbcHistoricItemIterable(connection, statement, resultSet,
+                    rs -> new JdbcHistoricItem(itemName, objectAsState(item, unit, rs.getObject(2)),
+                            objectAsInstant(rs.getObject(1))));
+        } catch (SQLException e) {
+            if (connection != null) {
+                try {
+                    connection.close();
+                } catch (SQLException e2) {
+                    logger.debug("JDBC::doStreamHistItemFilterQuery: Failed to close connection: {}",
+                            e2.getMessage());
+                }
+            }
+            throw new JdbcSQLException(e);
+        }
+    }
+
+    /**
+     * Executes a history query returning one value per time bucket instead of the raw values.
+     * Buckets are grouped by the database where {@link #timeBucketExpression(long)} is supported, otherwise the
+     * raw values are streamed and reduced while reading. Paging of the filter is not applied.
+     * Numeric functions are only applied to numeric items, other items are reduced to their last value.
+     */
+    public List<HistoricItem> doGetAggregatedHistItemFilterQuery(Item item, FilterCriteria filter,
+            AggregationFunction function, Duration bucket, int numberDecimalcount, String table, String name,
+            ZoneId timeZone) throws JdbcSQLException {
+        AggregationFunction localFunction = function;
+        if (function.isNumeric() && !isNumericItem(item)) {
+            logger.debug("JDBC::doGetAggregatedHistItemFilterQuery: {} not supported for item '{}', using {}",
+                    function, name, AggregationFunction.LAST);
+            localFunction = AggregationFunction.LAST;
+        }
+        long bucketSeconds = Math.max(1, bucket.getSeconds());
+        String bucketExpression = timeBucketExpression(bucketSeconds);
+        if (bucketExpression == null) {
+            return aggregateHistItemFilterQuery(item, filter, localFunction, bucketSeconds, numberDecimalcount, table,
+                    name, timeZone);
+        }
+
+        String sql = histItemAggregateQueryProvider(filter, localFunction, bucketExpression, table, timeZone);
+        logger.debug("JDBC::doGetAggregatedHistItemFilterQuery sql={}", sql);
         List<Object[]> m;
         try {
             m = Yank.queryObjectArrays(sql, null);
@@ -468,15 +648,107 @@ public class JdbcBaseDAO {
             throw new JdbcSQLException(e);
         }
         if (m == null) {
-            logger.debug("JDBC::doGetHistItemFilterQuery Query failed. Returning an empty list.");
+            logger.debug("JDBC::doGetAggregatedHistItemFilterQuery Query failed. Returning an empty list.");
             return List.of();
         }
-        // we already retrieve the unit here once as it is a very costly operation
         String itemName = item.getName();
         Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
-        return m.stream()
-                .map(o -> new JdbcHistoricItem(itemName, objectAsState(item, unit, o[1]), objectAsInstant(o[0])))
-                .collect(Collectors.<HistoricItem> toList());
+        List<HistoricItem> result = new ArrayList<>(m.size());
+        for (Object[] row : m) {
+            Object value = row[1];
+            if (value == null) {
+                continue;
+            }
+            State state = switch (localFunction) {
+                case COUNT -> new DecimalType(objectAsNumber(value).longValue());
+                case LAST -> objectAsState(item, unit, value);
+                default -> aggregateAsState(item, unit, objectAsNumber(value), numberDecimalcount);
+            };
+            result.add(new JdbcHistoricItem(itemName, state, objectAsInstant(row[0])));
+        }
+        return result;
+    }
+
+    /**
+     * Reduces the raw values of a query while streaming them, for databases without a time bucket expression.
+     */
+    private List<HistoricItem> aggregateHistItemFilterQuery(Item item, FilterCriteria filter,
+            AggregationFunction function, long bucketSeconds, int numberDecimalcount, String table, String name,
+            ZoneId timeZone) throws JdbcSQLException {
+        FilterCriteria rawFilter = new FilterCriteria().setItemName(filter.getItemName())
+                .setBeginDate(filter.getBeginDate()).setEndDate(filter.getEndDate())
+                .setOrdering(Ordering.ASCENDING);
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        List<HistoricItem> result = new ArrayList<>();
+        try (JdbcHistoricItemIterable items = doStreamHistItemFilterQuery(item, rawFilter, numberDecimalcount, table,
+                name, timeZone)) {
+            long currentBucket = Long.MIN_VALUE;
+            @Nullable
+            HistoricItem first = null;
+            @Nullable
+            HistoricItem last = null;
+            BigDecimal sum = BigDecimal.ZERO;
+            @Nullable
+            BigDecimal min = null;
+            @Nullable
+            BigDecimal max = null;
+            long count = 0;
+            for (HistoricItem historicItem : items) {
+                long itemBucket = Math.floorDiv(historicItem.getInstant().getEpochSecond(), bucketSeconds);
+                if (first != null && last != null && itemBucket != currentBucket) {
+                    result.add(aggregatedItem(item, unit, function, first, last, sum, min, max, count,
+                            numberDecimalcount));
+                    first = null;
+                }
+                if (first == null) {
+                    currentBucket = itemBucket;
+                    first = historicItem;
+                    sum = BigDecimal.ZERO;
+                    min = null;
+                    max = null;
+                    count = 0;
+                }
+                last = historicItem;
+                count++;
+                if (function.isNumeric()) {
+                    BigDecimal value = stateAsBigDecimal(historicItem.getState());
+                    sum = sum.add(value);
+                    min = min == null || value.compareTo(min) < 0 ? value : min;
+                    max = max == null || value.compareTo(max) > 0 ? value : max;
+                }
+            }
+            if (first != null && last != null) {
+                result.add(aggregatedItem(item, unit, function, first, last, sum, min, max, count,
+                        numberDecimalcount));
+            }
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw new JdbcSQLException(sqlException);
+            }
+            throw e;
+        }
+        if (filter.getOrdering() == Ordering.DESCENDING) {
+            Collections.reverse(result);
+        }
+        logger.debug("JDBC::aggregateHistItemFilterQuery: Reduced values of item '{}' to {} buckets", itemName,
+                result.size());
+        return result;
+    }
+
+    private HistoricItem aggregatedItem(Item item, @Nullable Unit<? extends Quantity<?>> unit,
+            AggregationFunction function, HistoricItem first, HistoricItem last, BigDecimal sum,
+            @Nullable BigDecimal min, @Nullable BigDecimal max, long count, int numberDecimalcount) {
+        State state = switch (function) {
+            case AVG -> aggregateAsState(item, unit, sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL64),
+                    numberDecimalcount);
+            case MIN -> aggregateAsState(item, unit, Objects.requireNonNull(min), numberDecimalcount);
+            case MAX -> aggregateAsState(item, unit, Objects.requireNonNull(max), numberDecimalcount);
+            case COUNT -> new DecimalType(count);
+            case LAST -> last.getState();
+        };
+        return new JdbcHistoricItem(item.getName(), state,
+                function == AggregationFunction.LAST ? last.getInstant() : first.getInstant());
     }
 
     public void doDeleteItemValues(FilterCriteria filter, String table, ZoneId timeZone) throws JdbcSQLException {
@@ -501,6 +773,138 @@ public class JdbcBaseDAO {
         }
     }
 
+    /******************
+     * RETENTION DAOs *
+     ******************/
+    /**
+     * Deletes at most {@code chunkSize} values older than the given time.
+     *
+     * @return the number of deleted values
+     */
+    public int doDeleteItemValuesChunk(String table, ZonedDateTime before, int chunkSize, ZoneId timeZone)
+            throws JdbcSQLException {
+        FilterCriteria filter = new FilterCriteria().setEndDate(before);
+        String sql = StringUtilsExt.replaceArrayMerge(sqlDeleteItemValuesChunk,
+                new String[] { "#tableName#", "#timeFilter#", "#chunkSize#" },
+                new String[] { formattedIdentifier(table), resolveTimeFilter(filter, timeZone),
+                        String.valueOf(chunkSize) });
+        logger.debug("JDBC::doDeleteItemValuesChunk sql={}", sql);
+        try {
+            return Yank.execute(sql, null);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
+    public @Nullable Instant doGetOldestItemValueTime(String table) throws JdbcSQLException {
+        String sql = StringUtilsExt.replaceArrayMerge(sqlGetOldestItemValueTime, new String[] { "#tableName#" },
+                new String[] { formattedIdentifier(table) });
+        logger.debug("JDBC::doGetOldestItemValueTime sql={}", sql);
+        List<Object[]> m;
+        try {
+            m = Yank.queryObjectArrays(sql, null);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        if (m == null || m.isEmpty() || m.get(0)[0] == null) {
+            return null;
+        }
+        return objectAsInstant(m.get(0)[0]);
+    }
+
+    /**
+     * Replaces the values of a numeric item between two times by their average per interval.
+     * The averages are stored at the time of the first value of each interval. The values are deleted and the
+     * averages inserted within one transaction.
+     *
+     * @return the number of removed values, 0 if the values are already reduced or -1 if there are no values
+     */
+    public long doDownsampleItemValues(Item item, String table, ZonedDateTime from, ZonedDateTime to,
+            Duration interval, ZoneId timeZone) throws JdbcSQLException {
+        FilterCriteria filter = new FilterCriteria().setItemName(item.getName()).setBeginDate(from).setEndDate(to)
+                .setOrdering(Ordering.ASCENDING);
+        String countSql = StringUtilsExt.replaceArrayMerge(sqlGetFilteredRowCount,
+                new String[] { "#tableName#", "#timeFilter#" },
+                new String[] { formattedIdentifier(table), resolveTimeFilter(filter, timeZone) });
+        long rowCount;
+        try {
+            rowCount = Objects.requireNonNullElse(Yank.queryScalar(countSql, Long.class, null), 0L);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        if (rowCount < 2) {
+            return rowCount == 0 ? -1 : 0;
+        }
+        List<HistoricItem> averages = aggregateHistItemFilterQuery(item, filter, AggregationFunction.AVG,
+                Math.max(1, interval.getSeconds()), -1, table, item.getName(), timeZone);
+        if (averages.size() >= rowCount) {
+            return 0;
+        }
+
+        List<ItemVO> values = new ArrayList<>(averages.size());
+        for (HistoricItem average : averages) {
+            ItemVO storedVO = storeItemValueProvider(item, average.getState(), new ItemVO(table, null));
+            storedVO.setTime(new java.sql.Timestamp(average.getInstant().toEpochMilli()));
+            values.add(storedVO);
+        }
+        String deleteSql = histItemFilterDeleteProvider(filter, table, timeZone);
+        logger.debug("JDBC::doDownsampleItemValues sql={} count={}", deleteSql, values.size());
+        HikariDataSource dataSource = Yank.getDefaultConnectionPool();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate(deleteSql);
+                executeInsertBatches(connection, Map.of(table, values));
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        return rowCount - values.size();
+    }
+
+    /**
+     * The number of months ahead of the current month for which partitions are created, so that values are still
+     * stored in their own partition when the retention job misses a few runs.
+     */
+    public static final int PARTITION_MONTHS_AHEAD = 3;
+
+    /**
+     * Enables creating new item tables partitioned by time, if supported by the database.
+     */
+    public void setPartitioning(boolean partitioning) {
+        logger.debug("JDBC::setPartitioning: not supported by {}", this.getClass().getSimpleName());
+    }
+
+    /**
+     * @return true if the values of the table are stored in time based partitions, which can be dropped by
+     *         {@link #doDropPartitions(String, ZonedDateTime)}
+     */
+    public boolean doIsPartitioned(String table) throws JdbcSQLException {
+        return false;
+    }
+
+    /**
+     * Creates the partitions needed to store values up to the given time.
+     */
+    public void doEnsurePartitions(String table, ZonedDateTime until) throws JdbcSQLException {
+    }
+
+    /**
+     * Drops all partitions containing only values older than the given time.
+     *
+     * @return the number of dropped partitions
+     */
+    public int doDropPartitions(String table, ZonedDateTime before) throws JdbcSQLException {
+        return 0;
+    }
+
     /*************
      * Providers *
      *************/
@@ -529,6 +933,40 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    /**
+     * Builds a query grouping the values of a table by time bucket.
+     * The bucket time is the time of its first value, or the time of the last value for
+     * {@link AggregationFunction#LAST}.
+     */
+    protected String histItemAggregateQueryProvider(FilterCriteria filter, AggregationFunction function,
+            String bucketExpression, String table, ZoneId timeZone) {
+        logger.debug("JDBC::histItemAggregateQueryProvider filter = {}, function = {}, bucket = {}, table = {}",
+                filter, function, bucketExpression, table);
+
+        String filterString = resolveTimeFilter(filter, timeZone);
+        String order = (filter.getOrdering() == Ordering.ASCENDING) ? " ASC" : " DESC";
+        String tableName = formattedIdentifier(table);
+        // SELECT time, value FROM number_item_0114 WHERE time IN (SELECT MAX(time) FROM number_item_0114 WHERE ...
+        // GROUP BY FLOOR(UNIX_TIMESTAMP(time) / 60)) ORDER BY time ASC
+        String queryString = function == AggregationFunction.LAST
+                ? "SELECT time, value FROM " + tableName + " WHERE time IN (SELECT MAX(time) FROM " + tableName
+                        + filterString + " GROUP BY " + bucketExpression + ") ORDER BY time" + order
+                : "SELECT MIN(time), " + function.name() + "(value) FROM " + tableName + filterString + " GROUP BY "
+                        + bucketExpression + " ORDER BY 1" + order;
+        logger.debug("JDBC::query queryString = {}", queryString);
+        return queryString;
+    }
+
+    /**
+     * Returns an SQL expression mapping the column {@code time} to the number of its time bucket,
+     * or null if the database does not support it.
+     *
+     * @param bucketSeconds length of a bucket in seconds
+     */
+    protected @Nullable String timeBucketExpression(long bucketSeconds) {
+        return "FLOOR(UNIX_TIMESTAMP(time) / " + bucketSeconds + ")";
+    }
+
     protected String histItemFilterDeleteProvider(FilterCriteria filter, String table, ZoneId timeZone) {
         logger.debug("JDBC::histItemFilterDeleteProvider filter = {}, table = {}", filter, table);
 
@@ -554,6 +992,25 @@ public class JdbcBaseDAO {
         return filterString;
     }
 
+    /**
+     * Builds the insert statement for a value with an explicit timestamp.
+     * Parameters are provided by {@link #insertItemValueParams(ItemVO, java.sql.Timestamp)}.
+     */
+    protected String insertItemValueProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#tablePrimaryValue#" },
+                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
+    }
+
+    private String getInsertItemValueSql(ItemVO storedVO) {
+        return insertItemValueSqlCache.computeIfAbsent(storedVO.getTableName() + "|" + storedVO.getDbType(),
+                key -> insertItemValueProvider(storedVO));
+    }
+
+    protected Object[] insertItemValueParams(ItemVO storedVO, java.sql.Timestamp timestamp) {
+        return new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
     private String updateItemTableNamesProvider(ItemVO itemTable) {
         String newTableName = itemTable.getNewTableName();
         if (newTableName == null) {
@@ -709,6 +1166,31 @@ public class JdbcBaseDAO {
         }
     }
 
+    private boolean isNumericItem(Item item) {
+        return item instanceof NumberItem || item instanceof DimmerItem || item instanceof RollershutterItem;
+    }
+
+    private State aggregateAsState(Item item, @Nullable Unit<? extends Quantity<?>> unit, Number v,
+            int numberDecimalcount) {
+        BigDecimal value = v instanceof BigDecimal bd ? bd : new BigDecimal(v.toString());
+        if (numberDecimalcount > -1) {
+            value = value.setScale(numberDecimalcount, RoundingMode.HALF_UP);
+        }
+        if (item instanceof DimmerItem || item instanceof RollershutterItem) {
+            return new PercentType(value);
+        }
+        return unit == null ? new DecimalType(value) : QuantityType.valueOf(value.doubleValue(), unit);
+    }
+
+    private BigDecimal stateAsBigDecimal(State state) {
+        return switch (state) {
+            case DecimalType d -> d.toBigDecimal();
+            case QuantityType<?> q -> q.toBigDecimal();
+            default -> throw new UnsupportedOperationException(
+                    "State of type '" + state.getClass().getName() + "' is not numeric");
+        };
+    }
+
     protected Instant objectAsInstant(Object o) {
         return switch (o) {
             case Long l -> Instant.ofEpochMilli(l.longValue());
@@ -66,6 +66,7 @@ public class JdbcDerbyDAO extends JdbcBaseDAO {
         // http://www.codeproject.com/Questions/162627/how-to-insert-new-record-in-my-table-if-not-exists
         sqlInsertItemValue = "INSERT INTO #tableName# (TIME, VALUE) VALUES( #tablePrimaryValue#, CAST( ? as #dbType#) )";
         sqlAlterTableColumn = "ALTER TABLE #tableName# ALTER COLUMN #columnName# SET DATA TYPE #columnType#";
+        sqlDeleteItemValuesChunk = "DELETE FROM #tableName# WHERE time IN (SELECT time FROM #tableName##timeFilter# FETCH FIRST #chunkSize# ROWS ONLY)";
     }
 
     private void initSqlTypes() {
@@ -162,25 +163,27 @@ public class JdbcDerbyDAO extends JdbcBaseDAO {
     }
 
     @Override
-    public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
-        ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+    protected String insertItemValueProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
                 new String[] { "#tableName#", "#dbType#", "#tablePrimaryValue#" },
                 new String[] { formattedIdentifier(storedVO.getTableName()), storedVO.getDbType(), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
-        try {
-            Yank.execute(sql, params);
-        } catch (YankSQLException e) {
-            throw new JdbcSQLException(e);
-        }
+    }
+
+    @Override
+    protected Object[] insertItemValueParams(ItemVO storedVO, java.sql.Timestamp timestamp) {
+        return new Object[] { timestamp, storedVO.getValue() };
     }
 
     /****************************
      * SQL generation Providers *
      ****************************/
 
+    @Override
+    protected @Nullable String timeBucketExpression(long bucketSeconds) {
+        // Derby has no function converting a timestamp to epoch seconds, buckets are built while reading
+        return null;
+    }
+
     @Override
     protected String histItemFilterQueryProvider(FilterCriteria filter, int numberDecimalcount, String table,
             String simpleName, ZoneId timeZone) {
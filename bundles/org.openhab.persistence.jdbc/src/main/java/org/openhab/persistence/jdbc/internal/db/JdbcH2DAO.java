@@ -12,9 +12,8 @@
  */
 package org.openhab.persistence.jdbc.internal.db;
 
-import java.time.ZonedDateTime;
-
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.knowm.yank.Yank;
 import org.knowm.yank.exceptions.YankSQLException;
 import org.openhab.core.items.Item;
@@ -57,6 +56,7 @@ public class JdbcH2DAO extends JdbcBaseDAO {
         // SQL_INSERT_ITEM_VALUE = "INSERT INTO #tableName# (TIME, VALUE) VALUES( NOW(), CAST( ? as #dbType#) )";
         // http://stackoverflow.com/questions/19768051/h2-sql-database-insert-if-the-record-does-not-exist
         sqlInsertItemValue = "MERGE INTO #tableName# (TIME, VALUE) VALUES( #tablePrimaryValue#, CAST( ? as #dbType#) )";
+        sqlDeleteItemValuesChunk = "DELETE FROM #tableName# WHERE time IN (SELECT time FROM #tableName##timeFilter# FETCH FIRST #chunkSize# ROWS ONLY)";
     }
 
     /**
@@ -97,25 +97,26 @@ public class JdbcH2DAO extends JdbcBaseDAO {
     }
 
     @Override
-    public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
-        ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+    protected String insertItemValueProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
                 new String[] { "#tableName#", "#dbType#", "#tablePrimaryValue#" },
                 new String[] { formattedIdentifier(storedVO.getTableName()), storedVO.getDbType(), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
-        try {
-            Yank.execute(sql, params);
-        } catch (YankSQLException e) {
-            throw new JdbcSQLException(e);
-        }
+    }
+
+    @Override
+    protected Object[] insertItemValueParams(ItemVO storedVO, java.sql.Timestamp timestamp) {
+        return new Object[] { timestamp, storedVO.getValue() };
     }
 
     /****************************
      * SQL generation Providers *
      ****************************/
 
+    @Override
+    protected @Nullable String timeBucketExpression(long bucketSeconds) {
+        return "FLOOR(EXTRACT(EPOCH FROM time) / " + bucketSeconds + ")";
+    }
+
     /*****************
      * H E L P E R S *
      *****************/
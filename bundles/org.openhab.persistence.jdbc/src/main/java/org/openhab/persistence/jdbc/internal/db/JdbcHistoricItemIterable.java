@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import java.lang.ref.Cleaner;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.HistoricItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Single-use {@link Iterable} reading {@link HistoricItem}s from an open {@link ResultSet}.
+ *
+ * Rows are converted while the caller iterates. The result set, its statement and the connection are closed as soon
+ * as the last row has been read, on errors, on {@link #close()}, or at the latest when the iterable becomes
+ * unreachable. Errors while reading rows are thrown as {@link IllegalStateException} with the {@link SQLException}
+ * as cause.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcHistoricItemIterable implements Iterable<HistoricItem>, AutoCloseable {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    @FunctionalInterface
+    public interface RowMapper {
+        HistoricItem map(ResultSet resultSet) throws SQLException;
+    }
+
+    private final ResultSet resultSet;
+    private final RowMapper rowMapper;
+    private final Resources resources;
+    private final Cleaner.Cleanable cleanable;
+    private boolean iterated = false;
+
+    JdbcHistoricItemIterable(Connection connection, Statement statement, ResultSet resultSet, RowMapper rowMapper) {
+        this.resultSet = resultSet;
+        this.rowMapper = rowMapper;
+        this.resources = new Resources(connection, statement, resultSet);
+        this.cleanable = CLEANER.register(this, resources);
+    }
+
+    @Override
+    public Iterator<HistoricItem> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("Query result can only be iterated once");
+        }
+        iterated = true;
+        return new Iterator<>() {
+            private @Nullable HistoricItem next;
+            private boolean fetched = false;
+
+            @Override
+            public boolean hasNext() {
+                if (!fetched) {
+                    next = fetch();
+                    fetched = true;
+                }
+                return next != null;
+            }
+
+            @Override
+            public HistoricItem next() {
+                HistoricItem item = hasNext() ? next : null;
+                if (item == null) {
+                    throw new NoSuchElementException();
+                }
+                fetched = false;
+                next = null;
+                return item;
+            }
+        };
+    }
+
+    private @Nullable HistoricItem fetch() {
+        if (resources.closed) {
+            return null;
+        }
+        boolean success = false;
+        try {
+            if (resultSet.next()) {
+                HistoricItem item = rowMapper.map(resultSet);
+                success = true;
+                return item;
+            }
+            return null;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to read query result: " + e.getMessage(), e);
+        } finally {
+            if (!success) {
+                close();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+
+    /**
+     * Holds the JDBC resources. Must not reference the iterable, otherwise the cleaner would never run.
+     */
+    private static class Resources implements Runnable {
+        private final Logger logger = LoggerFactory.getLogger(JdbcHistoricItemIterable.class);
+
+        private final Connection connection;
+        private final Statement statement;
+        private final ResultSet resultSet;
+        private volatile boolean closed = false;
+
+        Resources(Connection connection, Statement statement, ResultSet resultSet) {
+            this.connection = connection;
+            this.statement = statement;
+            this.resultSet = resultSet;
+        }
+
+        @Override
+        public void run() {
+            closed = true;
+            try (connection; statement; resultSet) {
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                }
+            } catch (SQLException e) {
+                logger.debug("JDBC::query: Failed to close query resources: {}", e.getMessage());
+            }
+        }
+    }
+}
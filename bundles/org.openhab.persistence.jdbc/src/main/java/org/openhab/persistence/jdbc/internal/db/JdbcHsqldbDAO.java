@@ -12,8 +12,6 @@
  */
 package org.openhab.persistence.jdbc.internal.db;
 
-import java.time.ZonedDateTime;
-
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.knowm.yank.Yank;
@@ -116,20 +114,16 @@ public class JdbcHsqldbDAO extends JdbcBaseDAO {
     }
 
     @Override
-    public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
-        ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+    protected String insertItemValueProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
                 new String[] { "#tableName#", "#dbType#", "#tableName#", "#tablePrimaryValue#" },
                 new String[] { formattedIdentifier(storedVO.getTableName()), storedVO.getDbType(),
                         storedVO.getTableName(), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
-        try {
-            Yank.execute(sql, params);
-        } catch (YankSQLException e) {
-            throw new JdbcSQLException(e);
-        }
+    }
+
+    @Override
+    protected Object[] insertItemValueParams(ItemVO storedVO, java.sql.Timestamp timestamp) {
+        return new Object[] { timestamp, storedVO.getValue() };
     }
 
     /****************************
@@ -82,6 +82,11 @@ public class JdbcMariadbDAO extends JdbcBaseDAO {
         databaseProps.setProperty("minimumIdle", "2");
     }
 
+    @Override
+    public void setStatementCacheSize(int statementCacheSize) {
+        databaseProps.setProperty("dataSource.prepStmtCacheSize", String.valueOf(statementCacheSize));
+    }
+
     @Override
     public void initAfterFirstDbConnection() {
         logger.debug("JDBC::initAfterFirstDbConnection: Initializing step, after db is connected.");
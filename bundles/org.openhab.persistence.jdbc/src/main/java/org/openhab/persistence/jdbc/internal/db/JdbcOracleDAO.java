@@ -19,6 +19,7 @@ import java.time.ZonedDateTime;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.knowm.yank.Yank;
 import org.knowm.yank.exceptions.YankSQLException;
 import org.openhab.core.items.Item;
@@ -115,6 +116,7 @@ public class JdbcOracleDAO extends JdbcBaseDAO {
                       UPDATE SET tgt.VALUE = src.VALUE
                   WHEN NOT MATCHED THEN
                       INSERT (TIME, VALUE) VALUES (src.TIME, src.VALUE)""";
+        sqlDeleteItemValuesChunk = "DELETE FROM #tableName##timeFilter# AND ROWNUM <= #chunkSize#";
     }
 
     /**
@@ -226,24 +228,25 @@ public class JdbcOracleDAO extends JdbcBaseDAO {
     }
 
     @Override
-    public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
-        ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue, new String[] { "#tableName#", "#dbType#" },
+    protected String insertItemValueProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue, new String[] { "#tableName#", "#dbType#" },
                 new String[] { storedVO.getTableName(), storedVO.getDbType() });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} value='{}'", sql, storedVO.getValue());
-        try {
-            Yank.execute(sql, params);
-        } catch (YankSQLException e) {
-            throw new JdbcSQLException(e);
-        }
+    }
+
+    @Override
+    protected Object[] insertItemValueParams(ItemVO storedVO, java.sql.Timestamp timestamp) {
+        return new Object[] { timestamp, storedVO.getValue() };
     }
 
     /****************************
      * SQL generation Providers *
      ****************************/
 
+    @Override
+    protected @Nullable String timeBucketExpression(long bucketSeconds) {
+        return "FLOOR((CAST(time AS DATE) - DATE '1970-01-01') * 86400 / " + bucketSeconds + ")";
+    }
+
     @Override
     protected String histItemFilterQueryProvider(FilterCriteria filter, int numberDecimalcount, String table,
             String simpleName, ZoneId timeZone) {
@@ -12,11 +12,21 @@
  */
 package org.openhab.persistence.jdbc.internal.db;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.YearMonth;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.knowm.yank.Yank;
 import org.knowm.yank.exceptions.YankSQLException;
 import org.openhab.core.items.Item;
@@ -32,6 +42,8 @@ import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zaxxer.hikari.HikariDataSource;
+
 /**
  * Extended Database Configuration class. Class represents
  * the extended database-specific configuration. Overrides and supplements the
@@ -45,8 +57,26 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
     @SuppressWarnings("unused")
     private static final String DATA_SOURCE_CLASS_NAME = org.postgresql.ds.PGSimpleDataSource.class.getName();
 
+    private static final DateTimeFormatter PARTITION_SUFFIX_FORMAT = DateTimeFormatter.ofPattern("'_p'yyyyMM");
+    private static final DateTimeFormatter PARTITION_BOUND_FORMAT = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd HH:mm:ssxxx");
+    // excludes the partitions from the item tables
+    private static final String SQL_EXCLUDE_PARTITIONS = " AND table_name NOT IN (SELECT relname FROM pg_class WHERE relispartition)";
+
     private final Logger logger = LoggerFactory.getLogger(JdbcPostgresqlDAO.class);
 
+    private boolean partitioning = false;
+    protected String sqlCreatePartitionedItemTable = "CREATE TABLE IF NOT EXISTS #tableName# (time #tablePrimaryKey# NOT NULL, value #dbType#, PRIMARY KEY(time)) PARTITION BY RANGE (time)";
+    protected String sqlCreateDefaultPartition = "CREATE TABLE IF NOT EXISTS #partitionName# PARTITION OF #tableName# DEFAULT";
+    protected String sqlCreatePartition = "CREATE TABLE IF NOT EXISTS #partitionName# PARTITION OF #tableName# FOR VALUES FROM ('#from#') TO ('#to#')";
+    protected String sqlIfTableIsPartitioned = "SELECT COUNT(*) FROM pg_partitioned_table p JOIN pg_class c ON p.partrelid = c.oid WHERE c.relname = '#tableName#'";
+    protected String sqlGetPartitions = "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON i.inhrelid = c.oid JOIN pg_class p ON i.inhparent = p.oid WHERE p.relname = '#tableName#'";
+    protected String sqlGetOldestValue = "SELECT MIN(time) FROM #tableName#";
+    protected String sqlCountValuesBetween = "SELECT COUNT(*) FROM #tableName# WHERE time >= '#from#' AND time < '#to#'";
+    protected String sqlCreateDetachedPartition = "CREATE TABLE #partitionName# (LIKE #tableName#)";
+    protected String sqlMoveValuesBetween = "WITH moved AS (DELETE FROM #sourceName# WHERE time >= '#from#' AND time < '#to#' RETURNING time, value) INSERT INTO #partitionName# (time, value) SELECT time, value FROM moved";
+    protected String sqlAttachPartition = "ALTER TABLE #tableName# ATTACH PARTITION #partitionName# FOR VALUES FROM ('#from#') TO ('#to#')";
+
     /********
      * INIT *
      ********/
@@ -79,6 +109,13 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
         // existing value). The version check and query change is performed at initAfterFirstDbConnection()
         sqlInsertItemValue = "INSERT INTO #tableName# (TIME, VALUE) VALUES( #tablePrimaryValue#, CAST( ? as #dbType#) )";
         sqlAlterTableColumn = "ALTER TABLE #tableName# ALTER COLUMN #columnName# TYPE #columnType#";
+        sqlDeleteItemValuesChunk = "DELETE FROM #tableName# WHERE time IN (SELECT time FROM #tableName##timeFilter# ORDER BY time LIMIT #chunkSize#)";
+    }
+
+    @Override
+    public void setStatementCacheSize(int statementCacheSize) {
+        // pgjdbc caches prepared statements per connection by default, only the size is adjusted
+        databaseProps.setProperty("dataSource.preparedStatementCacheQueries", String.valueOf(statementCacheSize));
     }
 
     @Override
@@ -212,6 +249,29 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
         }
     }
 
+    @Override
+    public void doCreateItemTable(ItemVO vo) throws JdbcSQLException {
+        if (!partitioning) {
+            super.doCreateItemTable(vo);
+            return;
+        }
+        String tableName = vo.getTableName();
+        String sql = StringUtilsExt.replaceArrayMerge(sqlCreatePartitionedItemTable,
+                new String[] { "#tableName#", "#dbType#", "#tablePrimaryKey#" },
+                new String[] { formattedIdentifier(tableName), vo.getDbType(), sqlTypes.get("tablePrimaryKey") });
+        String defaultSql = StringUtilsExt.replaceArrayMerge(sqlCreateDefaultPartition,
+                new String[] { "#partitionName#", "#tableName#" },
+                new String[] { formattedIdentifier(tableName + "_default"), formattedIdentifier(tableName) });
+        logger.debug("JDBC::doCreateItemTable sql={}", sql);
+        try {
+            Yank.execute(sql, null);
+            Yank.execute(defaultSql, null);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        doEnsurePartitions(tableName, ZonedDateTime.now(ZoneOffset.UTC).plusMonths(PARTITION_MONTHS_AHEAD));
+    }
+
     @Override
     public void doStoreItemValue(Item item, State itemState, ItemVO vo) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
@@ -229,25 +289,190 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
     }
 
     @Override
-    public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
-        ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+    protected String insertItemValueProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
                 new String[] { "#tableName#", "#dbType#", "#tablePrimaryValue#" },
                 new String[] { formattedIdentifier(storedVO.getTableName()), storedVO.getDbType(), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
+    }
+
+    @Override
+    protected Object[] insertItemValueParams(ItemVO storedVO, java.sql.Timestamp timestamp) {
+        return new Object[] { timestamp, storedVO.getValue() };
+    }
+
+    /******************
+     * RETENTION DAOs *
+     ******************/
+
+    @Override
+    public void setPartitioning(boolean partitioning) {
+        this.partitioning = partitioning;
+        // partitions are tables too, but must not be listed as item tables
+        boolean excluded = sqlGetItemTables.endsWith(SQL_EXCLUDE_PARTITIONS);
+        if (partitioning && !excluded) {
+            sqlGetItemTables = sqlGetItemTables.stripTrailing() + SQL_EXCLUDE_PARTITIONS;
+        } else if (!partitioning && excluded) {
+            sqlGetItemTables = sqlGetItemTables.substring(0,
+                    sqlGetItemTables.length() - SQL_EXCLUDE_PARTITIONS.length());
+        }
+    }
+
+    @Override
+    public boolean doIsPartitioned(String table) throws JdbcSQLException {
+        String sql = StringUtilsExt.replaceArrayMerge(sqlIfTableIsPartitioned, new String[] { "#tableName#" },
+                new String[] { table });
         try {
-            Yank.execute(sql, params);
+            Long count = Yank.queryScalar(sql, Long.class, null);
+            return count != null && count > 0;
         } catch (YankSQLException e) {
             throw new JdbcSQLException(e);
         }
     }
 
+    /**
+     * Creates one partition per month, named by the table name and the month, e.g. item0001_p202501.
+     *
+     * Values of months without a partition are stored in the default partition, e.g. when the retention job did not
+     * run for a while. A partition for such a month cannot be created while the default partition holds values of it,
+     * so these values are moved into the new partition, starting with the month of the oldest of them.
+     */
+    @Override
+    public void doEnsurePartitions(String table, ZonedDateTime until) throws JdbcSQLException {
+        String defaultPartition = table + "_default";
+        ZonedDateTime month = ZonedDateTime.now(ZoneOffset.UTC).withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS);
+        ZonedDateTime oldestDefault = getOldestValue(defaultPartition);
+        if (oldestDefault != null && oldestDefault.isBefore(month)) {
+            month = oldestDefault.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS);
+        }
+        ZonedDateTime last = until.withZoneSameInstant(ZoneOffset.UTC);
+        while (!month.isAfter(last)) {
+            ZonedDateTime next = month.plusMonths(1);
+            String partition = table + PARTITION_SUFFIX_FORMAT.format(month);
+            String from = PARTITION_BOUND_FORMAT.format(month);
+            String to = PARTITION_BOUND_FORMAT.format(next);
+            if (oldestDefault != null && countValuesBetween(defaultPartition, from, to) > 0) {
+                movePartition(table, defaultPartition, partition, from, to);
+            } else {
+                String sql = StringUtilsExt.replaceArrayMerge(sqlCreatePartition,
+                        new String[] { "#partitionName#", "#tableName#", "#from#", "#to#" },
+                        new String[] { formattedIdentifier(partition), formattedIdentifier(table), from, to });
+                logger.debug("JDBC::doEnsurePartitions sql={}", sql);
+                try {
+                    Yank.execute(sql, null);
+                } catch (YankSQLException e) {
+                    throw new JdbcSQLException(e);
+                }
+            }
+            month = next;
+        }
+    }
+
+    private @Nullable ZonedDateTime getOldestValue(String table) throws JdbcSQLException {
+        String sql = StringUtilsExt.replaceArrayMerge(sqlGetOldestValue, new String[] { "#tableName#" },
+                new String[] { formattedIdentifier(table) });
+        try {
+            // the partition bounds are UTC too
+            Timestamp oldest = Yank.queryScalar(sql, Timestamp.class, null);
+            return oldest == null ? null : oldest.toLocalDateTime().atZone(ZoneOffset.UTC);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
+    private long countValuesBetween(String table, String from, String to) throws JdbcSQLException {
+        String sql = StringUtilsExt.replaceArrayMerge(sqlCountValuesBetween,
+                new String[] { "#tableName#", "#from#", "#to#" },
+                new String[] { formattedIdentifier(table), from, to });
+        try {
+            Long count = Yank.queryScalar(sql, Long.class, null);
+            return count == null ? 0 : count;
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
+    /**
+     * Creates a partition holding the values of a month that are stored in the default partition, within one
+     * transaction: the partition is created as a separate table, the values are moved into it, and it is attached.
+     */
+    private void movePartition(String table, String defaultPartition, String partition, String from, String to)
+            throws JdbcSQLException {
+        String[] keys = { "#tableName#", "#sourceName#", "#partitionName#", "#from#", "#to#" };
+        String[] values = { formattedIdentifier(table), formattedIdentifier(defaultPartition),
+                formattedIdentifier(partition), from, to };
+        List<String> statements = List.of(StringUtilsExt.replaceArrayMerge(sqlCreateDetachedPartition, keys, values),
+                StringUtilsExt.replaceArrayMerge(sqlMoveValuesBetween, keys, values),
+                StringUtilsExt.replaceArrayMerge(sqlAttachPartition, keys, values));
+        HikariDataSource dataSource = Yank.getDefaultConnectionPool();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : statements) {
+                    logger.debug("JDBC::doEnsurePartitions sql={}", sql);
+                    statement.execute(sql);
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        logger.info("JDBC::doEnsurePartitions: Moved values from {} into new partition {}", defaultPartition,
+                partition);
+    }
+
+    @Override
+    public int doDropPartitions(String table, ZonedDateTime before) throws JdbcSQLException {
+        String sql = StringUtilsExt.replaceArrayMerge(sqlGetPartitions, new String[] { "#tableName#" },
+                new String[] { table });
+        List<String> partitions;
+        try {
+            partitions = Yank.queryColumn(sql, "relname", String.class, null);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        int dropped = 0;
+        String prefix = table + "_p";
+        for (String partition : partitions) {
+            if (!partition.startsWith(prefix)) {
+                continue;
+            }
+            ZonedDateTime end;
+            try {
+                end = YearMonth.parse(partition.substring(prefix.length()), DateTimeFormatter.ofPattern("yyyyMM"))
+                        .plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC);
+            } catch (DateTimeParseException e) {
+                continue;
+            }
+            if (!end.isAfter(before)) {
+                String dropSql = StringUtilsExt.replaceArrayMerge(sqlDropTable, new String[] { "#tableName#" },
+                        new String[] { formattedIdentifier(partition) });
+                logger.debug("JDBC::doDropPartitions sql={}", dropSql);
+                try {
+                    Yank.execute(dropSql, null);
+                } catch (YankSQLException e) {
+                    throw new JdbcSQLException(e);
+                }
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
     /****************************
      * SQL generation Providers *
      ****************************/
 
+    @Override
+    protected @Nullable String timeBucketExpression(long bucketSeconds) {
+        return "FLOOR(EXTRACT(EPOCH FROM time) / " + bucketSeconds + ")";
+    }
+
     @Override
     protected String histItemFilterQueryProvider(FilterCriteria filter, int numberDecimalcount, String table,
             String simpleName, ZoneId timeZone) {
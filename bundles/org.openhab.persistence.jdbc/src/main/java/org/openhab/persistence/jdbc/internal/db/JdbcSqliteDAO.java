@@ -12,8 +12,6 @@
  */
 package org.openhab.persistence.jdbc.internal.db;
 
-import java.time.ZonedDateTime;
-
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.knowm.yank.Yank;
@@ -59,6 +57,7 @@ public class JdbcSqliteDAO extends JdbcBaseDAO {
         sqlCreateItemsTableIfNot = "CREATE TABLE IF NOT EXISTS #itemsManageTable# (ItemId INTEGER PRIMARY KEY AUTOINCREMENT, #colname# #coltype# NOT NULL)";
         sqlGetItemTables = "SELECT name AS table_name FROM sqlite_master WHERE type='table' AND name NOT IN ('#itemsManageTable#','sqlite_sequence')";
         sqlInsertItemValue = "INSERT OR IGNORE INTO #tableName# (TIME, VALUE) VALUES( #tablePrimaryValue#, CAST( ? as #dbType#) )";
+        sqlDeleteItemValuesChunk = "DELETE FROM #tableName# WHERE time IN (SELECT time FROM #tableName##timeFilter# ORDER BY time LIMIT #chunkSize#)";
     }
 
     /**
@@ -126,25 +125,28 @@ public class JdbcSqliteDAO extends JdbcBaseDAO {
     }
 
     @Override
-    public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
-        ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+    protected String insertItemValueProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
                 new String[] { "#tableName#", "#dbType#", "#tablePrimaryValue#" },
                 new String[] { formattedIdentifier(storedVO.getTableName()), storedVO.getDbType(), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
-        try {
-            Yank.execute(sql, params);
-        } catch (YankSQLException e) {
-            throw new JdbcSQLException(e);
-        }
+    }
+
+    @Override
+    protected Object[] insertItemValueParams(ItemVO storedVO, java.sql.Timestamp timestamp) {
+        return new Object[] { timestamp, storedVO.getValue() };
     }
 
     /****************************
      * SQL generation Providers *
      ****************************/
 
+    @Override
+    protected @Nullable String timeBucketExpression(long bucketSeconds) {
+        // time is stored as text by the default insert and as epoch milliseconds when bound as timestamp
+        return "(CASE WHEN typeof(time) = 'integer' THEN time / 1000 ELSE CAST(strftime('%s', time) AS INTEGER) END) / "
+                + bucketSeconds;
+    }
+
     /*****************
      * H E L P E R S *
      *****************/
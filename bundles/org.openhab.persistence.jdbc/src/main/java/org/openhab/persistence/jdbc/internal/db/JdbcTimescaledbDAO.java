@@ -12,10 +12,14 @@
  */
 package org.openhab.persistence.jdbc.internal.db;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Properties;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.knowm.yank.Yank;
 import org.knowm.yank.exceptions.YankSQLException;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
@@ -38,6 +42,7 @@ public class JdbcTimescaledbDAO extends JdbcPostgresqlDAO {
 
     private final String sqlCreateHypertable = "SELECT created FROM create_hypertable('#tableName#', 'time')";
     private final String sqlGetItemTables = "SELECT hypertable_name AS table_name FROM timescaledb_information.hypertables WHERE hypertable_name != '#itemsManageTable#'";
+    private final String sqlDropChunks = "SELECT COUNT(*) FROM drop_chunks('#tableName#', older_than => TIMESTAMPTZ '#before#')";
 
     @Override
     public Properties getConnectionProperties() {
@@ -77,4 +82,46 @@ public class JdbcTimescaledbDAO extends JdbcPostgresqlDAO {
             throw new JdbcSQLException(e);
         }
     }
+
+    /******************
+     * RETENTION DAOs *
+     ******************/
+
+    @Override
+    public void setPartitioning(boolean partitioning) {
+        // hypertables are always partitioned into chunks
+    }
+
+    @Override
+    public boolean doIsPartitioned(String table) throws JdbcSQLException {
+        return true;
+    }
+
+    @Override
+    public void doEnsurePartitions(String table, ZonedDateTime until) throws JdbcSQLException {
+        // chunks are created by TimescaleDB when needed
+    }
+
+    @Override
+    public int doDropPartitions(String table, ZonedDateTime before) throws JdbcSQLException {
+        String sql = StringUtilsExt.replaceArrayMerge(sqlDropChunks, new String[] { "#tableName#", "#before#" },
+                new String[] { formattedIdentifier(table),
+                        DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(before.withZoneSameInstant(ZoneOffset.UTC)) });
+        this.logger.debug("JDBC::doDropPartitions sql={}", sql);
+        try {
+            Long count = Yank.queryScalar(sql, Long.class, null);
+            return count == null ? 0 : count.intValue();
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
+    /****************************
+     * SQL generation Providers *
+     ****************************/
+
+    @Override
+    protected @Nullable String timeBucketExpression(long bucketSeconds) {
+        return "time_bucket(INTERVAL '" + bucketSeconds + " seconds', time)";
+    }
 }
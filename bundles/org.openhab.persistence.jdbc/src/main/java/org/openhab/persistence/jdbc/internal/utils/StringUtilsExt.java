@@ -14,9 +14,12 @@ package org.openhab.persistence.jdbc.internal.utils;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -32,6 +35,7 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class StringUtilsExt {
     private static final Logger LOGGER = LoggerFactory.getLogger(StringUtilsExt.class);
+    private static final Pattern DURATION_PATTERN = Pattern.compile("(\\d+)\\s*([smhdwy])");
 
     /**
      * Replaces multiple found words with the given Array contents
@@ -60,6 +64,29 @@ public class StringUtilsExt {
         return s;
     }
 
+    /**
+     * Parses a duration like "90d", "12h" or "1y". Supported units are s, m (minutes), h, d, w and y (365 days).
+     *
+     * @param value the duration to parse
+     * @return the duration or null if the value is not a valid duration
+     */
+    public static @Nullable Duration parseDuration(String value) {
+        Matcher matcher = DURATION_PATTERN.matcher(value.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        long amount = Long.parseLong(matcher.group(1));
+        return switch (matcher.group(2)) {
+            case "s" -> Duration.ofSeconds(amount);
+            case "m" -> Duration.ofMinutes(amount);
+            case "h" -> Duration.ofHours(amount);
+            case "d" -> Duration.ofDays(amount);
+            case "w" -> Duration.ofDays(amount * 7);
+            case "y" -> Duration.ofDays(amount * 365);
+            default -> null;
+        };
+    }
+
     /**
      * @see #parseJdbcURL(String url, Properties def)
      */
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.ItemVO;
+
+/**
+ * Tests the {@link JdbcBatchWriter}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcBatchWriterTest {
+
+    private final JdbcMapper mapper = mock(JdbcMapper.class);
+    private final JdbcConfiguration conf = mock(JdbcConfiguration.class);
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private @NonNullByDefault({}) JdbcBatchWriter batchWriter;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        when(conf.getBatchSize()).thenReturn(100);
+        when(conf.getBatchInterval()).thenReturn(1000);
+        when(conf.getBatchQueueCapacity()).thenReturn(2);
+        when(conf.getBatchWriterThreads()).thenReturn(1);
+        when(mapper.checkDBAccessability()).thenReturn(true);
+        when(mapper.prepareItemValue(any(Item.class), any(State.class), any(ZonedDateTime.class), isNull()))
+                .thenAnswer(invocation -> {
+                    Item item = invocation.getArgument(0);
+                    ItemVO vo = new ItemVO(item.getName().toLowerCase(), null);
+                    vo.setValue(((DecimalType) invocation.getArgument(1)).intValue());
+                    return vo;
+                });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        batchWriter.stop();
+    }
+
+    @Test
+    void flushGroupsValuesByTable() throws Exception {
+        when(conf.getBatchQueueCapacity()).thenReturn(10);
+        when(conf.getBatchOverflowPolicy()).thenReturn(BatchOverflowPolicy.DROP_NEWEST);
+        batchWriter = new JdbcBatchWriter(mapper, scheduler, conf);
+
+        NumberItem item1 = new NumberItem("Item1");
+        NumberItem item2 = new NumberItem("Item2");
+        batchWriter.offer(item1, new DecimalType(1), ZonedDateTime.now(), null);
+        batchWriter.offer(item2, new DecimalType(2), ZonedDateTime.now(), null);
+        batchWriter.offer(item1, new DecimalType(3), ZonedDateTime.now(), null);
+        batchWriter.flush();
+
+        Map<String, List<ItemVO>> tableValues = captureStoredValues();
+        assertThat(tableValues.size(), is(2));
+        assertThat(values(tableValues.get("item1")), is(List.of(1, 3)));
+        assertThat(values(tableValues.get("item2")), is(List.of(2)));
+        assertThat(batchWriter.getQueueSize(), is(0));
+    }
+
+    @Test
+    void dropNewestKeepsQueuedValues() throws Exception {
+        when(conf.getBatchOverflowPolicy()).thenReturn(BatchOverflowPolicy.DROP_NEWEST);
+        batchWriter = new JdbcBatchWriter(mapper, scheduler, conf);
+
+        NumberItem item = new NumberItem("Item");
+        for (int i = 1; i <= 3; i++) {
+            batchWriter.offer(item, new DecimalType(i), ZonedDateTime.now(), null);
+        }
+        batchWriter.flush();
+
+        assertThat(values(captureStoredValues().get("item")), is(List.of(1, 2)));
+    }
+
+    @Test
+    void dropOldestKeepsNewValues() throws Exception {
+        when(conf.getBatchOverflowPolicy()).thenReturn(BatchOverflowPolicy.DROP_OLDEST);
+        batchWriter = new JdbcBatchWriter(mapper, scheduler, conf);
+
+        NumberItem item = new NumberItem("Item");
+        for (int i = 1; i <= 3; i++) {
+            batchWriter.offer(item, new DecimalType(i), ZonedDateTime.now(), null);
+        }
+        batchWriter.flush();
+
+        assertThat(values(captureStoredValues().get("item")), is(List.of(2, 3)));
+    }
+
+    @Test
+    void reachingBatchSizeSchedulesFlush() {
+        when(conf.getBatchSize()).thenReturn(2);
+        when(conf.getBatchQueueCapacity()).thenReturn(10);
+        when(conf.getBatchOverflowPolicy()).thenReturn(BatchOverflowPolicy.DROP_OLDEST);
+        batchWriter = new JdbcBatchWriter(mapper, scheduler, conf);
+
+        NumberItem item = new NumberItem("Item");
+        batchWriter.offer(item, new DecimalType(1), ZonedDateTime.now(), null);
+        batchWriter.offer(item, new DecimalType(2), ZonedDateTime.now(), null);
+        batchWriter.offer(item, new DecimalType(3), ZonedDateTime.now(), null);
+
+        verify(scheduler, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void inaccessibleDatabaseKeepsBatchForRetry() throws Exception {
+        when(conf.getBatchQueueCapacity()).thenReturn(10);
+        when(conf.getBatchOverflowPolicy()).thenReturn(BatchOverflowPolicy.DROP_NEWEST);
+        when(mapper.checkDBAccessability()).thenReturn(false);
+        batchWriter = new JdbcBatchWriter(mapper, scheduler, conf);
+
+        NumberItem item = new NumberItem("Item");
+        batchWriter.offer(item, new DecimalType(1), ZonedDateTime.now(), null);
+        batchWriter.offer(item, new DecimalType(2), ZonedDateTime.now(), null);
+        batchWriter.flush();
+        assertThat(batchWriter.getRetrySize(), is(2));
+
+        // within the backoff the database is not even checked
+        batchWriter.offer(item, new DecimalType(3), ZonedDateTime.now(), null);
+        batchWriter.flush();
+        verify(mapper, times(1)).checkDBAccessability();
+        verify(mapper, never()).storeItemValues(any());
+
+        // the retried batch is written before the values queued meanwhile
+        when(mapper.checkDBAccessability()).thenReturn(true);
+        batchWriter.stop();
+        assertThat(values(captureAllStoredValues("item")), is(List.of(1, 2, 3)));
+        assertThat(batchWriter.getRetrySize(), is(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, List<ItemVO>> captureStoredValues() throws Exception {
+        ArgumentCaptor<Map<String, List<ItemVO>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(mapper, times(1)).storeItemValues(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ItemVO> captureAllStoredValues(String table) throws Exception {
+        ArgumentCaptor<Map<String, List<ItemVO>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(mapper, atLeastOnce()).storeItemValues(captor.capture());
+        return captor.getAllValues().stream()
+                .flatMap(tableValues -> tableValues.getOrDefault(table, List.of()).stream())
+                .collect(Collectors.toList());
+    }
+
+    private static List<Integer> values(@Nullable List<ItemVO> vos) {
+        return vos == null ? List.of() : vos.stream().map(vo -> (Integer) vo.getValue()).collect(Collectors.toList());
+    }
+}
@@ -12,15 +12,24 @@
  */
 package org.openhab.persistence.jdbc.internal;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.mock;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
 
 /**
  * Tests the {@link JdbcPersistenceService}.
@@ -48,4 +57,66 @@ public class JdbcPersistenceServiceTest {
     void removeThrowsIllegalArgumentExceptionIfItemNameOfFilterIsNull() {
         assertThrows(IllegalArgumentException.class, () -> jdbcPersistenceService.remove(filter));
     }
+
+    @Test
+    void queryReturnsRawValuesWhenAggregationIsConfigured() throws ItemNotFoundException {
+        QueryRecordingService service = new QueryRecordingService();
+
+        service.query(new FilterCriteria().setItemName("Item").setBeginDate(ZonedDateTime.now().minusYears(1))
+                .setEndDate(ZonedDateTime.now()));
+
+        assertEquals(List.of("raw"), service.queries);
+    }
+
+    @Test
+    void queryAggregatedReducesLongTimeRanges() throws ItemNotFoundException {
+        QueryRecordingService service = new QueryRecordingService();
+        ZonedDateTime end = ZonedDateTime.now();
+
+        service.queryAggregated(new FilterCriteria().setItemName("Item").setBeginDate(end.minusSeconds(10_000))
+                .setEndDate(end), null);
+        service.queryAggregated(new FilterCriteria().setItemName("Item").setBeginDate(end.minusSeconds(50))
+                .setEndDate(end), null);
+
+        assertEquals(List.of("AVG per PT10S", "raw"), service.queries);
+    }
+
+    /**
+     * Records the database queries instead of running them, with query aggregation configured.
+     */
+    private static class QueryRecordingService extends JdbcPersistenceService {
+        private final List<String> queries = new ArrayList<>();
+
+        QueryRecordingService() throws ItemNotFoundException {
+            this(mock(ItemRegistry.class));
+        }
+
+        private QueryRecordingService(ItemRegistry itemRegistry) throws ItemNotFoundException {
+            super(itemRegistry, mock(TimeZoneProvider.class));
+            when(itemRegistry.getItem("Item")).thenReturn(new NumberItem("Item"));
+            conf = mock(JdbcConfiguration.class);
+            when(conf.getQueryAggregation()).thenReturn(AggregationFunction.AVG);
+            when(conf.getQueryMaxRows()).thenReturn(1000);
+            itemNameToTableNameMap.put("Item", "item0001");
+        }
+
+        @Override
+        protected boolean checkDBAccessability() {
+            return true;
+        }
+
+        @Override
+        protected List<HistoricItem> getHistItemFilterQuery(FilterCriteria filter, int numberDecimalcount,
+                String table, Item item) {
+            queries.add("raw");
+            return List.of();
+        }
+
+        @Override
+        protected List<HistoricItem> getAggregatedHistItemFilterQuery(FilterCriteria filter,
+                AggregationFunction function, Duration bucket, int numberDecimalcount, String table, Item item) {
+            queries.add(function + " per " + bucket);
+            return List.of();
+        }
+    }
 }
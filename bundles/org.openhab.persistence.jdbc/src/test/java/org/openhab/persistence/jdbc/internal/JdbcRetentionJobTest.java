@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
+
+/**
+ * Tests the downsampling of the {@link JdbcRetentionJob}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcRetentionJobTest {
+
+    private final JdbcMapper mapper = mock(JdbcMapper.class);
+    private final ItemRegistry itemRegistry = mock(ItemRegistry.class);
+    private final JdbcConfiguration conf = mock(JdbcConfiguration.class);
+    private @NonNullByDefault({}) JdbcRetentionJob job;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        when(conf.getRetentionRules()).thenReturn(List.of(new RetentionRule("*", null)));
+        when(conf.getRetentionDownsampleAfter()).thenReturn(Duration.ofDays(1));
+        when(conf.getRetentionDownsampleInterval()).thenReturn(Duration.ofHours(1));
+        when(conf.getRetentionChunkSize()).thenReturn(1000);
+        when(mapper.checkDBAccessability()).thenReturn(true);
+        when(mapper.getItemNameToTableNameMap()).thenReturn(Map.of("Item", "item0001"));
+        when(mapper.getOldestItemValueTime("item0001")).thenReturn(Instant.now().minus(Duration.ofDays(10)));
+        when(itemRegistry.getItem("Item")).thenReturn(new NumberItem("Item"));
+        job = new JdbcRetentionJob(mapper, itemRegistry, conf);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        job.stop();
+    }
+
+    @Test
+    void daysWithoutReducibleValuesDoNotStopDownsampling() throws Exception {
+        // every day is already reduced or has a single value, except the oldest one
+        when(mapper.downsampleItemValues(any(Item.class), eq("item0001"), any(ZonedDateTime.class),
+                any(ZonedDateTime.class), any(Duration.class))).thenAnswer(invocation -> {
+                    ZonedDateTime from = invocation.getArgument(2);
+                    return from.isBefore(ZonedDateTime.now().minusDays(10)) ? 24L : 0L;
+                });
+
+        job.run();
+
+        ArgumentCaptor<ZonedDateTime> from = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(mapper, atLeast(8)).downsampleItemValues(any(Item.class), eq("item0001"), from.capture(),
+                any(ZonedDateTime.class), any(Duration.class));
+        ZonedDateTime oldestWindow = from.getAllValues().get(from.getAllValues().size() - 1);
+        assertThat(oldestWindow.isBefore(ZonedDateTime.now().minusDays(10)), is(true));
+        assertThat(oldestWindow.isAfter(ZonedDateTime.now().minusDays(12)), is(true));
+    }
+
+    @Test
+    void reducedDaysAreNotCheckedAgain() throws Exception {
+        job.run();
+        clearInvocations(mapper);
+
+        job.run();
+
+        verify(mapper, never()).downsampleItemValues(any(Item.class), any(String.class), any(ZonedDateTime.class),
+                any(ZonedDateTime.class), any(Duration.class));
+    }
+}
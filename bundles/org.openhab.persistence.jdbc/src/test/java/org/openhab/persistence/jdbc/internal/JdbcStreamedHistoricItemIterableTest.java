@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+
+/**
+ * Tests the {@link JdbcStreamedHistoricItemIterable}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcStreamedHistoricItemIterableTest {
+
+    private int executions = 0;
+
+    @Test
+    void queryIsExecutedOnceForFirstIterator() throws JdbcSQLException {
+        JdbcStreamedHistoricItemIterable iterable = new JdbcStreamedHistoricItemIterable(this::threeValues);
+        assertThat(executions, is(1));
+
+        assertThat(values(iterable.iterator()), is(List.of(0, 1, 2)));
+        assertThat(executions, is(1));
+    }
+
+    @Test
+    void canBeIteratedAgain() throws JdbcSQLException {
+        JdbcStreamedHistoricItemIterable iterable = new JdbcStreamedHistoricItemIterable(this::threeValues);
+
+        iterable.iterator().next();
+        assertThat(values(iterable.iterator()), is(List.of(0, 1, 2)));
+        assertThat(values(iterable.iterator()), is(List.of(0, 1, 2)));
+        assertThat(executions, is(3));
+    }
+
+    @Test
+    void queryErrorIsThrownRightAway() {
+        assertThrows(JdbcSQLException.class, () -> new JdbcStreamedHistoricItemIterable(() -> {
+            throw new JdbcSQLException(new SQLException("broken"));
+        }));
+    }
+
+    @Test
+    void queryErrorIsThrownWhenIteratingAgain() throws JdbcSQLException {
+        JdbcStreamedHistoricItemIterable iterable = new JdbcStreamedHistoricItemIterable(() -> {
+            if (executions++ > 0) {
+                throw new JdbcSQLException(new SQLException("broken"));
+            }
+            return List.of();
+        });
+
+        assertThat(iterable.iterator().hasNext(), is(false));
+        IllegalStateException e = assertThrows(IllegalStateException.class, iterable::iterator);
+        assertThat(e.getCause() instanceof JdbcSQLException, is(true));
+    }
+
+    private Iterable<HistoricItem> threeValues() {
+        executions++;
+        return IntStream.range(0, 3)
+                .mapToObj(i -> (HistoricItem) new JdbcHistoricItem("Item", new DecimalType(i), Instant.EPOCH))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Integer> values(Iterator<HistoricItem> iterator) {
+        List<Integer> values = new ArrayList<>();
+        iterator.forEachRemaining(item -> values.add(((DecimalType) item.getState()).intValue()));
+        return values;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link RetentionRule}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RetentionRuleTest {
+
+    @Test
+    void rulesAreParsedInOrder() {
+        List<RetentionRule> rules = RetentionRule.parse("Temperature*=90d, Power_?=2y,Alarm=-, *=12h");
+
+        assertThat(rules.size(), is(4));
+        assertThat(rules.get(0), is(new RetentionRule("Temperature*", Duration.ofDays(90))));
+        assertThat(rules.get(1), is(new RetentionRule("Power_?", Duration.ofDays(730))));
+        assertThat(rules.get(2).retention(), is(nullValue()));
+        assertThat(rules.get(3), is(new RetentionRule("*", Duration.ofHours(12))));
+    }
+
+    @Test
+    void patternsMatchItemNames() {
+        RetentionRule rule = new RetentionRule("Power_?", null);
+
+        assertThat(rule.matches("Power_1"), is(true));
+        assertThat(rule.matches("Power_12"), is(false));
+        assertThat(new RetentionRule("Temp*", null).matches("Temperature"), is(true));
+        assertThat(new RetentionRule("Temp.*", null).matches("Temperature"), is(false));
+        assertThat(new RetentionRule("*", null).matches("Anything"), is(true));
+    }
+
+    @Test
+    void invalidRulesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> RetentionRule.parse("Temperature"));
+        assertThrows(IllegalArgumentException.class, () -> RetentionRule.parse("=90d"));
+        assertThrows(IllegalArgumentException.class, () -> RetentionRule.parse("Temperature=90x"));
+        assertThrows(IllegalArgumentException.class, () -> RetentionRule.parse("Temperature=0d"));
+    }
+}
@@ -66,6 +66,7 @@ import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.AggregationFunction;
 
 /**
  * Tests the {@link JdbcBaseDAO}.
@@ -192,6 +193,28 @@ public class JdbcBaseDAOTest {
         assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " ORDER BY time DESC LIMIT 0,1"));
     }
 
+    @Test
+    void testHistItemAggregateQueryProviderReturnsGroupedSelectQuery() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setOrdering(Ordering.ASCENDING);
+
+        String bucket = Objects.requireNonNull(jdbcBaseDAO.timeBucketExpression(60));
+        String sql = jdbcBaseDAO.histItemAggregateQueryProvider(filter, AggregationFunction.AVG, bucket,
+                DB_TABLE_NAME, UTC_ZONE_ID);
+        assertThat(sql, is("SELECT MIN(time), AVG(value) FROM " + DB_TABLE_NAME + " WHERE TIME>='" //
+                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate())) + "'" //
+                + " GROUP BY FLOOR(UNIX_TIMESTAMP(time) / 60) ORDER BY 1 ASC"));
+    }
+
+    @Test
+    void testHistItemAggregateQueryProviderReturnsLastValuePerBucket() {
+        String bucket = Objects.requireNonNull(jdbcBaseDAO.timeBucketExpression(3600));
+        String sql = jdbcBaseDAO.histItemAggregateQueryProvider(filter, AggregationFunction.LAST, bucket,
+                DB_TABLE_NAME, UTC_ZONE_ID);
+        assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " WHERE time IN (SELECT MAX(time) FROM "
+                + DB_TABLE_NAME + " GROUP BY FLOOR(UNIX_TIMESTAMP(time) / 3600)) ORDER BY time DESC"));
+    }
+
     @Test
     void testHistItemFilterDeleteProviderReturnsDeleteQueryWithoutWhereClause() {
         String sql = jdbcBaseDAO.histItemFilterDeleteProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID);
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+
+/**
+ * Tests the {@link JdbcHistoricItemIterable}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcHistoricItemIterableTest {
+
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final ResultSet resultSet = mock(ResultSet.class);
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        when(connection.getAutoCommit()).thenReturn(true);
+    }
+
+    @Test
+    void rowsAreReadLazilyAndResourcesClosedAtEnd() throws SQLException {
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getInt(2)).thenReturn(1, 2);
+        JdbcHistoricItemIterable iterable = createIterable();
+
+        Iterator<HistoricItem> iterator = iterable.iterator();
+        verify(resultSet, never()).next();
+        assertThat(iterator.next().getState(), is(new DecimalType(1)));
+        verify(connection, never()).close();
+
+        List<HistoricItem> rest = new ArrayList<>();
+        iterator.forEachRemaining(rest::add);
+        assertThat(rest.size(), is(1));
+        verify(resultSet).close();
+        verify(statement).close();
+        verify(connection).close();
+    }
+
+    @Test
+    void readErrorClosesResources() throws SQLException {
+        when(resultSet.next()).thenThrow(new SQLException("broken"));
+        JdbcHistoricItemIterable iterable = createIterable();
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> iterable.iterator().hasNext());
+        assertThat(e.getCause() instanceof SQLException, is(true));
+        verify(connection).close();
+    }
+
+    @Test
+    void closeRollsBackOpenTransaction() throws SQLException {
+        when(connection.getAutoCommit()).thenReturn(false);
+        JdbcHistoricItemIterable iterable = createIterable();
+
+        iterable.close();
+        verify(connection).rollback();
+        verify(connection).close();
+    }
+
+    @Test
+    void canOnlyBeIteratedOnce() {
+        JdbcHistoricItemIterable iterable = createIterable();
+        iterable.iterator();
+        assertThrows(IllegalStateException.class, iterable::iterator);
+        iterable.close();
+    }
+
+    private JdbcHistoricItemIterable createIterable() {
+        return new JdbcHistoricItemIterable(connection, statement, resultSet,
+                rs -> new JdbcHistoricItem("Item", new DecimalType(rs.getInt(2)), Instant.EPOCH));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link JdbcPostgresqlDAO}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcPostgresqlDAOTest {
+
+    private final JdbcPostgresqlDAO dao = new JdbcPostgresqlDAO();
+
+    @Test
+    void partitionsAreExcludedFromItemTablesOnce() {
+        String itemTables = dao.sqlGetItemTables;
+
+        dao.setPartitioning(true);
+        String partitionedItemTables = dao.sqlGetItemTables;
+        dao.setPartitioning(true);
+
+        assertThat(dao.sqlGetItemTables, is(partitionedItemTables));
+        assertThat(partitionedItemTables.split("relispartition", -1).length, is(2));
+
+        dao.setPartitioning(false);
+        assertThat(dao.sqlGetItemTables, is(itemTables));
+    }
+}
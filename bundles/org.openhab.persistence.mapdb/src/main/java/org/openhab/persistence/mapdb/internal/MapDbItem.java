@@ -106,6 +106,19 @@ class MapDbItem implements PersistedItem, PersistenceItemInfo {
         return null;
     }
 
+    /**
+     * @return a copy of this item with another name
+     */
+    MapDbItem withName(String name) {
+        MapDbItem item = new MapDbItem();
+        item.name = name;
+        item.state = state;
+        item.timestamp = timestamp;
+        item.lastState = lastState;
+        item.lastStateChange = lastStateChange;
+        return item;
+    }
+
     boolean isValid() {
         return name != null && state != null && timestamp != null;
     }
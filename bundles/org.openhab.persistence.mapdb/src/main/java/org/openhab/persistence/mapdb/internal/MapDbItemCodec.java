@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+
+/**
+ * The {@link MapDbItemCodec} converts a {@link MapDbItem} to a compact binary form and back.
+ *
+ * The name of the item is not encoded, as it is the key of the stored value. The most common state types are
+ * encoded natively, all other states by their type name and full string like the {@link StateTypeAdapter} does.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class MapDbItemCodec {
+
+    private static final byte VERSION = 1;
+
+    private static final byte TYPE_NONE = 0;
+    private static final byte TYPE_GENERIC = 1;
+    private static final byte TYPE_ON_OFF = 2;
+    private static final byte TYPE_OPEN_CLOSED = 3;
+    private static final byte TYPE_DECIMAL = 4;
+    private static final byte TYPE_PERCENT = 5;
+    private static final byte TYPE_STRING = 6;
+
+    private MapDbItemCodec() {
+        // prevent instantiation
+    }
+
+    static byte[] encode(MapDbItem item) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(item.getTimestamp().toInstant().toEpochMilli());
+            writeState(out, item.getState());
+            writeState(out, item.getLastState());
+            ZonedDateTime lastStateChange = item.getLastStateChange();
+            out.writeBoolean(lastStateChange != null);
+            if (lastStateChange != null) {
+                out.writeLong(lastStateChange.toInstant().toEpochMilli());
+            }
+        } catch (IOException e) {
+            // cannot happen when writing to a byte array
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes an item.
+     *
+     * @param name the name of the item
+     * @param data the encoded item
+     * @return the item
+     * @throws IOException if the data is invalid or contains an unknown state type
+     */
+    static MapDbItem decode(String name, byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported version " + version);
+            }
+            MapDbItem item = new MapDbItem();
+            item.setName(name);
+            item.setTimestamp(new Date(in.readLong()));
+            State state = readState(in);
+            if (state == null) {
+                throw new IOException("State is missing");
+            }
+            item.setState(state);
+            item.setLastState(readState(in));
+            if (in.readBoolean()) {
+                item.setLastStateChange(new Date(in.readLong()));
+            }
+            return item;
+        }
+    }
+
+    private static void writeState(DataOutputStream out, @Nullable State state) throws IOException {
+        if (state == null) {
+            out.writeByte(TYPE_NONE);
+        } else if (state instanceof OnOffType onOff) {
+            out.writeByte(TYPE_ON_OFF);
+            out.writeBoolean(onOff == OnOffType.ON);
+        } else if (state instanceof OpenClosedType openClosed) {
+            out.writeByte(TYPE_OPEN_CLOSED);
+            out.writeBoolean(openClosed == OpenClosedType.OPEN);
+        } else if (state.getClass() == DecimalType.class) {
+            out.writeByte(TYPE_DECIMAL);
+            writeDecimal(out, ((DecimalType) state).toBigDecimal());
+        } else if (state.getClass() == PercentType.class) {
+            out.writeByte(TYPE_PERCENT);
+            writeDecimal(out, ((PercentType) state).toBigDecimal());
+        } else if (state.getClass() == StringType.class) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, state.toFullString());
+        } else {
+            out.writeByte(TYPE_GENERIC);
+            out.writeUTF(state.getClass().getName());
+            writeString(out, state.toFullString());
+        }
+    }
+
+    private static @Nullable State readState(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_NONE:
+                return null;
+            case TYPE_ON_OFF:
+                return OnOffType.from(in.readBoolean());
+            case TYPE_OPEN_CLOSED:
+                return in.readBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+            case TYPE_DECIMAL:
+                return new DecimalType(readDecimal(in));
+            case TYPE_PERCENT:
+                return new PercentType(readDecimal(in));
+            case TYPE_STRING:
+                return new StringType(readString(in));
+            case TYPE_GENERIC:
+                String typeName = in.readUTF();
+                String value = readString(in);
+                try {
+                    @SuppressWarnings("unchecked")
+                    Class<? extends State> stateType = (Class<? extends State>) Class.forName(typeName);
+                    State state = TypeParser.parseState(List.of(stateType), value);
+                    if (state == null) {
+                        throw new IOException("Cannot parse '" + value + "' as " + typeName);
+                    }
+                    return state;
+                } catch (ClassNotFoundException | ClassCastException e) {
+                    throw new IOException("Unknown state type " + typeName, e);
+                }
+            default:
+                throw new IOException("Unknown state type " + type);
+        }
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeInt(value.scale());
+        out.writeShort(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        int scale = in.readInt();
+        byte[] unscaled = new byte[in.readUnsignedShort()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    // writeUTF is limited to 64 KB, which is too small for images
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
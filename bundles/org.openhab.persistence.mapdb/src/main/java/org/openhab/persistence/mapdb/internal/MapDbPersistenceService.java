@@ -20,21 +20,26 @@ import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.mapdb.DB;
 import org.mapdb.DBMaker;
+import org.mapdb.Serializer;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.persistence.FilterCriteria;
@@ -50,6 +55,7 @@ import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,8 +70,10 @@ import com.google.gson.GsonBuilder;
  * @author Martin Kühl - Port to 3.x
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class, QueryablePersistenceService.class }, property = Constants.SERVICE_PID
-        + "=org.openhab.mapdb")
+@Component(service = { PersistenceService.class,
+        QueryablePersistenceService.class }, configurationPid = "org.openhab.mapdb", //
+        property = Constants.SERVICE_PID + "=org.openhab.mapdb")
+@ConfigurableService(category = "persistence", label = "MapDB Persistence Service", description_uri = MapDbPersistenceService.CONFIG_URI)
 public class MapDbPersistenceService implements QueryablePersistenceService {
 
     private static final String SERVICE_ID = "mapdb";
@@ -73,24 +81,48 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     private static final Path DB_DIR = new File(OpenHAB.getUserDataFolder(), "persistence").toPath().resolve("mapdb");
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
     private static final String DB_FILE_NAME = "storage.mapdb";
+    private static final String LEGACY_MAP_NAME = "itemStore";
+    private static final String MAP_NAME = "items";
+
+    protected static final String CONFIG_URI = "persistence:mapdb";
+    private static final String COMMIT_INTERVAL_CONFIG = "commitInterval";
+    private static final long COMMIT_INTERVAL_DEFAULT = 1000;
+    private static final String COMMIT_BATCH_SIZE_CONFIG = "commitBatchSize";
+    private static final int COMMIT_BATCH_SIZE_DEFAULT = 100;
 
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
-    private final ExecutorService threadPool = ThreadPoolManager.getPool(getClass().getSimpleName());
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(getClass().getSimpleName());
 
     /**
      * holds the local instance of the MapDB database
      */
 
     private @NonNullByDefault({}) DB db;
-    private @NonNullByDefault({}) Map<String, String> map;
+    private @NonNullByDefault({}) Map<String, byte[]> map;
+
+    /**
+     * holds all stored items, so they are read from the database only once
+     */
+    private final Map<String, MapDbItem> items = new ConcurrentHashMap<>();
+
+    /**
+     * holds the names of the items that have been stored since the last commit
+     */
+    private final Set<String> uncommitted = ConcurrentHashMap.newKeySet();
+    private final Object commitLock = new Object();
+    private @Nullable ScheduledFuture<?> commitJob;
+
+    private long commitInterval = COMMIT_INTERVAL_DEFAULT;
+    private int commitBatchSize = COMMIT_BATCH_SIZE_DEFAULT;
 
     private transient Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
             .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
 
     @Activate
-    public void activate() {
+    public void activate(Map<String, Object> config) {
         logger.debug("MapDB persistence service is being activated");
+        modified(config);
 
         try {
             Files.createDirectories(DB_DIR);
@@ -102,8 +134,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
         File dbFile = DB_DIR.resolve(DB_FILE_NAME).toFile();
         try {
-            db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-            map = db.createTreeMap("itemStore").makeOrGet();
+            openDatabase(dbFile);
         } catch (RuntimeException re) {
             Throwable cause = re.getCause();
             if (cause instanceof ClassNotFoundException cnf) {
@@ -134,8 +165,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
                     return;
                 }
 
-                db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-                map = db.createTreeMap("itemStore").makeOrGet();
+                openDatabase(dbFile);
             } else {
                 logger.warn("Failed to create or open the MapDB: {}", re.getMessage());
                 logger.warn("MapDB persistence service activation has failed.");
@@ -144,11 +174,30 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         logger.debug("MapDB persistence service is now activated");
     }
 
+    @Modified
+    public void modified(Map<String, Object> config) {
+        commitInterval = ConfigParser.valueAsOrElse(config.get(COMMIT_INTERVAL_CONFIG), Long.class,
+                COMMIT_INTERVAL_DEFAULT);
+        commitBatchSize = ConfigParser.valueAsOrElse(config.get(COMMIT_BATCH_SIZE_CONFIG), Integer.class,
+                COMMIT_BATCH_SIZE_DEFAULT);
+    }
+
     @Deactivate
     public void deactivate() {
         logger.debug("MapDB persistence service deactivated");
         if (db != null) {
-            db.close();
+            synchronized (commitLock) {
+                ScheduledFuture<?> commitJob = this.commitJob;
+                if (commitJob != null) {
+                    commitJob.cancel(false);
+                    this.commitJob = null;
+                }
+            }
+            synchronized (this) {
+                commit();
+                db.close();
+                db = null;
+            }
         }
     }
 
@@ -164,8 +213,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return map.values().stream().map(this::deserialize).flatMap(MapDbPersistenceService::streamOptional)
-                .collect(Collectors.<PersistenceItemInfo> toUnmodifiableSet());
+        return Set.copyOf(items.values());
     }
 
     @Override
@@ -192,40 +240,98 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         mItem.setTimestamp(lastStateUpdate != null ? Date.from(lastStateUpdate.toInstant()) : new Date());
         ZonedDateTime lastStateChange = item.getLastStateChange();
         mItem.setLastStateChange(lastStateChange != null ? Date.from(lastStateChange.toInstant()) : null);
-        threadPool.submit(() -> {
-            String json = serialize(mItem);
-            map.put(localAlias, json);
-            db.commit();
-            logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
-        });
+
+        // the item is written to the database with the next commit, so frequent updates are coalesced
+        items.put(localAlias, mItem);
+        uncommitted.add(localAlias);
+        scheduleCommit();
     }
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
-        String json = map.get(filter.getItemName());
-        if (json == null) {
-            return List.of();
-        }
-        Optional<MapDbItem> item = deserialize(json);
-        return item.isPresent() ? List.of(item.get()) : List.of();
+        String itemName = filter.getItemName();
+        MapDbItem item = itemName != null ? items.get(itemName) : null;
+        return item != null ? List.of(item) : List.of();
     }
 
     @Override
     public @Nullable PersistedItem persistedItem(String itemName, @Nullable String alias) {
-        String json = map.get(alias != null ? alias : itemName);
-        if (json == null) {
-            return null;
+        MapDbItem item = items.get(alias != null ? alias : itemName);
+        return item != null ? item.withName(itemName) : null;
+    }
+
+    private void openDatabase(File dbFile) {
+        db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
+        map = db.createTreeMap(MAP_NAME).valueSerializer(Serializer.BYTE_ARRAY).makeOrGet();
+        if (db.exists(LEGACY_MAP_NAME)) {
+            migrateLegacyMap();
         }
-        Optional<MapDbItem> item = deserialize(json);
-        MapDbItem dbItem = item.orElse(null);
-        if (dbItem != null) {
-            dbItem.setName(itemName);
+
+        // read all items at once, so restoring them on startup does not access the database for each item
+        items.clear();
+        map.forEach((name, data) -> {
+            try {
+                items.put(name, MapDbItemCodec.decode(name, data));
+            } catch (IOException e) {
+                logger.warn("Failed to read item '{}' from MapDB: {}", name, e.getMessage());
+            }
+        });
+        logger.debug("Read {} items from MapDB", items.size());
+    }
+
+    /**
+     * Converts the items stored as JSON by previous versions to the binary format.
+     */
+    private void migrateLegacyMap() {
+        Map<String, String> legacyMap = db.getTreeMap(LEGACY_MAP_NAME);
+        int migrated = 0;
+        for (Map.Entry<String, String> entry : legacyMap.entrySet()) {
+            Optional<MapDbItem> item = deserialize(entry.getValue());
+            if (item.isPresent()) {
+                map.put(entry.getKey(), MapDbItemCodec.encode(item.get()));
+                migrated++;
+            }
+        }
+        db.delete(LEGACY_MAP_NAME);
+        db.commit();
+        logger.info("Converted {} of {} items in MapDB to the binary format", migrated, legacyMap.size());
+    }
+
+    private void scheduleCommit() {
+        if (commitInterval <= 0 || uncommitted.size() >= commitBatchSize) {
+            scheduler.execute(this::commit);
+            return;
+        }
+        synchronized (commitLock) {
+            if (commitJob == null) {
+                commitJob = scheduler.schedule(this::commit, commitInterval, TimeUnit.MILLISECONDS);
+            }
         }
-        return dbItem;
     }
 
-    private String serialize(MapDbItem item) {
-        return mapper.toJson(item);
+    /**
+     * Writes all items stored since the last commit to the database and commits them.
+     */
+    private synchronized void commit() {
+        synchronized (commitLock) {
+            commitJob = null;
+        }
+        if (db == null || uncommitted.isEmpty()) {
+            return;
+        }
+        int count = 0;
+        for (Iterator<String> iterator = uncommitted.iterator(); iterator.hasNext();) {
+            String name = iterator.next();
+            // removed before reading the item, so a concurrent update is written with the next commit
+            iterator.remove();
+            MapDbItem item = items.get(name);
+            if (item != null) {
+                map.put(name, MapDbItemCodec.encode(item));
+                count++;
+            }
+        }
+        db.commit();
+        logger.debug("Committed {} items to MapDB database", count);
     }
 
     @SuppressWarnings("null")
@@ -241,10 +347,6 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         return Optional.of(item);
     }
 
-    private static <T> Stream<T> streamOptional(Optional<T> opt) {
-        return opt.isPresent() ? Stream.of(opt.get()) : Stream.empty();
-    }
-
     @Override
     public List<PersistenceStrategy> getDefaultStrategies() {
         return List.of(PersistenceStrategy.Globals.RESTORE, PersistenceStrategy.Globals.CHANGE);
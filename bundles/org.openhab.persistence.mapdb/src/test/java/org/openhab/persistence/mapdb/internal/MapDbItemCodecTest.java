@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.types.State;
+
+/**
+ * Tests the {@link MapDbItemCodec}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemCodecTest {
+
+    @ParameterizedTest
+    @MethodSource
+    public void roundtripShouldRecreateTheItem(State state) throws IOException {
+        MapDbItem item = new MapDbItem();
+        item.setName("item");
+        item.setState(state);
+        item.setTimestamp(new Date(1700000000123L));
+        item.setLastState(OnOffType.OFF);
+        item.setLastStateChange(new Date(1600000000456L));
+
+        MapDbItem actual = MapDbItemCodec.decode("item", MapDbItemCodec.encode(item));
+
+        assertThat(actual.getName(), is("item"));
+        assertThat(actual.getState(), is(equalTo(state)));
+        assertThat(actual.getState().toFullString(), is(state.toFullString()));
+        assertThat(actual.getTimestamp(), is(item.getTimestamp()));
+        assertThat(actual.getLastState(), is(OnOffType.OFF));
+        assertThat(actual.getLastStateChange(), is(item.getLastStateChange()));
+    }
+
+    public static Stream<State> roundtripShouldRecreateTheItem() {
+        return Stream.of(OnOffType.ON, OpenClosedType.CLOSED, UpDownType.UP, DecimalType.ZERO,
+                new DecimalType(new BigDecimal("-12345678901234567890.1230")), PercentType.valueOf("99.999"),
+                QuantityType.valueOf("21.5 °C"), HSBType.fromRGB(11, 22, 33), new StringType(""),
+                new StringType("a".repeat(70000)), new DateTimeType("2024-01-02T03:04:05.678Z"));
+    }
+
+    @Test
+    public void missingOptionalValuesAreKept() throws IOException {
+        MapDbItem item = new MapDbItem();
+        item.setState(new StringType("value"));
+
+        MapDbItem actual = MapDbItemCodec.decode("item", MapDbItemCodec.encode(item));
+
+        assertThat(actual.getLastState(), is(nullValue()));
+        assertThat(actual.getLastStateChange(), is(nullValue()));
+    }
+
+    @Test
+    public void invalidDataIsRejected() {
+        assertThrows(IOException.class, () -> MapDbItemCodec.decode("item", new byte[] { 42 }));
+        assertThrows(IOException.class, () -> MapDbItemCodec.decode("item", new byte[] { 1, 0 }));
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import org.bson.BSONException;
+import org.bson.Document;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+
+/**
+ * The {@link MongoDBBatchWriter} collects documents in a bounded queue and inserts them with one unordered
+ * {@code insertMany} per collection.
+ *
+ * Documents are written when the batch size is reached or when the batch interval has elapsed. When the queue is
+ * full, new values are dropped without waiting, and the number of dropped values is logged with the next flush.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MongoDBBatchWriter {
+
+    private static final InsertManyOptions UNORDERED = new InsertManyOptions().ordered(false);
+
+    private final Logger logger = LoggerFactory.getLogger(MongoDBBatchWriter.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final BooleanSupplier connection;
+    private final Function<String, @Nullable MongoCollection<Document>> collections;
+    private final BlockingQueue<PendingDocument> queue;
+    private final int batchSize;
+    private final int batchInterval;
+
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private @Nullable ScheduledFuture<?> flushJob;
+    private boolean stopped = false;
+
+    private record PendingDocument(String collectionName, Document document) {
+    }
+
+    /**
+     * Creates a batch writer.
+     *
+     * @param scheduler the scheduler running the flushes
+     * @param connection checks the connection to the database, connecting if necessary
+     * @param collections provides the collection of a name, or null if it is not available
+     * @param batchSize the maximum number of documents written per flush
+     * @param batchInterval the maximum time in milliseconds a document waits before it is written
+     * @param queueCapacity the maximum number of documents waiting to be written
+     */
+    public MongoDBBatchWriter(ScheduledExecutorService scheduler, BooleanSupplier connection,
+            Function<String, @Nullable MongoCollection<Document>> collections, int batchSize, int batchInterval,
+            int queueCapacity) {
+        this.scheduler = scheduler;
+        this.connection = connection;
+        this.collections = collections;
+        this.batchSize = batchSize;
+        this.batchInterval = batchInterval;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public void start() {
+        flushJob = scheduler.scheduleWithFixedDelay(this::scheduledFlush, batchInterval, batchInterval,
+                TimeUnit.MILLISECONDS);
+        logger.debug("MongoDB batch writer started with batchSize={} batchInterval={} ms queueCapacity={}",
+                batchSize, batchInterval, queue.remainingCapacity());
+    }
+
+    /**
+     * Stops the periodic flush and writes all documents still queued.
+     */
+    public void stop() {
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        synchronized (flushLock) {
+            flush();
+            stopped = true;
+        }
+    }
+
+    /**
+     * Queues a document for the next batch.
+     *
+     * @param collectionName the name of the collection the document is inserted into
+     * @param document the document
+     * @return true if the document has been queued, false if it has been dropped because the queue is full
+     */
+    public boolean offer(String collectionName, Document document) {
+        boolean accepted = queue.offer(new PendingDocument(collectionName, document));
+        if (!accepted) {
+            droppedCount.incrementAndGet();
+        }
+        if (queue.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::scheduledFlush);
+        }
+        return accepted;
+    }
+
+    /**
+     * Flushes on the scheduler. Errors are logged, since an exception would cancel the periodic flush for good.
+     */
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to write queued values to MongoDB: {}", e.getMessage(), e);
+        }
+    }
+
+    void flush() {
+        flushScheduled.set(false);
+        synchronized (flushLock) {
+            if (stopped) {
+                return;
+            }
+            long dropped = droppedCount.getAndSet(0);
+            if (dropped > 0) {
+                logger.warn("MongoDB write queue is full, {} values have been dropped", dropped);
+            }
+            if (queue.isEmpty()) {
+                return;
+            }
+            if (!connection.getAsBoolean()) {
+                logger.warn("mongodb: No connection to database. Cannot persist {} values! Will retry later.",
+                        queue.size());
+                return;
+            }
+            List<PendingDocument> pending = new ArrayList<>(Math.min(batchSize, queue.size()));
+            while (queue.drainTo(pending, batchSize) > 0) {
+                writeBatch(pending);
+                pending.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingDocument> pending) {
+        Map<String, List<Document>> documentsByCollection = new LinkedHashMap<>();
+        for (PendingDocument document : pending) {
+            documentsByCollection.computeIfAbsent(document.collectionName(), name -> new ArrayList<>())
+                    .add(document.document());
+        }
+        documentsByCollection.forEach((collectionName, documents) -> {
+            MongoCollection<Document> collection = collections.apply(collectionName);
+            if (collection == null) {
+                // Logging is done when getting the collection
+                return;
+            }
+            try {
+                collection.insertMany(documents, UNORDERED);
+            } catch (MongoBulkWriteException e) {
+                // without write errors, the documents were inserted but the write concern was not satisfied
+                String message = e.getWriteErrors().isEmpty() ? e.getMessage()
+                        : e.getWriteErrors().get(0).getMessage();
+                logger.warn("Failed to insert {} of {} documents into collection {}: {}", e.getWriteErrors().size(),
+                        documents.size(), collectionName, message);
+            } catch (MongoException | BSONException e) {
+                logger.warn("Failed to insert {} documents into collection {}: {}", documents.size(), collectionName,
+                        e.getMessage());
+            }
+        });
+        logger.debug("MongoDB saved {} documents in {} collections", pending.size(), documentsByCollection.size());
+    }
+}
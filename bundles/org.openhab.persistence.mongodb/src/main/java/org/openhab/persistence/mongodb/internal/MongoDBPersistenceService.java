@@ -20,11 +20,15 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -54,6 +58,7 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.result.DeleteResult;
 
 /**
@@ -69,12 +74,20 @@ import com.mongodb.client.result.DeleteResult;
                 + "=org.openhab.mongodb")
 public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
+    private static final Bson QUERY_PROJECTION = Projections.fields(Projections.include(MongoDBFields.FIELD_TIMESTAMP,
+            MongoDBFields.FIELD_VALUE, MongoDBFields.FIELD_UNIT, MongoDBFields.FIELD_REALNAME),
+            Projections.excludeId());
+
     private final Logger logger = LoggerFactory.getLogger(MongoDBPersistenceService.class);
 
     private String url = "";
     private String db = "";
     private String collection = "";
     private boolean collectionPerItem;
+    private int batchSize = 0;
+    private int batchInterval = 1000;
+    private int batchQueueCapacity = 10000;
+    private int queryBatchSize = 1000;
 
     private boolean initialized = false;
 
@@ -82,6 +95,13 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
     private @Nullable MongoClient cl;
 
+    /**
+     * holds the collections of the current client, so indexes are ensured only once per collection
+     */
+    private final Map<String, MongoCollection<Document>> collections = new ConcurrentHashMap<>();
+
+    private @Nullable MongoDBBatchWriter batchWriter;
+
     @Activate
     public MongoDBPersistenceService(final @Reference ItemRegistry itemRegistry) {
         this.itemRegistry = itemRegistry;
@@ -113,16 +133,38 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         collection = dbCollection == null ? "" : dbCollection;
         collectionPerItem = dbCollection == null || dbCollection.isBlank();
 
+        batchSize = ConfigParser.valueAsOrElse(config.get("batchSize"), Integer.class, batchSize);
+        batchInterval = Math.max(1, ConfigParser.valueAsOrElse(config.get("batchInterval"), Integer.class,
+                batchInterval));
+        batchQueueCapacity = Math.max(Math.max(1, batchSize),
+                ConfigParser.valueAsOrElse(config.get("batchQueueCapacity"), Integer.class, batchQueueCapacity));
+        queryBatchSize = ConfigParser.valueAsOrElse(config.get("queryBatchSize"), Integer.class, queryBatchSize);
+        logger.debug("MongoDB batchSize {}, batchInterval {} ms, queryBatchSize {}", batchSize, batchInterval,
+                queryBatchSize);
+
         if (!tryConnectToDatabase()) {
             logger.warn("Failed to connect to MongoDB server. Trying to reconnect later.");
         }
 
+        if (batchSize > 0) {
+            MongoDBBatchWriter batchWriter = new MongoDBBatchWriter(
+                    ThreadPoolManager.getScheduledPool("org.openhab.mongodb"), this::tryConnectToDatabase,
+                    this::connectToCollection, batchSize, batchInterval, batchQueueCapacity);
+            batchWriter.start();
+            this.batchWriter = batchWriter;
+        }
+
         initialized = true;
     }
 
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("MongoDB persistence bundle stopping. Disconnecting from database.");
+        MongoDBBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter != null) {
+            this.batchWriter = null;
+            batchWriter.stop();
+        }
         disconnectFromDatabase();
     }
 
@@ -206,11 +248,15 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
     }
 
     /**
-     * Connects to the Collection
+     * Connects to the Collection. The index of a collection is created with its first use.
      *
      * @return The collection object when collection creation was successful. Null otherwise.
      */
     private @Nullable MongoCollection<Document> connectToCollection(String collectionName) {
+        MongoCollection<Document> cachedCollection = collections.get(collectionName);
+        if (cachedCollection != null) {
+            return cachedCollection;
+        }
         try {
             @Nullable
             MongoClient db = getDatabase();
@@ -226,6 +272,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             idx.append(MongoDBFields.FIELD_ITEM, 1).append(MongoDBFields.FIELD_TIMESTAMP, 1);
             mongoCollection.createIndex(idx);
 
+            collections.put(collectionName, mongoCollection);
             return mongoCollection;
         } catch (Exception e) {
             logger.error("Failed to connect to collection {}: {}", collectionName, e.getMessage(), e);
@@ -237,6 +284,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
      * Disconnects from the database
      */
     private synchronized void disconnectFromDatabase() {
+        collections.clear();
         MongoClient localCl = cl;
         if (localCl != null) {
             localCl.close();
@@ -285,8 +333,11 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         Integer sortDir = (filter.getOrdering() == Ordering.ASCENDING) ? 1 : -1;
         MongoCursor<Document> cursor = null;
         try {
-            cursor = collection.find(query).sort(new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir))
-                    .skip(filter.getPageNumber() * filter.getPageSize()).limit(filter.getPageSize()).iterator();
+            // only read the fields needed to restore the states
+            cursor = collection.find(query).projection(QUERY_PROJECTION)
+                    .sort(new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir))
+                    .skip(filter.getPageNumber() * filter.getPageSize()).limit(filter.getPageSize())
+                    .batchSize(queryBatchSize > 0 ? Math.min(queryBatchSize, filter.getPageSize()) : 0).iterator();
 
             while (cursor.hasNext()) {
                 Document obj = cursor.next();
@@ -351,6 +402,31 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
+        String realItemName = item.getName();
+        String name = (alias != null) ? alias : realItemName;
+        String collectionName = collectionPerItem ? name : this.collection;
+
+        Object value = MongoDBTypeConversions.convertValue(state);
+
+        Document obj = new Document();
+        obj.put(MongoDBFields.FIELD_ID, new ObjectId());
+        obj.put(MongoDBFields.FIELD_ITEM, name);
+        obj.put(MongoDBFields.FIELD_REALNAME, realItemName);
+        obj.put(MongoDBFields.FIELD_TIMESTAMP, date);
+        obj.put(MongoDBFields.FIELD_VALUE, value);
+        if (item instanceof NumberItem && state instanceof QuantityType<?>) {
+            obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
+        }
+
+        // The batch writer checks the connection once per batch
+        MongoDBBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter != null) {
+            if (batchWriter.offer(collectionName, obj)) {
+                logger.debug("MongoDB queued {}={}", name, value);
+            }
+            return;
+        }
+
         // Connect to mongodb server if we're not already connected
         // If we can't connect, log.
         if (!tryConnectToDatabase()) {
@@ -360,10 +436,6 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        String realItemName = item.getName();
-        String name = (alias != null) ? alias : realItemName;
-        String collectionName = collectionPerItem ? name : this.collection;
-
         @Nullable
         MongoCollection<Document> collection = connectToCollection(collectionName);
 
@@ -372,17 +444,6 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        Object value = MongoDBTypeConversions.convertValue(state);
-
-        Document obj = new Document();
-        obj.put(MongoDBFields.FIELD_ID, new ObjectId());
-        obj.put(MongoDBFields.FIELD_ITEM, name);
-        obj.put(MongoDBFields.FIELD_REALNAME, realItemName);
-        obj.put(MongoDBFields.FIELD_TIMESTAMP, date);
-        obj.put(MongoDBFields.FIELD_VALUE, value);
-        if (item instanceof NumberItem && state instanceof QuantityType<?>) {
-            obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
-        }
         try {
             collection.insertOne(obj);
         } catch (org.bson.BsonMaximumSizeExceededException e) {
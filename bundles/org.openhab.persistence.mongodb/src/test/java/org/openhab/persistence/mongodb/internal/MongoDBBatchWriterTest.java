@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.Document;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.MongoCollection;
+
+/**
+ * Tests the {@link MongoDBBatchWriter} without a database.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MongoDBBatchWriterTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    @SuppressWarnings("unchecked")
+    private final MongoCollection<Document> collection = mock(MongoCollection.class);
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testWriteConcernErrorWithoutWriteErrorsIsLogged() {
+        MongoBulkWriteException writeConcernError = mock(MongoBulkWriteException.class);
+        when(writeConcernError.getWriteErrors()).thenReturn(List.of());
+        doThrow(writeConcernError).when(collection).insertMany(anyList(), any());
+        MongoDBBatchWriter writer = new MongoDBBatchWriter(scheduler, () -> true, name -> collection, 10, 60_000, 10);
+
+        writer.offer("items", new Document("value", 1));
+
+        assertDoesNotThrow(writer::flush);
+        verify(collection).insertMany(anyList(), any());
+    }
+
+    @Test
+    public void testPeriodicFlushContinuesAfterError() {
+        AtomicInteger lookups = new AtomicInteger();
+        MongoDBBatchWriter writer = new MongoDBBatchWriter(scheduler, () -> true, name -> {
+            if (lookups.getAndIncrement() == 0) {
+                throw new IllegalStateException("broken");
+            }
+            return collection;
+        }, 10, 10, 10);
+        writer.start();
+
+        writer.offer("items", new Document("value", 1));
+        verify(collection, after(500).never()).insertMany(anyList(), any());
+        writer.offer("items", new Document("value", 2));
+
+        verify(collection, timeout(5000)).insertMany(anyList(), any());
+        writer.stop();
+    }
+
+    @Test
+    public void testFullQueueDropsValuesWithoutWaiting() {
+        MongoDBBatchWriter writer = new MongoDBBatchWriter(scheduler, () -> true, name -> collection, 10, 60_000, 1);
+
+        long start = System.nanoTime();
+        assertTrue(writer.offer("items", new Document("value", 1)));
+        assertFalse(writer.offer("items", new Document("value", 2)));
+
+        assertTrue(System.nanoTime() - start < 1_000_000_000L);
+    }
+}
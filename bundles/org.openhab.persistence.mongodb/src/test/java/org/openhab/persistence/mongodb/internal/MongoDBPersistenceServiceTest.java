@@ -1033,4 +1033,43 @@ public class MongoDBPersistenceServiceTest {
             dbContainer.stop();
         }
     }
+
+    /**
+     * Tests the store method of MongoDBPersistenceService with batch writing enabled.
+     *
+     * This test checks if values stored in batch mode are inserted into their collections when the batch writer is
+     * flushed on deactivation.
+     * It uses different database backends provided by the provideDatabaseBackends method.
+     *
+     * @param dbContainer The container running the MongoDB instance.
+     */
+    @ParameterizedTest
+    @MethodSource("org.openhab.persistence.mongodb.internal.DataCreationHelper#provideDatabaseBackends")
+    public void testStoreBatched(DatabaseTestContainer dbContainer) {
+        try {
+            // Preparation
+            SetupResult setupResult = DataCreationHelper.setupMongoDB(null, dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            MongoDatabase database = setupResult.database;
+            setupResult.config.put("batchSize", 100);
+            setupResult.config.put("batchInterval", 60000);
+
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            // Execution
+            for (int i = 0; i < 5; i++) {
+                service.store(DataCreationHelper.createNumberItem("TestItem1", i));
+                service.store(DataCreationHelper.createNumberItem("TestItem2", i));
+            }
+            assertEquals(0, database.getCollection("TestItem1").countDocuments());
+
+            service.deactivate(1);
+
+            // Verification
+            assertEquals(5, database.getCollection("TestItem1").countDocuments());
+            assertEquals(5, database.getCollection("TestItem2").countDocuments());
+        } finally {
+            dbContainer.stop();
+        }
+    }
 }
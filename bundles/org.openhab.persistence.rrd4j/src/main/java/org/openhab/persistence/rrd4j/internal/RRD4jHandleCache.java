@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RRD4jHandleCache} keeps the most recently written databases open, so that they do not have to be opened
+ * again for the next sample.
+ *
+ * A handle is taken out of the cache while it is used and put back afterwards, so only idle handles are closed when
+ * the cache is full.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jHandleCache {
+
+    private final Logger logger = LoggerFactory.getLogger(RRD4jHandleCache.class);
+
+    // insertion ordered: handles put back move to the end, the first handle is the least recently used one
+    private final Map<String, RrdDb> handles = new LinkedHashMap<>();
+    private int capacity = 0;
+    private long hits;
+    private long misses;
+
+    /**
+     * Sets the maximum number of open handles, closing the least recently used handles if necessary.
+     *
+     * @param capacity the maximum number of handles, 0 to close handles immediately
+     */
+    public void setCapacity(int capacity) {
+        List<RrdDb> evicted;
+        synchronized (this) {
+            this.capacity = Math.max(capacity, 0);
+            evicted = evict();
+        }
+        evicted.forEach(this::close);
+    }
+
+    /**
+     * Takes the handle of a database out of the cache.
+     *
+     * @param name the name of the database
+     * @return the open handle, or null if the database has to be opened
+     */
+    public synchronized @Nullable RrdDb take(String name) {
+        RrdDb db = handles.remove(name);
+        if (db != null && !db.isClosed()) {
+            hits++;
+            return db;
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Puts a handle back into the cache. The handle is closed if the cache is disabled.
+     *
+     * @param name the name of the database
+     * @param db the open handle
+     */
+    public void put(String name, RrdDb db) {
+        List<RrdDb> evicted;
+        synchronized (this) {
+            if (capacity == 0) {
+                evicted = List.of(db);
+            } else {
+                RrdDb previous = handles.put(name, db);
+                evicted = evict();
+                if (previous != null) {
+                    evicted.add(previous);
+                }
+            }
+        }
+        evicted.forEach(this::close);
+    }
+
+    /**
+     * Closes the handle of a database if it is idle.
+     *
+     * @param name the name of the database
+     */
+    public void invalidate(String name) {
+        RrdDb db;
+        synchronized (this) {
+            db = handles.remove(name);
+        }
+        if (db != null) {
+            close(db);
+        }
+    }
+
+    /**
+     * Closes all idle handles.
+     */
+    public void clear() {
+        List<RrdDb> evicted;
+        synchronized (this) {
+            evicted = new ArrayList<>(handles.values());
+            handles.clear();
+        }
+        evicted.forEach(this::close);
+    }
+
+    public synchronized int size() {
+        return handles.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Removes the least recently used handles beyond the capacity. Must be called holding the lock.
+     */
+    private List<RrdDb> evict() {
+        List<RrdDb> evicted = new ArrayList<>();
+        Iterator<RrdDb> iterator = handles.values().iterator();
+        while (handles.size() > capacity && iterator.hasNext()) {
+            evicted.add(iterator.next());
+            iterator.remove();
+        }
+        return evicted;
+    }
+
+    private void close(RrdDb db) {
+        try {
+            db.close();
+        } catch (IOException e) {
+            logger.debug("Error closing rrd4j database: {}", e.getMessage());
+        }
+    }
+}
@@ -12,6 +12,7 @@
  */
 package org.openhab.persistence.rrd4j.internal;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -21,18 +22,22 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.DoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -83,10 +88,14 @@ import org.rrd4j.ConsolFun;
 import org.rrd4j.DsType;
 import org.rrd4j.core.FetchData;
 import org.rrd4j.core.FetchRequest;
+import org.rrd4j.core.RrdBackendFactory;
 import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdDb.Builder;
 import org.rrd4j.core.RrdDbPool;
 import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdNioBackendFactory;
+import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
+import org.rrd4j.core.RrdSafeFileBackendFactory;
 import org.rrd4j.core.Sample;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -115,8 +124,40 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    record PendingValue(long timestamp, double value) {
+    }
+
+    /**
+     * The state of the writes to the databases.
+     *
+     * @param backlog the number of values waiting to be written
+     * @param openDatabases the number of databases kept open between writes
+     * @param lastFlushDuration the time the last write of all pending values took
+     * @param lastFlushValues the number of values written by the last write of all pending values
+     * @param writtenValues the number of values written since the service has been started
+     * @param handleHits the number of writes using a database kept open
+     * @param handleMisses the number of writes opening a database
+     */
+    public record WriteMetrics(int backlog, int openDatabases, Duration lastFlushDuration, int lastFlushValues,
+            long writtenValues, long handleHits, long handleMisses) {
+    }
+
     public static final String SERVICE_ID = "rrd4j";
 
+    private static final String CONFIG_MAX_OPEN_DATABASES = "maxOpenDatabases";
+    private static final String CONFIG_BACKEND = "backend";
+    private static final String CONFIG_SYNC_PERIOD = "syncPeriod";
+    private static final Set<String> SERVICE_CONFIGS = Set.of(CONFIG_MAX_OPEN_DATABASES, CONFIG_BACKEND,
+            CONFIG_SYNC_PERIOD);
+
+    private static final String BACKEND_NIO = "NIO";
+    private static final String BACKEND_FILE = "FILE";
+    private static final String BACKEND_SAFE = "SAFE";
+    private static final int DEFAULT_SYNC_PERIOD = 300; // in s, as used by rrd4j
+
+    private static final int WRITE_LOCK_STRIPES = 32;
+    private static final int QUERY_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
     private static final String DEFAULT_OTHER = "default_other";
     private static final String DEFAULT_NUMERIC = "default_numeric";
     private static final String DEFAULT_QUANTIFIABLE = "default_quantifiable";
@@ -127,16 +168,31 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory("RRD4j"));
 
+    private final ExecutorService queryExecutor = Executors.newFixedThreadPool(QUERY_THREADS,
+            new NamedThreadFactory("RRD4j-query"));
+
     private final Map<String, RrdDefConfig> rrdDefs = new ConcurrentHashMap<>();
 
     private final ConcurrentSkipListMap<Key, Double> storageMap = new ConcurrentSkipListMap<>(Key::compareTo);
 
+    private final RRD4jHandleCache handleCache = new RRD4jHandleCache();
+
+    // writes to the same database are serialized, writes to different databases only share a lock by chance
+    private final Object[] writeLocks = new Object[WRITE_LOCK_STRIPES];
+
+    private volatile long lastFlushNanos = 0;
+    private volatile int lastFlushValues = 0;
+    private final AtomicLong writtenValues = new AtomicLong();
+
     private static final String DATASOURCE_STATE = "state";
 
     private static final Path DB_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "persistence", "rrd4j").toAbsolutePath();
 
     private static final RrdDbPool DATABASE_POOL = new RrdDbPool();
 
+    private static volatile RrdBackendFactory backendFactory = RrdBackendFactory.getDefaultFactory();
+    private static volatile String backendConfig = "";
+
     private final Logger logger = LoggerFactory.getLogger(RRD4jPersistenceService.class);
     private final ItemRegistry itemRegistry;
     private boolean active = false;
@@ -149,11 +205,21 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return DATABASE_POOL;
     }
 
+    /**
+     * @return the backend factory used to access the database files
+     */
+    public static RrdBackendFactory getBackendFactory() {
+        return backendFactory;
+    }
+
     private final ScheduledFuture<?> storeJob;
 
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry, Map<String, Object> config) {
         this.itemRegistry = itemRegistry;
+        for (int i = 0; i < writeLocks.length; i++) {
+            writeLocks[i] = new Object();
+        }
         storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), 1, 1, TimeUnit.SECONDS);
         modified(config);
         active = true;
@@ -203,6 +269,9 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         defaultOther.addArchives("LAST,0.5,1,720:LAST,0.5,12,10080:LAST,0.5,180,35040:LAST,0.5,2880,21900");
         rrdDefs.put(DEFAULT_OTHER, defaultOther);
 
+        setMaxOpenDatabases(config.get(CONFIG_MAX_OPEN_DATABASES));
+        setBackend(config.get(CONFIG_BACKEND), config.get(CONFIG_SYNC_PERIOD));
+
         if (config.isEmpty()) {
             logger.debug("using default configuration only");
             return;
@@ -212,8 +281,8 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         while (keys.hasNext()) {
             String key = keys.next();
 
-            if ("service.pid".equals(key) || "component.name".equals(key)) {
-                // ignore service.pid and name
+            if ("service.pid".equals(key) || "component.name".equals(key) || SERVICE_CONFIGS.contains(key)) {
+                // ignore service.pid and name, service settings are not datasources
                 continue;
             }
 
@@ -267,13 +336,82 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    private int parseInt(String key, @Nullable Object value, int defaultValue) {
+        if (value != null && !value.toString().isBlank()) {
+            try {
+                return Math.max(0, Integer.parseInt(value.toString().trim()));
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring illegal configuration {} = {}", key, value);
+            }
+        }
+        return defaultValue;
+    }
+
+    private void setMaxOpenDatabases(@Nullable Object value) {
+        int maxOpenDatabases = parseInt(CONFIG_MAX_OPEN_DATABASES, value, 0);
+        // the pool blocks when all of its databases are in use, leave room for queries and charts
+        int poolCapacity = maxOpenDatabases + RrdDbPool.INITIAL_CAPACITY;
+        if (DATABASE_POOL.getCapacity() < poolCapacity) {
+            DATABASE_POOL.setCapacity(poolCapacity);
+        }
+        handleCache.setCapacity(maxOpenDatabases);
+    }
+
+    private void setBackend(@Nullable Object backendValue, @Nullable Object syncPeriodValue) {
+        String backend = backendValue == null || backendValue.toString().isBlank() ? ""
+                : backendValue.toString().trim().toUpperCase();
+        int syncPeriod = parseInt(CONFIG_SYNC_PERIOD, syncPeriodValue, DEFAULT_SYNC_PERIOD);
+        String newBackendConfig = BACKEND_NIO.equals(backend) ? backend + "," + syncPeriod : backend;
+        synchronized (RRD4jPersistenceService.class) {
+            if (newBackendConfig.equals(backendConfig)) {
+                return;
+            }
+            RrdBackendFactory newBackendFactory;
+            switch (backend) {
+                case "":
+                    newBackendFactory = RrdBackendFactory.getDefaultFactory();
+                    break;
+                case BACKEND_NIO:
+                    // memory mapped files, synchronized to disk every syncPeriod seconds
+                    newBackendFactory = new RrdNioBackendFactory(Math.max(1, syncPeriod));
+                    break;
+                case BACKEND_FILE:
+                    newBackendFactory = new RrdRandomAccessFileBackendFactory();
+                    break;
+                case BACKEND_SAFE:
+                    newBackendFactory = new RrdSafeFileBackendFactory();
+                    break;
+                default:
+                    logger.warn("Ignoring unknown {} '{}', supported are {}, {} and {}", CONFIG_BACKEND, backendValue,
+                            BACKEND_NIO, BACKEND_FILE, BACKEND_SAFE);
+                    return;
+            }
+            // the open databases still use the previous backend
+            handleCache.clear();
+            RrdBackendFactory previousBackendFactory = backendFactory;
+            backendFactory = newBackendFactory;
+            backendConfig = newBackendConfig;
+            logger.debug("Using rrd4j backend {}", newBackendFactory.getName());
+            if (previousBackendFactory != RrdBackendFactory.getDefaultFactory()
+                    && previousBackendFactory instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (IOException e) {
+                    logger.debug("Error closing rrd4j backend: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
     @Deactivate
     protected void deactivate() {
         active = false;
         storeJob.cancel(false);
+        queryExecutor.shutdownNow();
 
         // make sure we really store everything
         doStore(true);
+        handleCache.clear();
     }
 
     @Override
@@ -340,31 +478,80 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     }
 
     private void doStore(boolean force) {
+        long start = System.nanoTime();
         long now = System.currentTimeMillis() / 1000;
+        // group the values by database, so that every database is opened only once
+        Map<String, List<PendingValue>> pendingValues = new LinkedHashMap<>();
+        int count = 0;
         while (!storageMap.isEmpty()) {
             Key key = storageMap.firstKey();
             if (now > key.timestamp || force) {
                 // no new elements can be added for this timestamp because we are already past that time or the service
                 // requires forced storing
                 Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
+                pendingValues.computeIfAbsent(key.name, name -> new ArrayList<>())
+                        .add(new PendingValue(key.timestamp, value));
+                count++;
             } else {
-                return;
+                break;
             }
         }
+        if (count == 0) {
+            return;
+        }
+        pendingValues.forEach(this::writePointsToDatabase);
+        lastFlushNanos = System.nanoTime() - start;
+        lastFlushValues = count;
+        writtenValues.addAndGet(count);
+        logger.trace("Stored {} values to {} rrd4j databases in {} ms", count, pendingValues.size(),
+                lastFlushNanos / 1_000_000);
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
-        RrdDb db = null;
-        try {
-            db = getDB(name, true);
-        } catch (Exception e) {
-            logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
-        }
-        if (db == null) {
-            return;
+    /**
+     * Writes values to a database, keeping the database open for the next values.
+     *
+     * @param name the name of the database
+     * @param values the values, ordered by time
+     */
+    void writePointsToDatabase(String name, List<PendingValue> values) {
+        synchronized (getWriteLock(name)) {
+            RrdDb db = handleCache.take(name);
+            if (db == null) {
+                try {
+                    db = getDB(name, true);
+                } catch (Exception e) {
+                    logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
+                }
+                if (db == null) {
+                    return;
+                }
+            }
+            boolean usable = true;
+            for (PendingValue value : values) {
+                usable &= writePointToDatabase(db, name, value.value(), value.timestamp());
+            }
+            if (usable) {
+                handleCache.put(name, db);
+            } else {
+                try {
+                    db.close();
+                } catch (IOException e) {
+                    logger.debug("Error closing rrd4j database: {}", e.getMessage());
+                }
+            }
         }
+    }
+
+    private Object getWriteLock(String name) {
+        return writeLocks[Math.floorMod(name.hashCode(), writeLocks.length)];
+    }
 
+    /**
+     * Writes a value to an open database.
+     *
+     * @return false if the database failed with an I/O error and should be closed
+     */
+    private boolean writePointToDatabase(RrdDb db, String name, double value, long timestamp) {
         ConsolFun function = getConsolidationFunction(db);
         if (function != ConsolFun.AVERAGE) {
             try {
@@ -396,16 +583,31 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             sample.setValue(DATASOURCE_STATE, storeValue);
             sample.update();
             logger.debug("Stored '{}' as value '{}' with timestamp {} in rrd4j database", name, storeValue, timestamp);
+        } catch (IOException e) {
+            logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
+            return false;
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
         }
-        try {
-            db.close();
-        } catch (IOException e) {
-            logger.debug("Error closing rrd4j database: {}", e.getMessage());
+        return true;
+    }
+
+    /**
+     * Closes a database kept open for writing, e.g. before its file is deleted.
+     *
+     * @param name the name of the database
+     */
+    public void closeDatabase(String name) {
+        synchronized (getWriteLock(name)) {
+            handleCache.invalidate(name);
         }
     }
 
+    public WriteMetrics getWriteMetrics() {
+        return new WriteMetrics(storageMap.size(), handleCache.size(), Duration.ofNanos(lastFlushNanos),
+                lastFlushValues, writtenValues.get(), handleCache.getHits(), handleCache.getMisses());
+    }
+
     @Override
     public void store(Item item) {
         store(item, null);
@@ -541,6 +743,34 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    /**
+     * Queries the databases of several items at once. The databases are read in parallel on a bounded pool of threads.
+     *
+     * @param filters the filters, one per item
+     * @return the results, in the order of the filters
+     */
+    public List<Iterable<HistoricItem>> query(List<FilterCriteria> filters) {
+        List<CompletableFuture<Iterable<HistoricItem>>> futures = new ArrayList<>(filters.size());
+        for (FilterCriteria filter : filters) {
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> query(filter), queryExecutor));
+            } catch (RejectedExecutionException e) {
+                // the service is shutting down
+                futures.add(CompletableFuture.completedFuture(List.of()));
+            }
+        }
+        List<Iterable<HistoricItem>> results = new ArrayList<>(filters.size());
+        for (CompletableFuture<Iterable<HistoricItem>> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (RuntimeException e) {
+                logger.warn("Could not query rrd4j database: {}", e.getMessage());
+                results.add(List.of());
+            }
+        }
+        return results;
+    }
+
     /**
      * Returns a {@link PersistedItem} representing the persisted state, last update and change timestamps and previous
      * persisted state. This can be used to restore the full state of an item.
@@ -664,6 +894,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         try {
             Builder builder = RrdDb.getBuilder();
             builder.setPool(DATABASE_POOL);
+            builder.setBackendFactory(backendFactory);
 
             if (Files.exists(path)) {
                 // recreate the RrdDb instance from the file
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal.charts;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.ItemNotFoundException;
+
+/**
+ * The {@link RRD4jChartCache} keeps rendered charts until the data they show may have changed.
+ *
+ * Requests for a chart that is being rendered wait for that rendering instead of rendering the chart again.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jChartCache {
+
+    private static final int MAX_ENTRIES = 50;
+
+    // guarded by itself, access ordered for evicting the least recently used chart
+    private final Map<ChartKey, CachedChart> charts = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<ChartKey, CompletableFuture<CachedChart>> renderings = new ConcurrentHashMap<>();
+
+    /**
+     * Identifies the requested chart, the time span is relative to the time of the request.
+     */
+    public record ChartKey(@Nullable String items, @Nullable String groups, String period, int width, int height) {
+    }
+
+    /**
+     * A rendered chart.
+     *
+     * @param image the encoded image
+     * @param etag the entity tag of the image
+     * @param expires the time in epoch milliseconds the chart has to be rendered again
+     */
+    public record CachedChart(byte[] image, String etag, long expires) {
+
+        public static CachedChart of(byte[] image, long expires) {
+            CRC32 crc = new CRC32();
+            crc.update(image);
+            return new CachedChart(image,
+                    "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(image.length) + "\"",
+                    expires);
+        }
+
+        public boolean isExpired(long now) {
+            return now >= expires;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ChartRenderer {
+        CachedChart render() throws ItemNotFoundException, IOException;
+    }
+
+    /**
+     * Returns the cached chart or renders it.
+     *
+     * @param key the chart
+     * @param renderer renders the chart if it is not cached or expired
+     * @return the chart
+     * @throws ItemNotFoundException if the renderer failed because an item does not exist
+     * @throws IOException if the renderer failed to render the chart
+     */
+    public CachedChart get(ChartKey key, ChartRenderer renderer) throws ItemNotFoundException, IOException {
+        long now = System.currentTimeMillis();
+        synchronized (charts) {
+            CachedChart chart = charts.get(key);
+            if (chart != null && !chart.isExpired(now)) {
+                return chart;
+            }
+        }
+
+        CompletableFuture<CachedChart> rendering = new CompletableFuture<>();
+        CompletableFuture<CachedChart> running = renderings.putIfAbsent(key, rendering);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            CachedChart chart = renderer.render();
+            put(key, chart);
+            rendering.complete(chart);
+            return chart;
+        } catch (Throwable e) {
+            // also errors, e.g. of AWT, so that the waiting requests don't wait forever
+            rendering.completeExceptionally(e);
+            throw e;
+        } finally {
+            renderings.remove(key, rendering);
+        }
+    }
+
+    public void clear() {
+        synchronized (charts) {
+            charts.clear();
+        }
+    }
+
+    private void put(ChartKey key, CachedChart chart) {
+        long now = System.currentTimeMillis();
+        synchronized (charts) {
+            charts.put(key, chart);
+            Iterator<CachedChart> iterator = charts.values().iterator();
+            while (iterator.hasNext()) {
+                CachedChart cached = iterator.next();
+                if (charts.size() > MAX_ENTRIES || cached.isExpired(now)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private CachedChart await(CompletableFuture<CachedChart> rendering) throws ItemNotFoundException, IOException {
+        try {
+            return rendering.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ItemNotFoundException itemNotFoundException) {
+                throw itemNotFoundException;
+            } else if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -17,6 +17,7 @@ import static java.util.Map.entry;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
@@ -30,6 +31,8 @@ import javax.servlet.ServletConfig;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -43,6 +46,8 @@ import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegi
 import org.openhab.core.ui.chart.ChartProvider;
 import org.openhab.core.ui.items.ItemUIRegistry;
 import org.openhab.persistence.rrd4j.internal.RRD4jPersistenceService;
+import org.openhab.persistence.rrd4j.internal.charts.RRD4jChartCache.CachedChart;
+import org.openhab.persistence.rrd4j.internal.charts.RRD4jChartCache.ChartKey;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -50,8 +55,10 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.http.HttpService;
 import org.osgi.service.http.NamespaceException;
 import org.rrd4j.ConsolFun;
+import org.rrd4j.core.ArcDef;
 import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdDb.Builder;
+import org.rrd4j.core.RrdDef;
 import org.rrd4j.graph.RrdGraph;
 import org.rrd4j.graph.RrdGraphConstants.FontTag;
 import org.rrd4j.graph.RrdGraphDef;
@@ -69,6 +76,9 @@ import org.slf4j.LoggerFactory;
  * <li>groups: A comma separated list of group names, whose members should be displayed
  * </ul>
  *
+ * Rendered charts are cached until the archives they are drawn from get a new value. Clients can revalidate a chart
+ * with its ETag.
+ *
  * @author Kai Kreuzer - Initial contribution
  * @author Chris Jackson - a few improvements
  * @author Jan N. Klug - a few improvements
@@ -109,6 +119,10 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     private final ItemUIRegistry itemUIRegistry;
     private final TimeZoneProvider timeZoneProvider;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
+    private final RRD4jChartCache chartCache = new RRD4jChartCache();
+
+    private record RenderedChart(BufferedImage image, long refreshSeconds) {
+    }
 
     @Activate
     public RRD4jChartServlet(final @Reference HttpService httpService, final @Reference ItemUIRegistry itemUIRegistry,
@@ -133,6 +147,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     @Deactivate
     protected void deactivate() {
         httpService.unregister(SERVLET_NAME);
+        chartCache.clear();
     }
 
     @Override
@@ -143,17 +158,23 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         int height = parseInt(req.getParameter("h"), DEFAULT_HEIGHT);
         String periodParam = req.getParameter("period");
         Duration period = periodParam == null ? DEFAULT_PERIOD : PERIODS.getOrDefault(periodParam, DEFAULT_PERIOD);
-
-        // Create the start and stop time
-        ZonedDateTime timeEnd = ZonedDateTime.now(timeZoneProvider.getTimeZone());
-        ZonedDateTime timeBegin = timeEnd.minus(period);
+        String items = req.getParameter("items");
+        String groups = req.getParameter("groups");
 
         try {
-            BufferedImage chart = createChart(null, null, timeBegin, timeEnd, height, width, req.getParameter("items"),
-                    req.getParameter("groups"), null, null);
-            // Set the content type to that provided by the chart provider
-            res.setContentType("image/" + getChartType());
-            ImageIO.write(chart, getChartType().toString(), res.getOutputStream());
+            ChartKey key = new ChartKey(items, groups, period.toString(), width, height);
+            CachedChart chart = chartCache.get(key, () -> {
+                // Create the start and stop time
+                ZonedDateTime timeEnd = ZonedDateTime.now(timeZoneProvider.getTimeZone());
+                ZonedDateTime timeBegin = timeEnd.minus(period);
+                RenderedChart rendered = renderChart(timeBegin, timeEnd, height, width, items, groups);
+                ByteArrayOutputStream image = new ByteArrayOutputStream();
+                ImageIO.write(rendered.image(), getChartType().toString(), image);
+                return CachedChart.of(image.toByteArray(),
+                        System.currentTimeMillis() + rendered.refreshSeconds() * 1000);
+            });
+
+            writeChart(chart, "image/" + getChartType(), req, res);
         } catch (ItemNotFoundException e) {
             logger.debug("Item not found error while generating chart", e);
             throw new ServletException("Item not found error while generating chart: " + e.getMessage());
@@ -163,6 +184,44 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         }
     }
 
+    /**
+     * Writes the chart to the response, or only its ETag if the client already has this chart.
+     */
+    static void writeChart(CachedChart chart, String contentType, ServletRequest req, ServletResponse res)
+            throws IOException {
+        long maxAge = Math.max(0, (chart.expires() - System.currentTimeMillis()) / 1000);
+        if (res instanceof HttpServletResponse httpResponse) {
+            httpResponse.setHeader("ETag", chart.etag());
+            httpResponse.setHeader("Cache-Control", "max-age=" + maxAge);
+            String ifNoneMatch = req instanceof HttpServletRequest httpRequest ? httpRequest.getHeader("If-None-Match")
+                    : null;
+            if (ifNoneMatch != null && matchesEtag(ifNoneMatch, chart.etag())) {
+                httpResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+        // Set the content type to that provided by the chart provider
+        res.setContentType(contentType);
+        res.setContentLength(chart.image().length);
+        res.getOutputStream().write(chart.image());
+    }
+
+    /**
+     * Checks whether an If-None-Match header lists the entity tag, using the weak comparison required for it.
+     */
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if ("*".equals(trimmed) || etag.equals(trimmed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private int parseInt(@Nullable String s, int defaultValue) {
         if (s == null) {
             return defaultValue;
@@ -183,38 +242,62 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
      * @param graphDef the graph definition to fill
      * @param item the item to add a line for
      * @param counter defines the number of the datasource and is used to determine the line color
+     * @param period the time span of the chart
+     * @return the step in seconds of the archive the line is drawn from, or 0 if unknown
      */
-    protected void addLine(RrdGraphDef graphDef, Item item, @Nullable String alias, int counter) {
+    protected long addLine(RrdGraphDef graphDef, Item item, @Nullable String alias, int counter, Duration period) {
         Color color = LINECOLORS[counter % LINECOLORS.length];
         String label = itemUIRegistry.getLabel(item.getName());
         String rrdName = RRD4jPersistenceService.getDatabasePath(alias != null ? alias : item.getName()).toString();
         ConsolFun consolFun;
+        long archiveStep = 0;
         if (label != null && label.contains("[") && label.contains("]")) {
             label = label.substring(0, label.indexOf('['));
         }
         try {
             Builder builder = RrdDb.getBuilder();
             builder.setPool(RRD4jPersistenceService.getDatabasePool());
+            builder.setBackendFactory(RRD4jPersistenceService.getBackendFactory());
             builder.setPath(rrdName);
 
             RrdDb db = builder.build();
-            consolFun = db.getRrdDef().getArcDefs()[0].getConsolFun();
+            RrdDef rrdDef = db.getRrdDef();
+            consolFun = rrdDef.getArcDefs()[0].getConsolFun();
+            archiveStep = getArchiveStep(rrdDef, period);
             db.close();
         } catch (IOException e) {
             consolFun = ConsolFun.MAX;
         }
         if (item instanceof NumberItem) {
             // we only draw a line
-            graphDef.datasource(Integer.toString(counter), rrdName, "state", consolFun); // RRD4jService.getConsolidationFunction(item));
+            graphDef.datasource(Integer.toString(counter), rrdName, "state", consolFun,
+                    RRD4jPersistenceService.getBackendFactory()); // RRD4jService.getConsolidationFunction(item));
             graphDef.line(Integer.toString(counter), color, label, 2);
         } else {
             // we draw a line and fill the area beneath it with a transparent color
-            graphDef.datasource(Integer.toString(counter), rrdName, "state", consolFun); // RRD4jService.getConsolidationFunction(item));
+            graphDef.datasource(Integer.toString(counter), rrdName, "state", consolFun,
+                    RRD4jPersistenceService.getBackendFactory()); // RRD4jService.getConsolidationFunction(item));
             Color areaColor = AREACOLORS[counter % LINECOLORS.length];
 
             graphDef.area(Integer.toString(counter), areaColor);
             graphDef.line(Integer.toString(counter), color, label, 2);
         }
+        return archiveStep;
+    }
+
+    /**
+     * Determines the step of the finest archive holding the whole period, as a chart of that period only changes when
+     * this archive gets a new value.
+     */
+    private static long getArchiveStep(RrdDef rrdDef, Duration period) {
+        long archiveStep = 0;
+        for (ArcDef arcDef : rrdDef.getArcDefs()) {
+            long step = rrdDef.getStep() * arcDef.getSteps();
+            if (step * arcDef.getRows() >= period.toSeconds() && (archiveStep == 0 || step < archiveStep)) {
+                archiveStep = step;
+            }
+        }
+        return archiveStep;
     }
 
     @Override
@@ -247,6 +330,13 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     public BufferedImage createChart(@Nullable String service, @Nullable String theme, ZonedDateTime startTime,
             ZonedDateTime endTime, int height, int width, @Nullable String items, @Nullable String groups,
             @Nullable Integer dpi, @Nullable Boolean legend) throws ItemNotFoundException {
+        return renderChart(startTime, endTime, height, width, items, groups).image();
+    }
+
+    private RenderedChart renderChart(ZonedDateTime startTime, ZonedDateTime endTime, int height, int width,
+            @Nullable String items, @Nullable String groups) throws ItemNotFoundException {
+        Duration period = Duration.between(startTime, endTime);
+        long refreshSeconds = 0;
         RrdGraphDef graphDef = new RrdGraphDef(startTime.toEpochSecond(), endTime.toEpochSecond());
         graphDef.setWidth(width);
         graphDef.setHeight(height);
@@ -267,7 +357,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             for (String itemName : itemNames) {
                 String alias = config != null ? config.getAliases().get(itemName) : null;
                 Item item = itemUIRegistry.getItem(itemName);
-                addLine(graphDef, item, alias, seriesCounter++);
+                refreshSeconds = minStep(refreshSeconds, addLine(graphDef, item, alias, seriesCounter++, period));
             }
         }
 
@@ -279,7 +369,8 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
                 if (item instanceof GroupItem groupItem) {
                     for (Item member : groupItem.getMembers()) {
                         String alias = config != null ? config.getAliases().get(member.getName()) : null;
-                        addLine(graphDef, member, alias, seriesCounter++);
+                        refreshSeconds = minStep(refreshSeconds,
+                                addLine(graphDef, member, alias, seriesCounter++, period));
                     }
                 } else {
                     throw new ItemNotFoundException("Item '" + item.getName() + "' defined in groups is not a group.");
@@ -293,12 +384,20 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             BufferedImage bi = new BufferedImage(graph.getRrdGraphInfo().getWidth(),
                     graph.getRrdGraphInfo().getHeight(), BufferedImage.TYPE_INT_RGB);
             graph.render(bi.getGraphics());
-            return bi;
+            if (refreshSeconds == 0) {
+                // no archive known, refresh when the chart moves by a pixel
+                refreshSeconds = Math.max(1, period.toSeconds() / Math.max(1, width));
+            }
+            return new RenderedChart(bi, refreshSeconds);
         } catch (IOException e) {
             throw new UncheckedIOException("Error generating RrdGraph", e);
         }
     }
 
+    private static long minStep(long step1, long step2) {
+        return step1 == 0 || (step2 != 0 && step2 < step1) ? step2 : step1;
+    }
+
     @Override
     public ImageType getChartType() {
         return ImageType.png;
@@ -52,8 +52,9 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
     private static final String CMD_LIST = "list";
     private static final String CMD_CHECK = "check";
     private static final String CMD_CLEAN = "clean";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN),
-            false);
+    private static final String CMD_STATS = "stats";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN, CMD_STATS), false);
 
     private final PersistenceServiceRegistry persistenceServiceRegistry;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
@@ -89,6 +90,15 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
         } else if (args.length >= 1 && args.length <= 2 && CMD_CLEAN.equalsIgnoreCase(args[0])) {
             checkAndClean(persistenceService, console, args.length == 2 ? args[1] : null, false);
             return;
+        } else if (args.length == 1 && CMD_STATS.equalsIgnoreCase(args[0])) {
+            RRD4jPersistenceService.WriteMetrics metrics = persistenceService.getWriteMetrics();
+            console.println("Values waiting to be written: " + metrics.backlog());
+            console.println("Last write: " + metrics.lastFlushValues() + " values in "
+                    + metrics.lastFlushDuration().toMillis() + " ms");
+            console.println("Values written: " + metrics.writtenValues());
+            console.println("Open databases: " + metrics.openDatabases() + " (" + metrics.handleHits()
+                    + " writes to open databases, " + metrics.handleMisses() + " databases opened)");
+            return;
         }
         printUsage(console);
     }
@@ -141,7 +151,10 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
                 if (checkOnly) {
                     console.println("  - " + filename + ": no item found");
                     nb++;
-                } else if (path.toFile().delete()) {
+                    continue;
+                }
+                persistenceService.closeDatabase(name);
+                if (path.toFile().delete()) {
                     console.println("  - " + filename + ": file deleted");
                     nb++;
                 } else {
@@ -156,7 +169,8 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
     public List<String> getUsages() {
         return List.of(buildCommandUsage(CMD_LIST, "list Round Robin Database files"),
                 buildCommandUsage(CMD_CHECK, "check for RRD files without existing item"),
-                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"));
+                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"),
+                buildCommandUsage(CMD_STATS, "show statistics of the writes to RRD files"));
     }
 
     @Override
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.rrd4j.core.RrdDb;
+
+/**
+ * Tests the {@link RRD4jHandleCache}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jHandleCacheTest {
+
+    private final RRD4jHandleCache cache = new RRD4jHandleCache();
+
+    @Test
+    public void testHandlePutBackIsTakenAgain() throws IOException {
+        cache.setCapacity(2);
+        RrdDb db = mock(RrdDb.class);
+
+        assertNull(cache.take("item"));
+        cache.put("item", db);
+        assertSame(db, cache.take("item"));
+        // taken handles are not in the cache, so they are never closed while used
+        assertNull(cache.take("item"));
+        cache.clear();
+
+        verify(db, never()).close();
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testClosedHandleIsNotReturned() {
+        cache.setCapacity(2);
+        RrdDb db = mock(RrdDb.class);
+        when(db.isClosed()).thenReturn(true);
+
+        cache.put("item", db);
+
+        assertNull(cache.take("item"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedHandleIsEvicted() throws IOException {
+        cache.setCapacity(2);
+        RrdDb db1 = mock(RrdDb.class);
+        RrdDb db2 = mock(RrdDb.class);
+        RrdDb db3 = mock(RrdDb.class);
+        cache.put("item1", db1);
+        cache.put("item2", db2);
+        // using item1 makes item2 the least recently used handle
+        assertSame(db1, cache.take("item1"));
+        cache.put("item1", db1);
+
+        cache.put("item3", db3);
+
+        verify(db2).close();
+        verify(db1, never()).close();
+        verify(db3, never()).close();
+        assertEquals(2, cache.size());
+        assertNull(cache.take("item2"));
+    }
+
+    @Test
+    public void testReducedCapacityClosesHandles() throws IOException {
+        cache.setCapacity(2);
+        RrdDb db1 = mock(RrdDb.class);
+        RrdDb db2 = mock(RrdDb.class);
+        cache.put("item1", db1);
+        cache.put("item2", db2);
+
+        cache.setCapacity(1);
+        verify(db1).close();
+        verify(db2, never()).close();
+
+        cache.setCapacity(0);
+        verify(db2).close();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testDisabledCacheClosesHandlesImmediately() throws IOException {
+        RrdDb db = mock(RrdDb.class);
+
+        cache.put("item", db);
+
+        verify(db).close();
+        assertNull(cache.take("item"));
+    }
+
+    @Test
+    public void testInvalidateClosesIdleHandle() throws IOException {
+        cache.setCapacity(2);
+        RrdDb db1 = mock(RrdDb.class);
+        RrdDb db2 = mock(RrdDb.class);
+        cache.put("item1", db1);
+        cache.put("item2", db2);
+
+        cache.invalidate("item1");
+        cache.invalidate("unknown");
+
+        verify(db1).close();
+        verify(db2, never()).close();
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testReplacedHandleIsClosed() throws IOException {
+        cache.setCapacity(2);
+        RrdDb db1 = mock(RrdDb.class);
+        RrdDb db2 = mock(RrdDb.class);
+
+        cache.put("item", db1);
+        cache.put("item", db2);
+
+        verify(db1).close();
+        assertSame(db2, cache.take("item"));
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+import org.openhab.persistence.rrd4j.internal.RRD4jPersistenceService.PendingValue;
+import org.openhab.persistence.rrd4j.internal.RRD4jPersistenceService.WriteMetrics;
+import org.rrd4j.core.RrdBackendFactory;
+import org.rrd4j.core.RrdNioBackendFactory;
+import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
+import org.rrd4j.core.RrdSafeFileBackendFactory;
+
+/**
+ * Tests the {@link RRD4jPersistenceService} with database files in a temporary folder.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jPersistenceServiceTest {
+
+    static {
+        // the database folder is determined when the service class is loaded
+        try {
+            System.setProperty("openhab.userdata", Files.createTempDirectory("rrd4j").toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final int THREADS = 8;
+    private static final int WRITES_PER_THREAD = 20;
+
+    private final ItemRegistry itemRegistry = mock(ItemRegistry.class);
+    private final Map<String, Object> config = new HashMap<>();
+    private @NonNullByDefault({}) RRD4jPersistenceService service;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        when(itemRegistry.getItem(anyString()))
+                .thenAnswer(invocation -> new NumberItem(invocation.getArgument(0, String.class)));
+        config.put("maxOpenDatabases", "4");
+        service = new RRD4jPersistenceService(itemRegistry, config);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.deactivate();
+    }
+
+    @Test
+    public void testConcurrentWritesShareOneHandle() throws Exception {
+        AtomicLong timestamp = new AtomicLong(System.currentTimeMillis() / 1000);
+
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < WRITES_PER_THREAD; i++) {
+                long time = timestamp.incrementAndGet();
+                service.writePointsToDatabase("ConcurrentItem", List.of(new PendingValue(time, time % 100)));
+            }
+            return null;
+        });
+
+        WriteMetrics metrics = service.getWriteMetrics();
+        // writes are serialized per database, so the database is opened once and never twice at the same time
+        assertEquals(1, metrics.handleMisses());
+        assertEquals(THREADS * WRITES_PER_THREAD - 1, metrics.handleHits());
+        assertEquals(1, metrics.openDatabases());
+    }
+
+    @Test
+    public void testConcurrentWritesAndCloseDoNotLeakHandles() throws Exception {
+        String path = RRD4jPersistenceService.getDatabasePath("ClosedItem").toString();
+        AtomicLong timestamp = new AtomicLong(System.currentTimeMillis() / 1000);
+
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < WRITES_PER_THREAD; i++) {
+                long time = timestamp.incrementAndGet();
+                service.writePointsToDatabase("ClosedItem", List.of(new PendingValue(time, 1)));
+                service.closeDatabase("ClosedItem");
+            }
+            return null;
+        });
+
+        assertEquals(0, service.getWriteMetrics().openDatabases());
+        assertEquals(0, RRD4jPersistenceService.getDatabasePool().getOpenCount(path));
+    }
+
+    @Test
+    public void testBackendIsConfigurable() {
+        try {
+            config.put("backend", "file");
+            service.modified(config);
+            assertInstanceOf(RrdRandomAccessFileBackendFactory.class, RRD4jPersistenceService.getBackendFactory());
+
+            config.put("backend", "SAFE");
+            service.modified(config);
+            assertInstanceOf(RrdSafeFileBackendFactory.class, RRD4jPersistenceService.getBackendFactory());
+
+            config.put("backend", "unknown");
+            service.modified(config);
+            assertInstanceOf(RrdSafeFileBackendFactory.class, RRD4jPersistenceService.getBackendFactory());
+        } finally {
+            config.remove("backend");
+            service.modified(config);
+        }
+        assertSame(RrdBackendFactory.getDefaultFactory(), RRD4jPersistenceService.getBackendFactory());
+    }
+
+    @Test
+    public void testSyncPeriodReplacesNioBackend() {
+        try {
+            config.put("backend", "NIO");
+            config.put("syncPeriod", "60");
+            service.modified(config);
+            RrdBackendFactory factory = RRD4jPersistenceService.getBackendFactory();
+            assertInstanceOf(RrdNioBackendFactory.class, factory);
+
+            // an unchanged configuration keeps the backend and its open files
+            service.modified(config);
+            assertSame(factory, RRD4jPersistenceService.getBackendFactory());
+
+            config.put("syncPeriod", "30");
+            service.modified(config);
+            assertInstanceOf(RrdNioBackendFactory.class, RRD4jPersistenceService.getBackendFactory());
+            assertNotSame(factory, RRD4jPersistenceService.getBackendFactory());
+        } finally {
+            config.remove("backend");
+            config.remove("syncPeriod");
+            service.modified(config);
+        }
+    }
+
+    @Test
+    public void testQueryOfSeveralItemsKeepsOrder() {
+        long now = System.currentTimeMillis() / 1000;
+        List<PendingValue> values1 = new ArrayList<>();
+        List<PendingValue> values2 = new ArrayList<>();
+        for (long time = now + 10; time <= now + 120; time += 10) {
+            values1.add(new PendingValue(time, 1));
+            values2.add(new PendingValue(time, 2));
+        }
+        service.writePointsToDatabase("QueryItem1", values1);
+        service.writePointsToDatabase("QueryItem2", values2);
+
+        ZonedDateTime begin = ZonedDateTime.now().plusSeconds(30);
+        ZonedDateTime end = ZonedDateTime.now().plusSeconds(120);
+        List<Iterable<HistoricItem>> results = service.query(List.of(filter("QueryItem2", begin, end),
+                filter("UnknownItem", begin, end), filter("QueryItem1", begin, end)));
+
+        assertEquals(3, results.size());
+        assertStates(new DecimalType(2), results.get(0));
+        assertFalse(results.get(1).iterator().hasNext());
+        assertStates(new DecimalType(1), results.get(2));
+    }
+
+    private static FilterCriteria filter(String itemName, ZonedDateTime begin, ZonedDateTime end) {
+        return new FilterCriteria().setItemName(itemName).setBeginDate(begin).setEndDate(end);
+    }
+
+    private static void assertStates(State expected, Iterable<HistoricItem> items) {
+        int count = 0;
+        for (HistoricItem item : items) {
+            assertEquals(expected, item.getState());
+            count++;
+        }
+        assertTrue(count > 0);
+    }
+
+    private static void runConcurrently(int threads, Callable<@Nullable Void> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<@Nullable Void>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<@Nullable Void> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal.charts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.items.ItemNotFoundException;
+import org.openhab.persistence.rrd4j.internal.charts.RRD4jChartCache.CachedChart;
+import org.openhab.persistence.rrd4j.internal.charts.RRD4jChartCache.ChartKey;
+
+/**
+ * Tests the {@link RRD4jChartCache}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jChartCacheTest {
+
+    private static final ChartKey KEY = new ChartKey("Item", null, "PT1H", 480, 240);
+
+    private final RRD4jChartCache cache = new RRD4jChartCache();
+    private final AtomicInteger renderings = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testChartIsCachedUntilItExpires() throws Exception {
+        long future = System.currentTimeMillis() + 60_000;
+
+        CachedChart chart = cache.get(KEY, () -> render(future));
+
+        assertSame(chart, cache.get(KEY, () -> render(future)));
+        assertEquals(1, renderings.get());
+    }
+
+    @Test
+    public void testExpiredChartIsRenderedAgain() throws Exception {
+        long past = System.currentTimeMillis() - 1;
+
+        CachedChart chart = cache.get(KEY, () -> render(past));
+
+        assertNotSame(chart, cache.get(KEY, () -> render(past)));
+        assertEquals(2, renderings.get());
+    }
+
+    @Test
+    public void testClearedChartIsRenderedAgain() throws Exception {
+        long future = System.currentTimeMillis() + 60_000;
+        cache.get(KEY, () -> render(future));
+
+        cache.clear();
+        cache.get(KEY, () -> render(future));
+
+        assertEquals(2, renderings.get());
+    }
+
+    @Test
+    public void testConcurrentRequestsShareOneRendering() throws Exception {
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        long future = System.currentTimeMillis() + 60_000;
+
+        Future<CachedChart> first = executor.submit(() -> cache.get(KEY, () -> {
+            rendering.countDown();
+            await(release);
+            return render(future);
+        }));
+        assertTrue(rendering.await(10, TimeUnit.SECONDS));
+        Future<CachedChart> second = executor.submit(() -> cache.get(KEY, () -> render(future)));
+        // the second request waits for the running rendering instead of starting its own
+        assertThrows(TimeoutException.class, () -> second.get(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+
+        assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+        assertEquals(1, renderings.get());
+    }
+
+    @Test
+    public void testRenderingErrorIsThrownToWaitingRequests() throws Exception {
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<CachedChart> first = executor.submit(() -> cache.get(KEY, () -> {
+            rendering.countDown();
+            await(release);
+            throw new ItemNotFoundException("Item");
+        }));
+        assertTrue(rendering.await(10, TimeUnit.SECONDS));
+        Future<CachedChart> second = executor.submit(() -> cache.get(KEY, () -> render(0)));
+        assertThrows(TimeoutException.class, () -> second.get(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+
+        assertInstanceOf(ItemNotFoundException.class, assertThrows(ExecutionException.class, first::get).getCause());
+        assertInstanceOf(ItemNotFoundException.class, assertThrows(ExecutionException.class, second::get).getCause());
+        assertEquals(0, renderings.get());
+    }
+
+    @Test
+    public void testRenderingFailureIsThrownToWaitingRequests() throws Exception {
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<CachedChart> first = executor.submit(() -> cache.get(KEY, () -> {
+            rendering.countDown();
+            await(release);
+            throw new InternalError("No graphics environment");
+        }));
+        assertTrue(rendering.await(10, TimeUnit.SECONDS));
+        Future<CachedChart> second = executor.submit(() -> cache.get(KEY, () -> render(0)));
+        assertThrows(TimeoutException.class, () -> second.get(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+
+        assertInstanceOf(InternalError.class, assertThrows(ExecutionException.class, first::get).getCause());
+        ExecutionException e = assertThrows(ExecutionException.class, () -> second.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(InternalError.class, e.getCause());
+        assertEquals(0, renderings.get());
+    }
+
+    @Test
+    public void testEtagDependsOnImage() {
+        CachedChart chart = CachedChart.of(new byte[] { 1, 2, 3 }, 0);
+
+        assertEquals(chart.etag(), CachedChart.of(new byte[] { 1, 2, 3 }, 0).etag());
+        assertNotEquals(chart.etag(), CachedChart.of(new byte[] { 1, 2, 4 }, 0).etag());
+    }
+
+    private static void await(CountDownLatch latch) throws IOException {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IOException("Timed out");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private CachedChart render(long expires) throws IOException {
+        int rendering = renderings.incrementAndGet();
+        return CachedChart.of(new byte[] { (byte) rendering }, expires);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal.charts;
+
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.persistence.rrd4j.internal.charts.RRD4jChartCache.CachedChart;
+
+/**
+ * Tests the caching headers of the {@link RRD4jChartServlet}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jChartServletTest {
+
+    private static final byte[] IMAGE = new byte[] { 1, 2, 3 };
+
+    private final HttpServletRequest request = mock(HttpServletRequest.class);
+    private final HttpServletResponse response = mock(HttpServletResponse.class);
+    private final ServletOutputStream outputStream = mock(ServletOutputStream.class);
+    private final CachedChart chart = CachedChart.of(IMAGE, System.currentTimeMillis() + 60_000);
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        when(response.getOutputStream()).thenReturn(outputStream);
+    }
+
+    @Test
+    public void testChartIsWrittenWithEtag() throws IOException {
+        RRD4jChartServlet.writeChart(chart, "image/png", request, response);
+
+        verify(response).setHeader("ETag", chart.etag());
+        verify(response).setHeader(eq("Cache-Control"), startsWith("max-age="));
+        verify(response).setContentType("image/png");
+        verify(response).setContentLength(IMAGE.length);
+        verify(outputStream).write(IMAGE);
+        verify(response, never()).setStatus(anyInt());
+    }
+
+    @Test
+    public void testMatchingEtagIsNotModified() throws IOException {
+        when(request.getHeader("If-None-Match")).thenReturn(chart.etag());
+
+        RRD4jChartServlet.writeChart(chart, "image/png", request, response);
+
+        verify(response).setHeader("ETag", chart.etag());
+        verify(response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(response, never()).getOutputStream();
+    }
+
+    @Test
+    public void testOtherEtagGetsChart() throws IOException {
+        when(request.getHeader("If-None-Match")).thenReturn("\"other\"");
+
+        RRD4jChartServlet.writeChart(chart, "image/png", request, response);
+
+        verify(response, never()).setStatus(anyInt());
+        verify(outputStream).write(any(byte[].class));
+    }
+
+    @Test
+    public void testEtagInListIsNotModified() throws IOException {
+        when(request.getHeader("If-None-Match")).thenReturn("\"other\", W/" + chart.etag());
+
+        RRD4jChartServlet.writeChart(chart, "image/png", request, response);
+
+        verify(response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(response, never()).getOutputStream();
+    }
+
+    @Test
+    public void testEtagWithinOtherTagGetsChart() throws IOException {
+        when(request.getHeader("If-None-Match")).thenReturn("\"x" + chart.etag() + "\"");
+
+        RRD4jChartServlet.writeChart(chart, "image/png", request, response);
+
+        verify(response, never()).setStatus(anyInt());
+        verify(outputStream).write(any(byte[].class));
+    }
+}
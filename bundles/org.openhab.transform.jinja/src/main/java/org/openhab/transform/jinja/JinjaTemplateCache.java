@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jinja;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
+import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.tree.Node;
+
+/**
+ * The {@link JinjaTemplateCache} renders Jinja templates like {@link Jinjava#render(String, Map)}, but parses each
+ * template only once.
+ *
+ * The parsed templates are shared by all threads, only the most recently used ones are kept. Templates with errors
+ * are not cached, they are rendered by {@link Jinjava} to report their errors.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JinjaTemplateCache {
+
+    private final Jinjava jinjava;
+
+    // parsed templates without errors, guarded by itself
+    private final Map<String, Node> templates;
+
+    /**
+     * Creates a cache for the templates rendered by the given {@link Jinjava}.
+     *
+     * @param jinjava the Jinjava to parse and render the templates with
+     * @param maxTemplates the maximum number of parsed templates to keep
+     */
+    public JinjaTemplateCache(Jinjava jinjava, int maxTemplates) {
+        this.jinjava = jinjava;
+        this.templates = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Node> eldest) {
+                return size() > maxTemplates;
+            }
+        };
+    }
+
+    public Jinjava getJinjava() {
+        return jinjava;
+    }
+
+    /**
+     * Renders a template like {@link Jinjava#render(String, Map)}, parsing it only the first time.
+     *
+     * @param template the template
+     * @param bindings the variables
+     * @return the rendered template
+     * @throws FatalTemplateErrorsException if the template could not be rendered
+     */
+    public String render(String template, Map<String, @Nullable Object> bindings) {
+        Node root = parse(template);
+        if (root == null) {
+            // the errors are reported when rendering
+            return jinjava.render(template, bindings);
+        }
+
+        Context context = new Context(jinjava.getGlobalContext(), bindings, jinjava.getGlobalConfig().getDisabled());
+        JinjavaInterpreter interpreter = new JinjavaInterpreter(jinjava, context, jinjava.getGlobalConfig());
+        JinjavaInterpreter.pushCurrent(interpreter);
+        String output;
+        try {
+            output = interpreter.render(root);
+        } catch (RuntimeException e) {
+            // Jinjava#render reports exceptions as errors as well
+            throw new FatalTemplateErrorsException(template, List.of(TemplateError.fromException(e)));
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+        List<TemplateError> fatalErrors = interpreter.getErrorsCopy().stream()
+                .filter(error -> error.getSeverity() == ErrorType.FATAL).toList();
+        if (!fatalErrors.isEmpty()) {
+            throw new FatalTemplateErrorsException(template, fatalErrors);
+        }
+        return output;
+    }
+
+    /**
+     * Forgets all parsed templates.
+     */
+    public void clear() {
+        synchronized (templates) {
+            templates.clear();
+        }
+    }
+
+    /**
+     * Returns the parsed template, or null if the template has errors.
+     */
+    private @Nullable Node parse(String template) {
+        synchronized (templates) {
+            Node root = templates.get(template);
+            if (root != null) {
+                return root;
+            }
+        }
+
+        JinjavaInterpreter interpreter = jinjava.newInterpreter();
+        JinjavaInterpreter.pushCurrent(interpreter);
+        Node root;
+        try {
+            root = interpreter.parse(template);
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+        if (!interpreter.getErrorsCopy().isEmpty()) {
+            return null;
+        }
+        synchronized (templates) {
+            templates.put(template, root);
+        }
+        return root;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jinja;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * The {@link LazyJson} converts a JSON tree into the maps, lists and values bound to Jinja templates.
+ *
+ * Objects and arrays are converted only when their members are accessed, so templates that use a few fields of a
+ * large document do not pay for converting all of it. Once an object or array is iterated or modified it is
+ * converted to a {@link HashMap} or {@link ArrayList}, which behaves exactly like a completely converted tree.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public final class LazyJson {
+
+    private LazyJson() {
+        // utility class
+    }
+
+    /**
+     * Converts a JSON tree, deferring the conversion of the members of objects and arrays.
+     *
+     * @param node the JSON tree
+     * @return a {@link Map} for objects, a {@link List} for arrays, or the value
+     */
+    public static @Nullable Object of(JsonNode node) {
+        switch (node.getNodeType()) {
+            case ARRAY:
+                return new LazyList(node);
+            case NUMBER:
+                return node.decimalValue();
+            case OBJECT:
+                return new LazyMap(node);
+            case STRING:
+                return node.asText();
+            case BOOLEAN:
+                return node.asBoolean();
+            case NULL:
+            default:
+                return null;
+        }
+    }
+
+    private static class LazyMap extends AbstractMap<String, @Nullable Object> {
+
+        private final JsonNode node;
+        private final Map<String, @Nullable Object> accessed = new HashMap<>();
+        private @Nullable Map<String, @Nullable Object> materialized;
+
+        private LazyMap(JsonNode node) {
+            this.node = node;
+        }
+
+        @Override
+        public @Nullable Object get(@Nullable Object key) {
+            Map<String, @Nullable Object> materialized = this.materialized;
+            if (materialized != null) {
+                return materialized.get(key);
+            }
+            if (!(key instanceof String name)) {
+                return null;
+            }
+            if (accessed.containsKey(name)) {
+                return accessed.get(name);
+            }
+            JsonNode member = node.get(name);
+            Object value = member == null ? null : of(member);
+            accessed.put(name, value);
+            return value;
+        }
+
+        @Override
+        public boolean containsKey(@Nullable Object key) {
+            Map<String, @Nullable Object> materialized = this.materialized;
+            if (materialized != null) {
+                return materialized.containsKey(key);
+            }
+            return key instanceof String name && node.has(name);
+        }
+
+        @Override
+        public int size() {
+            Map<String, @Nullable Object> materialized = this.materialized;
+            return materialized != null ? materialized.size() : node.size();
+        }
+
+        @Override
+        public @Nullable Object put(String key, @Nullable Object value) {
+            return materialize().put(key, value);
+        }
+
+        @Override
+        public Set<Entry<String, @Nullable Object>> entrySet() {
+            return materialize().entrySet();
+        }
+
+        private Map<String, @Nullable Object> materialize() {
+            Map<String, @Nullable Object> materialized = this.materialized;
+            if (materialized == null) {
+                materialized = new HashMap<>();
+                Iterator<Entry<String, JsonNode>> it = node.fields();
+                while (it.hasNext()) {
+                    Entry<String, JsonNode> field = it.next();
+                    String name = field.getKey();
+                    materialized.put(name, accessed.containsKey(name) ? accessed.get(name) : of(field.getValue()));
+                }
+                this.materialized = materialized;
+                accessed.clear();
+            }
+            return materialized;
+        }
+    }
+
+    private static class LazyList extends AbstractList<@Nullable Object> {
+
+        private final JsonNode node;
+        private final @Nullable Object[] accessed;
+        private final boolean[] converted;
+        private @Nullable List<@Nullable Object> materialized;
+
+        private LazyList(JsonNode node) {
+            this.node = node;
+            this.accessed = new Object[node.size()];
+            this.converted = new boolean[node.size()];
+        }
+
+        @Override
+        public @Nullable Object get(int index) {
+            List<@Nullable Object> materialized = this.materialized;
+            if (materialized != null) {
+                return materialized.get(index);
+            }
+            if (index < 0 || index >= accessed.length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            if (!converted[index]) {
+                accessed[index] = of(node.get(index));
+                converted[index] = true;
+            }
+            return accessed[index];
+        }
+
+        @Override
+        public int size() {
+            List<@Nullable Object> materialized = this.materialized;
+            return materialized != null ? materialized.size() : accessed.length;
+        }
+
+        @Override
+        public @Nullable Object set(int index, @Nullable Object element) {
+            return materialize().set(index, element);
+        }
+
+        @Override
+        public void add(int index, @Nullable Object element) {
+            materialize().add(index, element);
+            modCount++;
+        }
+
+        @Override
+        public @Nullable Object remove(int index) {
+            Object removed = materialize().remove(index);
+            modCount++;
+            return removed;
+        }
+
+        private List<@Nullable Object> materialize() {
+            List<@Nullable Object> materialized = this.materialized;
+            if (materialized == null) {
+                materialized = new ArrayList<>(accessed.length);
+                for (int i = 0; i < accessed.length; i++) {
+                    materialized.add(get(i));
+                }
+                this.materialized = materialized;
+            }
+            return materialized;
+        }
+    }
+}
@@ -13,17 +13,15 @@
 package org.openhab.transform.jinja.internal;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
+import org.openhab.transform.jinja.JinjaTemplateCache;
+import org.openhab.transform.jinja.LazyJson;
 import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,9 +42,12 @@ import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
 @Component(property = { "openhab.transform=JINJA" })
 public class JinjaTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_TEMPLATES = 100;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     private final Logger logger = LoggerFactory.getLogger(JinjaTransformationService.class);
 
-    private final Jinjava jinjava = new Jinjava();
+    private final JinjaTemplateCache templates = new JinjaTemplateCache(new Jinjava(), MAX_CACHED_TEMPLATES);
 
     /**
      * Transforms the input <code>value</code> by Jinja template.
@@ -64,15 +65,18 @@ public class JinjaTransformationService implements TransformationService {
 
         bindings.put("value", value);
 
-        try {
-            JsonNode tree = new ObjectMapper().readTree(value);
-            bindings.put("value_json", toObject(tree));
-        } catch (IOException e) {
-            // ok, then value_json is null...
+        // the value is only parsed if the template may refer to it
+        if (template.contains("value_json")) {
+            try {
+                JsonNode tree = MAPPER.readTree(value);
+                bindings.put("value_json", LazyJson.of(tree));
+            } catch (IOException e) {
+                // ok, then value_json is null...
+            }
         }
 
         try {
-            transformationResult = jinjava.render(template, bindings);
+            transformationResult = templates.render(template, bindings);
         } catch (FatalTemplateErrorsException e) {
             throw new TransformationException("An error occurred while transformation. " + e.getMessage(), e);
         }
@@ -81,34 +85,4 @@ public class JinjaTransformationService implements TransformationService {
 
         return transformationResult;
     }
-
-    private static @Nullable Object toObject(JsonNode node) {
-        switch (node.getNodeType()) {
-            case ARRAY: {
-                List<@Nullable Object> result = new ArrayList<>();
-                for (JsonNode el : node) {
-                    result.add(toObject(el));
-                }
-                return result;
-            }
-            case NUMBER:
-                return node.decimalValue();
-            case OBJECT: {
-                Map<String, @Nullable Object> result = new HashMap<>();
-                Iterator<Entry<String, JsonNode>> it = node.fields();
-                while (it.hasNext()) {
-                    Entry<String, JsonNode> field = it.next();
-                    result.put(field.getKey(), toObject(field.getValue()));
-                }
-                return result;
-            }
-            case STRING:
-                return node.asText();
-            case BOOLEAN:
-                return node.asBoolean();
-            case NULL:
-            default:
-                return null;
-        }
-    }
 }
@@ -113,4 +113,20 @@ public class JinjaTransformationServiceTest {
         // then map key is defined
         assertEquals("true", transformedResponse);
     }
+
+    @Test
+    public void testCachedTemplateWithOtherValue() throws TransformationException {
+        assertEquals("Hello world!", processor.transform("Hello {{ value_json.string }}!", "{\"string\": \"world\"}"));
+        assertEquals("Hello moon!", processor.transform("Hello {{ value_json.string }}!", "{\"string\": \"moon\"}"));
+    }
+
+    @Test
+    public void testIterateNestedJson() throws TransformationException {
+        String transformedResponse = processor.transform(
+                "{% for sensor in value_json.sensors %}{{ sensor.name }}={{ sensor.values[1] }};{% endfor %}"
+                        + "{{ value_json.sensors | length }}",
+                "{\"sensors\": [{\"name\": \"a\", \"values\": [1, 2]}, {\"name\": \"b\", \"values\": [3, 4]}]}");
+
+        assertEquals("a=2;b=4;2", transformedResponse);
+    }
 }
@@ -12,7 +12,9 @@
  */
 package org.openhab.transform.jsonpath.internal;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -24,6 +26,7 @@ import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
@@ -39,8 +42,40 @@ import com.jayway.jsonpath.PathNotFoundException;
 @Component(property = { "openhab.transform=JSONPATH" })
 public class JSonPathTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_PATHS = 200;
+    private static final int MAX_CACHED_DOCUMENTS = 4;
+
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    // compiled paths are thread-safe, guarded by itself
+    private final Map<String, JsonPath> paths = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, JsonPath> eldest) {
+            return size() > MAX_CACHED_PATHS;
+        }
+    };
+
+    // the most recently parsed sources, several channels usually extract values from the same response
+    private final Map<String, JSonPathDocument> documents = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, JSonPathDocument> eldest) {
+            return size() > MAX_CACHED_DOCUMENTS;
+        }
+    };
+
+    /**
+     * A parsed JSON source, which can be queried by any number of JsonPath expressions.
+     *
+     * @param source the JSON source
+     * @param context the parsed source, or null if the source is blank
+     */
+    public record JSonPathDocument(String source, @Nullable DocumentContext context) {
+    }
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
@@ -57,12 +92,55 @@ public class JSonPathTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", source, jsonPathExpression);
 
+        JSonPathDocument document;
+        synchronized (documents) {
+            document = documents.get(source);
+        }
+        if (document == null) {
+            document = parse(source);
+            synchronized (documents) {
+                documents.put(source, document);
+            }
+        }
+        return transform(jsonPathExpression, document);
+    }
+
+    /**
+     * Parses a JSON source once, so that many JsonPath expressions can be applied to it without parsing it again.
+     *
+     * @param source String which contains JSON
+     * @return the parsed source
+     * @throws TransformationException if the source is not valid JSON
+     */
+    public JSonPathDocument parse(String source) throws TransformationException {
         if (source.isBlank()) {
-            // return null if source is empty/blank, JSONPath will throw an IAE on empty input strings
+            // JSONPath will throw an IAE on empty input strings
+            return new JSonPathDocument(source, null);
+        }
+        try {
+            return new JSonPathDocument(source, JsonPath.parse(source));
+        } catch (InvalidJsonException e) {
+            throw new TransformationException("An error occurred while transforming JSON expression.", e);
+        }
+    }
+
+    /**
+     * Transforms a parsed source by JSonPath expression.
+     *
+     * @param jsonPathExpression JsonPath expression
+     * @param document the source parsed by {@link #parse(String)}
+     * @return the transformed source, or null if the source is blank or the result is null
+     * @throws TransformationException if the JsonPath expression is invalid or does not match the source
+     */
+    public @Nullable String transform(String jsonPathExpression, JSonPathDocument document)
+            throws TransformationException {
+        DocumentContext context = document.context();
+        if (context == null) {
+            // return null if source is empty/blank
             return null;
         }
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            Object transformationResult = context.read(compile(jsonPathExpression));
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
@@ -72,12 +150,27 @@ public class JSonPathTransformationService implements TransformationService {
                 return transformationResult.toString();
             }
         } catch (PathNotFoundException e) {
-            throw new TransformationException("Invalid path '" + jsonPathExpression + "' in '" + source + "'");
+            throw new TransformationException(
+                    "Invalid path '" + jsonPathExpression + "' in '" + document.source() + "'");
         } catch (InvalidPathException | InvalidJsonException e) {
             throw new TransformationException("An error occurred while transforming JSON expression.", e);
         }
     }
 
+    private JsonPath compile(String jsonPathExpression) {
+        synchronized (paths) {
+            JsonPath path = paths.get(jsonPathExpression);
+            if (path != null) {
+                return path;
+            }
+        }
+        JsonPath path = JsonPath.compile(jsonPathExpression);
+        synchronized (paths) {
+            paths.put(jsonPathExpression, path);
+        }
+        return path;
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
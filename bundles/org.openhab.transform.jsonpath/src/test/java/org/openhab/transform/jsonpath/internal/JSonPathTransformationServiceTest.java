@@ -129,4 +129,14 @@ public class JSonPathTransformationServiceTest {
         String transformedResponse = processor.transform("$.data", json);
         assertEquals(list, transformedResponse);
     }
+
+    @Test
+    public void testParsedDocument() throws TransformationException {
+        JSonPathTransformationService.JSonPathDocument document = processor.parse(JSON_ARRAY);
+
+        assertEquals("bob", processor.transform("$[0].name", document));
+        assertEquals("2", processor.transform("$[1].id", document));
+        assertThrows(TransformationException.class, () -> processor.transform("$[5].id", document));
+        assertNull(processor.transform("$", processor.parse(" ")));
+    }
 }
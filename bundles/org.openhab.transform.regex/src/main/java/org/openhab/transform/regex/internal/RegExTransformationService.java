@@ -12,8 +12,11 @@
  */
 package org.openhab.transform.regex.internal;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -36,37 +39,99 @@ import org.slf4j.LoggerFactory;
 @Component(property = { "openhab.transform=REGEX" })
 public class RegExTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_PLANS = 200;
+
     private final Logger logger = LoggerFactory.getLogger(RegExTransformationService.class);
 
     private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
 
+    // guarded by itself, access ordered for evicting the least recently used plan
+    private final Map<String, RegExPlan> plans = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RegExPlan> eldest) {
+            return size() > MAX_CACHED_PLANS;
+        }
+    };
+
+    /**
+     * A parsed transformation function.
+     *
+     * @param regExpression the function
+     * @param pattern the compiled regular expression
+     * @param substitution the replacement of the substitution form, or null to extract the first group
+     * @param global true to replace all matches of the substitution form, false to replace the first one
+     */
+    public record RegExPlan(String regExpression, Pattern pattern, @Nullable String substitution, boolean global) {
+    }
+
     @Override
     public @Nullable String transform(String regExpression, String source) throws TransformationException {
         if (regExpression == null || source == null) {
             throw new TransformationException("the given parameters 'regex' and 'source' must not be null");
         }
 
-        logger.debug("about to transform '{}' by the function '{}'", source, regExpression);
+        return transform(getPlan(regExpression), source);
+    }
 
-        String result = "";
+    /**
+     * Returns the parsed transformation function, parsing it only if it is not cached.
+     *
+     * @param regExpression the function
+     * @return the plan
+     * @throws PatternSyntaxException if the regular expression is invalid
+     */
+    public RegExPlan getPlan(String regExpression) {
+        synchronized (plans) {
+            RegExPlan plan = plans.get(regExpression);
+            if (plan != null) {
+                return plan;
+            }
+        }
 
+        RegExPlan plan;
         Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
         if (substMatcher.matches()) {
+            plan = new RegExPlan(regExpression, Pattern.compile(substMatcher.group(1)), substMatcher.group(2),
+                    "g".equals(substMatcher.group(3)));
+        } else {
+            plan = new RegExPlan(regExpression, Pattern.compile("^" + regExpression + "$", Pattern.DOTALL), null,
+                    false);
+        }
+
+        synchronized (plans) {
+            plans.put(regExpression, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Transforms the input by a parsed transformation function.
+     *
+     * @param plan the parsed function
+     * @param source the input to transform
+     * @return the transformed input, or null if the regular expression does not match
+     */
+    public @Nullable String transform(RegExPlan plan, String source) {
+        String regExpression = plan.regExpression();
+
+        logger.debug("about to transform '{}' by the function '{}'", source, regExpression);
+
+        String result = "";
+
+        String substitution = plan.substitution();
+        if (substitution != null) {
             logger.debug("Using substitution form of regex transformation");
-            String regex = substMatcher.group(1);
-            String substitution = substMatcher.group(2);
-            String options = substMatcher.group(3);
-            if ("g".equals(options)) {
-                result = source.trim().replaceAll(regex, substitution);
+            Matcher matcher = plan.pattern().matcher(source.trim());
+            if (plan.global()) {
+                return matcher.replaceAll(substitution);
             } else {
-                result = source.trim().replaceFirst(regex, substitution);
-            }
-            if (result != null) {
-                return result;
+                return matcher.replaceFirst(substitution);
             }
         }
 
-        Matcher matcher = Pattern.compile("^" + regExpression + "$", Pattern.DOTALL).matcher(source.trim());
+        Matcher matcher = plan.pattern().matcher(source.trim());
         if (!matcher.matches()) {
             logger.debug(
                     "the given regex '^{}$' doesn't match the given content '{}' -> couldn't compute transformation",
@@ -12,6 +12,8 @@
  */
 package org.openhab.transform.regex.internal.profiles;
 
+import java.util.regex.PatternSyntaxException;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.thing.profiles.ProfileCallback;
@@ -24,6 +26,8 @@ import org.openhab.core.transform.TransformationService;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
 import org.openhab.core.types.Type;
+import org.openhab.transform.regex.internal.RegExTransformationService;
+import org.openhab.transform.regex.internal.RegExTransformationService.RegExPlan;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,7 +57,6 @@ public class RegexTransformationProfile implements StateProfile {
     private final String sourceFormat;
 
     public RegexTransformationProfile(ProfileCallback callback, ProfileContext context, TransformationService service) {
-        this.service = service;
         this.callback = callback;
 
         Object paramFunction = context.getConfiguration().get(FUNCTION_PARAM);
@@ -68,12 +71,29 @@ public class RegexTransformationProfile implements StateProfile {
         if (paramFunction instanceof String pFunction && paramSource instanceof String pFormat) {
             function = pFunction;
             sourceFormat = pFormat;
+            this.service = resolve(service, pFunction);
         } else {
             logger.error("Parameter '{}' and '{}' have to be Strings. Profile will be inactive.", FUNCTION_PARAM,
                     SOURCE_FORMAT_PARAM);
             function = null;
             sourceFormat = null;
+            this.service = service;
+        }
+    }
+
+    /**
+     * Parses the function once, so that state updates only have to apply it.
+     */
+    private TransformationService resolve(TransformationService service, String function) {
+        if (service instanceof RegExTransformationService regExService) {
+            try {
+                RegExPlan plan = regExService.getPlan(function);
+                return (f, source) -> regExService.transform(plan, source);
+            } catch (PatternSyntaxException e) {
+                logger.warn("Invalid regular expression in function '{}': {}", function, e.getDescription());
+            }
         }
+        return service;
     }
 
     @Override
@@ -75,4 +75,14 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByPlan() throws TransformationException {
+        RegExTransformationService.RegExPlan plan = processor.getPlan("s/^OP:(.*?),ARG:(.*)$/$1($2)/");
+
+        // the parsed function is cached
+        assertSame(plan, processor.getPlan("s/^OP:(.*?),ARG:(.*)$/$1($2)/"));
+        assertEquals("SetMode(42)", processor.transform(plan, "OP:SetMode,ARG:42"));
+        assertEquals("SetMode(42)", processor.transform("s/^OP:(.*?),ARG:(.*)$/$1($2)/", "OP:SetMode,ARG:42"));
+    }
 }
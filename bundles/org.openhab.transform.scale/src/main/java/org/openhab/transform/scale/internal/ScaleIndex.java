@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Immutable lookup of the label of the first range of a scale that contains a value.
+ *
+ * The limits of all ranges split the number line into points and open intervals between them, each of which lies
+ * either completely inside or completely outside of every range. The label of the first matching range is computed
+ * for each of these segments when the scale is loaded, so a lookup is a binary search over the limits.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ScaleIndex {
+
+    private static final BigDecimal HALF = new BigDecimal("0.5");
+
+    private final BigDecimal[] limits;
+    private final double[] doubleLimits;
+    // segment 2 * i + 1 is limits[i], segment 2 * i is the open interval below it, the last one the interval above
+    private final @Nullable String[] labels;
+
+    /**
+     * Creates the index.
+     *
+     * @param ranges the ranges and their labels, in the order they are matched
+     */
+    public ScaleIndex(List<Map.Entry<Range, String>> ranges) {
+        TreeSet<BigDecimal> distinct = new TreeSet<>();
+        for (Map.Entry<Range, String> entry : ranges) {
+            Range range = entry.getKey();
+            if (range.min != null) {
+                distinct.add(range.min);
+            }
+            if (range.max != null) {
+                distinct.add(range.max);
+            }
+        }
+        // TreeSet uses compareTo, so 1.0 and 1.00 are the same limit
+        limits = distinct.toArray(new BigDecimal[0]);
+        doubleLimits = Arrays.stream(limits).mapToDouble(BigDecimal::doubleValue).toArray();
+
+        labels = new String[2 * limits.length + 1];
+        for (int segment = 0; segment < labels.length; segment++) {
+            BigDecimal representative = representative(segment);
+            for (Map.Entry<Range, String> entry : ranges) {
+                if (entry.getKey().contains(representative)) {
+                    labels[segment] = entry.getValue();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the label of the first range containing the value.
+     *
+     * @param value the value
+     * @return the label, or null if no range contains the value
+     */
+    public @Nullable String lookup(BigDecimal value) {
+        double doubleValue = value.doubleValue();
+        // doubleValue() is monotonic, so limits with a smaller double are smaller and limits with a greater double
+        // are greater; only limits rounding to the same double have to be compared exactly
+        int below = firstNotLess(doubleValue);
+        while (below < limits.length && doubleLimits[below] == doubleValue && limits[below].compareTo(value) < 0) {
+            below++;
+        }
+        boolean onLimit = below < limits.length && doubleLimits[below] == doubleValue
+                && limits[below].compareTo(value) == 0;
+        return labels[onLimit ? 2 * below + 1 : 2 * below];
+    }
+
+    private int firstNotLess(double value) {
+        int low = 0;
+        int high = doubleLimits.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (doubleLimits[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private BigDecimal representative(int segment) {
+        if (limits.length == 0) {
+            return BigDecimal.ZERO;
+        } else if (segment % 2 == 1) {
+            return limits[segment / 2];
+        } else if (segment == 0) {
+            return limits[0].subtract(BigDecimal.ONE);
+        } else if (segment == labels.length - 1) {
+            return limits[limits.length - 1].add(BigDecimal.ONE);
+        }
+        return limits[segment / 2 - 1].add(limits[segment / 2]).multiply(HALF);
+    }
+}
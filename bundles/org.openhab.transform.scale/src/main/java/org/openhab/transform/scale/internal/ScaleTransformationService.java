@@ -16,12 +16,14 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.math.BigDecimal;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -80,7 +82,17 @@ public class ScaleTransformationService
     private static final Range FORMAT_RANGE = Range.range(BigDecimal.ZERO, false, BigDecimal.ZERO, false);
     private final TransformationRegistry transformationRegistry;
 
-    private final Map<String, Map<@Nullable Range, String>> cachedTransformations = new ConcurrentHashMap<>();
+    private final Map<String, Scale> cachedTransformations = new ConcurrentHashMap<>();
+
+    /**
+     * A loaded scale.
+     *
+     * @param format the presentation format
+     * @param nonNumeric the label of non-numeric inputs, or null if they are not supported
+     * @param index the labels of the ranges
+     */
+    private record Scale(String format, @Nullable String nonNumeric, ScaleIndex index) {
+    }
 
     @Activate
     public ScaleTransformationService(@Reference TransformationRegistry transformationRegistry) {
@@ -150,7 +162,7 @@ public class ScaleTransformationService
             if (!cachedTransformations.containsKey(transformation.getUID())) {
                 importConfiguration(transformation);
             }
-            Map<@Nullable Range, String> data = cachedTransformations.get(transformation.getUID());
+            Scale data = cachedTransformations.get(transformation.getUID());
 
             if (data != null) {
                 String target;
@@ -164,7 +176,7 @@ public class ScaleTransformationService
                         final QuantityType<?> quantity = new QuantityType<>(source);
                         return formatResult(data, source, quantity.toBigDecimal());
                     } catch (IllegalArgumentException e2) {
-                        String nonNumeric = data.get(null);
+                        String nonNumeric = data.nonNumeric();
                         if (nonNumeric != null) {
                             target = nonNumeric;
                         } else {
@@ -181,18 +193,17 @@ public class ScaleTransformationService
         throw new TransformationException("Could not find configuration '" + function + "' or failed to parse it.");
     }
 
-    private String formatResult(Map<@Nullable Range, String> data, String source, final BigDecimal value)
-            throws TransformationException {
-        String format = data.get(FORMAT_RANGE);
+    private String formatResult(Scale data, String source, final BigDecimal value) throws TransformationException {
         String result = getScaleResult(data, source, value);
-        return format.replaceAll(FORMAT_VALUE, source).replaceAll(FORMAT_LABEL, result);
+        return data.format().replaceAll(FORMAT_VALUE, source).replaceAll(FORMAT_LABEL, result);
     }
 
-    private String getScaleResult(Map<@Nullable Range, String> data, String source, final BigDecimal value)
-            throws TransformationException {
-        return data.entrySet().stream().filter(entry -> entry.getKey() != null && entry.getKey().contains(value))
-                .findFirst().map(Map.Entry::getValue)
-                .orElseThrow(() -> new TransformationException("No matching range for '" + source + "'"));
+    private String getScaleResult(Scale data, String source, final BigDecimal value) throws TransformationException {
+        String result = data.index().lookup(value);
+        if (result == null) {
+            throw new TransformationException("No matching range for '" + source + "'");
+        }
+        return result;
     }
 
     private void importConfiguration(@Nullable Transformation configuration) {
@@ -236,7 +247,16 @@ public class ScaleTransformationService
                     }
                 }
 
-                cachedTransformations.put(configuration.getUID(), data);
+                List<Map.Entry<Range, String>> ranges = new ArrayList<>();
+                for (Map.Entry<@Nullable Range, String> entry : data.entrySet()) {
+                    Range range = entry.getKey();
+                    if (range != null && range != FORMAT_RANGE) {
+                        ranges.add(Map.entry(range, entry.getValue()));
+                    }
+                }
+                String format = Objects.requireNonNull(data.get(FORMAT_RANGE));
+                cachedTransformations.put(configuration.getUID(),
+                        new Scale(format, data.get(null), new ScaleIndex(ranges)));
             } catch (IOException | NumberFormatException ignored) {
             }
         }
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ScaleIndexTest {
+
+    @Test
+    public void testFirstMatchingRangeWins() {
+        ScaleIndex index = new ScaleIndex(List.of(Map.entry(Range.closed(bd("10"), bd("20")), "first"),
+                Map.entry(Range.closedOpen(bd("0"), bd("30")), "second"),
+                Map.entry(Range.greaterThan(bd("30")), "high")));
+
+        assertEquals("second", index.lookup(bd("0")));
+        assertEquals("second", index.lookup(bd("9.99")));
+        assertEquals("first", index.lookup(bd("10")));
+        assertEquals("first", index.lookup(bd("20.0")));
+        assertEquals("second", index.lookup(bd("20.01")));
+        assertNull(index.lookup(bd("30")));
+        assertEquals("high", index.lookup(bd("30.000001")));
+        assertNull(index.lookup(bd("-1")));
+    }
+
+    @Test
+    public void testLimitsRoundingToTheSameDouble() {
+        BigDecimal limit = bd("1.00000000000000000001");
+        ScaleIndex index = new ScaleIndex(
+                List.of(Map.entry(Range.closedOpen(bd("1"), limit), "low"), Map.entry(Range.atLeast(limit), "high")));
+
+        assertEquals(1.0, limit.doubleValue());
+        assertEquals("low", index.lookup(bd("1")));
+        assertEquals("low", index.lookup(bd("1.000000000000000000005")));
+        assertEquals("high", index.lookup(limit));
+        assertEquals("high", index.lookup(bd("1.00000000000000000002")));
+    }
+
+    @Test
+    public void testUnboundedRange() {
+        ScaleIndex index = new ScaleIndex(List.of(Map.entry(Range.all(), "all")));
+
+        assertEquals("all", index.lookup(bd("-1E+400")));
+        assertEquals("all", index.lookup(bd("1E+400")));
+    }
+
+    private static BigDecimal bd(String value) {
+        return new BigDecimal(value);
+    }
+}
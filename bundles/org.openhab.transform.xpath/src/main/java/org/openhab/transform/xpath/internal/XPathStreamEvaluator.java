@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.xpath.internal;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link XPathStreamEvaluator} evaluates simple XPath expressions to a string while streaming the document, so
+ * that no DOM of the document has to be built.
+ *
+ * Simple expressions are paths of element names without namespace prefixes, wildcards or predicates, like
+ * {@code /a/b/c}, {@code //b/c/text()} or {@code /a/b/@attribute}. They are evaluated like
+ * {@code string(expression)}: the result is the string value of the first selected node in document order.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class XPathStreamEvaluator {
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_.\\-]*");
+    private static final String NO_MATCH = "\0";
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private final String[] steps;
+    private final boolean descendant;
+    private final @Nullable String attribute;
+    private final boolean text;
+
+    private XPathStreamEvaluator(String[] steps, boolean descendant, @Nullable String attribute, boolean text) {
+        this.steps = steps;
+        this.descendant = descendant;
+        this.attribute = attribute;
+        this.text = text;
+    }
+
+    /**
+     * Creates an evaluator for an XPath expression.
+     *
+     * @param expression the expression
+     * @return the evaluator, or null if the expression is not a simple path
+     */
+    public static @Nullable XPathStreamEvaluator forExpression(String expression) {
+        String path = expression.trim();
+        boolean descendant = path.startsWith("//");
+        path = descendant ? path.substring(2) : path.startsWith("/") ? path.substring(1) : path;
+        if (path.isEmpty()) {
+            return null;
+        }
+        String[] parts = path.split("/", -1);
+        String attribute = null;
+        boolean text = false;
+        int elementSteps = parts.length;
+        String last = parts[parts.length - 1];
+        if ("text()".equals(last)) {
+            text = true;
+            elementSteps--;
+        } else if (last.startsWith("@")) {
+            attribute = last.substring(1);
+            if (!NAME.matcher(attribute).matches()) {
+                return null;
+            }
+            elementSteps--;
+        }
+        if (elementSteps == 0) {
+            return null;
+        }
+        String[] steps = new String[elementSteps];
+        for (int i = 0; i < elementSteps; i++) {
+            if (!NAME.matcher(parts[i]).matches()) {
+                return null;
+            }
+            steps[i] = parts[i];
+        }
+        return new XPathStreamEvaluator(steps, descendant, attribute, text);
+    }
+
+    /**
+     * Evaluates the expression.
+     *
+     * @param source the XML document
+     * @return the string value of the first selected node, empty if no node is selected, or null if the document
+     *         contains a document type declaration and has to be evaluated on a DOM
+     * @throws XMLStreamException if the document is not well-formed
+     */
+    public @Nullable String evaluate(String source) throws XMLStreamException {
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(source));
+        try {
+            List<String> path = new ArrayList<>();
+            // depth of the element whose string value is collected, 0 if none
+            int collectDepth = 0;
+            StringBuilder value = new StringBuilder();
+            String result = null;
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.DTD:
+                        // entity declarations could change the document
+                        return null;
+                    case XMLStreamConstants.START_ELEMENT:
+                        String namespace = reader.getNamespaceURI();
+                        path.add(namespace == null || namespace.isEmpty() ? reader.getLocalName() : NO_MATCH);
+                        if (result == null && collectDepth == 0 && matches(path)) {
+                            if (attribute != null) {
+                                result = getAttribute(reader, attribute);
+                            } else if (!text) {
+                                collectDepth = path.size();
+                            }
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        if (collectDepth == path.size()) {
+                            result = value.toString();
+                            collectDepth = 0;
+                        }
+                        path.remove(path.size() - 1);
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        if (collectDepth > 0) {
+                            value.append(reader.getText());
+                        } else if (result == null && text && !path.isEmpty() && matches(path)) {
+                            result = reader.getText();
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+            // the whole document is read to report errors like parsing it into a DOM
+            return result == null ? "" : result;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private boolean matches(List<String> path) {
+        int offset = path.size() - steps.length;
+        if (offset < 0 || (!descendant && offset != 0)) {
+            return false;
+        }
+        for (int i = 0; i < steps.length; i++) {
+            if (!steps[i].equals(path.get(offset + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static @Nullable String getAttribute(XMLStreamReader reader, String name) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String namespace = reader.getAttributeNamespace(i);
+            if ((namespace == null || namespace.isEmpty()) && name.equals(reader.getAttributeLocalName(i))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        // adjacent text and CDATA sections form a single text node in XPath
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
@@ -12,13 +12,18 @@
  */
 package org.openhab.transform.xpath.internal;
 
+import java.io.IOException;
 import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -30,6 +35,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 
 /**
  * <p>
@@ -41,8 +47,30 @@ import org.xml.sax.InputSource;
 @Component(property = { "openhab.transform=XPATH" })
 public class XPathTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_EXPRESSIONS = 100;
+
     private final Logger logger = LoggerFactory.getLogger(XPathTransformationService.class);
 
+    // neither document builders nor XPath objects are thread-safe, each thread reuses its own
+    private final ThreadLocal<@Nullable DocumentBuilder> documentBuilders = new ThreadLocal<>();
+    private final ThreadLocal<XPath> xpaths = ThreadLocal.withInitial(() -> XPathFactory.newInstance().newXPath());
+
+    // guarded by itself, access ordered for evicting the least recently used expression
+    private final Map<String, CompiledExpression> expressions = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompiledExpression> eldest) {
+            return size() > MAX_CACHED_EXPRESSIONS;
+        }
+    };
+
+    /**
+     * A compiled expression. Simple paths are additionally evaluated while streaming the document.
+     */
+    private record CompiledExpression(XPathExpression expression, @Nullable XPathStreamEvaluator streamEvaluator) {
+    }
+
     @Override
     public @Nullable String transform(String xpathExpression, String source) throws TransformationException {
         if (xpathExpression == null || source == null) {
@@ -51,9 +79,48 @@ public class XPathTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", source, xpathExpression);
 
-        StringReader stringReader = null;
-
         try {
+            CompiledExpression compiled = getExpression(xpathExpression);
+
+            String transformationResult = null;
+            XPathStreamEvaluator streamEvaluator = compiled.streamEvaluator();
+            if (streamEvaluator != null) {
+                transformationResult = streamEvaluator.evaluate(source);
+            }
+            if (transformationResult == null) {
+                Document doc = parse(source);
+                // compiled expressions are not thread-safe
+                synchronized (compiled.expression()) {
+                    transformationResult = (String) compiled.expression().evaluate(doc, XPathConstants.STRING);
+                }
+            }
+
+            logger.debug("transformation resulted in '{}'", transformationResult);
+
+            return transformationResult;
+        } catch (Exception e) {
+            throw new TransformationException("transformation throws exceptions", e);
+        }
+    }
+
+    private CompiledExpression getExpression(String xpathExpression) throws XPathExpressionException {
+        synchronized (expressions) {
+            CompiledExpression compiled = expressions.get(xpathExpression);
+            if (compiled != null) {
+                return compiled;
+            }
+        }
+        CompiledExpression compiled = new CompiledExpression(xpaths.get().compile(xpathExpression),
+                XPathStreamEvaluator.forExpression(xpathExpression));
+        synchronized (expressions) {
+            expressions.put(xpathExpression, compiled);
+        }
+        return compiled;
+    }
+
+    private Document parse(String source) throws ParserConfigurationException, SAXException, IOException {
+        DocumentBuilder builder = documentBuilders.get();
+        if (builder == null) {
             DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
             // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
             domFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
@@ -63,28 +130,17 @@ public class XPathTransformationService implements TransformationService {
             domFactory.setExpandEntityReferences(false);
             domFactory.setNamespaceAware(true);
             domFactory.setValidating(false);
-            DocumentBuilder builder = domFactory.newDocumentBuilder();
+            builder = domFactory.newDocumentBuilder();
+            documentBuilders.set(builder);
+        } else {
+            // a previous parse may have failed half way
+            builder.reset();
+        }
 
-            stringReader = new StringReader(source);
+        try (StringReader stringReader = new StringReader(source)) {
             InputSource inputSource = new InputSource(stringReader);
             inputSource.setEncoding("UTF-8");
-
-            Document doc = builder.parse(inputSource);
-
-            XPath xpath = XPathFactory.newInstance().newXPath();
-            XPathExpression expr = xpath.compile(xpathExpression);
-
-            String transformationResult = (String) expr.evaluate(doc, XPathConstants.STRING);
-
-            logger.debug("transformation resulted in '{}'", transformationResult);
-
-            return transformationResult;
-        } catch (Exception e) {
-            throw new TransformationException("transformation throws exceptions", e);
-        } finally {
-            if (stringReader != null) {
-                stringReader.close();
-            }
+            return builder.parse(inputSource);
         }
     }
 }
@@ -38,4 +38,29 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testSimplePathsMatchDocumentEvaluation() throws TransformationException {
+        String xml = "<a><b x=\"1\">one<c>two</c></b><b x=\"2\"><![CDATA[three]]></b><ns:b xmlns:ns=\"urn:n\">ns</ns:b>"
+                + "<d><b>nested</b></d></a>";
+        for (String expression : new String[] { "/a/b", "//b", "/a/b/@x", "//b/text()", "/a/b/c", "//d/b/text()",
+                "/a/missing", "//b/@missing", "a/b/text()" }) {
+            // string() is not a simple path and is always evaluated on the document
+            assertEquals(processor.transform("string(" + expression + ")", xml), processor.transform(expression, xml),
+                    expression);
+        }
+    }
+
+    @Test
+    public void testDocumentTypeIsEvaluatedOnDocument() throws TransformationException {
+        String xml = "<!DOCTYPE a [<!ENTITY e \"entity\">]><a><b>&e;</b></a>";
+
+        assertEquals(processor.transform("string(/a/b)", xml), processor.transform("/a/b", xml));
+    }
+
+    @Test
+    public void testMalformedSourceIsRejected() {
+        assertThrows(TransformationException.class, () -> processor.transform("/a/b", "<a><b>1</b>"));
+        assertThrows(TransformationException.class, () -> processor.transform("string(/a/b)", "<a><b>1</b>"));
+    }
 }
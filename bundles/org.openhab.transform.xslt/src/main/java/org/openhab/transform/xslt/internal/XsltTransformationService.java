@@ -12,12 +12,19 @@
  */
 package org.openhab.transform.xslt.internal;
 
-import java.io.File;
+import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
-import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
@@ -41,8 +48,25 @@ import org.slf4j.LoggerFactory;
 @Component(property = { "openhab.transform=XSLT" })
 public class XsltTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_TEMPLATES = 50;
+
     private final Logger logger = LoggerFactory.getLogger(XsltTransformationService.class);
 
+    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+
+    // guarded by itself, access ordered for evicting the least recently used stylesheet
+    private final Map<Path, CachedTemplates> templates = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, CachedTemplates> eldest) {
+            return size() > MAX_CACHED_TEMPLATES;
+        }
+    };
+
+    private record CachedTemplates(Templates templates, FileTime lastModified, long size) {
+    }
+
     /**
      * Transforms the input <code>source</code> by XSLT.
      *
@@ -60,12 +84,10 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException("the given parameters 'filename' and 'source' must not be null");
         }
 
-        Source xsl = null;
+        Path xsl;
 
         try {
-            String path = OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
-                    + File.separator + filename;
-            xsl = new StreamSource(new File(path));
+            xsl = Path.of(OpenHAB.getConfigFolder(), TransformationService.TRANSFORM_FOLDER_NAME, filename);
         } catch (Exception e) {
             String message = "opening file '" + filename + "' throws exception";
 
@@ -81,7 +103,7 @@ public class XsltTransformationService implements TransformationService {
         Transformer transformer;
 
         try {
-            transformer = TransformerFactory.newInstance().newTransformer(xsl);
+            transformer = getTemplates(xsl).newTransformer();
             transformer.transform(new StreamSource(xml), new StreamResult(out));
         } catch (Exception e) {
             logger.error("transformation throws exception", e);
@@ -92,4 +114,38 @@ public class XsltTransformationService implements TransformationService {
 
         return out.toString();
     }
+
+    /**
+     * Returns the compiled stylesheet, compiling it again if the file has been modified since it was cached.
+     */
+    private Templates getTemplates(Path xsl) throws IOException, TransformerConfigurationException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(xsl, BasicFileAttributes.class);
+        } catch (IOException e) {
+            synchronized (templates) {
+                templates.remove(xsl);
+            }
+            throw e;
+        }
+        FileTime lastModified = attributes.lastModifiedTime();
+        long size = attributes.size();
+
+        synchronized (templates) {
+            CachedTemplates cached = templates.get(xsl);
+            if (cached != null && cached.lastModified().equals(lastModified) && cached.size() == size) {
+                return cached.templates();
+            }
+        }
+
+        Templates compiled;
+        // factories are not thread-safe, the compiled templates are
+        synchronized (transformerFactory) {
+            compiled = transformerFactory.newTemplates(new StreamSource(xsl.toFile()));
+        }
+        synchronized (templates) {
+            templates.put(xsl, new CachedTemplates(compiled, lastModified, size));
+        }
+        return compiled;
+    }
 }
@@ -19,6 +19,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,4 +56,18 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testModifiedStylesheetIsCompiledAgain() throws TransformationException, IOException {
+        Path xsl = transformHttpPath.resolve("google_weather_modified.xsl");
+        Files.copy(getClass().getResourceAsStream("google_weather.xsl"), xsl, StandardCopyOption.REPLACE_EXISTING);
+        assertEquals("8", processor.transform("http/google_weather_modified.xsl", source));
+
+        Files.writeString(xsl, Files.readString(xsl).replace("temp_c", "temp_f"));
+        // the file system may not resolve modification times below a second
+        Files.setLastModifiedTime(xsl,
+                FileTime.fromMillis(Files.getLastModifiedTime(xsl).toMillis() + TimeUnit.MINUTES.toMillis(1)));
+
+        assertEquals("46", processor.transform("http/google_weather_modified.xsl", source));
+    }
 }
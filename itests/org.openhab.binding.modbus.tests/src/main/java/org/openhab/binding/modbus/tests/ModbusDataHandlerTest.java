@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -659,6 +660,114 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         assertSingleStateUpdate(dataHandler, CHANNEL_STRING, is(equalTo(new StringType("ON"))));
     }
 
+    private ModbusDataThingHandler createNumberReadHandler(String transform) {
+        // only the number channel is linked, every transformation accepted by it succeeds
+        ModbusDataThingHandler dataHandler = testReadHandlingGeneric(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS,
+                "0", transform, ModbusConstants.ValueType.INT16, null,
+                new ModbusRegisterArray(new byte[] { (byte) 0xff, (byte) 0xfd }), null, bundleContext, false);
+        ChannelUID channelUID = new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_NUMBER);
+        GenericItem item = coreItemFactory.createItem("Number", getItemName(channelUID));
+        assertNotNull(item);
+        addItem(Objects.requireNonNull(item));
+        linkItem(getItemName(channelUID), channelUID);
+        return dataHandler;
+    }
+
+    private void poll(ModbusDataThingHandler dataHandler, int... bytes) {
+        byte[] data = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            data[i] = (byte) bytes[i];
+        }
+        dataHandler.onReadResult(new AsyncModbusReadResult(Mockito.mock(ModbusReadRequestBlueprint.class),
+                new ModbusRegisterArray(data)));
+    }
+
+    @Test
+    public void testOnRegistersUnchangedDataIsNotTransformedAgain() {
+        AtomicInteger transformations = new AtomicInteger();
+        mockTransformation("COUNT", new TransformationService() {
+
+            @Override
+            public String transform(String function, String source) throws TransformationException {
+                transformations.incrementAndGet();
+                return source;
+            }
+        });
+        ModbusDataThingHandler dataHandler = createNumberReadHandler("COUNT(1)");
+        // linking the channel discarded the states of the poll before
+        transformations.set(0);
+
+        poll(dataHandler, 0xff, 0xfd);
+        assertEquals(1, transformations.get());
+        poll(dataHandler, 0xff, 0xfd);
+        assertEquals(1, transformations.get());
+
+        poll(dataHandler, 0xff, 0xfe);
+        assertEquals(2, transformations.get());
+        poll(dataHandler, 0xff, 0xfe);
+        assertEquals(2, transformations.get());
+
+        String itemName = getItemName(new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_NUMBER));
+        waitForAssert(() -> {
+            List<State> updates = getStateUpdates(itemName);
+            assertNotNull(updates);
+            assertThat(updates.get(0), is(equalTo(new DecimalType(-3))));
+            assertThat(updates.get(updates.size() - 1), is(equalTo(new DecimalType(-2))));
+        });
+    }
+
+    @Test
+    public void testOnRegistersLinkingChannelTransformsAgain() {
+        AtomicInteger transformations = new AtomicInteger();
+        mockTransformation("COUNT", new TransformationService() {
+
+            @Override
+            public String transform(String function, String source) throws TransformationException {
+                transformations.incrementAndGet();
+                return source;
+            }
+        });
+        ModbusDataThingHandler dataHandler = createNumberReadHandler("COUNT(1)");
+        ChannelUID stringChannelUID = new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_STRING);
+        poll(dataHandler, 0xff, 0xfd);
+        transformations.set(0);
+
+        dataHandler.channelLinked(stringChannelUID);
+        poll(dataHandler, 0xff, 0xfd);
+        assertEquals(1, transformations.get());
+
+        dataHandler.channelUnlinked(stringChannelUID);
+        poll(dataHandler, 0xff, 0xfd);
+        assertEquals(2, transformations.get());
+        poll(dataHandler, 0xff, 0xfd);
+        assertEquals(2, transformations.get());
+    }
+
+    @Test
+    public void testOnRegistersFailedTransformationIsRetried() {
+        AtomicInteger transformations = new AtomicInteger();
+        mockTransformation("FAILING", new TransformationService() {
+
+            @Override
+            public String transform(String function, String source) throws TransformationException {
+                if (transformations.incrementAndGet() == 1) {
+                    throw new TransformationException("not ready");
+                }
+                return source;
+            }
+        });
+        ModbusDataThingHandler dataHandler = createNumberReadHandler("FAILING(1)");
+        transformations.set(0);
+
+        poll(dataHandler, 0xff, 0xfd);
+        poll(dataHandler, 0xff, 0xfd);
+        assertEquals(2, transformations.get());
+        poll(dataHandler, 0xff, 0xfd);
+        assertEquals(2, transformations.get());
+
+        assertSingleStateUpdate(dataHandler, CHANNEL_NUMBER, new DecimalType(-3));
+    }
+
     @Test
     public void testWriteWithDataAsChildOfEndpoint() throws InvalidSyntaxException {
         captureModbusWrites();